@@ -0,0 +1,40 @@
+package com.back.domain.board.post.entity;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+
+
+/**
+ * QPostStats is a Querydsl query type for PostStats
+ */
+@Generated("com.querydsl.codegen.DefaultEntitySerializer")
+public class QPostStats extends EntityPathBase<PostStats> {
+
+    private static final long serialVersionUID = 1513268035L;
+
+    public static final QPostStats postStats = new QPostStats("postStats");
+
+    public final NumberPath<Long> postId = createNumber("postId", Long.class);
+
+    public final DateTimePath<java.time.LocalDateTime> updatedAt = createDateTime("updatedAt", java.time.LocalDateTime.class);
+
+    public final NumberPath<Long> viewCount = createNumber("viewCount", Long.class);
+
+    public QPostStats(String variable) {
+        super(PostStats.class, forVariable(variable));
+    }
+
+    public QPostStats(Path<? extends PostStats> path) {
+        super(path.getType(), path.getMetadata());
+    }
+
+    public QPostStats(PathMetadata metadata) {
+        super(PostStats.class, metadata);
+    }
+
+}
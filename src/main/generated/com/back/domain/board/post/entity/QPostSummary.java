@@ -0,0 +1,58 @@
+package com.back.domain.board.post.entity;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+import com.querydsl.core.types.dsl.PathInits;
+
+
+/**
+ * QPostSummary is a Querydsl query type for PostSummary
+ */
+@Generated("com.querydsl.codegen.DefaultEntitySerializer")
+public class QPostSummary extends EntityPathBase<PostSummary> {
+
+    private static final long serialVersionUID = -1482094877L;
+
+    private static final PathInits INITS = PathInits.DIRECT2;
+
+    public static final QPostSummary postSummary = new QPostSummary("postSummary");
+
+    public final NumberPath<Long> authorId = createNumber("authorId", Long.class);
+
+    public final StringPath authorNickname = createString("authorNickname");
+
+    public final StringPath authorProfileImageUrl = createString("authorProfileImageUrl");
+
+    public final StringPath categories = createString("categories");
+
+    public final QPost post;
+
+    public final NumberPath<Long> postId = createNumber("postId", Long.class);
+
+    public QPostSummary(String variable) {
+        this(PostSummary.class, forVariable(variable), INITS);
+    }
+
+    public QPostSummary(Path<? extends PostSummary> path) {
+        this(path.getType(), path.getMetadata(), PathInits.getFor(path.getMetadata(), INITS));
+    }
+
+    public QPostSummary(PathMetadata metadata) {
+        this(metadata, PathInits.getFor(metadata, INITS));
+    }
+
+    public QPostSummary(PathMetadata metadata, PathInits inits) {
+        this(PostSummary.class, metadata, inits);
+    }
+
+    public QPostSummary(Class<? extends PostSummary> type, PathMetadata metadata, PathInits inits) {
+        super(type, metadata, inits);
+        this.post = inits.isInitialized("post") ? new QPost(forProperty("post"), inits.get("post")) : null;
+    }
+
+}
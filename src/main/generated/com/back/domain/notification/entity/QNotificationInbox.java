@@ -0,0 +1,63 @@
+package com.back.domain.notification.entity;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+import com.querydsl.core.types.dsl.PathInits;
+
+
+/**
+ * QNotificationInbox is a Querydsl query type for NotificationInbox
+ */
+@Generated("com.querydsl.codegen.DefaultEntitySerializer")
+public class QNotificationInbox extends EntityPathBase<NotificationInbox> {
+
+    private static final long serialVersionUID = 1843092215L;
+
+    private static final PathInits INITS = PathInits.DIRECT2;
+
+    public static final QNotificationInbox notificationInbox = new QNotificationInbox("notificationInbox");
+
+    public final com.back.global.entity.QBaseEntity _super = new com.back.global.entity.QBaseEntity(this);
+
+    //inherited
+    public final DateTimePath<java.time.LocalDateTime> createdAt = _super.createdAt;
+
+    //inherited
+    public final NumberPath<Long> id = _super.id;
+
+    public final QNotification notification;
+
+    //inherited
+    public final DateTimePath<java.time.LocalDateTime> updatedAt = _super.updatedAt;
+
+    public final com.back.domain.user.common.entity.QUser user;
+
+    public QNotificationInbox(String variable) {
+        this(NotificationInbox.class, forVariable(variable), INITS);
+    }
+
+    public QNotificationInbox(Path<? extends NotificationInbox> path) {
+        this(path.getType(), path.getMetadata(), PathInits.getFor(path.getMetadata(), INITS));
+    }
+
+    public QNotificationInbox(PathMetadata metadata) {
+        this(metadata, PathInits.getFor(metadata, INITS));
+    }
+
+    public QNotificationInbox(PathMetadata metadata, PathInits inits) {
+        this(NotificationInbox.class, metadata, inits);
+    }
+
+    public QNotificationInbox(Class<? extends NotificationInbox> type, PathMetadata metadata, PathInits inits) {
+        super(type, metadata, inits);
+        this.notification = inits.isInitialized("notification") ? new QNotification(forProperty("notification"), inits.get("notification")) : null;
+        this.user = inits.isInitialized("user") ? new com.back.domain.user.common.entity.QUser(forProperty("user"), inits.get("user")) : null;
+    }
+
+}
+
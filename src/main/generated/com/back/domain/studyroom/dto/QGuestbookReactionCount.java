@@ -0,0 +1,20 @@
+package com.back.domain.studyroom.dto;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.ConstructorExpression;
+import javax.annotation.processing.Generated;
+
+/**
+ * com.back.domain.studyroom.dto.QGuestbookReactionCount is a Querydsl Projection type for GuestbookReactionCount
+ */
+@Generated("com.querydsl.codegen.DefaultProjectionSerializer")
+public class QGuestbookReactionCount extends ConstructorExpression<GuestbookReactionCount> {
+
+    private static final long serialVersionUID = 1702398144L;
+
+    public QGuestbookReactionCount(com.querydsl.core.types.Expression<Long> guestbookId, com.querydsl.core.types.Expression<String> emoji, com.querydsl.core.types.Expression<Long> count, com.querydsl.core.types.Expression<Long> myCount) {
+        super(GuestbookReactionCount.class, new Class<?>[]{long.class, String.class, long.class, long.class}, guestbookId, emoji, count, myCount);
+    }
+
+}
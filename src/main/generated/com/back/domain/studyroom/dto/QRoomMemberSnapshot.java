@@ -0,0 +1,20 @@
+package com.back.domain.studyroom.dto;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.ConstructorExpression;
+import javax.annotation.processing.Generated;
+
+/**
+ * com.back.domain.studyroom.dto.QRoomMemberSnapshot is a Querydsl Projection type for RoomMemberSnapshot
+ */
+@Generated("com.querydsl.codegen.DefaultProjectionSerializer")
+public class QRoomMemberSnapshot extends ConstructorExpression<RoomMemberSnapshot> {
+
+    private static final long serialVersionUID = 1536870187L;
+
+    public QRoomMemberSnapshot(com.querydsl.core.types.Expression<Long> userId, com.querydsl.core.types.Expression<String> username, com.querydsl.core.types.Expression<String> profileNickname, com.querydsl.core.types.Expression<String> profileImageUrl, com.querydsl.core.types.Expression<com.back.domain.studyroom.entity.RoomRole> role, com.querydsl.core.types.Expression<java.time.LocalDateTime> joinedAt, com.querydsl.core.types.Expression<java.time.LocalDateTime> promotedAt) {
+        super(RoomMemberSnapshot.class, new Class<?>[]{long.class, String.class, String.class, String.class, com.back.domain.studyroom.entity.RoomRole.class, java.time.LocalDateTime.class, java.time.LocalDateTime.class}, userId, username, profileNickname, profileImageUrl, role, joinedAt, promotedAt);
+    }
+
+}
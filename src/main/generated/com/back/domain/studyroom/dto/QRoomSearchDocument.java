@@ -0,0 +1,20 @@
+package com.back.domain.studyroom.dto;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.ConstructorExpression;
+import javax.annotation.processing.Generated;
+
+/**
+ * com.back.domain.studyroom.dto.QRoomSearchDocument is a Querydsl Projection type for RoomSearchDocument
+ */
+@Generated("com.querydsl.codegen.DefaultProjectionSerializer")
+public class QRoomSearchDocument extends ConstructorExpression<RoomSearchDocument> {
+
+    private static final long serialVersionUID = -1346071553L;
+
+    public QRoomSearchDocument(com.querydsl.core.types.Expression<Long> roomId, com.querydsl.core.types.Expression<String> title, com.querydsl.core.types.Expression<String> description, com.querydsl.core.types.Expression<com.back.domain.studyroom.entity.RoomStatus> status, com.querydsl.core.types.Expression<Boolean> isPrivate) {
+        super(RoomSearchDocument.class, new Class<?>[]{long.class, String.class, String.class, com.back.domain.studyroom.entity.RoomStatus.class, boolean.class}, roomId, title, description, status, isPrivate);
+    }
+
+}
@@ -46,6 +46,8 @@ public class QRoom extends EntityPathBase<Room> {
 
     public final BooleanPath isPrivate = createBoolean("isPrivate");
 
+    public final DateTimePath<java.time.LocalDateTime> lastActivityAt = createDateTime("lastActivityAt", java.time.LocalDateTime.class);
+
     public final NumberPath<Integer> maxParticipants = createNumber("maxParticipants", Integer.class);
 
     public final StringPath password = createString("password");
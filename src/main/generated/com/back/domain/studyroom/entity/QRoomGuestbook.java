@@ -32,6 +32,8 @@ public class QRoomGuestbook extends EntityPathBase<RoomGuestbook> {
     //inherited
     public final NumberPath<Long> id = _super.id;
 
+    public final ListPath<RoomGuestbookReactionCounter, QRoomGuestbookReactionCounter> reactionCounters = this.<RoomGuestbookReactionCounter, QRoomGuestbookReactionCounter>createList("reactionCounters", RoomGuestbookReactionCounter.class, QRoomGuestbookReactionCounter.class, PathInits.DIRECT2);
+
     public final ListPath<RoomGuestbookReaction, QRoomGuestbookReaction> reactions = this.<RoomGuestbookReaction, QRoomGuestbookReaction>createList("reactions", RoomGuestbookReaction.class, QRoomGuestbookReaction.class, PathInits.DIRECT2);
 
     public final QRoom room;
@@ -0,0 +1,63 @@
+package com.back.domain.studyroom.entity;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+import com.querydsl.core.types.dsl.PathInits;
+
+
+/**
+ * QRoomGuestbookReactionCounter is a Querydsl query type for RoomGuestbookReactionCounter
+ */
+@Generated("com.querydsl.codegen.DefaultEntitySerializer")
+public class QRoomGuestbookReactionCounter extends EntityPathBase<RoomGuestbookReactionCounter> {
+
+    private static final long serialVersionUID = -1466128421L;
+
+    private static final PathInits INITS = PathInits.DIRECT2;
+
+    public static final QRoomGuestbookReactionCounter roomGuestbookReactionCounter = new QRoomGuestbookReactionCounter("roomGuestbookReactionCounter");
+
+    public final com.back.global.entity.QBaseEntity _super = new com.back.global.entity.QBaseEntity(this);
+
+    //inherited
+    public final DateTimePath<java.time.LocalDateTime> createdAt = _super.createdAt;
+
+    public final StringPath emoji = createString("emoji");
+
+    public final QRoomGuestbook guestbook;
+
+    //inherited
+    public final NumberPath<Long> id = _super.id;
+
+    public final NumberPath<Long> reactionCount = createNumber("reactionCount", Long.class);
+
+    //inherited
+    public final DateTimePath<java.time.LocalDateTime> updatedAt = _super.updatedAt;
+
+    public QRoomGuestbookReactionCounter(String variable) {
+        this(RoomGuestbookReactionCounter.class, forVariable(variable), INITS);
+    }
+
+    public QRoomGuestbookReactionCounter(Path<? extends RoomGuestbookReactionCounter> path) {
+        this(path.getType(), path.getMetadata(), PathInits.getFor(path.getMetadata(), INITS));
+    }
+
+    public QRoomGuestbookReactionCounter(PathMetadata metadata) {
+        this(metadata, PathInits.getFor(metadata, INITS));
+    }
+
+    public QRoomGuestbookReactionCounter(PathMetadata metadata, PathInits inits) {
+        this(RoomGuestbookReactionCounter.class, metadata, inits);
+    }
+
+    public QRoomGuestbookReactionCounter(Class<? extends RoomGuestbookReactionCounter> type, PathMetadata metadata, PathInits inits) {
+        super(type, metadata, inits);
+        this.guestbook = inits.isInitialized("guestbook") ? new QRoomGuestbook(forProperty("guestbook"), inits.get("guestbook")) : null;
+    }
+
+}
@@ -4,6 +4,7 @@ import com.back.domain.board.comment.controller.docs.CommentControllerDocs;
 import com.back.domain.board.comment.dto.CommentListResponse;
 import com.back.domain.board.comment.dto.CommentRequest;
 import com.back.domain.board.comment.dto.CommentResponse;
+import com.back.domain.board.comment.dto.ReplyListResponse;
 import com.back.domain.board.comment.dto.ReplyResponse;
 import com.back.domain.board.common.dto.PageResponse;
 import com.back.domain.board.comment.service.CommentService;
@@ -46,10 +47,11 @@ public class CommentController implements CommentControllerDocs {
     public ResponseEntity<RsData<PageResponse<CommentListResponse>>> getComments(
             @PathVariable Long postId,
             @AuthenticationPrincipal CustomUserDetails user,
-            @PageableDefault(sort = "createdAt", direction = Sort.Direction.ASC) Pageable pageable
+            @PageableDefault(sort = "createdAt", direction = Sort.Direction.ASC) Pageable pageable,
+            @RequestParam(defaultValue = "3") int replySize  // 부모별 포함할 대댓글 수
     ) {
         Long userId = (user != null) ? user.getUserId() : null;
-        PageResponse<CommentListResponse> response = commentService.getComments(postId, pageable, userId);
+        PageResponse<CommentListResponse> response = commentService.getComments(postId, pageable, replySize, userId);
         return ResponseEntity
                 .status(HttpStatus.OK)
                 .body(RsData.success(
@@ -91,6 +93,25 @@ public class CommentController implements CommentControllerDocs {
                 ));
     }
 
+    // 대댓글 목록 조회
+    @GetMapping("/{commentId}/replies")
+    public ResponseEntity<RsData<ReplyListResponse>> getReplies(
+            @PathVariable Long postId,
+            @PathVariable Long commentId,
+            @AuthenticationPrincipal CustomUserDetails user,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        Long userId = (user != null) ? user.getUserId() : null;
+        ReplyListResponse response = commentService.getReplies(postId, commentId, cursor, size, userId);
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(RsData.success(
+                        "대댓글 목록이 조회되었습니다.",
+                        response
+                ));
+    }
+
     // 대댓글 생성
     @PostMapping("/{commentId}/replies")
     public ResponseEntity<RsData<ReplyResponse>> createReply(
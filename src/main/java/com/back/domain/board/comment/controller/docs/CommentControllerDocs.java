@@ -3,6 +3,7 @@ package com.back.domain.board.comment.controller.docs;
 import com.back.domain.board.comment.dto.CommentListResponse;
 import com.back.domain.board.comment.dto.CommentRequest;
 import com.back.domain.board.comment.dto.CommentResponse;
+import com.back.domain.board.comment.dto.ReplyListResponse;
 import com.back.domain.board.comment.dto.ReplyResponse;
 import com.back.domain.board.common.dto.PageResponse;
 import com.back.global.common.dto.RsData;
@@ -150,7 +151,9 @@ public interface CommentControllerDocs {
     @Operation(
             summary = "댓글 목록 조회",
             description = "특정 게시글에 달린 댓글 목록을 조회합니다. " +
-                    "부모 댓글 기준으로 페이징되며, 각 댓글의 대댓글(children) 목록이 함께 포함됩니다."
+                    "부모 댓글 기준으로 페이징되며, 각 댓글의 앞쪽 대댓글(children)이 replySize개(기본 3, 최대 50)까지 함께 포함됩니다.\n" +
+                    "부모 댓글에는 전체 대댓글 수(replyCount)가 포함되고, 남은 대댓글이 있으면 " +
+                    "nextReplyCursor를 대댓글 목록 조회의 cursor로 사용해 이어서 조회할 수 있습니다."
     )
     @ApiResponses({
             @ApiResponse(
@@ -179,6 +182,8 @@ public interface CommentControllerDocs {
                                             "likedByMe": true,
                                             "createdAt": "2025-09-22T11:30:00",
                                             "updatedAt": "2025-09-22T11:30:00",
+                                            "replyCount": 12,
+                                            "nextReplyCursor": 2,
                                             "children": [
                                               {
                                                 "commentId": 2,
@@ -258,7 +263,104 @@ public interface CommentControllerDocs {
     ResponseEntity<RsData<PageResponse<CommentListResponse>>> getComments(
             @PathVariable Long postId,
             @AuthenticationPrincipal CustomUserDetails user,
-            Pageable pageable
+            Pageable pageable,
+            @RequestParam(defaultValue = "3") int replySize
+    );
+
+    @Operation(
+            summary = "대댓글 목록 조회",
+            description = "특정 댓글의 대댓글을 작성순으로 조회합니다. (로그인 불필요)\n" +
+                    "cursor 없이 조회하면 처음부터, 응답의 nextCursor(또는 댓글 목록의 nextReplyCursor)를 cursor로 넘기면 " +
+                    "그 이후부터 size개(기본 20, 최대 50)를 조회합니다. nextCursor가 null이면 마지막입니다."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "대댓글 목록 조회 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                    {
+                                      "success": true,
+                                      "code": "SUCCESS_200",
+                                      "message": "대댓글 목록이 조회되었습니다.",
+                                      "data": {
+                                        "items": [
+                                          {
+                                            "commentId": 3,
+                                            "postId": 101,
+                                            "parentId": 1,
+                                            "author": {
+                                              "id": 7,
+                                              "nickname": "이몽룡",
+                                              "profileImageUrl": null
+                                            },
+                                            "content": "대댓글",
+                                            "likeCount": 0,
+                                            "likedByMe": false,
+                                            "createdAt": "2025-09-22T11:40:00",
+                                            "updatedAt": "2025-09-22T11:40:00",
+                                            "children": []
+                                          }
+                                        ],
+                                        "nextCursor": 3
+                                      }
+                                    }
+                                    """)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "부모 댓글이 해당 게시글에 속하지 않음",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                    {
+                                      "success": false,
+                                      "code": "COMMENT_003",
+                                      "message": "부모 댓글이 해당 게시글에 속하지 않습니다.",
+                                      "data": null
+                                    }
+                                    """)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "존재하지 않는 댓글",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                    {
+                                      "success": false,
+                                      "code": "COMMENT_001",
+                                      "message": "존재하지 않는 댓글입니다.",
+                                      "data": null
+                                    }
+                                    """)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "서버 내부 오류",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                    {
+                                      "success": false,
+                                      "code": "COMMON_500",
+                                      "message": "서버 오류가 발생했습니다.",
+                                      "data": null
+                                    }
+                                    """)
+                    )
+            )
+    })
+    ResponseEntity<RsData<ReplyListResponse>> getReplies(
+            @PathVariable Long postId,
+            @PathVariable Long commentId,
+            @AuthenticationPrincipal CustomUserDetails user,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size
     );
 
     @Operation(
@@ -1,6 +1,7 @@
 package com.back.domain.board.comment.dto;
 
 import com.back.domain.board.common.dto.AuthorResponse;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.querydsl.core.annotations.QueryProjection;
 import lombok.Getter;
 import lombok.Setter;
@@ -31,6 +32,15 @@ public class CommentListResponse {
     @Setter
     private List<CommentListResponse> children;
 
+    // 부모 댓글에만 포함: 전체 대댓글 수, 이어서 조회할 대댓글 커서 (이 ID 이후부터 조회, 남은 대댓글이 없으면 제외)
+    @Setter
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long replyCount;
+
+    @Setter
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long nextReplyCursor;
+
     @QueryProjection
     public CommentListResponse(Long commentId,
                                Long postId,
@@ -0,0 +1,15 @@
+package com.back.domain.board.comment.dto;
+
+import java.util.List;
+
+/**
+ * 대댓글 목록 응답 DTO (커서 기반)
+ *
+ * @param items      대댓글 목록 (작성순)
+ * @param nextCursor 다음 조회 커서 (마지막이면 null)
+ */
+public record ReplyListResponse(
+        List<CommentListResponse> items,
+        Long nextCursor
+) {
+}
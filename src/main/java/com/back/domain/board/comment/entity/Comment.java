@@ -6,13 +6,24 @@ import com.back.global.entity.BaseEntity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * 댓글 엔티티
+ * - 카운터 컬럼은 Repository의 단일 UPDATE 문으로 증감하므로, 다른 필드 수정 시 읽어 둔 카운터 값으로
+ *   덮어쓰지 않도록 변경된 컬럼만 UPDATE (@DynamicUpdate)
+ * - (user_id, created_at, id) 인덱스: 내 댓글 커서 조회
+ */
 @Entity
 @Getter
 @NoArgsConstructor
+@DynamicUpdate
+@Table(
+        indexes = @Index(name = "idx_comment_user_created", columnList = "user_id, created_at, id")
+)
 public class Comment extends BaseEntity {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "post_id", nullable = false)
@@ -3,6 +3,9 @@ package com.back.domain.board.comment.repository;
 import com.back.domain.board.comment.entity.CommentLike;
 import com.back.domain.board.comment.repository.custom.CommentLikeRepositoryCustom;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -11,4 +14,12 @@ import java.util.Optional;
 public interface CommentLikeRepository extends JpaRepository<CommentLike, Long>, CommentLikeRepositoryCustom {
     boolean existsByUserIdAndCommentId(Long userId, Long commentId);
     Optional<CommentLike> findByUserIdAndCommentId(Long userId, Long commentId);
+
+    /**
+     * 댓글 좋아요 삭제 (단일 DELETE 문)
+     * @return 실제로 삭제된 행 수 (0 또는 1, 동시 취소 시 한 요청만 1)
+     */
+    @Modifying
+    @Query("DELETE FROM CommentLike l WHERE l.user.id = :userId AND l.comment.id = :commentId")
+    int deleteByUserIdAndCommentId(@Param("userId") Long userId, @Param("commentId") Long commentId);
 }
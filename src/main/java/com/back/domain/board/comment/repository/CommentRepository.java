@@ -3,8 +3,36 @@ package com.back.domain.board.comment.repository;
 import com.back.domain.board.comment.entity.Comment;
 import com.back.domain.board.comment.repository.custom.CommentRepositoryCustom;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long>, CommentRepositoryCustom {
+
+    /**
+     * 좋아요 수 1 증가 (단일 UPDATE 문, 동시 요청에도 유실 없음)
+     */
+    @Modifying
+    @Query("UPDATE Comment c SET c.likeCount = c.likeCount + 1 WHERE c.id = :commentId")
+    int increaseLikeCount(@Param("commentId") Long commentId);
+
+    /**
+     * 좋아요 수 1 감소 (0 미만으로 내려가지 않음)
+     */
+    @Modifying
+    @Query("UPDATE Comment c SET c.likeCount = c.likeCount - 1 WHERE c.id = :commentId AND c.likeCount > 0")
+    int decreaseLikeCount(@Param("commentId") Long commentId);
+
+    /**
+     * 사용자의 댓글 수 ((user_id, created_at, id) 인덱스만으로 계산)
+     */
+    long countByUserId(Long userId);
+
+    /**
+     * 현재 좋아요 수 (증감 직후 응답용)
+     */
+    @Query("SELECT c.likeCount FROM Comment c WHERE c.id = :commentId")
+    long findLikeCountById(@Param("commentId") Long commentId);
 }
@@ -2,10 +2,16 @@ package com.back.domain.board.comment.repository.custom;
 
 import com.back.domain.board.comment.dto.CommentListResponse;
 import com.back.domain.board.comment.dto.MyCommentResponse;
+import com.back.domain.board.common.dto.CursorResponse;
+import com.back.domain.board.common.dto.KeysetCursor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+
 public interface CommentRepositoryCustom {
-    Page<CommentListResponse> findCommentsByPostId(Long postId, Pageable pageable);
+    Page<CommentListResponse> findCommentsByPostId(Long postId, Pageable pageable, int replyLimit);
+    List<CommentListResponse> findRepliesAfter(Long parentId, Long cursor, int limit);
     Page<MyCommentResponse> findCommentsByUserId(Long postId, Pageable pageable);
+    CursorResponse<MyCommentResponse> findCommentsByUserIdAfter(Long userId, KeysetCursor cursor, int limit);
 }
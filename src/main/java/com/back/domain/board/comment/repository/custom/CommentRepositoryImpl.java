@@ -6,42 +6,71 @@ import com.back.domain.board.comment.dto.QCommentListResponse;
 import com.back.domain.board.comment.dto.QMyCommentResponse;
 import com.back.domain.board.comment.entity.Comment;
 import com.back.domain.board.comment.entity.QComment;
+import com.back.domain.board.common.dto.CursorResponse;
+import com.back.domain.board.common.dto.KeysetCursor;
 import com.back.domain.board.common.dto.QAuthorResponse;
 import com.back.domain.board.post.entity.QPost;
 import com.back.domain.user.common.entity.QUser;
 import com.back.domain.user.common.entity.QUserProfile;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.core.types.dsl.PathBuilder;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.*;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Repository
 @RequiredArgsConstructor
 public class CommentRepositoryImpl implements CommentRepositoryCustom {
     private final JPAQueryFactory queryFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    // 페이지 조회와 함께 전체 개수 계산 (별도 COUNT 쿼리 없음)
+    private static final NumberExpression<Long> TOTAL_COUNT = Expressions.numberTemplate(Long.class, "count(*) over()");
 
     private static final Set<String> ALLOWED_SORT_FIELDS = Set.of("createdAt", "updatedAt", "likeCount");
 
+    // 부모별 앞쪽 대댓글 ID + 부모별 전체 대댓글 수 (parent_comment_id 인덱스만 읽고, 본문/작성자는 읽지 않음)
+    // - JPQL은 FROM 절 서브쿼리의 윈도 함수 결과로 거를 수 없으므로 네이티브 쿼리 사용
+    private static final String FIRST_REPLIES_SQL =
+            "SELECT t.id, t.parent_comment_id, t.reply_count FROM (" +
+            "SELECT c.id, c.parent_comment_id, " +
+            "ROW_NUMBER() OVER (PARTITION BY c.parent_comment_id ORDER BY c.id) AS rn, " +
+            "COUNT(*) OVER (PARTITION BY c.parent_comment_id) AS reply_count " +
+            "FROM comment c WHERE c.parent_comment_id IN (%s)" +
+            ") t WHERE t.rn <= ?";
+
+    /**
+     * 부모별 앞쪽 대댓글 위치
+     */
+    private record ReplySlot(long replyId, long parentId, long replyCount) {
+    }
+
     /**
      * 특정 게시글의 댓글 목록 조회
-     * - 총 쿼리 수: 3회
-     *  1.부모 댓글 목록 조회 (User, UserProfile join)
-     *  2.자식 댓글 목록 조회 (User, UserProfile join)
-     *  3.부모 전체 count 조회
+     * - 대댓글은 부모별로 앞쪽 replyLimit개만 포함하고, 부모별 전체 대댓글 수와 이어서 조회할 커서를 함께 설정
+     *   (대댓글이 아무리 많아도 본문/작성자를 읽는 행은 페이지 크기 × replyLimit개 이내)
+     * - 총 쿼리 수: 3회 (대댓글이 없으면 2회)
+     *  1.부모 댓글 목록 조회 (User, UserProfile join, 부모 전체 개수는 COUNT(*) OVER()로 함께 조회)
+     *  2.부모별 앞쪽 대댓글 ID + 대댓글 수 조회 (윈도 함수, 인덱스만 사용)
+     *  3.해당 대댓글 조회 (User, UserProfile join)
      *
-     * @param postId   게시글 ID
-     * @param pageable 페이징 + 정렬 조건
+     * @param postId     게시글 ID
+     * @param pageable   페이징 + 정렬 조건
+     * @param replyLimit 부모별 포함할 대댓글 수 (0이면 대댓글 수만 설정)
      */
     @Override
-    public Page<CommentListResponse> findCommentsByPostId(Long postId, Pageable pageable) {
+    public Page<CommentListResponse> findCommentsByPostId(Long postId, Pageable pageable, int replyLimit) {
         QComment comment = QComment.comment;
 
         // 1. 검색 조건 생성
@@ -50,41 +79,72 @@ public class CommentRepositoryImpl implements CommentRepositoryCustom {
         // 2. 정렬 조건 생성
         List<OrderSpecifier<?>> orders = buildOrderSpecifiers(pageable);
 
-        // 3. 부모 댓글 조회 (페이징 적용)
-        List<CommentListResponse> parents = fetchComments(
-                condition,
-                orders,
-                pageable.getOffset(),
-                pageable.getPageSize()
-        );
+        // 3. 부모 댓글 조회 (페이징 적용, 전체 개수는 윈도 함수로 함께 조회)
+        QCommentListResponse projection = commentProjection();
+        List<Tuple> rows = queryFactory
+                .select(projection, TOTAL_COUNT)
+                .from(comment)
+                .leftJoin(comment.user, QUser.user)
+                .leftJoin(QUser.user.userProfile, QUserProfile.userProfile)
+                .where(condition)
+                .orderBy(orders.toArray(new OrderSpecifier[0]))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
 
         // 부모가 비어 있으면 즉시 빈 페이지 반환
-        if (parents.isEmpty()) {
-            return new PageImpl<>(parents, pageable, 0);
+        if (rows.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, 0);
         }
 
+        List<CommentListResponse> parents = rows.stream()
+                .map(row -> row.get(projection))
+                .toList();
+        long total = Objects.requireNonNull(rows.getFirst().get(TOTAL_COUNT));
+
         // 4. 부모 ID 수집
         List<Long> parentIds = parents.stream()
                 .map(CommentListResponse::getCommentId)
                 .toList();
 
-        // 5. 자식 댓글 조회 (부모 집합에 대한 전체 조회)
-        List<CommentListResponse> children = fetchComments(
-                comment.parent.id.in(parentIds),
-                List.of(comment.createdAt.asc()),   // 시간순 정렬
-                null,
-                null
-        );
+        // 5. 부모별 앞쪽 대댓글 위치 + 대댓글 수 조회
+        List<ReplySlot> slots = findFirstReplySlots(parentIds, replyLimit);
 
-        // 6. 부모-자식 매핑
-        mapChildrenToParents(parents, children);
+        // 6. 앞쪽 대댓글만 조회 (작성순)
+        List<Long> replyIds = slots.stream()
+                .filter(slot -> slot.replyId() > 0)
+                .map(ReplySlot::replyId)
+                .toList();
+        List<CommentListResponse> children = replyIds.isEmpty()
+                ? List.of()
+                : fetchComments(comment.id.in(replyIds), List.of(comment.id.asc()), null, null);
 
-        // 7. 전체 부모 댓글 수 조회
-        long total = countComments(condition);
+        // 7. 부모-자식 매핑 + 대댓글 수/커서 설정
+        mapChildrenToParents(parents, children, slots);
 
         return new PageImpl<>(parents, pageable, total);
     }
 
+    /**
+     * 특정 댓글의 대댓글 목록 조회 (커서 기반, 작성순)
+     * - 부모 댓글 FK 인덱스(parent_comment_id, id)로 커서 이후 limit개만 읽음
+     *
+     * @param parentId 부모 댓글 ID
+     * @param cursor   이전 조회의 마지막 대댓글 ID (첫 조회는 null)
+     * @param limit    조회 개수
+     */
+    @Override
+    public List<CommentListResponse> findRepliesAfter(Long parentId, Long cursor, int limit) {
+        QComment comment = QComment.comment;
+
+        BooleanExpression condition = comment.parent.id.eq(parentId);
+        if (cursor != null) {
+            condition = condition.and(comment.id.gt(cursor));
+        }
+
+        return fetchComments(condition, List.of(comment.id.asc()), 0L, limit);
+    }
+
     /**
      * 특정 사용자의 댓글 목록 조회
      * - 총 쿼리 수: 2회
@@ -139,6 +199,51 @@ public class CommentRepositoryImpl implements CommentRepositoryCustom {
         return new PageImpl<>(comments, pageable, total);
     }
 
+    /**
+     * 특정 사용자의 댓글 목록 커서 조회 (최신순)
+     * - 총 쿼리 수: 1회
+     *  1. 댓글 목록 조회 (Comment, Post join, limit + 1개)
+     * - (user_id, created_at, id) 인덱스 범위 탐색으로 앞 페이지를 건너뛰지 않음 (OFFSET, COUNT 없음)
+     *
+     * @param userId 사용자 ID
+     * @param cursor 이전 페이지의 마지막 위치 (첫 페이지면 null)
+     * @param limit  페이지 크기
+     */
+    @Override
+    public CursorResponse<MyCommentResponse> findCommentsByUserIdAfter(Long userId, KeysetCursor cursor, int limit) {
+        QComment comment = QComment.comment;
+        QComment parent = new QComment("parent");
+        QPost post = QPost.post;
+
+        // 커서 이후 조건 (생성 일시, ID 내림차순 기준)
+        BooleanExpression after = cursor == null ? null
+                : comment.createdAt.lt(cursor.createdAt())
+                        .or(comment.createdAt.eq(cursor.createdAt()).and(comment.id.lt(cursor.id())));
+
+        List<MyCommentResponse> comments = queryFactory
+                .select(new QMyCommentResponse(
+                        comment.id,
+                        post.id,
+                        post.title,
+                        parent.id,
+                        parent.content.substring(0, 50),
+                        comment.content,
+                        comment.likeCount,
+                        comment.createdAt,
+                        comment.updatedAt
+                ))
+                .from(comment)
+                .leftJoin(comment.parent, parent)
+                .leftJoin(comment.post, post)
+                .where(comment.user.id.eq(userId), after)
+                .orderBy(comment.createdAt.desc(), comment.id.desc())
+                .limit(limit + 1L)
+                .fetch();
+
+        return CursorResponse.of(comments, limit, Function.identity(),
+                last -> new KeysetCursor(last.createdAt(), last.commentId()));
+    }
+
     // -------------------- 내부 메서드 --------------------
 
     /**
@@ -171,6 +276,29 @@ public class CommentRepositoryImpl implements CommentRepositoryCustom {
         return orders;
     }
 
+    /**
+     * 댓글 목록 응답 projection (User / UserProfile join 필요)
+     * - likedByMe, children은 조회 후 별도 주입
+     */
+    private QCommentListResponse commentProjection() {
+        QComment comment = QComment.comment;
+        QUser user = QUser.user;
+        QUserProfile profile = QUserProfile.userProfile;
+
+        return new QCommentListResponse(
+                comment.id,
+                comment.post.id,
+                comment.parent.id,
+                new QAuthorResponse(user.id, profile.nickname, profile.profileImageUrl),
+                comment.content,
+                comment.likeCount,
+                Expressions.constant(false), // likedByMe는 별도 주입
+                comment.createdAt,
+                comment.updatedAt,
+                Expressions.constant(Collections.emptyList()) // children은 별도 주입
+        );
+    }
+
     /**
      * 댓글 조회
      * - User / UserProfile join (N+1 방지)
@@ -183,21 +311,10 @@ public class CommentRepositoryImpl implements CommentRepositoryCustom {
     ) {
         QComment comment = QComment.comment;
         QUser user = QUser.user;
-        QUserProfile profile = QUserProfile .userProfile;
+        QUserProfile profile = QUserProfile.userProfile;
 
         var query = queryFactory
-                .select(new QCommentListResponse(
-                        comment.id,
-                        comment.post.id,
-                        comment.parent.id,
-                        new QAuthorResponse(user.id, profile.nickname, profile.profileImageUrl),
-                        comment.content,
-                        comment.likeCount,
-                        Expressions.constant(false), // likedByMe는 별도 주입
-                        comment.createdAt,
-                        comment.updatedAt,
-                        Expressions.constant(Collections.emptyList()) // children은 별도 주입
-                ))
+                .select(commentProjection())
                 .from(comment)
                 .leftJoin(comment.user, user)
                 .leftJoin(user.userProfile, profile)
@@ -212,19 +329,50 @@ public class CommentRepositoryImpl implements CommentRepositoryCustom {
         return query.fetch();
     }
 
+    /**
+     * 부모별 앞쪽 대댓글 위치 조회
+     * - 대댓글이 없는 부모는 결과에 없음 (대댓글 수 0)
+     * - replyLimit이 0이면 대댓글 수만 필요하므로 부모별 1행만 남기고 replyId를 0으로 표시
+     */
+    private List<ReplySlot> findFirstReplySlots(List<Long> parentIds, int replyLimit) {
+        String placeholders = String.join(", ", Collections.nCopies(parentIds.size(), "?"));
+        List<Object> params = new ArrayList<>(parentIds);
+        params.add(Math.max(replyLimit, 1));
+
+        return jdbcTemplate.query(
+                FIRST_REPLIES_SQL.formatted(placeholders),
+                (rs, rowNum) -> new ReplySlot(
+                        replyLimit > 0 ? rs.getLong("id") : 0L,
+                        rs.getLong("parent_comment_id"),
+                        rs.getLong("reply_count")
+                ),
+                params.toArray()
+        );
+    }
+
     /**
      * 부모/자식 관계 매핑
      * - 자식 목록을 parentId 기준으로 그룹화 후, 각 부모 DTO의 children에 설정
+     * - 부모별 전체 대댓글 수를 설정하고, 남은 대댓글이 있으면 마지막으로 포함한 대댓글 ID를 커서로 설정
      */
-    private void mapChildrenToParents(List<CommentListResponse> parents, List<CommentListResponse> children) {
-        if (children.isEmpty()) return;
-
+    private void mapChildrenToParents(List<CommentListResponse> parents,
+                                      List<CommentListResponse> children,
+                                      List<ReplySlot> slots) {
         Map<Long, List<CommentListResponse>> childMap = children.stream()
                 .collect(Collectors.groupingBy(CommentListResponse::getParentId));
+        Map<Long, Long> replyCounts = slots.stream()
+                .collect(Collectors.toMap(ReplySlot::parentId, ReplySlot::replyCount, (a, b) -> a));
 
-        parents.forEach(parent ->
-                parent.setChildren(childMap.getOrDefault(parent.getCommentId(), Collections.emptyList()))
-        );
+        parents.forEach(parent -> {
+            List<CommentListResponse> replies = childMap.getOrDefault(parent.getCommentId(), Collections.emptyList());
+            long replyCount = replyCounts.getOrDefault(parent.getCommentId(), 0L);
+
+            parent.setChildren(replies);
+            parent.setReplyCount(replyCount);
+            if (replyCount > replies.size()) {
+                parent.setNextReplyCursor(replies.isEmpty() ? 0L : replies.getLast().getCommentId());
+            }
+        });
     }
 
     /**
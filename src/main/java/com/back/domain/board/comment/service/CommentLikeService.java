@@ -45,8 +45,8 @@ public class CommentLikeService {
             throw new CustomException(ErrorCode.COMMENT_ALREADY_LIKED);
         }
 
-        // CommentLike 생성 및 좋아요 수 증가 처리
-        comment.increaseLikeCount();
+        // 좋아요 수 증가(단일 UPDATE) 후 CommentLike 저장 (댓글 행 잠금 → INSERT 순서 고정)
+        commentRepository.increaseLikeCount(commentId);
         commentLikeRepository.save(new CommentLike(comment, user));
 
         // 댓글 좋아요 이벤트 발행 (자기 댓글이 아닐 때만)
@@ -62,7 +62,7 @@ public class CommentLikeService {
             );
         }
 
-        return CommentLikeResponse.from(comment);
+        return new CommentLikeResponse(commentId, commentRepository.findLikeCountById(commentId));
     }
 
     /**
@@ -81,15 +81,12 @@ public class CommentLikeService {
         Comment comment = commentRepository.findById(commentId)
                 .orElseThrow(() -> new CustomException(ErrorCode.COMMENT_NOT_FOUND));
 
-        // CommentLike 조회
-        CommentLike commentLike = commentLikeRepository.findByUserIdAndCommentId(userId, commentId)
-                .orElseThrow(() -> new CustomException(ErrorCode.COMMENT_LIKE_NOT_FOUND));
-
-        // CommentLike 삭제 및 좋아요 수 감소 처리
-        commentLike.remove();
-        commentLikeRepository.delete(commentLike);
-        comment.decreaseLikeCount();
+        // 좋아요 수 감소 후 CommentLike 삭제 (삭제된 행이 없으면 예외 → 롤백으로 감소도 취소)
+        commentRepository.decreaseLikeCount(commentId);
+        if (commentLikeRepository.deleteByUserIdAndCommentId(userId, commentId) == 0) {
+            throw new CustomException(ErrorCode.COMMENT_LIKE_NOT_FOUND);
+        }
 
-        return CommentLikeResponse.from(comment);
+        return new CommentLikeResponse(commentId, commentRepository.findLikeCountById(commentId));
     }
 }
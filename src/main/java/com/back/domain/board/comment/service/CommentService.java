@@ -3,6 +3,7 @@ package com.back.domain.board.comment.service;
 import com.back.domain.board.comment.dto.CommentListResponse;
 import com.back.domain.board.comment.dto.CommentRequest;
 import com.back.domain.board.comment.dto.CommentResponse;
+import com.back.domain.board.comment.dto.ReplyListResponse;
 import com.back.domain.board.comment.dto.ReplyResponse;
 import com.back.domain.board.comment.repository.CommentLikeRepository;
 import com.back.domain.board.common.dto.PageResponse;
@@ -10,6 +11,7 @@ import com.back.domain.board.comment.entity.Comment;
 import com.back.domain.board.post.entity.Post;
 import com.back.domain.board.comment.repository.CommentRepository;
 import com.back.domain.board.post.repository.PostRepository;
+import com.back.domain.board.post.service.PostDetailCache;
 import com.back.domain.notification.event.community.CommentCreatedEvent;
 import com.back.domain.notification.event.community.ReplyCreatedEvent;
 import com.back.domain.user.common.entity.User;
@@ -23,6 +25,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
@@ -33,10 +36,15 @@ import java.util.stream.Stream;
 @RequiredArgsConstructor
 @Transactional
 public class CommentService {
+
+    /** 한 번에 조회할 수 있는 대댓글 수 상한 */
+    public static final int MAX_REPLY_SIZE = 50;
+
     private final CommentRepository commentRepository;
     private final CommentLikeRepository commentLikeRepository;
     private final UserRepository userRepository;
     private final PostRepository postRepository;
+    private final PostDetailCache postDetailCache;
     private final ApplicationEventPublisher eventPublisher;
 
     /**
@@ -56,8 +64,9 @@ public class CommentService {
         Post post = postRepository.findById(postId)
                 .orElseThrow(() -> new CustomException(ErrorCode.POST_NOT_FOUND));
 
-        // Comment 생성 및 댓글 수 증가 처리
-        post.increaseCommentCount();
+        // 댓글 수 증가(단일 UPDATE) 후 Comment 생성
+        postRepository.increaseCommentCount(postId);
+        postDetailCache.commentCountChangedAfterCommit(postId, 1);
         Comment comment = Comment.createRoot(post, user, request.content());
         commentRepository.save(comment);
 
@@ -77,22 +86,29 @@ public class CommentService {
 
     /**
      * 댓글 목록 조회 서비스
+     * - 대댓글은 부모별로 앞쪽 replySize개만 포함 (나머지는 대댓글 목록 조회로 이어서 조회)
+     * - 총 쿼리 수: 대댓글 수와 무관하게 최대 4회
+     *  1~3. 부모 댓글(+ 전체 개수), 부모별 앞쪽 대댓글 위치, 대댓글 조회
+     *  4. 로그인 사용자의 좋아요 여부 (페이지의 부모/대댓글 ID 전체에 대한 IN 쿼리 1회)
+     * - 게시글 존재 여부는 댓글이 하나도 없을 때만 확인
      *
-     * @param postId   게시글 ID
-     * @param userId   사용자 ID (선택)
-     * @param pageable 페이징 정보
+     * @param postId    게시글 ID
+     * @param pageable  페이징 정보
+     * @param replySize 부모별 포함할 대댓글 수 (최대 MAX_REPLY_SIZE)
+     * @param userId    사용자 ID (선택)
      * @return 댓글 목록 페이지 응답 DTO
      */
     @Transactional(readOnly = true)
-    public PageResponse<CommentListResponse> getComments(Long postId, Pageable pageable, Long userId) {
-        // Post 검증
-        if (!postRepository.existsById(postId)) {
+    public PageResponse<CommentListResponse> getComments(Long postId, Pageable pageable, int replySize, Long userId) {
+        // 댓글 목록 페이지 조회 (부모별 앞쪽 대댓글 포함)
+        Page<CommentListResponse> comments = commentRepository.findCommentsByPostId(
+                postId, pageable, clamp(replySize, 0));
+
+        // Post 검증 (댓글이 있으면 게시글도 존재하므로 빈 페이지일 때만 확인)
+        if (comments.isEmpty() && !postRepository.existsById(postId)) {
             throw new CustomException(ErrorCode.POST_NOT_FOUND);
         }
 
-        // 댓글 목록 페이지 조회 (대댓글 포함)
-        Page<CommentListResponse> comments = commentRepository.findCommentsByPostId(postId, pageable);
-
         // 로그인 사용자 추가 데이터 설정 (좋아요 여부)
         if (userId != null && !comments.isEmpty()) {
             applyLikedByUser(comments.getContent(), userId);
@@ -101,6 +117,48 @@ public class CommentService {
         return PageResponse.from(comments);
     }
 
+    /**
+     * 대댓글 목록 조회 서비스 (커서 기반, 작성순)
+     *
+     * @param postId    게시글 ID
+     * @param commentId 부모 댓글 ID
+     * @param cursor    이전 조회의 마지막 대댓글 ID (첫 조회는 null)
+     * @param size      조회 개수 (최대 MAX_REPLY_SIZE)
+     * @param userId    사용자 ID (선택)
+     * @return 대댓글 목록 응답 DTO
+     */
+    @Transactional(readOnly = true)
+    public ReplyListResponse getReplies(Long postId, Long commentId, Long cursor, int size, Long userId) {
+        // 부모 Comment 조회
+        Comment parent = commentRepository.findById(commentId)
+                .orElseThrow(() -> new CustomException(ErrorCode.COMMENT_NOT_FOUND));
+
+        // 부모의 게시글 일치 검증
+        if (!parent.getPost().getId().equals(postId)) {
+            throw new CustomException(ErrorCode.COMMENT_PARENT_MISMATCH);
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+        int limit = clamp(size, 1);
+        List<CommentListResponse> replies = new ArrayList<>(
+                commentRepository.findRepliesAfter(commentId, cursor, limit + 1));
+        boolean hasNext = replies.size() > limit;
+        if (hasNext) {
+            replies.removeLast();
+        }
+
+        // 로그인 사용자 추가 데이터 설정 (좋아요 여부)
+        if (userId != null && !replies.isEmpty()) {
+            applyLikedByUser(replies, userId);
+        }
+
+        return new ReplyListResponse(replies, hasNext ? replies.getLast().getCommentId() : null);
+    }
+
+    private static int clamp(int size, int min) {
+        return Math.min(Math.max(size, min), MAX_REPLY_SIZE);
+    }
+
     /**
      * 댓글 좋아요 여부(likedByMe) 설정
      */
@@ -186,10 +244,11 @@ public class CommentService {
             throw new CustomException(ErrorCode.COMMENT_NO_PERMISSION);
         }
 
-        // Comment 삭제 및 댓글 수 감소 처리
+        // 댓글 수 감소(단일 UPDATE) 후 Comment 삭제
+        postRepository.decreaseCommentCount(postId);
         comment.remove();
         commentRepository.delete(comment);
-        post.decreaseCommentCount();
+        postDetailCache.commentCountChangedAfterCommit(postId, -1);
     }
 
     /**
@@ -0,0 +1,47 @@
+package com.back.domain.board.common.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 페이지 응답 DTO
+ *
+ * @param items         목록 데이터
+ * @param nextCursor    다음 페이지 커서 (마지막 페이지면 null)
+ * @param hasNext       다음 페이지 존재 여부
+ * @param totalElements 전체 요소 수 (첫 페이지에서만 포함)
+ * @param <T>           제네릭 타입
+ */
+public record CursorResponse<T>(
+        List<T> items,
+        String nextCursor,
+        boolean hasNext,
+        @JsonInclude(JsonInclude.Include.NON_NULL) Long totalElements
+) {
+    /**
+     * limit + 1개까지 조회한 결과로 응답 생성
+     * - limit보다 많이 조회되면 다음 페이지가 있는 것으로 보고 초과분은 제외
+     *
+     * @param rows     조회 결과 (최대 limit + 1개)
+     * @param limit    페이지 크기
+     * @param mapper   행 목록 → 응답 목록 변환 (초과분을 제외한 행만 전달)
+     * @param cursorOf 행 → 다음 페이지 커서 변환
+     */
+    public static <R, T> CursorResponse<T> of(List<R> rows, int limit,
+                                              Function<List<R>, List<T>> mapper,
+                                              Function<R, KeysetCursor> cursorOf) {
+        boolean hasNext = rows.size() > limit;
+        List<R> page = hasNext ? rows.subList(0, limit) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(page.getLast()).encode() : null;
+        return new CursorResponse<>(mapper.apply(page), nextCursor, hasNext, null);
+    }
+
+    /**
+     * 전체 요소 수를 포함한 응답 (첫 페이지용)
+     */
+    public CursorResponse<T> withTotalElements(long totalElements) {
+        return new CursorResponse<>(items, nextCursor, hasNext, totalElements);
+    }
+}
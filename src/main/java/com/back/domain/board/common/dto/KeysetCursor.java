@@ -0,0 +1,51 @@
+package com.back.domain.board.common.dto;
+
+import com.back.global.exception.CustomException;
+import com.back.global.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * (생성 일시, ID) 커서
+ * - 생성 일시 내림차순 + ID 내림차순 목록에서 마지막으로 받은 행의 위치
+ * - 클라이언트에는 URL-safe Base64 문자열로 전달 ("생성일시|ID")
+ *
+ * @param createdAt 마지막 행의 생성 일시
+ * @param id        마지막 행의 ID
+ */
+public record KeysetCursor(
+        LocalDateTime createdAt,
+        Long id
+) {
+    private static final String DELIMITER = "|";
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열 해석
+     *
+     * @param cursor 커서 문자열 (없으면 첫 페이지)
+     * @return 커서 (첫 페이지면 null)
+     * @throws CustomException 형식이 잘못된 경우 INVALID_CURSOR
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(DELIMITER);
+            return new KeysetCursor(
+                    LocalDateTime.parse(raw.substring(0, index)),
+                    Long.valueOf(raw.substring(index + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
@@ -7,12 +7,13 @@ import com.back.domain.board.post.dto.PostListResponse;
 import com.back.domain.board.post.dto.PostRequest;
 import com.back.domain.board.post.dto.PostResponse;
 import com.back.domain.board.post.service.PostService;
+import com.back.domain.board.post.service.PostTrendingService;
 import com.back.global.common.dto.RsData;
 import com.back.global.security.user.CustomUserDetails;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -26,6 +27,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class PostController implements PostControllerDocs {
     private final PostService postService;
+    private final PostTrendingService postTrendingService;
 
     // 게시글 생성
     @PostMapping
@@ -45,7 +47,7 @@ public class PostController implements PostControllerDocs {
     // 게시글 다건 조회
     @GetMapping
     public ResponseEntity<RsData<PageResponse<PostListResponse>>> getPosts(
-            @PageableDefault(sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            @PageableDefault Pageable pageable,  // 정렬 미지정 시 최신순, 검색 시 관련도순
             @RequestParam(required = false) String keyword,
             @RequestParam(required = false) String searchType,
             @RequestParam(required = false) List<Long> categoryId
@@ -59,14 +61,29 @@ public class PostController implements PostControllerDocs {
                 ));
     }
 
+    // 인기 게시글 조회
+    @GetMapping("/trending")
+    public ResponseEntity<RsData<List<PostListResponse>>> getTrendingPosts(
+            @RequestParam(defaultValue = "10") int size  // 최대 100개
+    ) {
+        List<PostListResponse> response = postTrendingService.getTrendingPosts(size);
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(RsData.success(
+                        "인기 게시글이 조회되었습니다.",
+                        response
+                ));
+    }
+
     // 게시글 단건 조회
     @GetMapping("/{postId}")
     public ResponseEntity<RsData<PostDetailResponse>> getPost(
             @PathVariable Long postId,
-            @AuthenticationPrincipal CustomUserDetails user
+            @AuthenticationPrincipal CustomUserDetails user,
+            HttpServletRequest request
     ) {
         Long userId = (user != null) ? user.getUserId() : null;
-        PostDetailResponse response = postService.getPost(postId, userId);
+        PostDetailResponse response = postService.viewPost(postId, userId, request.getRemoteAddr());
         return ResponseEntity
                 .status(HttpStatus.OK)
                 .body(RsData.success(
@@ -7,6 +7,7 @@ import com.back.domain.board.post.dto.PostRequest;
 import com.back.domain.board.post.dto.PostResponse;
 import com.back.global.common.dto.RsData;
 import com.back.global.security.user.CustomUserDetails;
+import jakarta.servlet.http.HttpServletRequest;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
@@ -170,7 +171,9 @@ public interface PostControllerDocs {
 
     @Operation(
             summary = "게시글 목록 조회",
-            description = "모든 사용자가 게시글 목록을 조회할 수 있습니다. (로그인 불필요)"
+            description = "모든 사용자가 게시글 목록을 조회할 수 있습니다. (로그인 불필요)\n" +
+                    "정렬(sort)을 지정하지 않으면 최신순, 검색어(keyword)가 있으면 관련도순으로 정렬되며 " +
+                    "검색 결과에는 제목/본문 발췌의 검색어 일치 구간(highlight)이 포함됩니다."
     )
     @ApiResponses({
             @ApiResponse(
@@ -240,16 +243,72 @@ public interface PostControllerDocs {
             )
     })
     ResponseEntity<RsData<PageResponse<PostListResponse>>> getPosts(
-            @PageableDefault(sort = "createdAt") Pageable pageable,
+            @PageableDefault Pageable pageable,
             @RequestParam(required = false) String keyword,
             @RequestParam(required = false) String searchType,
             @RequestParam(required = false) List<Long> categoryId
     );
 
+    @Operation(
+            summary = "인기 게시글 조회",
+            description = "모든 사용자가 인기 게시글 목록을 조회할 수 있습니다. (로그인 불필요)\n" +
+                    "좋아요/댓글/북마크를 시간이 지날수록 줄어드는 점수로 합산한 순서이며, 최대 100개까지 조회할 수 있습니다. " +
+                    "목록은 수 초 간격으로 갱신됩니다."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "인기 게시글 조회 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                    {
+                                      "success": true,
+                                      "code": "SUCCESS_200",
+                                      "message": "인기 게시글이 조회되었습니다.",
+                                      "data": [
+                                        {
+                                          "postId": 7,
+                                          "author": { "id": 10, "nickname": "홍길동", "profileImageUrl": null },
+                                          "title": "스터디원 모집합니다",
+                                          "thumbnailUrl": null,
+                                          "categories": [{ "id": 2, "name": "모집" }],
+                                          "likeCount": 42,
+                                          "bookmarkCount": 9,
+                                          "commentCount": 17,
+                                          "createdAt": "2025-09-30T10:15:30",
+                                          "updatedAt": "2025-09-30T10:20:00"
+                                        }
+                                      ]
+                                    }
+                                    """)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "서버 내부 오류",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                    {
+                                      "success": false,
+                                      "code": "COMMON_500",
+                                      "message": "서버 오류가 발생했습니다.",
+                                      "data": null
+                                    }
+                                    """)
+                    )
+            )
+    })
+    ResponseEntity<RsData<List<PostListResponse>>> getTrendingPosts(
+            @RequestParam(defaultValue = "10") int size
+    );
+
 
     @Operation(
             summary = "게시글 단건 조회",
-            description = "모든 사용자가 특정 게시글의 상세 정보를 조회할 수 있습니다. (로그인 불필요)"
+            description = "모든 사용자가 특정 게시글의 상세 정보를 조회할 수 있습니다. (로그인 불필요)\n" +
+                    "조회수는 같은 사용자(비로그인은 IP)의 반복 조회를 일정 시간 동안 1회로 집계합니다."
     )
     @ApiResponses({
             @ApiResponse(
@@ -280,6 +339,7 @@ public interface PostControllerDocs {
                                           { "id": 11, "url": "https://example.com/image1.png" },
                                           { "id": 12, "url": "https://example.com/image2.png" }
                                         ],
+                                        "viewCount": 128,
                                         "likeCount": 10,
                                         "bookmarkCount": 2,
                                         "commentCount": 3,
@@ -325,7 +385,8 @@ public interface PostControllerDocs {
     })
     ResponseEntity<RsData<PostDetailResponse>> getPost(
             @PathVariable Long postId,
-            @AuthenticationPrincipal CustomUserDetails user
+            @AuthenticationPrincipal CustomUserDetails user,
+            HttpServletRequest request
     );
 
     @Operation(
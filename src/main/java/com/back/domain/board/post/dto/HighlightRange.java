@@ -0,0 +1,13 @@
+package com.back.domain.board.post.dto;
+
+/**
+ * 검색어 일치 구간 (UTF-16 문자 인덱스, 프론트엔드 String.slice와 동일 기준)
+ *
+ * @param start 시작 위치 (포함)
+ * @param end   끝 위치 (미포함)
+ */
+public record HighlightRange(
+        int start,
+        int end
+) {
+}
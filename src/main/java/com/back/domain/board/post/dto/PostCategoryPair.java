@@ -0,0 +1,16 @@
+package com.back.domain.board.post.dto;
+
+/**
+ * 게시글-카테고리 매핑 쌍 (카테고리 색인 구성용 조회 전용 모델)
+ * - 엔티티 로딩 없이 ID만 조회하여 전체 재색인 비용을 줄임
+ *
+ * @param mappingId  매핑 ID
+ * @param postId     게시글 ID
+ * @param categoryId 카테고리 ID
+ */
+public record PostCategoryPair(
+        Long mappingId,
+        Long postId,
+        Long categoryId
+) {
+}
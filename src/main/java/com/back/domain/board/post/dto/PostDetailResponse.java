@@ -17,6 +17,7 @@ import java.util.List;
  * @param thumbnailUrl   썸네일 URL
  * @param categories     게시글 카테고리 목록
  * @param images         첨부된 이미지 목록
+ * @param viewCount      조회수
  * @param likeCount      좋아요 수
  * @param bookmarkCount  북마크 수
  * @param commentCount   댓글 수
@@ -33,6 +34,7 @@ public record PostDetailResponse(
         String thumbnailUrl,
         List<CategoryResponse> categories,
         List<ImageResponse> images,
+        long viewCount,
         long likeCount,
         long bookmarkCount,
         long commentCount,
@@ -42,10 +44,10 @@ public record PostDetailResponse(
         LocalDateTime updatedAt
 ) {
     public static PostDetailResponse from(Post post, List<FileAttachment> attachments) {
-        return from(post, attachments, false, false);
+        return from(post, attachments, 0L);
     }
 
-    public static PostDetailResponse from(Post post, List<FileAttachment> attachments, boolean likedByMe, boolean bookmarkedByMe) {
+    public static PostDetailResponse from(Post post, List<FileAttachment> attachments, long viewCount) {
         return new PostDetailResponse(
                 post.getId(),
                 AuthorResponse.from(post.getUser()),
@@ -58,13 +60,30 @@ public record PostDetailResponse(
                 attachments.stream()
                         .map(ImageResponse::from)
                         .toList(),
-                post.getPostLikes().size(),
-                post.getPostBookmarks().size(),
-                post.getComments().size(),
-                likedByMe,
-                bookmarkedByMe,
+                viewCount,
+                post.getLikeCount(),
+                post.getBookmarkCount(),
+                post.getCommentCount(),
+                false,
+                false,
                 post.getCreatedAt(),
                 post.getUpdatedAt()
         );
     }
+
+    /**
+     * 조회/좋아요/북마크/댓글 수 교체 (캐시된 스냅샷에 최신 카운터 적용)
+     */
+    public PostDetailResponse withCounts(long viewCount, long likeCount, long bookmarkCount, long commentCount) {
+        return new PostDetailResponse(postId, author, title, content, thumbnailUrl, categories, images,
+                viewCount, likeCount, bookmarkCount, commentCount, likedByMe, bookmarkedByMe, createdAt, updatedAt);
+    }
+
+    /**
+     * 조회 사용자의 좋아요/북마크 여부 교체
+     */
+    public PostDetailResponse withViewerState(boolean likedByMe, boolean bookmarkedByMe) {
+        return new PostDetailResponse(postId, author, title, content, thumbnailUrl, categories, images,
+                viewCount, likeCount, bookmarkCount, commentCount, likedByMe, bookmarkedByMe, createdAt, updatedAt);
+    }
 }
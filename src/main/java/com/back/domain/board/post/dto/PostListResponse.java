@@ -1,6 +1,7 @@
 package com.back.domain.board.post.dto;
 
 import com.back.domain.board.common.dto.AuthorResponse;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.querydsl.core.annotations.QueryProjection;
 import lombok.Getter;
 import lombok.Setter;
@@ -27,6 +28,11 @@ public class PostListResponse {
     private final LocalDateTime createdAt;
     private final LocalDateTime updatedAt;
 
+    // 검색 결과에만 포함 (일반 목록 조회 시 응답에서 제외)
+    @Setter
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private PostSearchHighlight highlight;
+
     @QueryProjection
     public PostListResponse(Long postId,
                             AuthorResponse author,
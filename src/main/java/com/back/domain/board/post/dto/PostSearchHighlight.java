@@ -0,0 +1,17 @@
+package com.back.domain.board.post.dto;
+
+import java.util.List;
+
+/**
+ * 게시글 검색 결과 하이라이트
+ *
+ * @param title         제목 내 검색어 일치 구간
+ * @param snippet       본문 발췌 (첫 일치 위치 주변, 일치가 없으면 본문 앞부분)
+ * @param snippetRanges 발췌 내 검색어 일치 구간
+ */
+public record PostSearchHighlight(
+        List<HighlightRange> title,
+        String snippet,
+        List<HighlightRange> snippetRanges
+) {
+}
@@ -10,7 +10,8 @@ import lombok.NoArgsConstructor;
 @Getter
 @NoArgsConstructor
 @Table(
-        uniqueConstraints = @UniqueConstraint(columnNames = {"post_id", "user_id"})
+        uniqueConstraints = @UniqueConstraint(columnNames = {"post_id", "user_id"}),
+        indexes = @Index(name = "idx_post_bookmark_user_created", columnList = "user_id, created_at, id")
 )
 public class PostBookmark extends BaseEntity {
     @ManyToOne(fetch = FetchType.LAZY)
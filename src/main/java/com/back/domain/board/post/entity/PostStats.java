@@ -0,0 +1,34 @@
+package com.back.domain.board.post.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 통계 (조회수)
+ * - 게시글당 1행, 게시글 ID를 그대로 PK로 사용
+ * - 조회 시마다 쓰지 않고 PostViewCounter가 메모리에 모은 증가분을 주기적으로 배치 UPSERT
+ * - 배치 반영 시점에 이미 삭제된 게시글이 있어도 배치 전체가 실패하지 않도록 FK를 두지 않음
+ *   (게시글 삭제 시 함께 삭제하며, 남은 행은 게시글과 조인하는 조회에서 제외됨)
+ */
+@Entity
+@NoArgsConstructor
+@Getter
+@Table(
+        name = "post_stats",
+        indexes = @Index(name = "idx_post_stats_view_count", columnList = "view_count")
+)
+public class PostStats {
+
+    @Id
+    @Column(name = "post_id")
+    private Long postId;
+
+    @Column(name = "view_count", nullable = false)
+    private Long viewCount = 0L;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,98 @@
+package com.back.domain.board.post.entity;
+
+import com.back.domain.board.post.dto.CategoryResponse;
+import com.back.domain.user.common.entity.User;
+import com.back.domain.user.common.entity.UserProfile;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 게시글 목록 조회용 요약 (비정규화 읽기 모델)
+ * - 게시글당 1행, 게시글 ID를 그대로 PK로 사용
+ * - 작성자 스냅샷(닉네임, 프로필 이미지)과 카테고리 목록(JSON)을 함께 저장하여
+ *   목록 조회 시 User/UserProfile 조인과 카테고리 IN 쿼리 없이 한 번에 조회
+ * - 게시글 생성/수정/삭제, 카테고리 매핑 변경, 작성자 프로필 변경 시 함께 갱신
+ */
+@Entity
+@NoArgsConstructor
+@Getter
+@Table(
+        name = "post_summary",
+        indexes = @Index(name = "idx_post_summary_author", columnList = "author_id")
+)
+public class PostSummary {
+    private static final ObjectMapper CATEGORY_MAPPER = new ObjectMapper();
+    private static final TypeReference<List<CategoryResponse>> CATEGORY_LIST_TYPE = new TypeReference<>() {};
+
+    @Id
+    private Long postId;
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "post_id")
+    private Post post;
+
+    @Column(name = "author_id", nullable = false)
+    private Long authorId;
+
+    private String authorNickname;
+
+    @Column(length = 500)
+    private String authorProfileImageUrl;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String categories;
+
+    // -------------------- 생성자 --------------------
+    private PostSummary(Post post) {
+        this.post = post;
+    }
+
+    public static PostSummary create(Post post, List<PostCategory> categories) {
+        PostSummary summary = new PostSummary(post);
+        summary.sync(post, categories);
+        return summary;
+    }
+
+    // -------------------- 비즈니스 메서드 --------------------
+    /** 게시글 기준으로 작성자 스냅샷과 카테고리 목록 갱신 */
+    public void sync(Post post, List<PostCategory> categories) {
+        updateAuthor(post.getUser());
+        this.categories = encodeCategories(categories.stream().map(CategoryResponse::from).toList());
+    }
+
+    /** 작성자 스냅샷 갱신 */
+    public void updateAuthor(User author) {
+        UserProfile profile = author.getUserProfile();
+        this.authorId = author.getId();
+        this.authorNickname = profile != null ? profile.getNickname() : null;
+        this.authorProfileImageUrl = profile != null ? profile.getProfileImageUrl() : null;
+    }
+
+    // -------------------- 헬퍼 메서드 --------------------
+    /** 저장된 카테고리 JSON → 응답 DTO 목록 */
+    public static List<CategoryResponse> decodeCategories(String encoded) {
+        if (encoded == null || encoded.isEmpty()) {
+            return List.of();
+        }
+        try {
+            return CATEGORY_MAPPER.readValue(encoded, CATEGORY_LIST_TYPE);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("게시글 요약 카테고리 역직렬화 실패", e);
+        }
+    }
+
+    private static String encodeCategories(List<CategoryResponse> categories) {
+        try {
+            return CATEGORY_MAPPER.writeValueAsString(categories);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("게시글 요약 카테고리 직렬화 실패", e);
+        }
+    }
+}
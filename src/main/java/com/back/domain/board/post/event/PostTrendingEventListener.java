@@ -0,0 +1,38 @@
+package com.back.domain.board.post.event;
+
+import com.back.domain.board.post.service.PostTrendingService;
+import com.back.domain.board.post.service.PostTrendingService.Signal;
+import com.back.domain.notification.event.community.CommentCreatedEvent;
+import com.back.domain.notification.event.community.PostLikedEvent;
+import com.back.domain.notification.event.community.ReplyCreatedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 커뮤니티 이벤트 → 인기 게시글 점수 반영
+ * - 발행 트랜잭션 안에서 동기로 받아 커밋 이후 반영을 등록 (롤백된 반응은 반영하지 않음)
+ * - 게시글 좋아요 이벤트는 자기 글 좋아요에는 발행되지 않으므로 점수에도 포함되지 않음
+ * - 좋아요를 취소했다 다시 누르거나 댓글을 여러 개 달아도 사용자당 한 번만 반영 (PostTrendingService 중복 제거)
+ */
+@Component
+@RequiredArgsConstructor
+public class PostTrendingEventListener {
+
+    private final PostTrendingService postTrendingService;
+
+    @EventListener
+    public void handlePostLiked(PostLikedEvent event) {
+        postTrendingService.recordAfterCommit(event.getPostId(), event.getActorId(), Signal.LIKE);
+    }
+
+    @EventListener
+    public void handleCommentCreated(CommentCreatedEvent event) {
+        postTrendingService.recordAfterCommit(event.getPostId(), event.getActorId(), Signal.COMMENT);
+    }
+
+    @EventListener
+    public void handleReplyCreated(ReplyCreatedEvent event) {
+        postTrendingService.recordAfterCommit(event.getPostId(), event.getActorId(), Signal.COMMENT);
+    }
+}
@@ -4,8 +4,12 @@ import com.back.domain.board.post.entity.PostBookmark;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -13,4 +17,16 @@ public interface PostBookmarkRepository extends JpaRepository<PostBookmark, Long
     boolean existsByUserIdAndPostId(Long userId, Long postId);
     Optional<PostBookmark> findByUserIdAndPostId(Long userId, Long postId);
     Page<PostBookmark> findAllByUserId(Long userId, Pageable pageable);
+    long countByUserId(Long userId);
+
+    @Query("SELECT b.post.id FROM PostBookmark b WHERE b.user.id = :userId")
+    List<Long> findPostIdsByUserId(@Param("userId") Long userId);
+
+    /**
+     * 북마크 삭제 (단일 DELETE 문)
+     * @return 실제로 삭제된 행 수 (0 또는 1, 동시 취소 시 한 요청만 1)
+     */
+    @Modifying
+    @Query("DELETE FROM PostBookmark b WHERE b.user.id = :userId AND b.post.id = :postId")
+    int deleteByUserIdAndPostId(@Param("userId") Long userId, @Param("postId") Long postId);
 }
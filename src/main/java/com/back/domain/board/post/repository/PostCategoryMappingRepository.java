@@ -1,9 +1,32 @@
 package com.back.domain.board.post.repository;
 
+import com.back.domain.board.post.dto.PostCategoryPair;
 import com.back.domain.board.post.entity.PostCategoryMapping;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface PostCategoryMappingRepository extends JpaRepository<PostCategoryMapping, Long> {
+
+    /**
+     * 여러 게시글의 카테고리 매핑 일괄 조회 (카테고리 포함)
+     */
+    @Query("SELECT m FROM PostCategoryMapping m " +
+           "JOIN FETCH m.category " +
+           "WHERE m.post.id IN :postIds")
+    List<PostCategoryMapping> findAllWithCategoryByPostIdIn(@Param("postIds") List<Long> postIds);
+
+    /**
+     * 매핑 ID 이후의 게시글-카테고리 쌍 조회 (카테고리 색인 구성용, 매핑 ID 오름차순)
+     */
+    @Query("SELECT new com.back.domain.board.post.dto.PostCategoryPair(m.id, m.post.id, m.category.id) " +
+           "FROM PostCategoryMapping m " +
+           "WHERE m.id > :afterId " +
+           "ORDER BY m.id ASC")
+    List<PostCategoryPair> findPairsAfter(@Param("afterId") Long afterId, Pageable pageable);
 }
@@ -0,0 +1,225 @@
+package com.back.domain.board.post.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시글 전문 검색 저장소 (MySQL FULLTEXT + ngram 파서)
+ * - 제목/본문에 각각 FULLTEXT 인덱스를 두어 검색 유형별로 인덱스를 사용하고 점수(MATCH)로 정렬
+ * - 정렬/카테고리 조건/페이징/전체 개수까지 SQL에서 처리하여 후보 수 상한 없이 정확한 결과와 개수 반환
+ * - ngram 파서(기본 ngram_token_size=2)로 형태소 분석 없이 한국어 부분 일치 검색
+ * - 인덱스는 InnoDB가 트랜잭션과 함께 갱신하므로 별도 증분 색인 작업이 필요 없음
+ * - JPQL로 MATCH ... AGAINST를 표현할 수 없으므로 JdbcTemplate 네이티브 쿼리 사용
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostFullTextRepository {
+
+    public static final String TITLE_INDEX = "ft_post_title";
+    public static final String CONTENT_INDEX = "ft_post_content";
+
+    private static final String COUNT_INDEXES_SQL =
+            "SELECT COUNT(DISTINCT index_name) FROM information_schema.statistics " +
+            "WHERE table_schema = DATABASE() AND table_name = 'post' " +
+            "AND index_type = 'FULLTEXT' AND index_name IN ('" + TITLE_INDEX + "', '" + CONTENT_INDEX + "')";
+
+    private static final String INDEX_EXISTS_SQL =
+            "SELECT COUNT(*) FROM information_schema.statistics " +
+            "WHERE table_schema = DATABASE() AND table_name = 'post' AND index_name = ?";
+
+    // 검색 유형별 일치 게시글 + 점수 (각 SELECT가 자기 FULLTEXT 인덱스를 사용하도록 OR 대신 UNION ALL)
+    private static final String MATCH_TITLE_SQL =
+            "SELECT id, %s * MATCH(title) AGAINST (? IN BOOLEAN MODE) AS score FROM post " +
+            "WHERE MATCH(title) AGAINST (? IN BOOLEAN MODE)";
+
+    private static final String MATCH_CONTENT_SQL =
+            "SELECT id, %s * MATCH(content) AGAINST (? IN BOOLEAN MODE) AS score FROM post " +
+            "WHERE MATCH(content) AGAINST (? IN BOOLEAN MODE)";
+
+    // 사용자 테이블은 게시글 본문보다 훨씬 작으므로 작성자 검색은 username 부분 일치로 처리 (점수 고정)
+    private static final String MATCH_AUTHOR_SQL =
+            "SELECT p.id, %s AS score FROM post p JOIN users u ON u.id = p.user_id " +
+            "WHERE u.username LIKE CONCAT('%%', ?, '%%') ESCAPE '!'";
+
+    // 전체 검색 시 필드별 점수 가중치
+    private static final int TITLE_WEIGHT = 3;
+    private static final int AUTHOR_WEIGHT = 2;
+    private static final int CONTENT_WEIGHT = 1;
+
+    // 정렬 조건 → 컬럼 (화이트리스트)
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "createdAt", "p.created_at",
+            "updatedAt", "p.updated_at",
+            "title", "p.title",
+            "likeCount", "p.like_count",
+            "bookmarkCount", "p.bookmark_count",
+            "commentCount", "p.comment_count"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 검색 조건
+     * @param booleanQuery  제목/본문 BOOLEAN MODE 검색식
+     * @param authorKeyword 작성자(username) 검색어
+     * @param searchType    검색 유형(title/content/author/전체)
+     * @param categoryIds   카테고리 ID 리스트 (같은 타입은 OR, 다른 타입은 AND)
+     */
+    public record Condition(String booleanQuery, String authorKeyword, String searchType, List<Long> categoryIds) {
+    }
+
+    /**
+     * MySQL 여부 (H2 등에서는 FULLTEXT 미지원)
+     */
+    public boolean isSupported() {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        return "MySQL".equalsIgnoreCase(product);
+    }
+
+    /**
+     * 제목/본문 FULLTEXT 인덱스가 모두 존재하는지 여부
+     */
+    public boolean hasIndexes() {
+        Integer count = jdbcTemplate.queryForObject(COUNT_INDEXES_SQL, Integer.class);
+        return count != null && count == 2;
+    }
+
+    /**
+     * 없는 FULLTEXT 인덱스 생성 (기존 게시글 전체 색인 포함)
+     * - InnoDB는 ALTER TABLE 한 번에 FULLTEXT 인덱스 하나만 INPLACE로 추가할 수 있어 각각 생성
+     */
+    public void createIndexesIfAbsent() {
+        createIndexIfAbsent(TITLE_INDEX, "title");
+        createIndexIfAbsent(CONTENT_INDEX, "content");
+    }
+
+    /**
+     * 테이블 재구성으로 FULLTEXT 인덱스 재작성
+     * - 수정/삭제로 쌓인 삭제 문서 목록을 정리하여 색인 크기와 검색 속도 회복
+     */
+    public void rebuildIndexes() {
+        jdbcTemplate.execute("OPTIMIZE TABLE post");
+    }
+
+    /**
+     * 검색 결과 한 페이지의 게시글 ID
+     * - 정렬 조건이 없으면 관련도 내림차순(동점이면 최신 게시글 우선)
+     * - 정렬 조건이 있으면 일치하는 게시글 전체를 대상으로 해당 컬럼 정렬 (관련도 상위 일부만 재정렬하지 않음)
+     * - 전체 검색은 필드별 점수를 가중 합산 (제목 3, 작성자 2, 본문 1)
+     */
+    public List<Long> findPageIds(Condition condition, Sort sort, long offset, int limit) {
+        List<Object> args = new ArrayList<>();
+        String sql = "SELECT s.id FROM (" + matchSql(condition, args) + ") s " +
+                "JOIN post p ON p.id = s.id" +
+                categorySql(condition.categoryIds(), args) +
+                " ORDER BY " + orderSql(sort) +
+                " LIMIT ? OFFSET ?";
+        args.add(limit);
+        args.add(offset);
+        return jdbcTemplate.queryForList(sql, Long.class, args.toArray());
+    }
+
+    /**
+     * 검색 결과 전체 개수 (후보 수 제한 없음)
+     */
+    public long count(Condition condition) {
+        List<Object> args = new ArrayList<>();
+        String sql = "SELECT COUNT(*) FROM (" + matchSql(condition, args) + ") s " +
+                "JOIN post p ON p.id = s.id" +
+                categorySql(condition.categoryIds(), args);
+        Long count = jdbcTemplate.queryForObject(sql, Long.class, args.toArray());
+        return count != null ? count : 0L;
+    }
+
+    /**
+     * 검색 유형별 일치 게시글 ID + 합산 점수 (게시글당 1행)
+     */
+    private String matchSql(Condition condition, List<Object> args) {
+        List<String> parts = new ArrayList<>();
+        String searchType = condition.searchType() == null ? "" : condition.searchType();
+        switch (searchType) {
+            case "title" -> parts.add(matchTitle(condition, 1, args));
+            case "content" -> parts.add(matchContent(condition, 1, args));
+            case "author" -> parts.add(matchAuthor(condition, 1, args));
+            default -> {
+                parts.add(matchTitle(condition, TITLE_WEIGHT, args));
+                parts.add(matchContent(condition, CONTENT_WEIGHT, args));
+                parts.add(matchAuthor(condition, AUTHOR_WEIGHT, args));
+            }
+        }
+        return "SELECT id, SUM(score) AS score FROM (" + String.join(" UNION ALL ", parts) + ") m GROUP BY id";
+    }
+
+    private String matchTitle(Condition condition, int weight, List<Object> args) {
+        args.add(condition.booleanQuery());
+        args.add(condition.booleanQuery());
+        return MATCH_TITLE_SQL.formatted(weight);
+    }
+
+    private String matchContent(Condition condition, int weight, List<Object> args) {
+        args.add(condition.booleanQuery());
+        args.add(condition.booleanQuery());
+        return MATCH_CONTENT_SQL.formatted(weight);
+    }
+
+    private String matchAuthor(Condition condition, int weight, List<Object> args) {
+        args.add(condition.authorKeyword().replace("!", "!!").replace("%", "!%").replace("_", "!_"));
+        return MATCH_AUTHOR_SQL.formatted(weight);
+    }
+
+    /**
+     * 카테고리 조건 (요청 카테고리 중 같은 타입의 카테고리와 하나도 매핑되지 않은 타입이 없어야 함)
+     */
+    private String categorySql(List<Long> categoryIds, List<Object> args) {
+        if (categoryIds == null || categoryIds.isEmpty()) {
+            return "";
+        }
+        String placeholders = String.join(", ", Collections.nCopies(categoryIds.size(), "?"));
+        args.addAll(categoryIds);
+        args.addAll(categoryIds);
+        return " WHERE NOT EXISTS (" +
+                "SELECT 1 FROM post_category rc WHERE rc.id IN (" + placeholders + ") " +
+                "AND NOT EXISTS (" +
+                "SELECT 1 FROM post_category_mapping m JOIN post_category mc ON mc.id = m.category_id " +
+                "WHERE m.post_id = p.id AND mc.id IN (" + placeholders + ") AND mc.type = rc.type))";
+    }
+
+    /**
+     * 정렬 조건 → ORDER BY (허용되지 않은 필드만 지정되면 createdAt DESC)
+     */
+    private String orderSql(Sort sort) {
+        if (sort.isUnsorted()) {
+            return "s.score DESC, s.id DESC";
+        }
+
+        List<String> orders = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            String column = SORT_COLUMNS.get(order.getProperty());
+            if (column != null) {
+                orders.add(column + (order.isAscending() ? " ASC" : " DESC"));
+            }
+        }
+        if (orders.isEmpty()) {
+            orders.add("p.created_at DESC");
+        }
+        orders.add("p.id DESC");
+        return String.join(", ", orders);
+    }
+
+    private void createIndexIfAbsent(String indexName, String column) {
+        Integer count = jdbcTemplate.queryForObject(INDEX_EXISTS_SQL, Integer.class, indexName);
+        if (count != null && count > 0) {
+            return;
+        }
+        jdbcTemplate.execute("ALTER TABLE post ADD FULLTEXT INDEX " + indexName + " (" + column + ") WITH PARSER ngram");
+    }
+}
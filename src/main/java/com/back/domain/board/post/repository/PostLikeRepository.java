@@ -2,12 +2,27 @@ package com.back.domain.board.post.repository;
 
 import com.back.domain.board.post.entity.PostLike;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
     boolean existsByUserIdAndPostId(Long userId, Long postId);
     Optional<PostLike> findByUserIdAndPostId(Long userId, Long postId);
+
+    @Query("SELECT l.post.id FROM PostLike l WHERE l.user.id = :userId")
+    List<Long> findPostIdsByUserId(@Param("userId") Long userId);
+
+    /**
+     * 게시글 좋아요 삭제 (단일 DELETE 문)
+     * @return 실제로 삭제된 행 수 (0 또는 1, 동시 취소 시 한 요청만 1)
+     */
+    @Modifying
+    @Query("DELETE FROM PostLike l WHERE l.user.id = :userId AND l.post.id = :postId")
+    int deleteByUserIdAndPostId(@Param("userId") Long userId, @Param("postId") Long postId);
 }
@@ -3,8 +3,57 @@ package com.back.domain.board.post.repository;
 import com.back.domain.board.post.entity.Post;
 import com.back.domain.board.post.repository.custom.PostRepositoryCustom;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+/**
+ * 게시글 Repository
+ * - 좋아요/북마크/댓글 수는 엔티티 변경 감지(읽은 값 + 1 덮어쓰기) 대신 단일 UPDATE 문으로 증감하여
+ *   동시 요청에도 갱신이 유실되지 않음 (감소는 0 미만으로 내려가지 않음)
+ */
 @Repository
 public interface PostRepository extends JpaRepository<Post, Long>, PostRepositoryCustom {
+
+    @Modifying
+    @Query("UPDATE Post p SET p.likeCount = p.likeCount + 1 WHERE p.id = :postId")
+    int increaseLikeCount(@Param("postId") Long postId);
+
+    @Modifying
+    @Query("UPDATE Post p SET p.likeCount = p.likeCount - 1 WHERE p.id = :postId AND p.likeCount > 0")
+    int decreaseLikeCount(@Param("postId") Long postId);
+
+    @Modifying
+    @Query("UPDATE Post p SET p.bookmarkCount = p.bookmarkCount + 1 WHERE p.id = :postId")
+    int increaseBookmarkCount(@Param("postId") Long postId);
+
+    @Modifying
+    @Query("UPDATE Post p SET p.bookmarkCount = p.bookmarkCount - 1 WHERE p.id = :postId AND p.bookmarkCount > 0")
+    int decreaseBookmarkCount(@Param("postId") Long postId);
+
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = p.commentCount + 1 WHERE p.id = :postId")
+    int increaseCommentCount(@Param("postId") Long postId);
+
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = p.commentCount - 1 WHERE p.id = :postId AND p.commentCount > 0")
+    int decreaseCommentCount(@Param("postId") Long postId);
+
+    /**
+     * 사용자의 게시글 수 ((user_id, created_at, id) 인덱스만으로 계산)
+     */
+    long countByUserId(Long userId);
+
+    /**
+     * 현재 좋아요 수 (증감 직후 응답용, 영속성 컨텍스트의 엔티티 값은 갱신되지 않으므로 DB에서 조회)
+     */
+    @Query("SELECT p.likeCount FROM Post p WHERE p.id = :postId")
+    long findLikeCountById(@Param("postId") Long postId);
+
+    /**
+     * 현재 북마크 수 (증감 직후 응답용)
+     */
+    @Query("SELECT p.bookmarkCount FROM Post p WHERE p.id = :postId")
+    long findBookmarkCountById(@Param("postId") Long postId);
 }
@@ -0,0 +1,31 @@
+package com.back.domain.board.post.repository;
+
+import com.back.domain.board.post.entity.PostStats;
+import com.back.domain.board.post.repository.custom.PostStatsRepositoryCustom;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface PostStatsRepository extends JpaRepository<PostStats, Long>, PostStatsRepositoryCustom {
+
+    /**
+     * 조회수 상위 게시글 ID (삭제된 게시글의 남은 통계 행 제외)
+     */
+    @Query("SELECT s.postId FROM PostStats s " +
+           "WHERE EXISTS (SELECT p.id FROM Post p WHERE p.id = s.postId) " +
+           "ORDER BY s.viewCount DESC, s.postId DESC")
+    List<Long> findMostViewedPostIds(Pageable pageable);
+
+    /**
+     * 게시글 통계 삭제 (게시글 삭제 시)
+     */
+    @Modifying
+    @Query("DELETE FROM PostStats s WHERE s.postId = :postId")
+    int deleteByPostId(@Param("postId") Long postId);
+}
@@ -0,0 +1,23 @@
+package com.back.domain.board.post.repository;
+
+import com.back.domain.board.post.entity.PostSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PostSummaryRepository extends JpaRepository<PostSummary, Long> {
+
+    /**
+     * 작성자 스냅샷 일괄 갱신 (프로필 변경/탈퇴 시)
+     */
+    @Modifying
+    @Query("UPDATE PostSummary s " +
+           "SET s.authorNickname = :nickname, s.authorProfileImageUrl = :profileImageUrl " +
+           "WHERE s.authorId = :authorId")
+    int updateAuthor(@Param("authorId") Long authorId,
+                     @Param("nickname") String nickname,
+                     @Param("profileImageUrl") String profileImageUrl);
+}
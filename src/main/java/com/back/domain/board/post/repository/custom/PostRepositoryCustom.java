@@ -1,13 +1,22 @@
 package com.back.domain.board.post.repository.custom;
 
+import com.back.domain.board.common.dto.CursorResponse;
+import com.back.domain.board.common.dto.KeysetCursor;
 import com.back.domain.board.post.dto.PostListResponse;
+import com.back.domain.board.post.entity.Post;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.Map;
 
 public interface PostRepositoryCustom {
     Page<PostListResponse> searchPosts(String keyword, String searchType, List<Long> categoryIds, Pageable pageable);
     Page<PostListResponse> findPostsByUserId(Long userId, Pageable pageable);
     Page<PostListResponse> findBookmarkedPostsByUserId(Long userId, Pageable pageable);
-}
\ No newline at end of file
+    CursorResponse<PostListResponse> findPostsByUserIdAfter(Long userId, KeysetCursor cursor, int limit);
+    CursorResponse<PostListResponse> findBookmarkedPostsByUserIdAfter(Long userId, KeysetCursor cursor, int limit);
+    List<Post> findPostsWithoutSummary(Long afterId, int limit);
+    List<PostListResponse> findPostsByIds(List<Long> postIds);
+    Map<Long, String> findContentsByIds(List<Long> postIds);
+}
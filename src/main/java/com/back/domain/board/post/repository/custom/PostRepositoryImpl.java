@@ -1,26 +1,34 @@
 package com.back.domain.board.post.repository.custom;
 
+import com.back.domain.board.common.dto.AuthorResponse;
+import com.back.domain.board.common.dto.CursorResponse;
+import com.back.domain.board.common.dto.KeysetCursor;
 import com.back.domain.board.common.dto.QAuthorResponse;
 import com.back.domain.board.post.dto.CategoryResponse;
 import com.back.domain.board.post.dto.PostListResponse;
 import com.back.domain.board.post.dto.QCategoryResponse;
-import com.back.domain.board.post.dto.QPostListResponse;
 import com.back.domain.board.post.entity.*;
-import com.back.domain.board.post.enums.CategoryType;
 import com.back.domain.user.common.entity.QUser;
 import com.back.domain.user.common.entity.QUserProfile;
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.DateTimePath;
 import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.core.types.dsl.PathBuilder;
 import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -29,18 +37,19 @@ import java.util.stream.Collectors;
 public class PostRepositoryImpl implements PostRepositoryCustom {
     private final JPAQueryFactory queryFactory;
 
+    // 페이지 조회와 함께 전체 개수 계산 (별도 COUNT 쿼리 없음)
+    private static final NumberExpression<Long> TOTAL_COUNT = Expressions.numberTemplate(Long.class, "count(*) over()");
+
     private static final Set<String> ALLOWED_SORT_FIELDS = Set.of(
             "createdAt", "updatedAt", "title", "likeCount", "bookmarkCount", "commentCount"
     );
 
     /**
      * 게시글 다건 검색
-     * - 총 쿼리 수: 3회
-     *  1. 게시글 목록 조회 (User, UserProfile join)
-     *  2. 카테고리 목록 조회 (IN 쿼리)
-     *  3. 전체 count 조회
-     * - categoryIds 포함 시, 총 쿼리 수: 4회
-     *  4. CategoryType 매핑 조회 추가 (buildWhere 내부)
+     * - 총 쿼리 수: 1회
+     *  1. 게시글 + 요약(PostSummary) 조회 (작성자 스냅샷, 카테고리 목록, 전체 개수 포함)
+     * - 카테고리 조건은 매핑 서브쿼리로 처리 (CategoryType 별도 조회 없음)
+     * - 요약이 아직 없는 게시글이 포함된 경우에만 보조 쿼리 2회 추가
      *
      * @param keyword     검색 키워드
      * @param searchType  검색 유형(title/content/author/전체)
@@ -49,35 +58,33 @@ public class PostRepositoryImpl implements PostRepositoryCustom {
      */
     @Override
     public Page<PostListResponse> searchPosts(String keyword, String searchType, List<Long> categoryIds, Pageable pageable) {
+        QPost post = QPost.post;
+        QPostSummary summary = QPostSummary.postSummary;
+
         // 1. 검색 조건 생성
         BooleanBuilder where = buildWhere(keyword, searchType, categoryIds);
 
         // 2. 정렬 조건 생성 (화이트리스트 기반)
         List<OrderSpecifier<?>> orders = buildOrderSpecifiers(pageable);
 
-        // 3. 게시글 목록 조회 (User, UserProfile join으로 N+1 방지)
-        List<PostListResponse> posts = fetchPosts(where, orders, pageable);
-
-        // 결과가 없으면 즉시 빈 페이지 반환
-        if (posts.isEmpty()) {
-            return new PageImpl<>(posts, pageable, 0);
-        }
-
-        // 4. 카테고리 목록 주입 (postIds 기반 IN 쿼리 1회)
-        injectCategories(posts);
-
-        // 5. 전체 게시글 수 조회
-        long total = countPosts(where);
+        // 3. 게시글 + 요약 조회 (전체 개수는 윈도 함수로 함께 조회)
+        List<Tuple> rows = queryFactory
+                .select(listColumns())
+                .from(post)
+                .leftJoin(summary).on(summary.postId.eq(post.id))
+                .where(where)
+                .orderBy(orders.toArray(new OrderSpecifier[0]))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
 
-        return new PageImpl<>(posts, pageable, total);
+        return toPage(rows, pageable, queryFactory.select(post.count()).from(post).where(where));
     }
 
     /**
      * 특정 사용자의 게시글 목록 조회
-     * - 총 쿼리 수: 3회
-     *  1. 게시글 목록 조회 (User, UserProfile join)
-     *  2. 카테고리 목록 조회 (IN 쿼리)
-     *  3. 전체 count 조회
+     * - 총 쿼리 수: 1회
+     *  1. 게시글 + 요약(PostSummary) 조회 (작성자 스냅샷, 카테고리 목록, 전체 개수 포함)
      *
      * @param userId   사용자 ID
      * @param pageable 페이징 + 정렬 조건
@@ -85,6 +92,7 @@ public class PostRepositoryImpl implements PostRepositoryCustom {
     @Override
     public Page<PostListResponse> findPostsByUserId(Long userId, Pageable pageable) {
         QPost post = QPost.post;
+        QPostSummary summary = QPostSummary.postSummary;
 
         // 1. 검색 조건 생성
         BooleanBuilder where = new BooleanBuilder(post.user.id.eq(userId));
@@ -92,29 +100,24 @@ public class PostRepositoryImpl implements PostRepositoryCustom {
         // 2. 정렬 조건 생성 (화이트리스트 기반)
         List<OrderSpecifier<?>> orders = buildOrderSpecifiers(pageable);
 
-        // 3. 게시글 목록 조회 (User, UserProfile join으로 N+1 방지)
-        List<PostListResponse> posts = fetchPosts(where, orders, pageable);
-
-        // 결과가 없으면 즉시 빈 페이지 반환
-        if (posts.isEmpty()) {
-            return new PageImpl<>(posts, pageable, 0);
-        }
-
-        // 4. 카테고리 목록 주입 (postIds 기반 IN 쿼리 1회)
-        injectCategories(posts);
-
-        // 5. 전체 게시글 수 조회
-        long total = countPosts(where);
+        // 3. 게시글 + 요약 조회
+        List<Tuple> rows = queryFactory
+                .select(listColumns())
+                .from(post)
+                .leftJoin(summary).on(summary.postId.eq(post.id))
+                .where(where)
+                .orderBy(orders.toArray(new OrderSpecifier[0]))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
 
-        return new PageImpl<>(posts, pageable, total);
+        return toPage(rows, pageable, queryFactory.select(post.count()).from(post).where(where));
     }
 
     /**
      * 특정 사용자의 북마크 게시글 목록 조회
-     * - 총 쿼리 수: 3회
-     *   1. 북마크된 게시글 목록 조회 (Post, User, UserProfile join)
-     *   2. 카테고리 목록 조회 (IN 쿼리)
-     *   3. 전체 count 조회
+     * - 총 쿼리 수: 1회
+     *   1. 북마크 + 게시글 + 요약(PostSummary) 조회 (작성자 스냅샷, 카테고리 목록, 전체 개수 포함)
      *
      * @param userId   사용자 ID
      * @param pageable 페이징 + 정렬 조건
@@ -123,8 +126,7 @@ public class PostRepositoryImpl implements PostRepositoryCustom {
     public Page<PostListResponse> findBookmarkedPostsByUserId(Long userId, Pageable pageable) {
         QPost post = QPost.post;
         QPostBookmark bookmark = QPostBookmark.postBookmark;
-        QUser user = QUser.user;
-        QUserProfile profile = QUserProfile.userProfile;
+        QPostSummary summary = QPostSummary.postSummary;
 
         // 1. 검색 조건 생성
         BooleanBuilder where = new BooleanBuilder(bookmark.user.id.eq(userId));
@@ -132,42 +134,162 @@ public class PostRepositoryImpl implements PostRepositoryCustom {
         // 2. 정렬 조건 생성 (화이트리스트 기반)
         List<OrderSpecifier<?>> orders = buildOrderSpecifiers(pageable);
 
-        // 3. 북마크된 게시글 목록 조회 (Post, User, UserProfile join으로 N+1 방지)
-        List<PostListResponse> posts = queryFactory
-                .select(new QPostListResponse(
-                        post.id,
-                        new QAuthorResponse(post.user.id, post.user.userProfile.nickname, post.user.userProfile.profileImageUrl),
-                        post.title,
-                        post.thumbnailUrl,
-                        Expressions.constant(Collections.emptyList()), // categories는 별도 주입
-                        post.likeCount,
-                        post.bookmarkCount,
-                        post.commentCount,
-                        post.createdAt,
-                        post.updatedAt
-                ))
+        // 3. 북마크된 게시글 + 요약 조회
+        List<Tuple> rows = queryFactory
+                .select(listColumns())
                 .from(bookmark)
                 .join(bookmark.post, post)
-                .leftJoin(post.user, user)
-                .leftJoin(user.userProfile, profile)
+                .leftJoin(summary).on(summary.postId.eq(post.id))
                 .where(where)
                 .orderBy(orders.toArray(new OrderSpecifier[0]))
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
 
-        // 결과가 없으면 즉시 빈 페이지 반환
-        if (posts.isEmpty()) {
-            return new PageImpl<>(posts, pageable, 0);
+        return toPage(rows, pageable,
+                queryFactory.select(bookmark.count()).from(bookmark).join(bookmark.post, post).where(where));
+    }
+
+    /**
+     * 특정 사용자의 게시글 목록 커서 조회 (최신순)
+     * - 총 쿼리 수: 1회
+     *  1. 게시글 + 요약(PostSummary) 조회 (limit + 1개)
+     * - (user_id, created_at, id) 인덱스 범위 탐색으로 앞 페이지를 건너뛰지 않음 (OFFSET 없음)
+     * - 전체 개수(COUNT(*) OVER())를 함께 구하면 사용자의 전체 행을 읽게 되므로 제외
+     *
+     * @param userId 사용자 ID
+     * @param cursor 이전 페이지의 마지막 위치 (첫 페이지면 null)
+     * @param limit  페이지 크기
+     */
+    @Override
+    public CursorResponse<PostListResponse> findPostsByUserIdAfter(Long userId, KeysetCursor cursor, int limit) {
+        QPost post = QPost.post;
+        QPostSummary summary = QPostSummary.postSummary;
+
+        List<Tuple> rows = queryFactory
+                .select(baseColumns())
+                .from(post)
+                .leftJoin(summary).on(summary.postId.eq(post.id))
+                .where(
+                        post.user.id.eq(userId),
+                        before(post.createdAt, post.id, cursor)
+                )
+                .orderBy(post.createdAt.desc(), post.id.desc())
+                .limit(limit + 1L)
+                .fetch();
+
+        return toCursorResponse(rows, limit, post.createdAt, post.id);
+    }
+
+    /**
+     * 특정 사용자의 북마크 게시글 목록 커서 조회 (북마크한 순서의 최신순)
+     * - 총 쿼리 수: 1회
+     *  1. 북마크 + 게시글 + 요약(PostSummary) 조회 (limit + 1개)
+     * - 커서는 게시글이 아닌 북마크의 (생성 일시, ID) 기준, (user_id, created_at, id) 인덱스 사용
+     *
+     * @param userId 사용자 ID
+     * @param cursor 이전 페이지의 마지막 위치 (첫 페이지면 null)
+     * @param limit  페이지 크기
+     */
+    @Override
+    public CursorResponse<PostListResponse> findBookmarkedPostsByUserIdAfter(Long userId, KeysetCursor cursor, int limit) {
+        QPost post = QPost.post;
+        QPostBookmark bookmark = QPostBookmark.postBookmark;
+        QPostSummary summary = QPostSummary.postSummary;
+
+        List<Tuple> rows = queryFactory
+                .select(baseColumns(bookmark.createdAt, bookmark.id))
+                .from(bookmark)
+                .join(bookmark.post, post)
+                .leftJoin(summary).on(summary.postId.eq(post.id))
+                .where(
+                        bookmark.user.id.eq(userId),
+                        before(bookmark.createdAt, bookmark.id, cursor)
+                )
+                .orderBy(bookmark.createdAt.desc(), bookmark.id.desc())
+                .limit(limit + 1L)
+                .fetch();
+
+        return toCursorResponse(rows, limit, bookmark.createdAt, bookmark.id);
+    }
+
+    /**
+     * 요약이 없는 게시글 조회 (요약 이관용, ID 오름차순)
+     * - User, UserProfile fetch join
+     *
+     * @param afterId 이전 배치의 마지막 게시글 ID
+     * @param limit   조회 개수
+     */
+    @Override
+    public List<Post> findPostsWithoutSummary(Long afterId, int limit) {
+        QPost post = QPost.post;
+        QUser user = QUser.user;
+        QUserProfile profile = QUserProfile.userProfile;
+        QPostSummary summary = QPostSummary.postSummary;
+
+        return queryFactory
+                .selectFrom(post)
+                .join(post.user, user).fetchJoin()
+                .leftJoin(user.userProfile, profile).fetchJoin()
+                .where(
+                        post.id.gt(afterId),
+                        JPAExpressions.selectOne()
+                                .from(summary)
+                                .where(summary.postId.eq(post.id))
+                                .notExists()
+                )
+                .orderBy(post.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * ID 목록으로 게시글 목록 응답 조회 (순서 보장 안 함)
+     *
+     * @param postIds 게시글 ID
+     */
+    @Override
+    public List<PostListResponse> findPostsByIds(List<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return List.of();
         }
 
-        // 4. 카테고리 목록 주입 (postIds 기반 IN 쿼리 1회)
-        injectCategories(posts);
+        QPost post = QPost.post;
+        QPostSummary summary = QPostSummary.postSummary;
 
-        // 5. 전체 북마크 게시글 수 조회
-        long total = countBookmarkedPosts(userId);
+        List<Tuple> rows = queryFactory
+                .select(listColumns())
+                .from(post)
+                .leftJoin(summary).on(summary.postId.eq(post.id))
+                .where(post.id.in(postIds))
+                .fetch();
 
-        return new PageImpl<>(posts, pageable, total);
+        return toResponses(rows);
+    }
+
+    /**
+     * ID 목록으로 게시글 본문 조회 (검색 결과 하이라이트용)
+     *
+     * @param postIds 게시글 ID
+     * @return Map<postId, content>
+     */
+    @Override
+    public Map<Long, String> findContentsByIds(List<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return Map.of();
+        }
+
+        QPost post = QPost.post;
+        return queryFactory
+                .select(post.id, post.content)
+                .from(post)
+                .where(post.id.in(postIds))
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(
+                        t -> Objects.requireNonNull(t.get(post.id)),
+                        t -> Objects.requireNonNull(t.get(post.content))
+                ));
     }
 
     // -------------------- 내부 메서드 --------------------
@@ -176,15 +298,14 @@ public class PostRepositoryImpl implements PostRepositoryCustom {
      * 검색 조건 생성
      * - keyword, searchType, categoryIds를 기반으로 BooleanBuilder 구성
      * - 카테고리 조건 로직:
-     * 1. categoryIds → CategoryType 매핑 조회 (1회 쿼리)
-     * 2. 같은 CategoryType끼리는 OR (in 조건)
-     * 3. 서로 다른 CategoryType끼리는 AND 결합
-     * - 결과적으로 `(SUBJECT in (...)) AND (DEMOGRAPHIC in (...))` 형태로 조합됨
+     * 1. 같은 CategoryType끼리는 OR
+     * 2. 서로 다른 CategoryType끼리는 AND 결합
+     * - "요청한 카테고리의 모든 타입에 대해, 같은 타입의 요청 카테고리 중 하나 이상과 매핑되어 있을 것"을
+     *   NOT EXISTS 서브쿼리로 표현하여 CategoryType 매핑 조회 없이 한 문장으로 처리
+     * - 결과적으로 `(SUBJECT in (...)) AND (DEMOGRAPHIC in (...))` 형태와 동일
      */
     private BooleanBuilder buildWhere(String keyword, String searchType, List<Long> categoryIds) {
         QPost post = QPost.post;
-        QPostCategory category = QPostCategory.postCategory;
-        QPostCategoryMapping categoryMapping = QPostCategoryMapping.postCategoryMapping;
         BooleanBuilder where = new BooleanBuilder();
 
         // 키워드 필터
@@ -203,36 +324,26 @@ public class PostRepositoryImpl implements PostRepositoryCustom {
 
         // 카테고리 필터
         if (categoryIds != null && !categoryIds.isEmpty()) {
-            // categoryId -> CategoryType 매핑 조회 (1회 쿼리)
-            List<Tuple> categoryTypeTuples = queryFactory
-                    .select(category.id, category.type)
-                    .from(category)
-                    .where(category.id.in(categoryIds))
-                    .fetch();
-
-            // 타입별 그룹핑
-            Map<CategoryType, List<Long>> groupedIds = categoryTypeTuples.stream()
-                    .filter(t -> t.get(category.id) != null && t.get(category.type) != null)
-                    .collect(Collectors.groupingBy(
-                            t -> t.get(category.type),
-                            Collectors.mapping(t -> t.get(category.id), Collectors.toList())
-                    ));
-
-            // 같은 타입은 OR(in), 다른 타입은 AND로 결합
-            BooleanBuilder typeConditions = new BooleanBuilder();
-            groupedIds.forEach((type, ids) -> {
-                // 각 타입별로 (category_id in ids)
-                BooleanBuilder subCondition = new BooleanBuilder(categoryMapping.category.id.in(ids));
-
-                // post.id in (select mapping.post.id ...)
-                typeConditions.and(post.id.in(
-                        JPAExpressions.select(categoryMapping.post.id)
-                                .from(categoryMapping)
-                                .where(subCondition)
-                ));
-            });
-
-            where.and(typeConditions);
+            QPostCategory requested = new QPostCategory("requestedCategory");
+            QPostCategoryMapping matched = new QPostCategoryMapping("matchedMapping");
+            QPostCategory matchedCategory = new QPostCategory("matchedCategory");
+
+            // 요청 카테고리 중 같은 타입의 카테고리와 하나도 매핑되지 않은 타입이 없어야 함
+            where.and(JPAExpressions.selectOne()
+                    .from(requested)
+                    .where(
+                            requested.id.in(categoryIds),
+                            JPAExpressions.selectOne()
+                                    .from(matched)
+                                    .join(matched.category, matchedCategory)
+                                    .where(
+                                            matched.post.id.eq(post.id),
+                                            matchedCategory.id.in(categoryIds),
+                                            matchedCategory.type.eq(requested.type)
+                                    )
+                                    .notExists()
+                    )
+                    .notExists());
         }
 
         return where;
@@ -265,50 +376,160 @@ public class PostRepositoryImpl implements PostRepositoryCustom {
     }
 
     /**
-     * 게시글 조회
-     * - Post + User + UserProfile join (N+1 방지)
-     * - 카테고리 정보는 별도 injectCategories()에서 주입
+     * 목록 조회 컬럼
+     * - 게시글 본문 컬럼 + 요약(작성자 스냅샷, 카테고리 JSON) + 전체 개수(COUNT(*) OVER())
+     */
+    private Expression<?>[] listColumns() {
+        return baseColumns(TOTAL_COUNT);
+    }
+
+    /**
+     * 목록 조회 기본 컬럼 (게시글 본문 컬럼 + 요약) + 추가 컬럼
+     */
+    private Expression<?>[] baseColumns(Expression<?>... extra) {
+        QPost post = QPost.post;
+        QPostSummary summary = QPostSummary.postSummary;
+
+        List<Expression<?>> columns = new ArrayList<>(List.of(
+                post.id,
+                post.title,
+                post.thumbnailUrl,
+                post.likeCount,
+                post.bookmarkCount,
+                post.commentCount,
+                post.createdAt,
+                post.updatedAt,
+                post.user.id,
+                summary.postId,
+                summary.authorNickname,
+                summary.authorProfileImageUrl,
+                summary.categories
+        ));
+        columns.addAll(Arrays.asList(extra));
+        return columns.toArray(new Expression<?>[0]);
+    }
+
+    /**
+     * 커서 조건 (생성 일시, ID 내림차순 기준으로 커서 이후 행)
+     */
+    private BooleanExpression before(DateTimePath<LocalDateTime> createdAt, NumberPath<Long> id, KeysetCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return createdAt.lt(cursor.createdAt())
+                .or(createdAt.eq(cursor.createdAt()).and(id.lt(cursor.id())));
+    }
+
+    /**
+     * 조회 결과(limit + 1개) → 커서 응답 변환
+     *
+     * @param createdAt 커서 생성 일시 컬럼
+     * @param id        커서 ID 컬럼
+     */
+    private CursorResponse<PostListResponse> toCursorResponse(List<Tuple> rows, int limit,
+                                                              DateTimePath<LocalDateTime> createdAt, NumberPath<Long> id) {
+        return CursorResponse.of(rows, limit, this::toResponses,
+                row -> new KeysetCursor(row.get(createdAt), row.get(id)));
+    }
+
+    /**
+     * 조회 결과 → 페이지 변환 (전체 개수는 COUNT(*) OVER() 컬럼 사용)
+     * - 마지막 페이지를 넘어선 요청은 COUNT(*) OVER() 값을 받을 행이 없으므로 countQuery로 전체 개수 조회
+     *
+     * @param countQuery 같은 조건의 COUNT 쿼리 (빈 페이지 + offset > 0일 때만 실행)
+     */
+    private Page<PostListResponse> toPage(List<Tuple> rows, Pageable pageable, JPAQuery<Long> countQuery) {
+        if (rows.isEmpty()) {
+            long total = pageable.getOffset() > 0 ? Objects.requireNonNullElse(countQuery.fetchOne(), 0L) : 0L;
+            return new PageImpl<>(List.of(), pageable, total);
+        }
+
+        long total = Objects.requireNonNull(rows.getFirst().get(TOTAL_COUNT));
+        return new PageImpl<>(toResponses(rows), pageable, total);
+    }
+
+    /**
+     * 조회 결과 → 목록 응답 변환 (조회 순서 유지)
+     * - 요약이 있는 게시글은 요약의 작성자/카테고리 정보를 그대로 사용
+     * - 요약이 아직 생성되지 않은 게시글만 작성자/카테고리 보조 조회 (IN 쿼리 각 1회)
      */
-    private List<PostListResponse> fetchPosts(BooleanBuilder where, List<OrderSpecifier<?>> orders, Pageable pageable) {
+    private List<PostListResponse> toResponses(List<Tuple> rows) {
+        QPost post = QPost.post;
+        QPostSummary summary = QPostSummary.postSummary;
+
+        List<Long> missingIds = rows.stream()
+                .filter(row -> row.get(summary.postId) == null)
+                .map(row -> row.get(post.id))
+                .toList();
+        Map<Long, AuthorResponse> missingAuthors = fetchAuthors(missingIds);
+        Map<Long, List<CategoryResponse>> missingCategories = fetchCategories(missingIds);
+
+        return rows.stream()
+                .map(row -> {
+                    Long postId = row.get(post.id);
+                    boolean summarized = row.get(summary.postId) != null;
+
+                    AuthorResponse author = summarized
+                            ? new AuthorResponse(row.get(post.user.id), row.get(summary.authorNickname), row.get(summary.authorProfileImageUrl))
+                            : missingAuthors.get(postId);
+                    List<CategoryResponse> categories = summarized
+                            ? PostSummary.decodeCategories(row.get(summary.categories))
+                            : missingCategories.getOrDefault(postId, List.of());
+
+                    return new PostListResponse(
+                            postId,
+                            author,
+                            row.get(post.title),
+                            row.get(post.thumbnailUrl),
+                            categories,
+                            Objects.requireNonNull(row.get(post.likeCount)),
+                            Objects.requireNonNull(row.get(post.bookmarkCount)),
+                            Objects.requireNonNull(row.get(post.commentCount)),
+                            row.get(post.createdAt),
+                            row.get(post.updatedAt)
+                    );
+                })
+                .toList();
+    }
+
+    /**
+     * 요약이 없는 게시글의 작성자 조회
+     * - User, UserProfile join (IN 쿼리 1회)
+     */
+    private Map<Long, AuthorResponse> fetchAuthors(List<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return Map.of();
+        }
+
         QPost post = QPost.post;
         QUser user = QUser.user;
         QUserProfile profile = QUserProfile.userProfile;
 
         return queryFactory
-                .select(new QPostListResponse(
-                        post.id,
-                        new QAuthorResponse(user.id, profile.nickname, profile.profileImageUrl),
-                        post.title,
-                        post.thumbnailUrl,
-                        Expressions.constant(Collections.emptyList()), // categories는 별도 주입
-                        post.likeCount,
-                        post.bookmarkCount,
-                        post.commentCount,
-                        post.createdAt,
-                        post.updatedAt
-                ))
+                .select(post.id, new QAuthorResponse(user.id, profile.nickname, profile.profileImageUrl))
                 .from(post)
                 .leftJoin(post.user, user)
                 .leftJoin(user.userProfile, profile)
-                .where(where)
-                .orderBy(orders.toArray(new OrderSpecifier[0]))
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
+                .where(post.id.in(postIds))
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(
+                        t -> Objects.requireNonNull(t.get(post.id)),
+                        t -> Objects.requireNonNull(t.get(1, AuthorResponse.class))
+                ));
     }
 
     /**
-     * 카테고리 일괄 조회
+     * 요약이 없는 게시글의 카테고리 조회
      * - postIds 기반 IN 쿼리 (1회)
-     * - N+1 방지
-     * - Map<postId, List<CategoryResponse>>로 그룹핑 후 DTO에 매핑
+     * - Map<postId, List<CategoryResponse>>로 그룹핑
      */
-    private void injectCategories(List<PostListResponse> results) {
-        QPostCategoryMapping mapping = QPostCategoryMapping.postCategoryMapping;
+    private Map<Long, List<CategoryResponse>> fetchCategories(List<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return Map.of();
+        }
 
-        List<Long> postIds = results.stream()
-                .map(PostListResponse::getPostId)
-                .toList();
+        QPostCategoryMapping mapping = QPostCategoryMapping.postCategoryMapping;
 
         List<Tuple> tuples = queryFactory
                 .select(
@@ -323,43 +544,10 @@ public class PostRepositoryImpl implements PostRepositoryCustom {
                 .where(mapping.post.id.in(postIds))
                 .fetch();
 
-        Map<Long, List<CategoryResponse>> categoryMap = tuples.stream()
+        return tuples.stream()
                 .collect(Collectors.groupingBy(
                         t -> Objects.requireNonNull(t.get(mapping.post.id)),
                         Collectors.mapping(t -> t.get(1, CategoryResponse.class), Collectors.toList())
                 ));
-
-        results.forEach(post ->
-                post.setCategories(categoryMap.getOrDefault(post.getPostId(), List.of()))
-        );
-    }
-
-    /**
-     * 전체 게시글 개수 조회
-     * - 단순 count 쿼리 1회
-     * - category 조합 조건 포함 시 중복 방지를 위해 countDistinct() 사용
-     */
-    private long countPosts(BooleanBuilder where) {
-        QPost post = QPost.post;
-        Long total = queryFactory
-                .select(post.countDistinct())
-                .from(post)
-                .where(where)
-                .fetchOne();
-        return total != null ? total : 0L;
-    }
-
-    /**
-     * 내 북마크 게시글 총 개수 조회
-     * - 단순 count 쿼리 1회
-     */
-    private long countBookmarkedPosts(Long userId) {
-        QPostBookmark bookmark = QPostBookmark.postBookmark;
-        Long total = queryFactory
-                .select(bookmark.count())
-                .from(bookmark)
-                .where(bookmark.user.id.eq(userId))
-                .fetchOne();
-        return total != null ? total : 0L;
     }
 }
\ No newline at end of file
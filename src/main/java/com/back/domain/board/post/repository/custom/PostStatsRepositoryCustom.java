@@ -0,0 +1,13 @@
+package com.back.domain.board.post.repository.custom;
+
+import java.util.Map;
+
+public interface PostStatsRepositoryCustom {
+
+    /**
+     * 조회수 증가분 일괄 반영 (JDBC 배치 UPSERT)
+     * - 통계 행이 없으면 증가분으로 생성, 있으면 기존 값에 더함
+     * @param viewDeltas 게시글 ID → 조회수 증가분
+     */
+    void bulkAddViews(Map<Long, Long> viewDeltas);
+}
@@ -0,0 +1,47 @@
+package com.back.domain.board.post.repository.custom;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시글 통계 배치 저장소
+ * - 증가분을 더하는 UPSERT는 JPA로 표현할 수 없으므로 JdbcTemplate.batchUpdate 사용
+ * - 단일 문으로 더하므로 여러 인스턴스가 동시에 반영해도 유실 없음
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostStatsRepositoryImpl implements PostStatsRepositoryCustom {
+
+    private static final String ADD_VIEWS_SQL =
+            "INSERT INTO post_stats (post_id, view_count, updated_at) VALUES (?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE view_count = view_count + ?, updated_at = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void bulkAddViews(Map<Long, Long> viewDeltas) {
+        if (viewDeltas.isEmpty()) {
+            return;
+        }
+
+        // 게시글 ID 순으로 정렬하여 동시 배치 간 행 잠금 순서를 고정 (교착 방지)
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(viewDeltas.entrySet());
+        entries.sort(Map.Entry.comparingByKey());
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(ADD_VIEWS_SQL, entries, entries.size(), (ps, entry) -> {
+            ps.setLong(1, entry.getKey());
+            ps.setLong(2, entry.getValue());
+            ps.setTimestamp(3, now);
+            ps.setLong(4, entry.getValue());
+            ps.setTimestamp(5, now);
+        });
+    }
+}
@@ -0,0 +1,141 @@
+package com.back.domain.board.post.scheduler;
+
+import com.back.domain.board.post.dto.PostCategoryPair;
+import com.back.domain.board.post.entity.PostCategory;
+import com.back.domain.board.post.enums.CategoryType;
+import com.back.domain.board.post.repository.PostCategoryMappingRepository;
+import com.back.domain.board.post.repository.PostCategoryRepository;
+import com.back.domain.board.post.service.PostCategoryIndex;
+import com.back.domain.board.post.store.PostCategoryIndexVersionStore;
+import com.back.domain.board.post.store.PostCategoryIndexVersionStore.Version;
+import com.back.global.common.util.BitmapIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 카테고리 색인 동기화 스케줄러
+ * - 애플리케이션 시작 시 전체 매핑으로 색인 구성 (매핑 ID 키셋 배치 조회)
+ * - 이후 주기적으로 변경 버전(Redis)을 확인하여
+ *   - 매핑 제거가 포함된 변경(게시글 삭제, 카테고리 변경)이 있었으면 전체 재색인
+ *   - 추가만 있었으면 마지막 동기화 이후 추가된 매핑(ID 증가분)과 새 카테고리만 반영
+ * - 버전 확인 전까지의 변경은 조회 시 DB로 대체되므로, 동기화 주기는 색인을 쓰지 못하는 시간만 좌우
+ * - 버전 갱신이 유실된 경우에 대비해 주기적으로 전체 재색인
+ * - 색인은 인스턴스마다 따로 가지므로 리더 락 없이 모든 노드에서 실행
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PostCategoryIndexSynchronizer {
+
+    private static final int BATCH_SIZE = 5_000;
+
+    // 먼저 발급된 매핑 ID가 나중에 커밋되는 경우를 위해 증분 조회 시 다시 읽는 구간 (중복 추가는 무해)
+    private static final long REREAD_MAPPING_IDS = 1_000;
+
+    private final PostCategoryMappingRepository postCategoryMappingRepository;
+    private final PostCategoryRepository postCategoryRepository;
+    private final PostCategoryIndex categoryIndex;
+    private final PostCategoryIndexVersionStore versionStore;
+
+    private volatile long lastMappingId = 0;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        try {
+            rebuild(versionStore.read());
+        } catch (Exception e) {
+            log.error("게시글 카테고리 색인 초기 구성 실패 - 다음 동기화 주기에 재시도", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${board.category-index.sync-interval-ms:5000}",
+               initialDelayString = "${board.category-index.sync-interval-ms:5000}")
+    public void syncChanges() {
+        try {
+            // 매핑을 읽기 전에 버전을 읽어, 읽는 도중 커밋된 변경은 다음 주기에 다시 반영되도록 함
+            Version version = versionStore.read();
+            if (categoryIndex.needsRebuild(version)) {
+                rebuild(version);
+                return;
+            }
+            if (categoryIndex.isSynced(version)) {
+                return;
+            }
+
+            categoryIndex.registerCategories(loadCategoryTypes());
+
+            int added = 0;
+            long afterId = Math.max(0, lastMappingId - REREAD_MAPPING_IDS);
+            while (true) {
+                List<PostCategoryPair> batch = postCategoryMappingRepository.findPairsAfter(
+                        afterId, PageRequest.of(0, BATCH_SIZE));
+                batch.forEach(pair -> categoryIndex.addMapping(pair.postId(), pair.categoryId()));
+                added += batch.size();
+                if (!batch.isEmpty()) {
+                    afterId = batch.getLast().mappingId();
+                }
+                if (batch.size() < BATCH_SIZE) {
+                    break;
+                }
+            }
+            lastMappingId = Math.max(lastMappingId, afterId);
+            categoryIndex.markSynced(version);
+
+            if (added > 0) {
+                log.debug("게시글 카테고리 색인 증분 반영 - 읽은 매핑: {}", added);
+            }
+        } catch (Exception e) {
+            log.error("게시글 카테고리 색인 동기화 실패", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${board.category-index.rebuild-interval-ms:3600000}",
+               initialDelayString = "${board.category-index.rebuild-interval-ms:3600000}")
+    public void rebuildPeriodically() {
+        try {
+            rebuild(versionStore.read());
+        } catch (Exception e) {
+            log.error("게시글 카테고리 색인 재구성 실패", e);
+        }
+    }
+
+    private void rebuild(Version version) {
+        Map<Long, CategoryType> categories = loadCategoryTypes();
+        Map<Long, BitSet> bitmaps = new HashMap<>();
+
+        long afterId = 0;
+        while (true) {
+            List<PostCategoryPair> batch = postCategoryMappingRepository.findPairsAfter(
+                    afterId, PageRequest.of(0, BATCH_SIZE));
+            for (PostCategoryPair pair : batch) {
+                bitmaps.computeIfAbsent(pair.categoryId(), key -> new BitSet())
+                        .set(BitmapIndex.toBit(pair.postId()));
+            }
+            if (!batch.isEmpty()) {
+                afterId = batch.getLast().mappingId();
+            }
+            if (batch.size() < BATCH_SIZE) {
+                break;
+            }
+        }
+
+        categoryIndex.rebuild(categories, bitmaps, version);
+        lastMappingId = afterId;
+    }
+
+    private Map<Long, CategoryType> loadCategoryTypes() {
+        return postCategoryRepository.findAll().stream()
+                .collect(Collectors.toMap(PostCategory::getId, PostCategory::getType));
+    }
+}
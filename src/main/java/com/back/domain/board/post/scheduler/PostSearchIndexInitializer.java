@@ -0,0 +1,62 @@
+package com.back.domain.board.post.scheduler;
+
+import com.back.domain.board.post.service.PostSearchService;
+import com.back.global.common.lock.RedisLeaderLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 게시글 전문 검색 인덱스 관리
+ * - 애플리케이션 시작 시 FULLTEXT 인덱스가 없으면 생성 (기존 게시글 전체 색인)
+ * - 이후 색인은 InnoDB가 게시글 INSERT/UPDATE/DELETE와 함께 갱신
+ * - 설정된 주기(board.search.rebuild-cron, 기본 비활성)마다 인덱스 재작성
+ * - 리더 락으로 여러 인스턴스 중 한 노드만 실행 (다른 노드는 검색 시 인덱스 존재를 확인)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PostSearchIndexInitializer {
+
+    static final String CREATE_JOB_NAME = "post-search-index-create";
+    static final String REBUILD_JOB_NAME = "post-search-index-rebuild";
+    private static final Duration LEASE = Duration.ofMinutes(30);
+
+    private final PostSearchService postSearchService;
+    private final RedisLeaderLock leaderLock;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createOnStartup() {
+        if (!leaderLock.tryAcquire(CREATE_JOB_NAME, LEASE)) {
+            return;
+        }
+
+        try {
+            postSearchService.createIndexesIfAbsent();
+        } catch (Exception e) {
+            log.error("게시글 전문 검색 인덱스 생성 실패 - LIKE 검색으로 대체", e);
+        } finally {
+            leaderLock.release(CREATE_JOB_NAME);
+        }
+    }
+
+    @Scheduled(cron = "${board.search.rebuild-cron:-}")
+    public void rebuild() {
+        if (!leaderLock.tryAcquire(REBUILD_JOB_NAME, LEASE)) {
+            return;
+        }
+
+        try {
+            postSearchService.rebuildIndexes();
+        } catch (Exception e) {
+            log.error("게시글 전문 검색 인덱스 재작성 실패", e);
+        } finally {
+            leaderLock.release(REBUILD_JOB_NAME);
+        }
+    }
+}
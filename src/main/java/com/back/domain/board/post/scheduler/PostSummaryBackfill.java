@@ -0,0 +1,59 @@
+package com.back.domain.board.post.scheduler;
+
+import com.back.domain.board.post.service.PostSummaryService;
+import com.back.global.common.lock.RedisLeaderLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 게시글 요약 초기 이관
+ * - 애플리케이션 시작 시 요약이 없는 게시글의 요약을 ID 키셋 배치로 생성
+ * - 이관 전까지 요약이 없는 게시글은 목록 조회 시 보조 쿼리로 작성자/카테고리를 채움
+ * - 리더 락으로 여러 인스턴스 중 한 노드만 실행
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PostSummaryBackfill {
+
+    static final String JOB_NAME = "post-summary-backfill";
+    private static final Duration LEASE = Duration.ofMinutes(10);
+    private static final int BATCH_SIZE = 500;
+
+    private final PostSummaryService postSummaryService;
+    private final RedisLeaderLock leaderLock;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (!leaderLock.tryAcquire(JOB_NAME, LEASE)) {
+            return;
+        }
+
+        long created = 0;
+        try {
+            Long afterId = 0L;
+            while (true) {
+                List<Long> postIds = postSummaryService.backfill(afterId, BATCH_SIZE);
+                if (postIds.isEmpty()) {
+                    break;
+                }
+                created += postIds.size();
+                afterId = postIds.getLast();
+            }
+
+            if (created > 0) {
+                log.info("게시글 요약 초기 이관 완료 - 생성된 요약: {}", created);
+            }
+        } catch (Exception e) {
+            log.error("게시글 요약 초기 이관 실패 - 생성된 요약: {}", created, e);
+        } finally {
+            leaderLock.release(JOB_NAME);
+        }
+    }
+}
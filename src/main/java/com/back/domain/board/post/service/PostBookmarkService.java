@@ -5,6 +5,7 @@ import com.back.domain.board.post.entity.Post;
 import com.back.domain.board.post.entity.PostBookmark;
 import com.back.domain.board.post.repository.PostBookmarkRepository;
 import com.back.domain.board.post.repository.PostRepository;
+import com.back.domain.board.post.service.PostTrendingService.Signal;
 import com.back.domain.user.common.entity.User;
 import com.back.domain.user.common.repository.UserRepository;
 import com.back.global.exception.CustomException;
@@ -20,6 +21,8 @@ public class PostBookmarkService {
     private final PostRepository postRepository;
     private final PostBookmarkRepository postBookmarkRepository;
     private final UserRepository userRepository;
+    private final PostDetailCache postDetailCache;
+    private final PostTrendingService postTrendingService;
 
     /**
      * 게시글 북마크 서비스
@@ -42,11 +45,13 @@ public class PostBookmarkService {
             throw new CustomException(ErrorCode.BOOKMARK_ALREADY_EXISTS);
         }
 
-        // PostBookmark 저장 및 북마크 수 증가 처리
-        post.increaseBookmarkCount();
+        // 북마크 수 증가(단일 UPDATE) 후 PostBookmark 저장 (게시글 행 잠금 → INSERT 순서 고정)
+        postRepository.increaseBookmarkCount(postId);
         postBookmarkRepository.save(new PostBookmark(post, user));
+        postDetailCache.bookmarkedAfterCommit(postId, userId);
+        postTrendingService.recordAfterCommit(postId, userId, Signal.BOOKMARK);
 
-        return PostBookmarkResponse.from(post);
+        return new PostBookmarkResponse(postId, postRepository.findBookmarkCountById(postId));
     }
 
     /**
@@ -65,15 +70,13 @@ public class PostBookmarkService {
         Post post = postRepository.findById(postId)
                 .orElseThrow(() -> new CustomException(ErrorCode.POST_NOT_FOUND));
 
-        // PostBookmark 조회
-        PostBookmark postBookmark = postBookmarkRepository.findByUserIdAndPostId(userId, postId)
-                .orElseThrow(() -> new CustomException(ErrorCode.BOOKMARK_NOT_FOUND));
-
-        // PostBookmark 삭제 및 북마크 수 감소 처리
-        postBookmark.remove();
-        postBookmarkRepository.delete(postBookmark);
-        post.decreaseBookmarkCount();
+        // 북마크 수 감소 후 PostBookmark 삭제 (삭제된 행이 없으면 예외 → 롤백으로 감소도 취소)
+        postRepository.decreaseBookmarkCount(postId);
+        if (postBookmarkRepository.deleteByUserIdAndPostId(userId, postId) == 0) {
+            throw new CustomException(ErrorCode.BOOKMARK_NOT_FOUND);
+        }
+        postDetailCache.unbookmarkedAfterCommit(postId, userId);
 
-        return PostBookmarkResponse.from(post);
+        return new PostBookmarkResponse(postId, postRepository.findBookmarkCountById(postId));
     }
 }
@@ -0,0 +1,254 @@
+package com.back.domain.board.post.service;
+
+import com.back.domain.board.post.dto.CategoryResponse;
+import com.back.domain.board.post.entity.Post;
+import com.back.domain.board.post.entity.PostCategory;
+import com.back.domain.board.post.enums.CategoryType;
+import com.back.domain.board.post.store.PostCategoryIndexVersionStore;
+import com.back.domain.board.post.store.PostCategoryIndexVersionStore.Version;
+import com.back.global.common.util.BitmapIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 카테고리 → 게시글 ID 메모리 비트맵 색인
+ * - 카테고리 필터를 매핑 테이블 상관 서브쿼리 대신 비트맵 연산으로 처리
+ *   (같은 타입끼리는 OR, 서로 다른 타입끼리는 AND)
+ * - 카테고리 매핑 생성/수정/삭제, 게시글 삭제 시 커밋 이후 즉시 반영하고 변경 버전(Redis)을 올림
+ * - 조회 시 변경 버전이 마지막 동기화 버전과 다르면(다른 인스턴스 또는 이 인스턴스에 아직 반영되지 않은 변경)
+ *   색인을 쓰지 않고 DB 조회로 대체하고, PostCategoryIndexSynchronizer가 다음 주기에 반영
+ * - 색인이 만들어지기 전(isReady=false), 모르는 카테고리가 요청되었거나 Redis 장애로 버전을 확인할 수 없으면 DB 조회로 대체
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PostCategoryIndex {
+
+    private final PostCategoryIndexVersionStore versionStore;
+
+    private final BitmapIndex index = new BitmapIndex();
+    private final Map<Long, CategoryType> categoryTypes = new ConcurrentHashMap<>();
+    private volatile boolean ready = false;
+
+    // 마지막 동기화 시점의 변경 버전 (동기화 직전에 읽은 값)
+    private volatile long syncedWrites = -1;
+    private volatile long syncedRemovals = -1;
+
+    // 조회 결과 검증에서 색인과 DB가 다르다고 확인된 경우 (다음 동기화에서 전체 재색인)
+    private volatile boolean stale = false;
+
+    /**
+     * 카테고리 조건을 만족하는 게시글 ID 비트셋
+     *
+     * @param categoryIds 카테고리 ID 리스트 (같은 타입은 OR, 다른 타입은 AND)
+     * @return 색인으로 판단할 수 없거나 최신 상태가 아니면 empty
+     */
+    public Optional<BitSet> match(List<Long> categoryIds) {
+        if (!ready || !isCurrent()) {
+            return Optional.empty();
+        }
+
+        Map<CategoryType, List<Long>> groups = new EnumMap<>(CategoryType.class);
+        for (Long categoryId : new LinkedHashSet<>(categoryIds)) {
+            CategoryType type = categoryTypes.get(categoryId);
+            if (type == null) {
+                return Optional.empty();
+            }
+            groups.computeIfAbsent(type, key -> new ArrayList<>()).add(categoryId);
+        }
+
+        BitSet result = null;
+        for (List<Long> group : groups.values()) {
+            BitSet union = index.union(group);
+            if (result == null) {
+                result = union;
+            } else {
+                result.and(union);
+            }
+            if (result.isEmpty()) {
+                break;
+            }
+        }
+        return Optional.of(result != null ? result : new BitSet());
+    }
+
+    /**
+     * 게시글 카테고리가 필터 조건을 만족하는지 확인
+     * - 색인으로 구한 페이지를 DB에서 읽은 게시글 카테고리로 검증할 때 사용
+     */
+    public boolean matches(List<CategoryResponse> categories, List<Long> categoryIds) {
+        Set<Long> owned = new HashSet<>();
+        categories.forEach(category -> owned.add(category.id()));
+
+        Map<CategoryType, Boolean> satisfied = new EnumMap<>(CategoryType.class);
+        for (Long categoryId : categoryIds) {
+            CategoryType type = categoryTypes.get(categoryId);
+            if (type != null) {
+                satisfied.merge(type, owned.contains(categoryId), Boolean::logicalOr);
+            }
+        }
+        return !satisfied.containsValue(false);
+    }
+
+    /**
+     * 비트셋에서 ID 내림차순(최신순) 페이지에 해당하는 게시글 ID
+     */
+    public static List<Long> pageDescending(BitSet bitmap, long offset, int size) {
+        List<Long> ids = new ArrayList<>(size);
+        long skipped = 0;
+        for (int bit = bitmap.length() - 1; bit >= 0 && ids.size() < size; bit = bitmap.previousSetBit(bit - 1)) {
+            if (skipped++ >= offset) {
+                ids.add((long) bit);
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * 새 게시글 카테고리 반영 (호출 시점의 매핑 상태를 스냅샷으로 커밋 이후 반영)
+     */
+    public void indexAfterCommit(Post post) {
+        putAfterCommit(post, false);
+    }
+
+    /**
+     * 기존 게시글 카테고리 교체 (제거된 매핑이 있을 수 있으므로 다른 인스턴스는 전체 재색인)
+     */
+    public void reindexAfterCommit(Post post) {
+        putAfterCommit(post, true);
+    }
+
+    /**
+     * 게시글 제거 (커밋 이후 반영)
+     */
+    public void removeAfterCommit(Long postId) {
+        runAfterCommit(() -> {
+            index.remove(postId);
+            bumpVersion(true);
+        });
+    }
+
+    /**
+     * 카테고리 타입 등록 (커밋 이후 반영)
+     */
+    public void registerCategoryAfterCommit(PostCategory category) {
+        Long categoryId = category.getId();
+        CategoryType type = category.getType();
+        runAfterCommit(() -> {
+            categoryTypes.put(categoryId, type);
+            bumpVersion(false);
+        });
+    }
+
+    private void putAfterCommit(Post post, boolean removal) {
+        Long postId = post.getId();
+        Map<Long, CategoryType> categories = new HashMap<>();
+        post.getCategories().forEach(category -> categories.put(category.getId(), category.getType()));
+
+        runAfterCommit(() -> {
+            categoryTypes.putAll(categories);
+            index.put(postId, categories.keySet());
+            bumpVersion(removal);
+        });
+    }
+
+    // 버전을 올리지 못하면 다른 인스턴스는 조회 결과 검증 또는 주기적인 전체 재색인으로 바로잡음
+    private void bumpVersion(boolean removal) {
+        try {
+            versionStore.bump(removal);
+        } catch (Exception e) {
+            log.warn("게시글 카테고리 색인 변경 버전 갱신 실패", e);
+        }
+    }
+
+    /**
+     * 변경 버전이 마지막 동기화 이후 바뀌지 않았는지 확인
+     */
+    private boolean isCurrent() {
+        if (stale) {
+            return false;
+        }
+        try {
+            return versionStore.readWrites() == syncedWrites;
+        } catch (Exception e) {
+            log.debug("게시글 카테고리 색인 버전 확인 실패 - DB 조회로 대체", e);
+            return false;
+        }
+    }
+
+    /**
+     * 조회 결과가 색인과 다를 때 호출 (다음 동기화까지 DB 조회, 동기화 시 전체 재색인)
+     */
+    public void markStale() {
+        stale = true;
+    }
+
+    /**
+     * 전체 재색인이 필요한지 (색인 준비 전, 검증 실패, 또는 매핑 제거가 포함된 변경이 있었던 경우)
+     */
+    public boolean needsRebuild(Version version) {
+        return !ready || stale || version.removals() != syncedRemovals;
+    }
+
+    public boolean isSynced(Version version) {
+        return version.writes() == syncedWrites;
+    }
+
+    /**
+     * 증분 동기화 완료 (version은 증분 조회 전에 읽은 값)
+     */
+    public void markSynced(Version version) {
+        syncedWrites = version.writes();
+    }
+
+    /**
+     * 다른 인스턴스에서 추가된 매핑 반영
+     */
+    public void addMapping(long postId, long categoryId) {
+        index.add(postId, categoryId);
+    }
+
+    public void registerCategories(Map<Long, CategoryType> categories) {
+        categoryTypes.putAll(categories);
+    }
+
+    /**
+     * 전체 재색인 (새 비트맵을 만든 뒤 한 번에 교체)
+     *
+     * @param version 매핑을 읽기 전에 읽은 변경 버전
+     */
+    public void rebuild(Map<Long, CategoryType> categories, Map<Long, BitSet> bitmaps, Version version) {
+        categoryTypes.putAll(categories);
+        index.replaceAll(bitmaps);
+        syncedWrites = version.writes();
+        syncedRemovals = version.removals();
+        stale = false;
+        ready = true;
+
+        log.info("게시글 카테고리 색인 재구성 완료 - 카테고리: {}, 매핑된 게시글(중복 포함): {}",
+                bitmaps.size(), bitmaps.values().stream().mapToInt(BitSet::cardinality).sum());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    private static void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -19,33 +19,41 @@ import java.util.List;
 public class PostCategoryMappingService {
     private final PostCategoryMappingRepository postCategoryMappingRepository;
     private final PostCategoryRepository postCategoryRepository;
+    private final PostSummaryService postSummaryService;
+    private final PostCategoryIndex postCategoryIndex;
 
     /**
      * 게시글 생성 시 카테고리 매핑 등록
      * - 카테고리 ID 유효성 검증 후 매핑 엔티티 생성
+     * - 게시글 요약 생성과 카테고리 색인 갱신 (카테고리가 없어도 요약은 생성)
      *
      * @param post        게시글 엔티티
      * @param categoryIds 카테고리 ID 리스트
      */
     public void createMappings(Post post, List<Long> categoryIds) {
-        if (categoryIds == null || categoryIds.isEmpty()) return;
+        if (categoryIds != null && !categoryIds.isEmpty()) {
+            // 카테고리 유효성 검증
+            List<PostCategory> categories = postCategoryRepository.findAllById(categoryIds);
+            if (categories.size() != categoryIds.size()) {
+                throw new CustomException(ErrorCode.CATEGORY_NOT_FOUND);
+            }
 
-        // 카테고리 유효성 검증
-        List<PostCategory> categories = postCategoryRepository.findAllById(categoryIds);
-        if (categories.size() != categoryIds.size()) {
-            throw new CustomException(ErrorCode.CATEGORY_NOT_FOUND);
+            // 매핑 생성
+            categories.forEach(category -> {
+                PostCategoryMapping mapping = new PostCategoryMapping(post, category);
+                postCategoryMappingRepository.save(mapping);
+            });
         }
 
-        // 매핑 생성
-        categories.forEach(category -> {
-            PostCategoryMapping mapping = new PostCategoryMapping(post, category);
-            postCategoryMappingRepository.save(mapping);
-        });
+        // 요약 및 카테고리 색인 갱신
+        postSummaryService.sync(post);
+        postCategoryIndex.indexAfterCommit(post);
     }
 
     /**
      * 게시글의 카테고리 매핑을 갱신
      * - 기존 매핑 제거 및 신규 매핑 추가 처리
+     * - 게시글 요약의 카테고리 목록과 카테고리 색인 갱신
      *
      * @param post        게시글 엔티티
      * @param categoryIds 카테고리 ID 리스트
@@ -86,10 +94,15 @@ public class PostCategoryMappingService {
             PostCategoryMapping mapping = new PostCategoryMapping(post, category);
             postCategoryMappingRepository.save(mapping);
         });
+
+        // 요약 및 카테고리 색인 갱신
+        postSummaryService.sync(post);
+        postCategoryIndex.reindexAfterCommit(post);
     }
 
     /**
      * 게시글의 모든 카테고리 매핑을 삭제
+     * - 게시글 요약의 카테고리 목록과 카테고리 색인 갱신
      *
      * @param post 게시글 엔티티
      */
@@ -99,5 +112,9 @@ public class PostCategoryMappingService {
             mapping.remove();
             postCategoryMappingRepository.delete(mapping);
         });
+
+        // 요약 및 카테고리 색인 갱신
+        postSummaryService.sync(post);
+        postCategoryIndex.reindexAfterCommit(post);
     }
 }
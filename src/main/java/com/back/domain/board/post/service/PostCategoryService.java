@@ -20,6 +20,7 @@ import java.util.List;
 public class PostCategoryService {
     private final PostCategoryRepository postCategoryRepository;
     private final UserRepository userRepository;
+    private final PostCategoryIndex postCategoryIndex;
 
     /**
      * 카테고리 생성 서비스
@@ -42,6 +43,9 @@ public class PostCategoryService {
         PostCategory category = new PostCategory(request.name(), request.type());
         PostCategory saved = postCategoryRepository.save(category);
 
+        // 카테고리 색인에 타입 등록
+        postCategoryIndex.registerCategoryAfterCommit(saved);
+
         return CategoryResponse.from(saved);
     }
 
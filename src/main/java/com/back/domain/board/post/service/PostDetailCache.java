@@ -0,0 +1,227 @@
+package com.back.domain.board.post.service;
+
+import com.back.domain.board.post.dto.PostDetailResponse;
+import com.back.domain.board.post.repository.PostBookmarkRepository;
+import com.back.domain.board.post.repository.PostLikeRepository;
+import com.back.domain.board.post.store.PostDetailStore;
+import com.back.domain.board.post.store.PostDetailStore.Counter;
+import com.back.domain.board.post.store.PostDetailStore.Lookup;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * 게시글 상세 조회 캐시
+ * - 상세 스냅샷(본문/작성자/카테고리/첨부 이미지 + 카운터)과 사용자별 좋아요/북마크 Set을 Redis 파이프라인 1회로 조회
+ *   (모두 적재된 상태의 인기 게시글 조회는 SQL 0회)
+ * - 스냅샷 미적재 시 DB에서 읽어 적재, 사용자 Set 미적재 시 사용자의 좋아요/북마크 게시글 ID를 한 번 읽어 적재
+ *   (DB 조회 전에 적재 토큰을 기록하고, 그 사이 좋아요/북마크 변경이 반영되어 토큰이 지워졌으면 적재하지 않음)
+ * - 게시글 수정/삭제 시 스냅샷 무효화, 좋아요/북마크/댓글 변경은 카운터와 사용자 Set에 반영 (모두 커밋 이후)
+ * - 작성자 프로필 변경 등 게시글 밖의 변경과, 무효화와 동시에 진행 중이던 조회가 이전 스냅샷을 다시 적재하는 경우는 TTL로 제한
+ * - Redis 장애 시 기존 DB 조회(exists 쿼리)로 대체
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PostDetailCache {
+
+    private final PostDetailStore postDetailStore;
+    private final PostLikeRepository postLikeRepository;
+    private final PostBookmarkRepository postBookmarkRepository;
+
+    /**
+     * 게시글 상세 조회
+     *
+     * @param postId 게시글 ID
+     * @param userId 사용자 ID (비로그인 시 null)
+     * @param loader 스냅샷 미적재 시 DB에서 상세 응답을 만드는 함수
+     */
+    public PostDetailResponse getPost(Long postId, Long userId, Supplier<PostDetailResponse> loader) {
+        Lookup lookup = lookup(postId, userId);
+        boolean cacheAvailable = lookup != null;
+
+        PostDetailResponse detail = cacheAvailable ? lookup.detail() : null;
+        if (detail == null) {
+            detail = loader.get();
+            if (cacheAvailable) {
+                saveSnapshot(detail);
+            }
+        }
+
+        if (userId == null) {
+            return detail.withViewerState(false, false);
+        }
+
+        boolean likedByMe = cacheAvailable && lookup.likedByMe() != null
+                ? lookup.likedByMe()
+                : isLiked(postId, userId, cacheAvailable);
+        boolean bookmarkedByMe = cacheAvailable && lookup.bookmarkedByMe() != null
+                ? lookup.bookmarkedByMe()
+                : isBookmarked(postId, userId, cacheAvailable);
+
+        return detail.withViewerState(likedByMe, bookmarkedByMe);
+    }
+
+    /**
+     * 게시글 수정/삭제 후 스냅샷 무효화 (커밋 이후)
+     */
+    public void evictAfterCommit(Long postId) {
+        afterCommit(postId, null, () -> postDetailStore.evictSnapshot(postId));
+    }
+
+    /**
+     * 좋아요 반영 (커밋 이후)
+     */
+    public void likedAfterCommit(Long postId, Long userId) {
+        afterCommit(postId, userId, () -> {
+            postDetailStore.incrementIfLoaded(postId, Counter.LIKE, 1);
+            postDetailStore.addLikeIfLoaded(userId, postId);
+        });
+    }
+
+    /**
+     * 좋아요 취소 반영 (커밋 이후)
+     */
+    public void unlikedAfterCommit(Long postId, Long userId) {
+        afterCommit(postId, userId, () -> {
+            postDetailStore.incrementIfLoaded(postId, Counter.LIKE, -1);
+            postDetailStore.removeLike(userId, postId);
+        });
+    }
+
+    /**
+     * 북마크 반영 (커밋 이후)
+     */
+    public void bookmarkedAfterCommit(Long postId, Long userId) {
+        afterCommit(postId, userId, () -> {
+            postDetailStore.incrementIfLoaded(postId, Counter.BOOKMARK, 1);
+            postDetailStore.addBookmarkIfLoaded(userId, postId);
+        });
+    }
+
+    /**
+     * 북마크 취소 반영 (커밋 이후)
+     */
+    public void unbookmarkedAfterCommit(Long postId, Long userId) {
+        afterCommit(postId, userId, () -> {
+            postDetailStore.incrementIfLoaded(postId, Counter.BOOKMARK, -1);
+            postDetailStore.removeBookmark(userId, postId);
+        });
+    }
+
+    /**
+     * 댓글 수 증감 반영 (커밋 이후)
+     */
+    public void commentCountChangedAfterCommit(Long postId, long delta) {
+        afterCommit(postId, null, () -> postDetailStore.incrementIfLoaded(postId, Counter.COMMENT, delta));
+    }
+
+    // -------------------- 내부 메서드 --------------------
+
+    /**
+     * @return Redis 장애 시 null
+     */
+    private Lookup lookup(Long postId, Long userId) {
+        try {
+            return postDetailStore.lookup(postId, userId);
+        } catch (Exception e) {
+            log.warn("게시글 상세 캐시 조회 실패, DB 조회로 대체 - PostId: {}", postId, e);
+            return null;
+        }
+    }
+
+    private void saveSnapshot(PostDetailResponse detail) {
+        try {
+            postDetailStore.saveSnapshot(detail);
+        } catch (Exception e) {
+            log.warn("게시글 상세 캐시 적재 실패 - PostId: {}", detail.postId(), e);
+        }
+    }
+
+    private boolean isLiked(Long postId, Long userId, boolean cacheAvailable) {
+        if (!cacheAvailable) {
+            return postLikeRepository.existsByUserIdAndPostId(userId, postId);
+        }
+
+        String loadToken = beginLoad(() -> postDetailStore.beginLikesLoad(userId), userId);
+        Set<Long> likedPostIds = new HashSet<>(postLikeRepository.findPostIdsByUserId(userId));
+        if (loadToken == null) {
+            return likedPostIds.contains(postId);
+        }
+        try {
+            postDetailStore.saveLikes(userId, loadToken, likedPostIds);
+        } catch (Exception e) {
+            log.warn("좋아요 캐시 적재 실패 - UserId: {}", userId, e);
+        }
+        return likedPostIds.contains(postId);
+    }
+
+    private boolean isBookmarked(Long postId, Long userId, boolean cacheAvailable) {
+        if (!cacheAvailable) {
+            return postBookmarkRepository.existsByUserIdAndPostId(userId, postId);
+        }
+
+        String loadToken = beginLoad(() -> postDetailStore.beginBookmarksLoad(userId), userId);
+        Set<Long> bookmarkedPostIds = new HashSet<>(postBookmarkRepository.findPostIdsByUserId(userId));
+        if (loadToken == null) {
+            return bookmarkedPostIds.contains(postId);
+        }
+        try {
+            postDetailStore.saveBookmarks(userId, loadToken, bookmarkedPostIds);
+        } catch (Exception e) {
+            log.warn("북마크 캐시 적재 실패 - UserId: {}", userId, e);
+        }
+        return bookmarkedPostIds.contains(postId);
+    }
+
+    /**
+     * @return 적재 토큰 (Redis 장애 시 null, 이 경우 적재하지 않음)
+     */
+    private String beginLoad(Supplier<String> begin, Long userId) {
+        try {
+            return begin.get();
+        } catch (Exception e) {
+            log.warn("사용자 캐시 적재 시작 실패 - UserId: {}", userId, e);
+            return null;
+        }
+    }
+
+    /**
+     * 트랜잭션 커밋 후 캐시 반영 (롤백된 변경이 캐시에 남지 않도록)
+     * - 반영 실패 시 관련 캐시를 비워 다음 조회에서 DB로부터 다시 적재
+     */
+    private void afterCommit(Long postId, Long userId, Runnable cacheUpdate) {
+        Runnable safeUpdate = () -> {
+            try {
+                cacheUpdate.run();
+            } catch (Exception e) {
+                log.warn("게시글 상세 캐시 반영 실패 - PostId: {}, UserId: {}", postId, userId, e);
+                try {
+                    postDetailStore.evictSnapshot(postId);
+                    if (userId != null) {
+                        postDetailStore.evictUser(userId);
+                    }
+                } catch (Exception ignored) {
+                    // Redis 장애 시 TTL 만료로 정리
+                }
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    safeUpdate.run();
+                }
+            });
+        } else {
+            safeUpdate.run();
+        }
+    }
+}
@@ -22,6 +22,7 @@ public class PostLikeService {
     private final PostRepository postRepository;
     private final PostLikeRepository postLikeRepository;
     private final UserRepository userRepository;
+    private final PostDetailCache postDetailCache;
     private final ApplicationEventPublisher eventPublisher;
 
     /**
@@ -45,9 +46,11 @@ public class PostLikeService {
             throw new CustomException(ErrorCode.POST_ALREADY_LIKED);
         }
 
-        // PostLike 저장 및 좋아요 수 증가 처리
-        post.increaseLikeCount();
+        // 좋아요 수 증가(단일 UPDATE) 후 PostLike 저장
+        // - 게시글 행 잠금을 먼저 잡아 PostLike INSERT의 FK 검사 잠금과 교착되지 않도록 순서 고정
+        postRepository.increaseLikeCount(postId);
         postLikeRepository.save(new PostLike(post, user));
+        postDetailCache.likedAfterCommit(postId, userId);
 
         // 게시글 좋아요 이벤트 발행 (자기 자신의 글이 아닐 때만)
         if (!post.getUser().getId().equals(userId)) {
@@ -61,7 +64,7 @@ public class PostLikeService {
             );
         }
 
-        return PostLikeResponse.from(post);
+        return new PostLikeResponse(postId, postRepository.findLikeCountById(postId));
     }
 
     /**
@@ -80,15 +83,13 @@ public class PostLikeService {
         Post post = postRepository.findById(postId)
                 .orElseThrow(() -> new CustomException(ErrorCode.POST_NOT_FOUND));
 
-        // PostLike 조회
-        PostLike postLike = postLikeRepository.findByUserIdAndPostId(userId, postId)
-                .orElseThrow(() -> new CustomException(ErrorCode.POST_LIKE_NOT_FOUND));
-
-        // PostLike 삭제 및 좋아요 수 감소 처리
-        postLike.remove();
-        postLikeRepository.delete(postLike);
-        post.decreaseLikeCount();
+        // 좋아요 수 감소 후 PostLike 삭제 (삭제된 행이 없으면 예외 → 롤백으로 감소도 취소)
+        postRepository.decreaseLikeCount(postId);
+        if (postLikeRepository.deleteByUserIdAndPostId(userId, postId) == 0) {
+            throw new CustomException(ErrorCode.POST_LIKE_NOT_FOUND);
+        }
+        postDetailCache.unlikedAfterCommit(postId, userId);
 
-        return PostLikeResponse.from(post);
+        return new PostLikeResponse(postId, postRepository.findLikeCountById(postId));
     }
 }
@@ -0,0 +1,100 @@
+package com.back.domain.board.post.service;
+
+import com.back.domain.board.post.dto.HighlightRange;
+import com.back.domain.board.post.dto.PostSearchHighlight;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 게시글 검색 결과 하이라이트 계산
+ * - 검색어를 공백 기준 단어로 나누어 제목/본문에서 대소문자 구분 없이 일치 구간을 찾음
+ * - 겹치거나 맞닿은 구간은 하나로 병합
+ * - 본문은 첫 일치 위치 주변만 발췌하여 목록 응답 크기를 제한
+ */
+final class PostSearchHighlighter {
+
+    static final int SNIPPET_LENGTH = 120;
+    private static final int SNIPPET_LEAD = 30;   // 첫 일치 위치 앞쪽으로 포함할 문자 수
+
+    private PostSearchHighlighter() {
+    }
+
+    /**
+     * 검색어 → 단어 목록 (공백 기준)
+     */
+    static List<String> words(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(keyword.strip().split("\\s+"))
+                .filter(word -> !word.isEmpty())
+                .distinct()
+                .toList();
+    }
+
+    static PostSearchHighlight highlight(String title, String content, List<String> words) {
+        List<HighlightRange> titleRanges = find(title, words);
+
+        if (content == null || content.isEmpty()) {
+            return new PostSearchHighlight(titleRanges, "", List.of());
+        }
+
+        List<HighlightRange> contentRanges = find(content, words);
+        int start = contentRanges.isEmpty() ? 0 : Math.max(0, contentRanges.getFirst().start() - SNIPPET_LEAD);
+        if (start > 0 && Character.isLowSurrogate(content.charAt(start))) {
+            start--;
+        }
+        int end = Math.min(content.length(), start + SNIPPET_LENGTH);
+        if (end < content.length() && Character.isHighSurrogate(content.charAt(end - 1))) {
+            end--;
+        }
+
+        List<HighlightRange> snippetRanges = new ArrayList<>();
+        for (HighlightRange range : contentRanges) {
+            if (range.start() >= end) {
+                break;
+            }
+            if (range.end() > start) {
+                snippetRanges.add(new HighlightRange(
+                        Math.max(range.start(), start) - start,
+                        Math.min(range.end(), end) - start));
+            }
+        }
+
+        return new PostSearchHighlight(titleRanges, content.substring(start, end), snippetRanges);
+    }
+
+    /**
+     * 텍스트 내 단어 일치 구간 (시작 위치 오름차순, 병합됨)
+     */
+    static List<HighlightRange> find(String text, List<String> words) {
+        if (text == null || text.isEmpty() || words.isEmpty()) {
+            return List.of();
+        }
+
+        List<HighlightRange> matches = new ArrayList<>();
+        for (String word : words) {
+            int length = word.length();
+            for (int i = 0; i + length <= text.length(); i++) {
+                if (text.regionMatches(true, i, word, 0, length)) {
+                    matches.add(new HighlightRange(i, i + length));
+                }
+            }
+        }
+        matches.sort(Comparator.comparingInt(HighlightRange::start));
+
+        List<HighlightRange> merged = new ArrayList<>();
+        for (HighlightRange match : matches) {
+            if (!merged.isEmpty() && match.start() <= merged.getLast().end()) {
+                HighlightRange last = merged.removeLast();
+                merged.add(new HighlightRange(last.start(), Math.max(last.end(), match.end())));
+            } else {
+                merged.add(match);
+            }
+        }
+        return merged;
+    }
+}
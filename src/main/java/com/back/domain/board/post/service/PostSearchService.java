@@ -0,0 +1,176 @@
+package com.back.domain.board.post.service;
+
+import com.back.domain.board.post.dto.PostListResponse;
+import com.back.domain.board.post.repository.PostFullTextRepository;
+import com.back.domain.board.post.repository.PostFullTextRepository.Condition;
+import com.back.domain.board.post.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 검색 서비스
+ * - MySQL FULLTEXT(ngram) 인덱스로 검색 유형별 일치 게시글과 관련도 점수를 구해 SQL에서 정렬/페이징한 뒤
+ *   해당 페이지의 게시글만 ID로 조회 (LIKE '%검색어%' 전체 스캔 없음)
+ * - 정렬 조건이 없으면 관련도 순, 정렬 조건이 있으면 일치하는 게시글 전체에 해당 정렬 적용 (둘 다 SQL에서 페이징)
+ * - 전체 개수는 후보 수 상한 없이 COUNT 쿼리로 계산 (첫 페이지에서 결과가 페이지 크기보다 적으면 생략)
+ * - 전문 검색을 사용할 수 없는 경우(H2, 인덱스 생성 전, ngram 길이보다 짧은 검색어)는 기존 LIKE 검색으로 대체
+ * - 검색 결과에는 제목/본문 발췌의 검색어 일치 구간(하이라이트)을 함께 반환
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Slf4j
+public class PostSearchService {
+
+    static final int MAX_KEYWORD_LENGTH = 50;       // 검색어 최대 길이 (초과분은 잘라서 검색)
+    private static final int NGRAM_TOKEN_SIZE = 2;  // MySQL ngram_token_size 기본값
+    private static final long PROBE_INTERVAL_MS = 60_000;
+
+    // InnoDB 전문 검색 BOOLEAN MODE 연산자 (검색어에서 제거)
+    private static final String BOOLEAN_OPERATORS = "[+\\-<>()~*\"@]";
+
+    private final PostFullTextRepository fullTextRepository;
+    private final PostRepository postRepository;
+
+    private volatile boolean fullTextReady = false;
+    private volatile long nextProbeAt = 0;
+
+    /**
+     * 게시글 검색
+     *
+     * @param keyword     검색어 (공백 구분 단어는 모두 포함해야 일치)
+     * @param searchType  검색 유형(title/content/author/전체)
+     * @param categoryIds 카테고리 ID 리스트
+     * @param pageable    페이징 + 정렬 조건 (정렬 없으면 관련도 순)
+     */
+    public Page<PostListResponse> searchPosts(String keyword, String searchType, List<Long> categoryIds, Pageable pageable) {
+        String query = keyword.strip();
+        if (query.length() > MAX_KEYWORD_LENGTH) {
+            query = query.substring(0, MAX_KEYWORD_LENGTH);
+        }
+        List<String> words = PostSearchHighlighter.words(query.replaceAll(BOOLEAN_OPERATORS, " "));
+
+        Page<PostListResponse> page;
+        if (words.isEmpty() || !isFullTextReady() || hasShortWord(words)) {
+            page = postRepository.searchPosts(query, searchType, categoryIds, pageable);
+        } else {
+            page = searchFullText(query, words, searchType, categoryIds, pageable);
+        }
+
+        applyHighlights(page.getContent(), words.isEmpty() ? List.of(query) : words);
+        return page;
+    }
+
+    /**
+     * 전문 검색 인덱스 생성 (없는 경우만, 기존 게시글 전체 색인)
+     */
+    public void createIndexesIfAbsent() {
+        if (!fullTextRepository.isSupported()) {
+            log.info("전문 검색 인덱스 미지원 DB - LIKE 검색 사용");
+            return;
+        }
+        fullTextRepository.createIndexesIfAbsent();
+        fullTextReady = true;
+        log.info("게시글 전문 검색 인덱스 준비 완료");
+    }
+
+    /**
+     * 전문 검색 인덱스 재작성 (삭제 문서 정리)
+     */
+    public void rebuildIndexes() {
+        if (!isFullTextReady()) {
+            return;
+        }
+        fullTextRepository.rebuildIndexes();
+        log.info("게시글 전문 검색 인덱스 재작성 완료");
+    }
+
+    // -------------------- 내부 메서드 --------------------
+
+    private Page<PostListResponse> searchFullText(String query, List<String> words, String searchType,
+                                                  List<Long> categoryIds, Pageable pageable) {
+        Condition condition = new Condition(toBooleanQuery(words), query, searchType, categoryIds);
+        List<Long> pageIds = fullTextRepository.findPageIds(
+                condition, pageable.getSort(), pageable.getOffset(), pageable.getPageSize());
+
+        // 첫 페이지가 다 차지 않으면 그 자체가 전체 개수 (COUNT 쿼리 생략)
+        long total = pageable.getOffset() == 0 && pageIds.size() < pageable.getPageSize()
+                ? pageIds.size()
+                : fullTextRepository.count(condition);
+
+        Map<Long, PostListResponse> posts = postRepository.findPostsByIds(pageIds).stream()
+                .collect(Collectors.toMap(PostListResponse::getPostId, Function.identity()));
+
+        // 검색 이후 삭제된 게시글은 제외
+        List<PostListResponse> content = pageIds.stream()
+                .map(posts::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    /**
+     * 단어 목록 → BOOLEAN MODE 검색식 (각 단어를 구문으로 묶어 모두 포함하도록 +"단어")
+     */
+    static String toBooleanQuery(List<String> words) {
+        return words.stream()
+                .map(word -> "+\"" + word + "\"")
+                .collect(Collectors.joining(" "));
+    }
+
+    /**
+     * ngram 토큰보다 짧은 단어 포함 여부 (FULLTEXT로 찾을 수 없으므로 LIKE 검색으로 대체)
+     */
+    private static boolean hasShortWord(List<String> words) {
+        return words.stream().anyMatch(word -> word.codePointCount(0, word.length()) < NGRAM_TOKEN_SIZE);
+    }
+
+    /**
+     * 전문 검색 사용 가능 여부
+     * - 인덱스가 없으면 일정 주기로만 다시 확인 (다른 인스턴스의 인덱스 생성 반영)
+     */
+    private boolean isFullTextReady() {
+        if (fullTextReady) {
+            return true;
+        }
+        long now = System.currentTimeMillis();
+        if (now < nextProbeAt) {
+            return false;
+        }
+        nextProbeAt = now + PROBE_INTERVAL_MS;
+
+        try {
+            fullTextReady = fullTextRepository.isSupported() && fullTextRepository.hasIndexes();
+        } catch (Exception e) {
+            log.warn("전문 검색 인덱스 확인 실패 - LIKE 검색으로 대체: {}", e.getMessage());
+        }
+        return fullTextReady;
+    }
+
+    /**
+     * 페이지 결과에 하이라이트 적용 (본문은 페이지 게시글만 IN 쿼리 1회로 조회)
+     */
+    private void applyHighlights(List<PostListResponse> posts, List<String> words) {
+        if (posts.isEmpty()) {
+            return;
+        }
+
+        Map<Long, String> contents = postRepository.findContentsByIds(
+                posts.stream().map(PostListResponse::getPostId).toList());
+
+        for (PostListResponse post : posts) {
+            post.setHighlight(PostSearchHighlighter.highlight(
+                    post.getTitle(), contents.get(post.getPostId()), words));
+        }
+    }
+}
@@ -2,13 +2,13 @@ package com.back.domain.board.post.service;
 
 import com.back.domain.board.common.dto.PageResponse;
 import com.back.domain.board.post.entity.Post;
+import com.back.domain.board.post.entity.PostStats;
 import com.back.domain.board.post.dto.PostDetailResponse;
 import com.back.domain.board.post.dto.PostListResponse;
 import com.back.domain.board.post.dto.PostRequest;
 import com.back.domain.board.post.dto.PostResponse;
-import com.back.domain.board.post.repository.PostBookmarkRepository;
-import com.back.domain.board.post.repository.PostLikeRepository;
 import com.back.domain.board.post.repository.PostRepository;
+import com.back.domain.board.post.repository.PostStatsRepository;
 import com.back.domain.file.entity.AttachmentMapping;
 import com.back.domain.file.entity.EntityType;
 import com.back.domain.file.entity.FileAttachment;
@@ -21,21 +21,30 @@ import com.back.global.exception.CustomException;
 import com.back.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class PostService {
     private final PostRepository postRepository;
-    private final PostLikeRepository postLikeRepository;
-    private final PostBookmarkRepository postBookmarkRepository;
+    private final PostStatsRepository postStatsRepository;
     private final UserRepository userRepository;
     private final PostCategoryMappingService postCategoryMappingService;
+    private final PostSummaryService postSummaryService;
+    private final PostSearchService postSearchService;
+    private final PostCategoryIndex postCategoryIndex;
+    private final PostDetailCache postDetailCache;
+    private final PostViewCounter postViewCounter;
+    private final PostTrendingService postTrendingService;
     private final AttachmentMappingRepository attachmentMappingRepository;
     private final AttachmentMappingService attachmentMappingService;
 
@@ -55,7 +64,7 @@ public class PostService {
         Post post = new Post(user, request.title(), request.content(), request.thumbnailUrl());
         postRepository.save(post);
 
-        // Category 매핑 생성
+        // Category 매핑 생성 (목록 조회용 요약도 함께 생성)
         postCategoryMappingService.createMappings(post, request.categoryIds());
 
         // Attachment 매핑 생성
@@ -68,6 +77,10 @@ public class PostService {
     /**
      * 게시글 다건 조회 서비스
      *
+     * - 검색어가 있으면 전문 검색(PostSearchService)으로 조회
+     * - 카테고리 필터 + 최신순이면 카테고리 색인(비트맵)으로 페이지 ID를 구한 뒤 ID로 조회
+     *   (색인이 최신이 아니거나 DB와 검증되지 않으면 DB 조회로 대체)
+     *
      * @param keyword     검색어
      * @param searchType  검색 타입
      * @param categoryIds 카테고리 ID 목록
@@ -76,19 +89,105 @@ public class PostService {
      */
     @Transactional(readOnly = true)
     public PageResponse<PostListResponse> getPosts(String keyword, String searchType, List<Long> categoryIds, Pageable pageable) {
+        if (keyword != null && !keyword.isBlank()) {
+            return PageResponse.from(postSearchService.searchPosts(keyword, searchType, categoryIds, pageable));
+        }
+
+        if (categoryIds != null && !categoryIds.isEmpty() && isLatestOrder(pageable)) {
+            Optional<Page<PostListResponse>> indexed = postCategoryIndex.match(categoryIds)
+                    .flatMap(matched -> getPostsByCategoryIndex(matched, categoryIds, pageable));
+            if (indexed.isPresent()) {
+                return PageResponse.from(indexed.get());
+            }
+        }
+
         Page<PostListResponse> posts = postRepository.searchPosts(keyword, searchType, categoryIds, pageable);
         return PageResponse.from(posts);
     }
 
+    /**
+     * 카테고리 색인 결과로 최신순 페이지 조회
+     * - 비트셋을 ID 내림차순으로 순회하여 페이지 ID를 정하고, 앞뒤 페이지 경계의 게시글을 하나씩 더 DB에서 읽어 검증
+     *   - 삭제되었거나 카테고리 조건을 만족하지 않는 게시글이 있으면 색인이 어긋난 것이므로 재색인을 요청하고 DB 조회로 대체
+     *   - ID 순서와 작성일 순서가 다르면(동시에 작성된 게시글 등) DB 조회로 대체
+     * - 색인은 변경 버전이 최신일 때만 사용되므로 전체 개수는 비트셋 크기로 계산
+     *
+     * @return 색인 결과를 검증하지 못하면 empty
+     */
+    private Optional<Page<PostListResponse>> getPostsByCategoryIndex(BitSet matched, List<Long> categoryIds, Pageable pageable) {
+        long from = Math.max(0, pageable.getOffset() - 1);
+        int start = (int) (pageable.getOffset() - from);
+        List<Long> ids = PostCategoryIndex.pageDescending(matched, from, start + pageable.getPageSize() + 1);
+
+        Map<Long, PostListResponse> found = postRepository.findPostsByIds(ids).stream()
+                .collect(Collectors.toMap(PostListResponse::getPostId, Function.identity()));
+
+        List<PostListResponse> rows = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            PostListResponse post = found.get(id);
+            if (post == null || !postCategoryIndex.matches(post.getCategories(), categoryIds)) {
+                postCategoryIndex.markStale();
+                return Optional.empty();
+            }
+            if (!rows.isEmpty() && post.getCreatedAt().isAfter(rows.getLast().getCreatedAt())) {
+                return Optional.empty();
+            }
+            rows.add(post);
+        }
+
+        List<PostListResponse> content = start < rows.size()
+                ? rows.subList(start, Math.min(start + pageable.getPageSize(), rows.size()))
+                : List.of();
+        return Optional.of(new PageImpl<>(content, pageable, matched.cardinality()));
+    }
+
+    /**
+     * 최신순 정렬 여부 (정렬 미지정 또는 createdAt DESC 단일 정렬)
+     */
+    private static boolean isLatestOrder(Pageable pageable) {
+        Sort sort = pageable.getSort();
+        if (sort.isUnsorted()) {
+            return true;
+        }
+        List<Sort.Order> orders = sort.toList();
+        return orders.size() == 1
+                && orders.getFirst().getProperty().equals("createdAt")
+                && orders.getFirst().isDescending();
+    }
+
     /**
      * 게시글 단건 조회 서비스
      *
+     * - 상세 스냅샷과 좋아요/북마크 여부는 PostDetailCache에서 조회하고, 미적재 시에만 DB 조회
+     *
      * @param postId 게시글 ID
      * @param userId 사용자 ID
      * @return 게시글 상세 응답 DTO
      */
     @Transactional(readOnly = true)
     public PostDetailResponse getPost(Long postId, Long userId) {
+        return postDetailCache.getPost(postId, userId, () -> loadPostDetail(postId));
+    }
+
+    /**
+     * 게시글 단건 조회 + 조회수 집계 서비스
+     *
+     * @param postId   게시글 ID
+     * @param userId   사용자 ID
+     * @param clientIp 클라이언트 IP (비로그인 조회자 중복 제거용)
+     * @return 게시글 상세 응답 DTO
+     */
+    @Transactional(readOnly = true)
+    public PostDetailResponse viewPost(Long postId, Long userId, String clientIp) {
+        PostDetailResponse response = getPost(postId, userId);
+        postViewCounter.recordView(postId, userId, clientIp);
+        return response;
+    }
+
+    /**
+     * DB에서 게시글 상세 조회 (조회 사용자와 무관한 스냅샷)
+     */
+    private PostDetailResponse loadPostDetail(Long postId) {
         // Post 조회
         Post post = postRepository.findById(postId)
                 .orElseThrow(() -> new CustomException(ErrorCode.POST_NOT_FOUND));
@@ -100,15 +199,12 @@ public class PostService {
                 .map(AttachmentMapping::getFileAttachment)
                 .toList();
 
-        // 로그인 사용자 추가 데이터 설정 (좋아요, 북마크 여부)
-        if (userId != null) {
-            boolean likedByMe = postLikeRepository.existsByUserIdAndPostId(userId, post.getId());
-            boolean bookmarkedByMe = postBookmarkRepository.existsByUserIdAndPostId(userId, post.getId());
-            return PostDetailResponse.from(post, attachments, likedByMe, bookmarkedByMe);
-        }
+        // 조회수 조회 (배치 반영 전 증가분은 제외)
+        long viewCount = postStatsRepository.findById(postId)
+                .map(PostStats::getViewCount)
+                .orElse(0L);
 
-        // 비로그인 사용자는 기본 응답 반환
-        return PostDetailResponse.from(post, attachments);
+        return PostDetailResponse.from(post, attachments, viewCount);
     }
 
     /**
@@ -139,10 +235,16 @@ public class PostService {
         // Category 매핑 업데이트
         postCategoryMappingService.updateMappings(post, request.categoryIds());
 
+        // 목록 조회용 요약 갱신
+        postSummaryService.sync(post);
+
         // 첨부 이미지 갱신
         List<FileAttachment> attachments =
                 attachmentMappingService.updateAttachments(EntityType.POST, postId, userId, request.imageIds());
 
+        // 상세 캐시 무효화
+        postDetailCache.evictAfterCommit(postId);
+
         return PostResponse.from(post, attachments);
     }
 
@@ -169,6 +271,13 @@ public class PostService {
         // 첨부 파일 삭제
         attachmentMappingService.deleteAttachments(EntityType.POST, post.getId(), userId);
 
+        // 목록 조회용 요약/통계 삭제, 카테고리 색인·인기 게시글 제거 및 상세 캐시 무효화
+        postSummaryService.delete(post.getId());
+        postStatsRepository.deleteByPostId(post.getId());
+        postCategoryIndex.removeAfterCommit(post.getId());
+        postTrendingService.removeAfterCommit(post.getId());
+        postDetailCache.evictAfterCommit(post.getId());
+
         // Post 삭제
         post.remove();
         postRepository.delete(post);
@@ -0,0 +1,98 @@
+package com.back.domain.board.post.service;
+
+import com.back.domain.board.post.entity.Post;
+import com.back.domain.board.post.entity.PostCategory;
+import com.back.domain.board.post.entity.PostCategoryMapping;
+import com.back.domain.board.post.entity.PostSummary;
+import com.back.domain.board.post.repository.PostCategoryMappingRepository;
+import com.back.domain.board.post.repository.PostRepository;
+import com.back.domain.board.post.repository.PostSummaryRepository;
+import com.back.domain.user.common.entity.User;
+import com.back.domain.user.common.entity.UserProfile;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class PostSummaryService {
+    private final PostSummaryRepository postSummaryRepository;
+    private final PostRepository postRepository;
+    private final PostCategoryMappingRepository postCategoryMappingRepository;
+
+    /**
+     * 게시글 요약 생성 또는 갱신
+     * - 게시글 생성/수정, 카테고리 매핑 변경 시 호출
+     *
+     * @param post 게시글 엔티티 (카테고리 매핑 반영 후 상태)
+     */
+    public void sync(Post post) {
+        List<PostCategory> categories = post.getCategories();
+        postSummaryRepository.findById(post.getId())
+                .ifPresentOrElse(
+                        summary -> summary.sync(post, categories),
+                        () -> postSummaryRepository.save(PostSummary.create(post, categories))
+                );
+    }
+
+    /**
+     * 게시글 요약 삭제
+     * - 게시글보다 먼저 삭제되도록 게시글 삭제 전에 호출
+     *
+     * @param postId 게시글 ID
+     */
+    public void delete(Long postId) {
+        postSummaryRepository.deleteById(postId);
+    }
+
+    /**
+     * 작성자 스냅샷 일괄 갱신
+     * - 프로필(닉네임, 프로필 이미지) 변경 및 탈퇴 시 호출
+     *
+     * @param user 작성자
+     */
+    public void syncAuthor(User user) {
+        UserProfile profile = user.getUserProfile();
+        postSummaryRepository.updateAuthor(
+                user.getId(),
+                profile != null ? profile.getNickname() : null,
+                profile != null ? profile.getProfileImageUrl() : null
+        );
+    }
+
+    /**
+     * 요약이 없는 게시글의 요약 일괄 생성 (ID 키셋 배치)
+     * - 요약 도입 이전 게시글 이관용
+     * - 총 쿼리 수: 배치당 2회 (게시글 + 작성자 조회, 카테고리 매핑 조회) + INSERT
+     *
+     * @param afterId   이전 배치의 마지막 게시글 ID
+     * @param batchSize 배치 크기
+     * @return 처리한 게시글 ID 목록 (비어 있으면 종료)
+     */
+    public List<Long> backfill(Long afterId, int batchSize) {
+        List<Post> posts = postRepository.findPostsWithoutSummary(afterId, batchSize);
+        if (posts.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> postIds = posts.stream().map(Post::getId).toList();
+        Map<Long, List<PostCategory>> categoryMap = postCategoryMappingRepository
+                .findAllWithCategoryByPostIdIn(postIds)
+                .stream()
+                .collect(Collectors.groupingBy(
+                        mapping -> mapping.getPost().getId(),
+                        Collectors.mapping(PostCategoryMapping::getCategory, Collectors.toList())
+                ));
+
+        postSummaryRepository.saveAll(posts.stream()
+                .map(post -> PostSummary.create(post, categoryMap.getOrDefault(post.getId(), List.of())))
+                .toList());
+
+        return postIds;
+    }
+}
@@ -0,0 +1,179 @@
+package com.back.domain.board.post.service;
+
+import com.back.domain.board.post.dto.PostListResponse;
+import com.back.domain.board.post.repository.PostRepository;
+import com.back.domain.board.post.store.PostTrendingStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 인기 게시글 서비스
+ * - 좋아요/댓글/북마크를 시간 감쇠 점수로 Redis Sorted Set에 누적 (커밋 이후, 반응 1건당 ZINCRBY 1회)
+ * - 같은 사용자의 같은 종류 반응은 게시글마다 중복 제거 구간 동안 한 번만 반영
+ *   (취소 후 다시 반응해도 점수가 늘지 않으므로 취소/삭제 시 점수를 빼지 않음)
+ * - 상위 게시글 목록은 주기적으로 Sorted Set + 게시글 목록 조회(IN 쿼리)로 갱신해 메모리에 보관하고,
+ *   조회 요청은 보관된 목록을 잘라서 응답 (조회 경로에 Redis/DB 접근 없음)
+ * - 목록의 좋아요/댓글 수 등은 갱신 주기만큼 늦을 수 있음
+ * - Redis 장애 시 점수 반영은 건너뛰고, 목록은 마지막으로 갱신된 목록을 유지
+ */
+@Service
+@Slf4j
+public class PostTrendingService {
+
+    /** 상위 목록 최대 크기 (조회 size 상한) */
+    public static final int MAX_SIZE = 100;
+
+    /** 재조정 시 보관할 최대 게시글 수 */
+    private static final int KEEP_SIZE = 1_000;
+
+    /** 재조정 후 제거할 점수 기준 (좋아요 1건이 반감기 약 7번을 지난 수준) */
+    private static final double MIN_SCORE = 0.01;
+
+    /** 중복 제거 구간 (반감기 배수, 이 구간이 지나면 이전 반응의 점수는 MIN_SCORE 수준으로 감쇠) */
+    private static final int DEDUPE_HALF_LIVES = 7;
+
+    /**
+     * 반응 종류별 가중치
+     */
+    public enum Signal {
+        LIKE(1.0),
+        BOOKMARK(2.0),
+        COMMENT(3.0);
+
+        private final double weight;
+
+        Signal(double weight) {
+            this.weight = weight;
+        }
+    }
+
+    private final PostTrendingStore postTrendingStore;
+    private final PostRepository postRepository;
+    private final Duration halfLife;
+    private final Duration dedupeWindow;
+
+    private volatile List<PostListResponse> trendingPosts = List.of();
+
+    public PostTrendingService(PostTrendingStore postTrendingStore,
+                               PostRepository postRepository,
+                               @Value("${board.trending.half-life-hours:12}") long halfLifeHours) {
+        this.postTrendingStore = postTrendingStore;
+        this.postRepository = postRepository;
+        this.halfLife = Duration.ofHours(halfLifeHours);
+        this.dedupeWindow = halfLife.multipliedBy(DEDUPE_HALF_LIVES);
+    }
+
+    /**
+     * 인기 게시글 목록 조회
+     *
+     * @param size 조회 개수 (최대 MAX_SIZE)
+     */
+    public List<PostListResponse> getTrendingPosts(int size) {
+        List<PostListResponse> posts = trendingPosts;
+        return posts.subList(0, Math.min(Math.max(size, 0), posts.size()));
+    }
+
+    /**
+     * 반응 점수 반영 (커밋 이후, 롤백된 반응은 반영하지 않음)
+     *
+     * @param userId 반응한 사용자 ID (같은 사용자의 같은 반응은 한 번만 반영)
+     */
+    public void recordAfterCommit(Long postId, Long userId, Signal signal) {
+        afterCommit(() -> {
+            try {
+                postTrendingStore.addScore(postId, signal.name() + ":" + userId, signal.weight, halfLife, dedupeWindow);
+            } catch (Exception e) {
+                log.debug("인기 게시글 점수 반영 실패 - PostId: {}, Signal: {}", postId, signal, e);
+            }
+        });
+    }
+
+    /**
+     * 삭제된 게시글 제거 (커밋 이후)
+     * - 다른 인스턴스의 목록에서는 다음 갱신 때 빠짐
+     */
+    public void removeAfterCommit(Long postId) {
+        afterCommit(() -> {
+            trendingPosts = trendingPosts.stream()
+                    .filter(post -> !post.getPostId().equals(postId))
+                    .toList();
+            try {
+                postTrendingStore.remove(postId);
+            } catch (Exception e) {
+                log.warn("인기 게시글 제거 실패 - PostId: {}", postId, e);
+            }
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void refreshOnStartup() {
+        refresh();
+    }
+
+    /**
+     * 상위 게시글 목록 갱신 (점수 순서 유지, 삭제된 게시글은 제외)
+     */
+    @Scheduled(
+            initialDelayString = "${board.trending.refresh-interval-ms:5000}",
+            fixedDelayString = "${board.trending.refresh-interval-ms:5000}"
+    )
+    public void refresh() {
+        try {
+            List<Long> postIds = postTrendingStore.findTopPostIds(MAX_SIZE);
+            Map<Long, PostListResponse> posts = postRepository.findPostsByIds(postIds).stream()
+                    .collect(Collectors.toMap(PostListResponse::getPostId, Function.identity()));
+
+            trendingPosts = postIds.stream()
+                    .map(posts::get)
+                    .filter(Objects::nonNull)
+                    .toList();
+        } catch (Exception e) {
+            log.warn("인기 게시글 목록 갱신 실패 - 이전 목록 유지", e);
+        }
+    }
+
+    /**
+     * 점수 기준 시각 재조정 (가중치가 계속 커지지 않도록)
+     * - 원자적 스크립트로 실행되므로 리더 락 없이 모든 노드에서 실행
+     */
+    @Scheduled(
+            initialDelayString = "${board.trending.rebase-interval-ms:3600000}",
+            fixedDelayString = "${board.trending.rebase-interval-ms:3600000}"
+    )
+    public void rebase() {
+        try {
+            long remaining = postTrendingStore.rebase(halfLife, KEEP_SIZE, MIN_SCORE);
+            log.debug("인기 게시글 점수 재조정 완료 - 남은 게시글: {}", remaining);
+        } catch (Exception e) {
+            log.error("인기 게시글 점수 재조정 실패", e);
+        }
+    }
+
+    // -------------------- 내부 메서드 --------------------
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
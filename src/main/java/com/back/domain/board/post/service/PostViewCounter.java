@@ -0,0 +1,134 @@
+package com.back.domain.board.post.service;
+
+import com.back.domain.board.post.repository.PostStatsRepository;
+import com.back.domain.board.post.store.PostDetailStore;
+import com.back.domain.board.post.store.PostDetailStore.Counter;
+import com.back.domain.board.post.store.PostViewStore;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게시글 조회수 집계기 (중복 제거 + 메모리 누적 + 배치 반영)
+ * - 조회자(로그인 사용자 ID, 비로그인은 클라이언트 IP)별 Redis Key(SET NX EX)로
+ *   같은 조회자의 반복 조회는 윈도우 동안 1회만 집계
+ * - 집계된 조회는 게시글별 증가분으로 메모리에만 누적하고 (조회 경로에 DB 쓰기 없음)
+ *   주기적으로 post_stats에 배치 UPSERT, 실패 시 증가분을 되돌려 다음 주기에 재시도
+ * - 인스턴스마다 자신의 증가분만 더하므로 리더 락 없이 모든 노드에서 실행
+ * - 캐시된 상세 스냅샷의 조회수는 집계 즉시 반영 (DB 값은 반영 주기만큼 늦음)
+ * - Redis 장애 시에는 중복 여부를 알 수 없으므로 집계하지 않음
+ */
+@Slf4j
+@Component
+public class PostViewCounter {
+
+    private final PostViewStore postViewStore;
+    private final PostDetailStore postDetailStore;
+    private final PostStatsRepository postStatsRepository;
+    private final Duration dedupeWindow;
+    private final int batchSize;
+
+    private final ConcurrentHashMap<Long, Long> pendingViews = new ConcurrentHashMap<>();
+
+    public PostViewCounter(PostViewStore postViewStore,
+                           PostDetailStore postDetailStore,
+                           PostStatsRepository postStatsRepository,
+                           @Value("${board.view-count.dedupe-window-minutes:30}") long dedupeWindowMinutes,
+                           @Value("${board.view-count.batch-size:500}") int batchSize) {
+        this.postViewStore = postViewStore;
+        this.postDetailStore = postDetailStore;
+        this.postStatsRepository = postStatsRepository;
+        this.dedupeWindow = Duration.ofMinutes(dedupeWindowMinutes);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 게시글 조회 기록
+     *
+     * @param postId   게시글 ID
+     * @param userId   사용자 ID (비로그인 시 null)
+     * @param clientIp 클라이언트 IP (비로그인 조회자 식별용)
+     */
+    public void recordView(Long postId, Long userId, String clientIp) {
+        String viewerKey = userId != null ? "u:" + userId : "ip:" + clientIp;
+        try {
+            if (!postViewStore.addViewer(postId, viewerKey, dedupeWindow)) {
+                return;
+            }
+        } catch (Exception e) {
+            log.debug("조회자 기록 실패로 조회수 미집계 - PostId: {}", postId, e);
+            return;
+        }
+
+        pendingViews.merge(postId, 1L, Long::sum);
+
+        try {
+            postDetailStore.incrementIfLoaded(postId, Counter.VIEW, 1);
+        } catch (Exception e) {
+            log.debug("상세 캐시 조회수 반영 실패 - PostId: {}", postId, e);
+        }
+    }
+
+    /**
+     * 누적된 조회수 증가분을 배치 반영
+     * - 게시글별로 remove하여 가져오므로 반영 중에 들어온 조회는 다음 주기로 넘어감
+     * - 실패 시 증가분을 다시 더해 다음 주기에 재시도
+     */
+    @Scheduled(
+            initialDelayString = "${board.view-count.flush-interval-ms:10000}",
+            fixedDelayString = "${board.view-count.flush-interval-ms:10000}"
+    )
+    public void flush() {
+        if (pendingViews.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Long> deltas = new HashMap<>();
+        for (Long postId : pendingViews.keySet()) {
+            Long delta = pendingViews.remove(postId);
+            if (delta != null) {
+                deltas.put(postId, delta);
+            }
+        }
+
+        List<Long> postIds = new ArrayList<>(deltas.keySet());
+        for (int from = 0; from < postIds.size(); from += batchSize) {
+            List<Long> chunk = postIds.subList(from, Math.min(from + batchSize, postIds.size()));
+            Map<Long, Long> chunkDeltas = new HashMap<>();
+            chunk.forEach(postId -> chunkDeltas.put(postId, deltas.get(postId)));
+
+            try {
+                postStatsRepository.bulkAddViews(chunkDeltas);
+            } catch (Exception e) {
+                chunkDeltas.forEach((postId, delta) -> pendingViews.merge(postId, delta, Long::sum));
+                log.error("게시글 조회수 반영 실패 - 다음 주기에 재시도, 게시글: {}", chunkDeltas.size(), e);
+            }
+        }
+
+        log.debug("게시글 조회수 반영 완료 - 게시글: {}", deltas.size());
+    }
+
+    /**
+     * 종료 시 남은 증가분 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+        if (!pendingViews.isEmpty()) {
+            log.error("종료 시 게시글 조회수 반영 실패 - 남은 게시글: {}", pendingViews.size());
+        }
+    }
+
+    public int pendingCount() {
+        return pendingViews.size();
+    }
+}
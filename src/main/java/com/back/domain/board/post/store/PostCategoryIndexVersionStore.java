@@ -0,0 +1,62 @@
+package com.back.domain.board.post.store;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 게시글 카테고리 색인 변경 버전 (인스턴스 간 무효화)
+ * - post:category-index:version → HASH(writes: 모든 색인 변경 횟수, removals: 매핑 제거가 포함된 변경 횟수)
+ * - 각 인스턴스는 마지막으로 동기화한 버전을 기억하고, 조회 시 writes가 다르면 색인 대신 DB로 조회
+ * - 동기화 시 removals가 바뀌었으면 전체 재색인, writes만 바뀌었으면 추가된 매핑만 반영
+ */
+@Component
+@RequiredArgsConstructor
+public class PostCategoryIndexVersionStore {
+
+    private static final String VERSION_KEY = "post:category-index:version";
+    private static final String WRITES_FIELD = "writes";
+    private static final String REMOVALS_FIELD = "removals";
+
+    // removals와 writes를 함께 올려, writes만 바뀐 상태를 보고 증분 동기화하는 일이 없도록 함
+    private static final RedisScript<Long> BUMP_SCRIPT = new DefaultRedisScript<>(
+            "if ARGV[1] == '1' then redis.call('hincrby', KEYS[1], 'removals', 1) end; " +
+            "return redis.call('hincrby', KEYS[1], 'writes', 1)",
+            Long.class
+    );
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * @param writes   모든 색인 변경 횟수
+     * @param removals 매핑 제거가 포함된 변경 횟수
+     */
+    public record Version(long writes, long removals) {
+    }
+
+    public Version read() {
+        List<Object> values = redisTemplate.opsForHash().multiGet(VERSION_KEY, List.of(WRITES_FIELD, REMOVALS_FIELD));
+        return new Version(toLong(values.get(0)), toLong(values.get(1)));
+    }
+
+    public long readWrites() {
+        return toLong(redisTemplate.opsForHash().get(VERSION_KEY, WRITES_FIELD));
+    }
+
+    /**
+     * 색인 변경 기록 (커밋 이후 호출)
+     *
+     * @param removal 매핑 제거(게시글 삭제, 카테고리 변경) 포함 여부
+     */
+    public void bump(boolean removal) {
+        redisTemplate.execute(BUMP_SCRIPT, List.of(VERSION_KEY), removal ? "1" : "0");
+    }
+
+    private static long toLong(Object value) {
+        return value != null ? Long.parseLong(value.toString()) : 0L;
+    }
+}
@@ -0,0 +1,332 @@
+package com.back.domain.board.post.store;
+
+import com.back.domain.board.post.dto.PostDetailResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 게시글 상세 스냅샷 + 사용자별 좋아요/북마크 게시글 ID Redis 저장소
+ * - post:detail:{postId} → Hash (body: 상세 응답 JSON, viewCount/likeCount/bookmarkCount/commentCount: 카운터)
+ *   본문/작성자/카테고리/첨부 이미지는 수정/삭제 시 무효화, 카운터는 적재된 경우에만 HINCRBY로 반영
+ * - user:post-likes:{userId}, user:post-bookmarks:{userId} → Set<postId>
+ *   좋아요가 없는 사용자도 캐시할 수 있도록 센티널 멤버(0)를 함께 저장
+ *   (Key 없음 = 캐시 미적재, 센티널만 있음 = 0개)
+ * - 사용자 Set 적재 토큰: user:post-likes:{userId}:loading, user:post-bookmarks:{userId}:loading
+ *   DB 조회 전에 토큰을 기록하고, 좋아요/북마크 변경 반영 시 토큰을 지워 조회 도중 커밋된 변경을 놓친 Set은 적재하지 않음
+ * - 상세 조회는 HGETALL + SISMEMBER를 파이프라인 1회로 처리
+ */
+@Component
+@RequiredArgsConstructor
+public class PostDetailStore {
+
+    private static final String DETAIL_KEY_PREFIX = "post:detail:";
+    private static final String LIKES_KEY_PREFIX = "user:post-likes:";
+    private static final String BOOKMARKS_KEY_PREFIX = "user:post-bookmarks:";
+
+    private static final String BODY_FIELD = "body";
+    private static final String SENTINEL = "0";
+    private static final String LOAD_TOKEN_SUFFIX = ":loading";
+
+    private static final Duration DETAIL_TTL = Duration.ofMinutes(10);
+    private static final Duration USER_SET_TTL = Duration.ofHours(1);
+    private static final Duration LOAD_TOKEN_TTL = Duration.ofSeconds(30);
+
+    private static final RedisScript<Long> INCREMENT_IF_LOADED_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('exists', KEYS[1]) == 1 then " +
+            "local value = redis.call('hincrby', KEYS[1], ARGV[1], ARGV[2]); " +
+            "if value < 0 then redis.call('hset', KEYS[1], ARGV[1], 0); value = 0 end; " +
+            "return value else return -1 end",
+            Long.class
+    );
+
+    // KEYS[2]: 적재 토큰 (진행 중인 적재가 이 변경을 놓쳤을 수 있으므로 함께 삭제)
+    private static final RedisScript<Long> ADD_IF_LOADED_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('del', KEYS[2]); " +
+            "if redis.call('exists', KEYS[1]) == 1 then " +
+            "redis.call('sadd', KEYS[1], ARGV[1]); redis.call('expire', KEYS[1], ARGV[2]); return 1 " +
+            "else return 0 end",
+            Long.class
+    );
+
+    // 적재 토큰이 그대로일 때만 Set 교체 (ARGV[1]: 토큰, ARGV[2]: TTL, ARGV[3..]: 멤버)
+    private static final RedisScript<Long> SAVE_IF_TOKEN_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[2]) ~= ARGV[1] then return 0 end; " +
+            "redis.call('del', KEYS[2]); redis.call('del', KEYS[1]); " +
+            "for i = 3, #ARGV, 1000 do " +
+            "redis.call('sadd', KEYS[1], unpack(ARGV, i, math.min(i + 999, #ARGV))) end; " +
+            "redis.call('expire', KEYS[1], ARGV[2]); return 1",
+            Long.class
+    );
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 상세 스냅샷 카운터
+     */
+    public enum Counter {
+        VIEW("viewCount"),
+        LIKE("likeCount"),
+        BOOKMARK("bookmarkCount"),
+        COMMENT("commentCount");
+
+        private final String field;
+
+        Counter(String field) {
+            this.field = field;
+        }
+    }
+
+    /**
+     * 상세 조회 결과
+     *
+     * @param detail         캐시된 상세 응답 (미적재 시 null)
+     * @param likedByMe      좋아요 여부 (사용자 Set 미적재 시 null)
+     * @param bookmarkedByMe 북마크 여부 (사용자 Set 미적재 시 null)
+     */
+    public record Lookup(
+            PostDetailResponse detail,
+            Boolean likedByMe,
+            Boolean bookmarkedByMe
+    ) {}
+
+    /**
+     * 상세 스냅샷과 사용자 좋아요/북마크 여부 조회 (파이프라인 1회)
+     *
+     * @param userId 사용자 ID (비로그인 시 null, Set 조회 생략)
+     */
+    public Lookup lookup(Long postId, Long userId) {
+        String member = String.valueOf(postId);
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                ops.opsForHash().entries(buildDetailKey(postId));
+                if (userId != null) {
+                    ops.opsForSet().isMember(buildLikesKey(userId), SENTINEL);
+                    ops.opsForSet().isMember(buildLikesKey(userId), member);
+                    ops.opsForSet().isMember(buildBookmarksKey(userId), SENTINEL);
+                    ops.opsForSet().isMember(buildBookmarksKey(userId), member);
+                }
+                return null;
+            }
+        });
+
+        PostDetailResponse detail = toDetail(results.get(0));
+        if (userId == null) {
+            return new Lookup(detail, null, null);
+        }
+        return new Lookup(detail, membership(results, 1), membership(results, 3));
+    }
+
+    /**
+     * DB에서 읽은 상세 응답으로 스냅샷 적재 (조회 사용자별 값은 저장하지 않음)
+     */
+    public void saveSnapshot(PostDetailResponse detail) {
+        String key = buildDetailKey(detail.postId());
+        Map<String, String> fields;
+        try {
+            fields = Map.of(
+                    BODY_FIELD, objectMapper.writeValueAsString(detail.withViewerState(false, false)),
+                    Counter.VIEW.field, String.valueOf(detail.viewCount()),
+                    Counter.LIKE.field, String.valueOf(detail.likeCount()),
+                    Counter.BOOKMARK.field, String.valueOf(detail.bookmarkCount()),
+                    Counter.COMMENT.field, String.valueOf(detail.commentCount())
+            );
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("게시글 상세 캐시 직렬화 실패 - postId: " + detail.postId(), e);
+        }
+
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                ops.opsForHash().putAll(key, fields);
+                ops.expire(key, DETAIL_TTL);
+                return null;
+            }
+        });
+    }
+
+    /**
+     * 스냅샷 무효화 (다음 조회 시 DB에서 다시 적재)
+     */
+    public void evictSnapshot(Long postId) {
+        redisTemplate.delete(buildDetailKey(postId));
+    }
+
+    /**
+     * 스냅샷 카운터 증감 (스냅샷이 적재된 경우에만, 0 미만으로 내려가지 않음)
+     */
+    public void incrementIfLoaded(Long postId, Counter counter, long delta) {
+        redisTemplate.execute(INCREMENT_IF_LOADED_SCRIPT, List.of(buildDetailKey(postId)),
+                counter.field, String.valueOf(delta));
+    }
+
+    /**
+     * 좋아요 Set 적재 시작 (DB 조회 전에 호출)
+     *
+     * @return 적재 토큰 (saveLikes에 전달)
+     */
+    public String beginLikesLoad(Long userId) {
+        return beginLoad(buildLikesKey(userId));
+    }
+
+    /**
+     * 북마크 Set 적재 시작 (DB 조회 전에 호출)
+     *
+     * @return 적재 토큰 (saveBookmarks에 전달)
+     */
+    public String beginBookmarksLoad(Long userId) {
+        return beginLoad(buildBookmarksKey(userId));
+    }
+
+    /**
+     * DB에서 읽은 좋아요 게시글 ID 전체로 사용자 Set 적재
+     * - 조회 도중 좋아요 변경이 반영되어 토큰이 지워졌으면 적재하지 않음 (다음 조회에서 다시 적재)
+     *
+     * @return 적재 여부
+     */
+    public boolean saveLikes(Long userId, String loadToken, Collection<Long> postIds) {
+        return saveUserSet(buildLikesKey(userId), loadToken, postIds);
+    }
+
+    /**
+     * DB에서 읽은 북마크 게시글 ID 전체로 사용자 Set 적재 (saveLikes와 동일)
+     */
+    public boolean saveBookmarks(Long userId, String loadToken, Collection<Long> postIds) {
+        return saveUserSet(buildBookmarksKey(userId), loadToken, postIds);
+    }
+
+    /**
+     * 좋아요 추가 반영 (Set이 적재된 경우에만)
+     */
+    public void addLikeIfLoaded(Long userId, Long postId) {
+        addIfLoaded(buildLikesKey(userId), postId);
+    }
+
+    /**
+     * 좋아요 취소 반영 (센티널은 남으므로 적재 상태 유지)
+     */
+    public void removeLike(Long userId, Long postId) {
+        remove(buildLikesKey(userId), postId);
+    }
+
+    public void addBookmarkIfLoaded(Long userId, Long postId) {
+        addIfLoaded(buildBookmarksKey(userId), postId);
+    }
+
+    public void removeBookmark(Long userId, Long postId) {
+        remove(buildBookmarksKey(userId), postId);
+    }
+
+    /**
+     * 사용자 Set 무효화 (진행 중인 적재도 취소)
+     */
+    public void evictUser(Long userId) {
+        String likesKey = buildLikesKey(userId);
+        String bookmarksKey = buildBookmarksKey(userId);
+        redisTemplate.delete(List.of(likesKey, bookmarksKey, likesKey + LOAD_TOKEN_SUFFIX, bookmarksKey + LOAD_TOKEN_SUFFIX));
+    }
+
+    // -------------------- 내부 메서드 --------------------
+
+    private PostDetailResponse toDetail(Object result) {
+        if (!(result instanceof Map<?, ?> fields) || fields.get(BODY_FIELD) == null) {
+            return null;
+        }
+        try {
+            PostDetailResponse detail = objectMapper.readValue(fields.get(BODY_FIELD).toString(), PostDetailResponse.class);
+            return detail.withCounts(
+                    count(fields, Counter.VIEW),
+                    count(fields, Counter.LIKE),
+                    count(fields, Counter.BOOKMARK),
+                    count(fields, Counter.COMMENT)
+            );
+        } catch (JsonProcessingException | NumberFormatException e) {
+            // 이전 형식 값은 캐시 미스로 처리
+            return null;
+        }
+    }
+
+    private static long count(Map<?, ?> fields, Counter counter) {
+        Object value = fields.get(counter.field);
+        return value != null ? Long.parseLong(value.toString()) : 0L;
+    }
+
+    /**
+     * 센티널이 있으면(Set 적재됨) 게시글 포함 여부, 없으면 null
+     */
+    private static Boolean membership(List<Object> results, int sentinelIndex) {
+        if (!Boolean.TRUE.equals(results.get(sentinelIndex))) {
+            return null;
+        }
+        return Boolean.TRUE.equals(results.get(sentinelIndex + 1));
+    }
+
+    private String beginLoad(String key) {
+        String token = UUID.randomUUID().toString();
+        redisTemplate.opsForValue().set(key + LOAD_TOKEN_SUFFIX, token, LOAD_TOKEN_TTL);
+        return token;
+    }
+
+    private boolean saveUserSet(String key, String loadToken, Collection<Long> postIds) {
+        Object[] args = new Object[postIds.size() + 3];
+        args[0] = loadToken;
+        args[1] = String.valueOf(USER_SET_TTL.toSeconds());
+        args[2] = SENTINEL;
+        int i = 3;
+        for (Long postId : postIds) {
+            args[i++] = String.valueOf(postId);
+        }
+
+        Long saved = redisTemplate.execute(SAVE_IF_TOKEN_SCRIPT, List.of(key, key + LOAD_TOKEN_SUFFIX), args);
+        return saved != null && saved == 1L;
+    }
+
+    private void addIfLoaded(String key, Long postId) {
+        redisTemplate.execute(ADD_IF_LOADED_SCRIPT, List.of(key, key + LOAD_TOKEN_SUFFIX),
+                String.valueOf(postId), String.valueOf(USER_SET_TTL.toSeconds()));
+    }
+
+    private void remove(String key, Long postId) {
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                ops.delete(key + LOAD_TOKEN_SUFFIX);
+                ops.opsForSet().remove(key, String.valueOf(postId));
+                return null;
+            }
+        });
+    }
+
+    private String buildDetailKey(Long postId) {
+        return DETAIL_KEY_PREFIX + postId;
+    }
+
+    private String buildLikesKey(Long userId) {
+        return LIKES_KEY_PREFIX + userId;
+    }
+
+    private String buildBookmarksKey(Long userId) {
+        return BOOKMARKS_KEY_PREFIX + userId;
+    }
+}
@@ -0,0 +1,120 @@
+package com.back.domain.board.post.store;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 인기 게시글 Redis Sorted Set
+ * - post:trending → ZSET(postId, 점수), post:trending:epoch → 점수 기준 시각(초)
+ * - post:trending:reactors:{postId} → SET(반응 종류:사용자 ID), 같은 사용자의 같은 반응은 중복 제거 구간 동안 한 번만 반영
+ *   (좋아요 취소 후 다시 누르기, 댓글 여러 개 작성 등으로 점수를 올리지 못하도록 함)
+ * - 시간 감쇠는 기존 점수를 줄이는 대신 새 반응의 가중치를 2^((now - epoch) / 반감기)배로 키워 표현
+ *   (반응 하나의 현재 가치 = 가중치 × 2^(-(경과 시간) / 반감기), 모든 게시글에 같은 비율이 적용되므로 순위는 동일)
+ *   → 반응 1건당 ZINCRBY 1회, 상위 N개 조회는 ZREVRANGE 1회
+ * - 가중치가 계속 커지므로 주기적으로 기준 시각을 현재로 옮기면서 전체 점수를 같은 비율로 줄이고,
+ *   상위 보관 개수 밖이거나 충분히 감쇠된 게시글은 함께 제거
+ */
+@Component
+@RequiredArgsConstructor
+public class PostTrendingStore {
+
+    private static final String TRENDING_KEY = "post:trending";
+    private static final String EPOCH_KEY = "post:trending:epoch";
+    private static final String REACTORS_KEY_PREFIX = "post:trending:reactors:";
+
+    private static final RedisScript<Long> ADD_SCORE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('sadd', KEYS[3], ARGV[5]) == 0 then return 0 end; " +
+            "redis.call('expire', KEYS[3], ARGV[6]); " +
+            "local now = tonumber(ARGV[3]); " +
+            "local epoch = tonumber(redis.call('get', KEYS[2])); " +
+            "if not epoch then epoch = now; redis.call('set', KEYS[2], ARGV[3]) end; " +
+            "redis.call('zincrby', KEYS[1], tonumber(ARGV[2]) * math.pow(2, (now - epoch) / tonumber(ARGV[4])), ARGV[1]); " +
+            "return 1",
+            Long.class
+    );
+
+    private static final RedisScript<Long> REBASE_SCRIPT = new DefaultRedisScript<>(
+            "local now = tonumber(ARGV[1]); " +
+            "local epoch = tonumber(redis.call('get', KEYS[2])); " +
+            "if not epoch then return 0 end; " +
+            "local factor = math.pow(2, -(now - epoch) / tonumber(ARGV[2])); " +
+            "redis.call('zremrangebyrank', KEYS[1], 0, -tonumber(ARGV[3]) - 1); " +
+            "local entries = redis.call('zrange', KEYS[1], 0, -1, 'WITHSCORES'); " +
+            "for i = 1, #entries, 2 do redis.call('zadd', KEYS[1], tonumber(entries[i + 1]) * factor, entries[i]) end; " +
+            "redis.call('zremrangebyscore', KEYS[1], '-inf', '(' .. ARGV[4]); " +
+            "redis.call('set', KEYS[2], ARGV[1]); " +
+            "return redis.call('zcard', KEYS[1])",
+            Long.class
+    );
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 반응 점수 반영 (기준 시각이 없으면 현재 시각으로 초기화)
+     * - 같은 반응자가 중복 제거 구간 안에 다시 반응하면 반영하지 않음 (새 반응자가 추가될 때마다 구간 연장)
+     *
+     * @param reactor     반응자 키 (반응 종류:사용자 ID)
+     * @param weight      반응 가중치
+     * @param halfLife    점수 반감기
+     * @param dedupeWindow 중복 제거 구간
+     * @return 점수가 반영되었으면 true
+     */
+    public boolean addScore(Long postId, String reactor, double weight, Duration halfLife, Duration dedupeWindow) {
+        Long added = redisTemplate.execute(ADD_SCORE_SCRIPT,
+                List.of(TRENDING_KEY, EPOCH_KEY, REACTORS_KEY_PREFIX + postId),
+                String.valueOf(postId),
+                String.valueOf(weight),
+                String.valueOf(nowSeconds()),
+                String.valueOf(halfLife.toSeconds()),
+                reactor,
+                String.valueOf(dedupeWindow.toSeconds()));
+        return added != null && added == 1L;
+    }
+
+    /**
+     * 점수 높은 순 게시글 ID 조회
+     */
+    public List<Long> findTopPostIds(int limit) {
+        Set<String> members = redisTemplate.opsForZSet().reverseRange(TRENDING_KEY, 0, limit - 1L);
+        if (members == null) {
+            return List.of();
+        }
+        return members.stream().map(Long::valueOf).toList();
+    }
+
+    /**
+     * 게시글 제거 (삭제 시)
+     */
+    public void remove(Long postId) {
+        redisTemplate.opsForZSet().remove(TRENDING_KEY, String.valueOf(postId));
+        redisTemplate.delete(REACTORS_KEY_PREFIX + postId);
+    }
+
+    /**
+     * 기준 시각을 현재로 옮기며 전체 점수 재조정
+     *
+     * @param halfLife 점수 반감기
+     * @param keep     보관할 최대 게시글 수
+     * @param minScore 재조정 후 이 점수 미만인 게시글 제거
+     * @return 남은 게시글 수
+     */
+    public long rebase(Duration halfLife, int keep, double minScore) {
+        Long remaining = redisTemplate.execute(REBASE_SCRIPT, List.of(TRENDING_KEY, EPOCH_KEY),
+                String.valueOf(nowSeconds()),
+                String.valueOf(halfLife.toSeconds()),
+                String.valueOf(keep),
+                String.valueOf(minScore));
+        return remaining != null ? remaining : 0L;
+    }
+
+    private static long nowSeconds() {
+        return System.currentTimeMillis() / 1000;
+    }
+}
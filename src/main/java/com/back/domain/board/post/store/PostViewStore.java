@@ -0,0 +1,34 @@
+package com.back.domain.board.post.store;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 게시글 조회자 중복 제거용 Redis Key
+ * - post:viewed:{postId}:{viewerKey} → "1" (SET NX EX), 처음 조회한 시점부터 윈도우 동안 유지 후 만료
+ * - Key가 새로 만들어졌을 때만 새 조회자로 보고 조회수 증가 (같은 조회자의 재조회는 윈도우 동안 집계하지 않음)
+ * - 조회자 수와 관계없이 정확하게 판정하며, 메모리는 윈도우 안의 (게시글, 조회자) 쌍 수에 비례
+ */
+@Component
+@RequiredArgsConstructor
+public class PostViewStore {
+
+    private static final String KEY_PREFIX = "post:viewed:";
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 윈도우 내 새 조회자인지 기록
+     *
+     * @param viewerKey 조회자 키 (로그인 사용자 ID 또는 클라이언트 IP)
+     * @param window    중복 제거 구간 길이
+     * @return 새 조회자면 true
+     */
+    public boolean addViewer(Long postId, String viewerKey, Duration window) {
+        Boolean added = redisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + postId + ":" + viewerKey, "1", window);
+        return Boolean.TRUE.equals(added);
+    }
+}
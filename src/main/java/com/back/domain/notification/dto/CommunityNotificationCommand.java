@@ -0,0 +1,23 @@
+package com.back.domain.notification.dto;
+
+import com.back.domain.notification.entity.NotificationSettingType;
+
+/**
+ * 커뮤니티 알림 생성 요청 (배치 저장 단위)
+ *
+ * @param receiverId  수신자 ID (게시글/댓글 작성자)
+ * @param actorId     발신자 ID (댓글 작성자, 좋아요 누른 사람)
+ * @param title       알림 제목
+ * @param content     알림 본문
+ * @param targetUrl   이동 경로
+ * @param settingType 실시간 전송 여부를 판단할 알림 설정 타입
+ */
+public record CommunityNotificationCommand(
+        Long receiverId,
+        Long actorId,
+        String title,
+        String content,
+        String targetUrl,
+        NotificationSettingType settingType
+) {
+}
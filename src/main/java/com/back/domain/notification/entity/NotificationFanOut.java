@@ -0,0 +1,56 @@
+package com.back.domain.notification.entity;
+
+import com.back.global.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 룸/시스템 알림 팬아웃 진행 상태 (아웃박스)
+ * - 알림 저장과 같은 트랜잭션에서 기록되므로, 커밋 이후 비동기 팬아웃이 실패하거나 노드가 중단되어도 남아 재시도 대상이 됨
+ * - 룸 알림: 팬아웃이 끝나면 삭제
+ * - 시스템 알림: 알림 생성 시점의 사용자 ID 상한(targetUserId)까지 기록을 마친 사용자 ID 상한(lastUserId)을 갱신하며 진행,
+ *   targetUserId에 도달하면 삭제
+ * - nextAttemptAt 이전에는 재시도하지 않음 (진행 중인 팬아웃과 재시도가 겹치지 않도록 진행할 때마다 미룸)
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(
+        name = "notification_fan_out",
+        indexes = @Index(name = "idx_notification_fan_out_next_attempt", columnList = "next_attempt_at")
+)
+public class NotificationFanOut extends BaseEntity {
+
+    @Column(name = "notification_id", nullable = false, unique = true)
+    private Long notificationId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private NotificationType type;
+
+    @Column(nullable = false)
+    private long targetUserId; // 시스템 알림: 수신 대상 사용자 ID 상한 (알림 생성 시점)
+
+    @Column(nullable = false)
+    private long lastUserId; // 시스템 알림: 알림함 기록을 마친 사용자 ID 상한
+
+    @Column(nullable = false)
+    private int attempts; // 재시도 횟수
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    private NotificationFanOut(Long notificationId, NotificationType type, long targetUserId, LocalDateTime nextAttemptAt) {
+        this.notificationId = notificationId;
+        this.type = type;
+        this.targetUserId = targetUserId;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public static NotificationFanOut create(Notification notification, long targetUserId, LocalDateTime nextAttemptAt) {
+        return new NotificationFanOut(notification.getId(), notification.getType(), targetUserId, nextAttemptAt);
+    }
+}
@@ -0,0 +1,44 @@
+package com.back.domain.notification.entity;
+
+import com.back.domain.user.common.entity.User;
+import com.back.global.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자별 알림함 엔티티
+ * - 알림 생성 시점에 수신 대상 사용자마다 한 행씩 기록 (개인/커뮤니티는 즉시, 룸/시스템은 비동기 배치 팬아웃)
+ * - 피드 조회는 (user_id, created_at) 인덱스 범위 탐색 1회로 처리
+ * - 팬아웃 행의 created_at은 알림의 생성 일시를 그대로 복사 (팬아웃 시점과 무관하게 알림 순서 유지)
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(
+        name = "notification_inbox",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_notification_inbox_user_notification",
+                columnNames = {"user_id", "notification_id"}
+        ),
+        indexes = @Index(name = "idx_notification_inbox_user_created", columnList = "user_id, created_at")
+)
+public class NotificationInbox extends BaseEntity {
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "notification_id", nullable = false)
+    private Notification notification;
+
+    private NotificationInbox(User user, Notification notification) {
+        this.user = user;
+        this.notification = notification;
+    }
+
+    public static NotificationInbox create(User user, Notification notification) {
+        return new NotificationInbox(user, notification);
+    }
+}
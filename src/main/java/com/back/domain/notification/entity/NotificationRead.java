@@ -11,6 +11,9 @@ import java.time.LocalDateTime;
 @Entity
 @Getter
 @NoArgsConstructor
+@Table(
+        indexes = @Index(name = "idx_notification_read_user_notification", columnList = "user_id, notification_id")
+)
 public class NotificationRead extends BaseEntity {
 
     @ManyToOne(fetch = FetchType.LAZY)
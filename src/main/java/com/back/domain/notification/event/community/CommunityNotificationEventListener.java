@@ -1,113 +1,116 @@
 package com.back.domain.notification.event.community;
 
+import com.back.domain.notification.dto.CommunityNotificationCommand;
 import com.back.domain.notification.entity.NotificationSettingType;
-import com.back.domain.notification.service.NotificationService;
+import com.back.domain.notification.service.CommunityNotificationBatcher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
-
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 커뮤니티 알림 이벤트 리스너
+ * - 이벤트마다 알림을 저장하지 않고 CommunityNotificationBatcher에 적재만 함 (저장/전송은 배치 주기에 일괄 처리)
+ * - 적재는 메모리 큐 연산뿐이므로 별도 비동기 실행기를 거치지 않음
+ * - 발행한 트랜잭션이 커밋된 뒤에만 적재 (롤백된 댓글/좋아요는 알림을 만들지 않음)
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class CommunityNotificationEventListener {
 
-    private final NotificationService notificationService;
+    private final CommunityNotificationBatcher notificationBatcher;
 
     // 댓글 작성 시 - 게시글 작성자에게 알림
-    @EventListener
-    @Async("notificationExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
     public void handleCommentCreated(CommentCreatedEvent event) {
         log.info("[알림] 댓글 작성: postId={}, commentId={}, actorId={}",
                 event.getPostId(), event.getCommentId(), event.getActorId());
 
         try {
-            notificationService.createCommunityNotification(
+            notificationBatcher.enqueue(new CommunityNotificationCommand(
                     event.getReceiverId(),
                     event.getActorId(),
                     event.getTitle(),
                     event.getContent(),
                     "/posts/" + event.getPostId(),
                     NotificationSettingType.POST_COMMENT
-            );
+            ));
 
-            log.info("[알림] 댓글 작성 알림 전송 완료");
+            log.info("[알림] 댓글 작성 알림 적재 완료");
 
         } catch (Exception e) {
-            log.error("[알림] 댓글 작성 알림 전송 실패: error={}", e.getMessage(), e);
+            log.error("[알림] 댓글 작성 알림 적재 실패: error={}", e.getMessage(), e);
         }
     }
 
     // 대댓글 작성 시 - 댓글 작성자에게 알림
-    @EventListener
-    @Async("notificationExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
     public void handleReplyCreated(ReplyCreatedEvent event) {
         log.info("[알림] 대댓글 작성: parentCommentId={}, replyId={}, actorId={}",
                 event.getParentCommentId(), event.getReplyId(), event.getActorId());
 
         try {
-            notificationService.createCommunityNotification(
+            notificationBatcher.enqueue(new CommunityNotificationCommand(
                     event.getReceiverId(),
                     event.getActorId(),
                     event.getTitle(),
                     event.getContent(),
                     "/posts/" + event.getPostId() + "#comment-" + event.getParentCommentId(),
                     NotificationSettingType.POST_COMMENT
-            );
+            ));
 
-            log.info("[알림] 대댓글 작성 알림 전송 완료");
+            log.info("[알림] 대댓글 작성 알림 적재 완료");
 
         } catch (Exception e) {
-            log.error("[알림] 대댓글 작성 알림 전송 실패: error={}", e.getMessage(), e);
+            log.error("[알림] 대댓글 작성 알림 적재 실패: error={}", e.getMessage(), e);
         }
     }
 
     // 게시글 좋아요 시 - 게시글 작성자에게 알림
-    @EventListener
-    @Async("notificationExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
     public void handlePostLiked(PostLikedEvent event) {
         log.info("[알림] 게시글 좋아요: postId={}, actorId={}",
                 event.getPostId(), event.getActorId());
 
         try {
-            notificationService.createCommunityNotification(
+            notificationBatcher.enqueue(new CommunityNotificationCommand(
                     event.getReceiverId(),
                     event.getActorId(),
                     event.getTitle(),
                     event.getContent(),
                     "/posts/" + event.getPostId(),
                     NotificationSettingType.POST_LIKE
-            );
+            ));
 
-            log.info("[알림] 게시글 좋아요 알림 전송 완료");
+            log.info("[알림] 게시글 좋아요 알림 적재 완료");
 
         } catch (Exception e) {
-            log.error("[알림] 게시글 좋아요 알림 전송 실패: error={}", e.getMessage(), e);
+            log.error("[알림] 게시글 좋아요 알림 적재 실패: error={}", e.getMessage(), e);
         }
     }
 
     // 댓글 좋아요 시 - 댓글 작성자에게 알림
-    @EventListener
-    @Async("notificationExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
     public void handleCommentLiked(CommentLikedEvent event) {
         log.info("[알림] 댓글 좋아요: commentId={}, actorId={}",
                 event.getCommentId(), event.getActorId());
 
         try {
-            notificationService.createCommunityNotification(
+            notificationBatcher.enqueue(new CommunityNotificationCommand(
                     event.getReceiverId(),
                     event.getActorId(),
                     event.getTitle(),
                     event.getContent(),
                     "/posts/" + event.getPostId() + "#comment-" + event.getCommentId(),
                     NotificationSettingType.POST_LIKE
-            );
+            ));
 
-            log.info("[알림] 댓글 좋아요 알림 전송 완료");
+            log.info("[알림] 댓글 좋아요 알림 적재 완료");
 
         } catch (Exception e) {
-            log.error("[알림] 댓글 좋아요 알림 전송 실패: error={}", e.getMessage(), e);
+            log.error("[알림] 댓글 좋아요 알림 적재 실패: error={}", e.getMessage(), e);
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,53 @@
+package com.back.domain.notification.repository;
+
+import com.back.domain.notification.entity.NotificationFanOut;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 룸/시스템 알림 팬아웃 진행 상태 (완료 시 삭제)
+ * - 진행 상태 변경은 호출마다 별도 트랜잭션으로 커밋 (팬아웃 구간 커밋 직후 기록)
+ */
+public interface NotificationFanOutRepository extends JpaRepository<NotificationFanOut, Long> {
+
+    Optional<NotificationFanOut> findByNotificationId(Long notificationId);
+
+    /**
+     * 재시도 대상 (완료된 팬아웃은 삭제되므로 남아 있는 행은 모두 미완료)
+     */
+    @Query("SELECT f FROM NotificationFanOut f WHERE f.nextAttemptAt <= :now ORDER BY f.nextAttemptAt")
+    List<NotificationFanOut> findPending(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 시스템 알림 진행 기록 (이미 더 진행된 경우 되돌리지 않음)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE NotificationFanOut f SET f.lastUserId = :toUserId, f.nextAttemptAt = :nextAttemptAt " +
+           "WHERE f.notificationId = :notificationId AND f.lastUserId < :toUserId")
+    int advance(@Param("notificationId") Long notificationId,
+                @Param("toUserId") long toUserId,
+                @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+
+    /**
+     * 재시도 시작 기록 (재시도 횟수 증가, 다음 시도 시각 연기)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE NotificationFanOut f SET f.attempts = f.attempts + 1, f.nextAttemptAt = :nextAttemptAt " +
+           "WHERE f.id = :id")
+    int markAttempt(@Param("id") Long id, @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM NotificationFanOut f WHERE f.notificationId = :notificationId")
+    int deleteByNotificationId(@Param("notificationId") Long notificationId);
+}
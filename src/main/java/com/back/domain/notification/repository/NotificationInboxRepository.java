@@ -0,0 +1,91 @@
+package com.back.domain.notification.repository;
+
+import com.back.domain.notification.entity.NotificationInbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 사용자별 알림함
+ * - 룸/시스템 알림 팬아웃은 INSERT … SELECT 단일 문으로 처리 (수신자 ID를 애플리케이션으로 읽어오지 않음)
+ * - 모든 팬아웃은 이미 기록된 (user_id, notification_id)를 건너뛰므로 재시도해도 중복 행이 생기지 않음
+ * - 팬아웃 문은 호출마다 별도 트랜잭션으로 커밋 (시스템 알림은 사용자 ID 구간마다 짧게 커밋)
+ * - 배치 저장된 커뮤니티 알림은 JDBC 배치로 기록 (NotificationInboxRepositoryImpl)
+ */
+public interface NotificationInboxRepository extends JpaRepository<NotificationInbox, Long>, NotificationInboxRepositoryCustom {
+
+    /**
+     * 룸 알림을 현재 룸 멤버 전체의 알림함에 기록
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO notification_inbox (user_id, notification_id, created_at, updated_at) " +
+                   "SELECT rm.user_id, n.id, n.created_at, n.created_at " +
+                   "FROM notification n JOIN room_member rm ON rm.room_id = n.room_id " +
+                   "WHERE n.id = :notificationId " +
+                   "AND NOT EXISTS (SELECT 1 FROM notification_inbox i " +
+                   "WHERE i.user_id = rm.user_id AND i.notification_id = n.id)",
+           nativeQuery = true)
+    int fanOutToRoomMembers(@Param("notificationId") Long notificationId);
+
+    /**
+     * 시스템 알림을 사용자 ID 구간 (fromUserId, toUserId]의 알림함에 기록
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO notification_inbox (user_id, notification_id, created_at, updated_at) " +
+                   "SELECT u.id, n.id, n.created_at, n.created_at " +
+                   "FROM notification n JOIN users u ON u.id > :fromUserId AND u.id <= :toUserId " +
+                   "WHERE n.id = :notificationId " +
+                   "AND NOT EXISTS (SELECT 1 FROM notification_inbox i " +
+                   "WHERE i.user_id = u.id AND i.notification_id = n.id)",
+           nativeQuery = true)
+    int fanOutToUsers(@Param("notificationId") Long notificationId,
+                      @Param("fromUserId") Long fromUserId,
+                      @Param("toUserId") Long toUserId);
+
+    /**
+     * 알림함 도입 이전 알림 이관 (알림 ID 구간 (fromId, toId])
+     * - 개인/커뮤니티: 수신자, 룸: 현재 룸 멤버 (시스템 알림은 backfillSystem)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO notification_inbox (user_id, notification_id, created_at, updated_at) " +
+                   "SELECT t.user_id, t.notification_id, t.created_at, t.created_at FROM (" +
+                   "SELECT n.receiver_id AS user_id, n.id AS notification_id, n.created_at " +
+                   "FROM notification n WHERE n.id > :fromId AND n.id <= :toId AND n.receiver_id IS NOT NULL " +
+                   "UNION " +
+                   "SELECT rm.user_id, n.id, n.created_at " +
+                   "FROM notification n JOIN room_member rm ON rm.room_id = n.room_id " +
+                   "WHERE n.id > :fromId AND n.id <= :toId AND n.type = 'ROOM'" +
+                   ") t " +
+                   "WHERE NOT EXISTS (SELECT 1 FROM notification_inbox i " +
+                   "WHERE i.user_id = t.user_id AND i.notification_id = t.notification_id)",
+           nativeQuery = true)
+    int backfill(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    /**
+     * 알림함 도입 이전 시스템 알림 이관 (알림 ID 구간 (fromId, toId] × 사용자 ID 구간 (fromUserId, toUserId])
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO notification_inbox (user_id, notification_id, created_at, updated_at) " +
+                   "SELECT u.id, n.id, n.created_at, n.created_at " +
+                   "FROM notification n JOIN users u ON u.id > :fromUserId AND u.id <= :toUserId " +
+                   "WHERE n.id > :fromId AND n.id <= :toId AND n.type = 'SYSTEM' " +
+                   "AND NOT EXISTS (SELECT 1 FROM notification_inbox i " +
+                   "WHERE i.user_id = u.id AND i.notification_id = n.id)",
+           nativeQuery = true)
+    int backfillSystem(@Param("fromId") Long fromId,
+                       @Param("toId") Long toId,
+                       @Param("fromUserId") Long fromUserId,
+                       @Param("toUserId") Long toUserId);
+
+    /**
+     * 이관 대상 알림 ID 상한
+     */
+    @Query("SELECT COALESCE(MAX(n.id), 0) FROM Notification n")
+    long findMaxNotificationId();
+}
@@ -0,0 +1,14 @@
+package com.back.domain.notification.repository;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+public interface NotificationInboxRepositoryCustom {
+
+    /**
+     * 알림함 일괄 INSERT (JDBC 배치)
+     * @param receiverByNotificationId 알림 ID → 수신자 ID
+     * @param createdAt                알림 생성 일시 (알림함 정렬 기준)
+     */
+    void bulkInsert(Map<Long, Long> receiverByNotificationId, LocalDateTime createdAt);
+}
@@ -0,0 +1,42 @@
+package com.back.domain.notification.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 알림함 배치 저장소
+ * - IDENTITY 전략에서는 JPA saveAll이 배치되지 않으므로 JdbcTemplate.batchUpdate 사용
+ * - 배치 저장된 커뮤니티 알림의 수신자 행을 같은 트랜잭션에서 기록
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationInboxRepositoryImpl implements NotificationInboxRepositoryCustom {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO notification_inbox (user_id, notification_id, created_at, updated_at) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void bulkInsert(Map<Long, Long> receiverByNotificationId, LocalDateTime createdAt) {
+        if (receiverByNotificationId.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(receiverByNotificationId.entrySet());
+        Timestamp now = Timestamp.valueOf(createdAt);
+        jdbcTemplate.batchUpdate(INSERT_SQL, entries, entries.size(), (ps, entry) -> {
+            ps.setLong(1, entry.getValue());
+            ps.setLong(2, entry.getKey());
+            ps.setTimestamp(3, now);
+            ps.setTimestamp(4, now);
+        });
+    }
+}
@@ -2,7 +2,11 @@ package com.back.domain.notification.repository;
 
 import com.back.domain.notification.entity.NotificationRead;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 public interface NotificationReadRepository extends JpaRepository<NotificationRead, Long>, NotificationReadRepositoryCustom {
@@ -15,4 +19,20 @@ public interface NotificationReadRepository extends JpaRepository<NotificationRe
 
     // 특정 알림의 모든 읽음 기록 삭제
     void deleteByNotificationId(Long notificationId);
+
+    /**
+     * 특정 유저의 읽지 않은 알림 일괄 읽음 처리
+     * - 알림함에서 읽음 기록이 없는 알림만 골라 INSERT … SELECT 1회로 기록 (미읽음 개수와 무관하게 문 1개)
+     *
+     * @return 새로 기록된 읽음 기록 수
+     */
+    @Modifying
+    @Query(value = "INSERT INTO notification_read (notification_id, user_id, read_at, created_at, updated_at) " +
+                   "SELECT i.notification_id, i.user_id, :now, :now, :now " +
+                   "FROM notification_inbox i " +
+                   "WHERE i.user_id = :userId " +
+                   "AND NOT EXISTS (SELECT 1 FROM notification_read r " +
+                   "WHERE r.user_id = i.user_id AND r.notification_id = i.notification_id)",
+           nativeQuery = true)
+    int markAllAsRead(@Param("userId") Long userId, @Param("now") LocalDateTime now);
 }
@@ -1,14 +1,15 @@
 package com.back.domain.notification.repository;
 
+import com.back.domain.notification.dto.CommunityNotificationCommand;
 import com.back.domain.notification.entity.Notification;
-import com.back.domain.notification.entity.NotificationType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface NotificationRepositoryCustom {
-    // 특정 유저의 알림 목록 조회 (개인 알림 + 시스템 알림)
+    // 특정 유저의 알림 목록 조회 (알림함 기준: 개인/커뮤니티 + 룸 + 시스템 알림)
     Page<Notification> findByUserIdOrSystemType(Long userId, Pageable pageable);
 
     // 특정 유저의 읽지 않은 알림 개수 조회
@@ -19,4 +20,7 @@ public interface NotificationRepositoryCustom {
 
     // 특정 유저의 읽지 않은 알림 전체 조회
     List<Notification> findAllUnreadByUserId(Long userId);
+
+    // 커뮤니티 알림 일괄 INSERT (JDBC 배치, 생성된 알림 ID를 commands 순서대로 반환)
+    List<Long> bulkInsertCommunity(List<CommunityNotificationCommand> commands, LocalDateTime createdAt);
 }
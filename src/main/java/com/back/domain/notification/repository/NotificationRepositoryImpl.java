@@ -1,61 +1,72 @@
 package com.back.domain.notification.repository;
 
+import com.back.domain.notification.dto.CommunityNotificationCommand;
 import com.back.domain.notification.entity.Notification;
 import com.back.domain.notification.entity.NotificationType;
 import com.back.domain.notification.entity.QNotification;
+import com.back.domain.notification.entity.QNotificationInbox;
 import com.back.domain.notification.entity.QNotificationRead;
-import com.back.domain.studyroom.entity.QRoomMember;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
-
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * 알림 피드 조회
+ * - 수신 대상은 생성 시점에 기록된 사용자별 알림함(NotificationInbox)으로 판별
+ *   (개인/커뮤니티 수신자, 룸 멤버, 전체 사용자 모두 알림함 행으로 표현되므로 OR 조건/룸 멤버 조인 없음)
+ * - 모든 조회는 알림함 (user_id, created_at) 인덱스 범위 탐색에서 시작
+ * - 읽지 않은 알림은 알림 ID + 사용자 ID로 읽음 기록을 조회해 제외
+ *
+ * 커뮤니티 알림 일괄 저장
+ * - IDENTITY 전략에서는 JPA saveAll이 배치되지 않으므로 JDBC 배치로 INSERT 후 생성 키를 순서대로 회수
+ */
 @RequiredArgsConstructor
 public class NotificationRepositoryImpl implements NotificationRepositoryCustom {
 
+    private static final String INSERT_COMMUNITY_SQL =
+            "INSERT INTO notification (type, receiver_id, actor_id, title, content, target_url, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
     private final JPAQueryFactory queryFactory;
+    private final JdbcTemplate jdbcTemplate;
 
     /**
-     * 특정 유저의 알림 목록 조회 (개인 알림 + 시스템 알림)
-     * - 수신자가 해당 유저인 알림
-     * - 또는 시스템 알림 (모든 유저에게 표시)
+     * 특정 유저의 알림 목록 조회 (개인/커뮤니티 + 내가 멤버인 룸 + 시스템 알림)
+     * - 알림함 기준 최신순
      */
     @Override
     public Page<Notification> findByUserIdOrSystemType(Long userId, Pageable pageable) {
         QNotification notification = QNotification.notification;
-        QRoomMember roomMember = QRoomMember.roomMember;
+        QNotificationInbox inbox = QNotificationInbox.notificationInbox;
 
         // 알림 목록 조회
         List<Notification> content = queryFactory
-                .selectFrom(notification)
-                .leftJoin(roomMember)
-                .on(notification.room.id.eq(roomMember.room.id)
-                        .and(roomMember.user.id.eq(userId)))
-                .where(
-                        notification.receiver.id.eq(userId)  // 개인/커뮤니티 알림
-                                .or(notification.type.eq(NotificationType.SYSTEM))  // 시스템 알림
-                                .or(roomMember.id.isNotNull())  // 룸 알림 (내가 멤버인 경우)
-                )
-                .orderBy(notification.createdAt.desc())
+                .select(notification)
+                .from(inbox)
+                .join(inbox.notification, notification)
+                .where(inbox.user.id.eq(userId))
+                .orderBy(inbox.createdAt.desc(), inbox.id.desc())
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
 
-        // 전체 개수 조회
+        // 전체 개수 조회 (알림함 인덱스만 사용)
         Long total = queryFactory
-                .select(notification.count())
-                .from(notification)
-                .leftJoin(roomMember)
-                .on(notification.room.id.eq(roomMember.room.id)
-                        .and(roomMember.user.id.eq(userId)))
-                .where(
-                        notification.receiver.id.eq(userId)
-                                .or(notification.type.eq(NotificationType.SYSTEM))
-                                .or(roomMember.id.isNotNull())
-                )
+                .select(inbox.count())
+                .from(inbox)
+                .where(inbox.user.id.eq(userId))
                 .fetchOne();
 
         return new PageImpl<>(content, pageable, total != null ? total : 0L);
@@ -63,28 +74,21 @@ public class NotificationRepositoryImpl implements NotificationRepositoryCustom
 
     /**
      * 특정 유저의 읽지 않은 알림 개수 조회
-     * - NotificationRead 테이블에 읽음 기록이 없는 알림만 카운트
-     * - LEFT JOIN으로 읽음 기록 확인 후, 읽음 기록이 null인 경우만 집계
+     * - 알림함 행 중 읽음 기록이 없는 행만 집계
      */
     @Override
     public long countUnreadByUserId(Long userId) {
-        QNotification notification = QNotification.notification;
+        QNotificationInbox inbox = QNotificationInbox.notificationInbox;
         QNotificationRead notificationRead = QNotificationRead.notificationRead;
-        QRoomMember roomMember = QRoomMember.roomMember;
 
         Long count = queryFactory
-                .select(notification.count())
-                .from(notification)
+                .select(inbox.count())
+                .from(inbox)
                 .leftJoin(notificationRead)
-                .on(notification.id.eq(notificationRead.notification.id)
+                .on(notificationRead.notification.id.eq(inbox.notification.id)
                         .and(notificationRead.user.id.eq(userId)))
-                .leftJoin(roomMember)
-                .on(notification.room.id.eq(roomMember.room.id)
-                        .and(roomMember.user.id.eq(userId)))
                 .where(
-                        notification.receiver.id.eq(userId)
-                                .or(notification.type.eq(NotificationType.SYSTEM))
-                                .or(roomMember.id.isNotNull()),
+                        inbox.user.id.eq(userId),
                         notificationRead.id.isNull()
                 )
                 .fetchOne();
@@ -94,77 +98,98 @@ public class NotificationRepositoryImpl implements NotificationRepositoryCustom
 
     /**
      * 특정 유저의 읽지 않은 알림 목록 조회 (페이징)
-     * - NotificationRead 테이블에 읽음 기록이 없는 알림만 조회
-     * - LEFT JOIN 후 읽음 기록이 null인 알림만 반환
+     * - 알림함 행 중 읽음 기록이 없는 알림만 최신순으로 반환
      */
     @Override
     public Page<Notification> findUnreadByUserId(Long userId, Pageable pageable) {
         QNotification notification = QNotification.notification;
+        QNotificationInbox inbox = QNotificationInbox.notificationInbox;
         QNotificationRead notificationRead = QNotificationRead.notificationRead;
-        QRoomMember roomMember = QRoomMember.roomMember;
 
         // 읽지 않은 알림 목록 조회
         List<Notification> content = queryFactory
-                .selectFrom(notification)
+                .select(notification)
+                .from(inbox)
+                .join(inbox.notification, notification)
                 .leftJoin(notificationRead)
-                .on(notification.id.eq(notificationRead.notification.id)
+                .on(notificationRead.notification.id.eq(inbox.notification.id)
                         .and(notificationRead.user.id.eq(userId)))
-                .leftJoin(roomMember)
-                .on(notification.room.id.eq(roomMember.room.id)
-                        .and(roomMember.user.id.eq(userId)))
                 .where(
-                        notification.receiver.id.eq(userId)
-                                .or(notification.type.eq(NotificationType.SYSTEM))
-                                .or(roomMember.id.isNotNull()),
+                        inbox.user.id.eq(userId),
                         notificationRead.id.isNull()
                 )
-                .orderBy(notification.createdAt.desc())
+                .orderBy(inbox.createdAt.desc(), inbox.id.desc())
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
 
         // 전체 개수 조회
-        Long total = queryFactory
-                .select(notification.count())
-                .from(notification)
-                .leftJoin(notificationRead)
-                .on(notification.id.eq(notificationRead.notification.id)
-                        .and(notificationRead.user.id.eq(userId)))
-                .leftJoin(roomMember)
-                .on(notification.room.id.eq(roomMember.room.id)
-                        .and(roomMember.user.id.eq(userId)))
-                .where(
-                        notification.receiver.id.eq(userId)
-                                .or(notification.type.eq(NotificationType.SYSTEM))
-                                .or(roomMember.id.isNotNull()),
-                        notificationRead.id.isNull()
-                )
-                .fetchOne();
+        long total = countUnreadByUserId(userId);
 
-        return new PageImpl<>(content, pageable, total != null ? total : 0L);
+        return new PageImpl<>(content, pageable, total);
     }
 
     @Override
     public List<Notification> findAllUnreadByUserId(Long userId) {
         QNotification notification = QNotification.notification;
+        QNotificationInbox inbox = QNotificationInbox.notificationInbox;
         QNotificationRead notificationRead = QNotificationRead.notificationRead;
-        QRoomMember roomMember = QRoomMember.roomMember;
 
         return queryFactory
-                .selectFrom(notification)
+                .select(notification)
+                .from(inbox)
+                .join(inbox.notification, notification)
                 .leftJoin(notificationRead)
-                .on(notification.id.eq(notificationRead.notification.id)
+                .on(notificationRead.notification.id.eq(inbox.notification.id)
                         .and(notificationRead.user.id.eq(userId)))
-                .leftJoin(roomMember)
-                .on(notification.room.id.eq(roomMember.room.id)
-                        .and(roomMember.user.id.eq(userId)))
                 .where(
-                        notification.receiver.id.eq(userId)
-                                .or(notification.type.eq(NotificationType.SYSTEM))
-                                .or(roomMember.id.isNotNull()),
+                        inbox.user.id.eq(userId),
                         notificationRead.id.isNull()
                 )
-                .orderBy(notification.createdAt.desc())
+                .orderBy(inbox.createdAt.desc(), inbox.id.desc())
                 .fetch();
     }
-}
\ No newline at end of file
+
+    /**
+     * 커뮤니티 알림 일괄 INSERT
+     * - 영속성 컨텍스트를 거치지 않으므로 같은 트랜잭션에서 엔티티로 다시 읽지 않음
+     */
+    @Override
+    public List<Long> bulkInsertCommunity(List<CommunityNotificationCommand> commands, LocalDateTime createdAt) {
+        if (commands.isEmpty()) {
+            return List.of();
+        }
+
+        Timestamp now = Timestamp.valueOf(createdAt);
+        return jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(INSERT_COMMUNITY_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                for (CommunityNotificationCommand command : commands) {
+                    ps.setString(1, NotificationType.COMMUNITY.name());
+                    ps.setLong(2, command.receiverId());
+                    ps.setLong(3, command.actorId());
+                    ps.setString(4, command.title());
+                    ps.setString(5, command.content());
+                    ps.setString(6, command.targetUrl());
+                    ps.setTimestamp(7, now);
+                    ps.setTimestamp(8, now);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+
+                List<Long> ids = new ArrayList<>(commands.size());
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    while (keys.next()) {
+                        ids.add(keys.getLong(1));
+                    }
+                }
+
+                // 생성 키가 누락되면 알림함 기록이 어긋나므로 트랜잭션을 롤백시킴
+                if (ids.size() != commands.size()) {
+                    throw new IllegalStateException(
+                            "알림 생성 키 회수 실패 - 요청: " + commands.size() + ", 회수: " + ids.size());
+                }
+                return ids;
+            }
+        });
+    }
+}
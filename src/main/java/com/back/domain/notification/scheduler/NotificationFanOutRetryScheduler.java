@@ -0,0 +1,49 @@
+package com.back.domain.notification.scheduler;
+
+import com.back.domain.notification.service.NotificationInboxService;
+import com.back.global.common.lock.RedisLeaderLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 알림 팬아웃 재시도 스케줄러
+ * - 커밋 이후 비동기 팬아웃이 실패했거나 노드 중단으로 끝나지 못한 룸/시스템 알림을 진행 상태부터 이어서 기록
+ * - 리더 락으로 여러 인스턴스 중 한 노드만 실행, 한 주기에 BATCH_SIZE개까지 처리하고 남은 것은 다음 주기에 처리
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationFanOutRetryScheduler {
+
+    static final String JOB_NAME = "notification-fan-out-retry";
+    private static final Duration LEASE = Duration.ofMinutes(5);
+    static final int BATCH_SIZE = 20;
+
+    private final NotificationInboxService inboxService;
+    private final RedisLeaderLock leaderLock;
+
+    @Scheduled(
+            initialDelayString = "${notification.inbox.fan-out-retry-interval-ms:60000}",
+            fixedDelayString = "${notification.inbox.fan-out-retry-interval-ms:60000}"
+    )
+    public void retryPendingFanOuts() {
+        if (!leaderLock.tryAcquire(JOB_NAME, LEASE)) {
+            return;
+        }
+
+        try {
+            int processed = inboxService.retryPendingFanOuts(BATCH_SIZE);
+            if (processed > 0) {
+                log.info("알림 팬아웃 재시도 - 처리: {}", processed);
+            }
+        } catch (Exception e) {
+            log.error("알림 팬아웃 재시도 실패", e);
+        } finally {
+            leaderLock.release(JOB_NAME);
+        }
+    }
+}
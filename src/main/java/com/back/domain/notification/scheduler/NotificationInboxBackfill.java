@@ -0,0 +1,69 @@
+package com.back.domain.notification.scheduler;
+
+import com.back.domain.notification.service.NotificationInboxService;
+import com.back.global.common.lock.RedisLeaderLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 알림함 초기 이관
+ * - 애플리케이션 시작 시 알림함 도입 이전 알림을 알림 ID 구간 배치로 수신자 알림함에 기록
+ * - 완료한 구간의 상한을 Redis에 기록하여 재시작 시 이어서 진행, 이미 기록된 행은 건너뜀
+ * - 시작 시점의 최대 알림 ID까지 마치면 완료로 표시 (이후 알림은 생성 시 팬아웃되므로 다시 이관하지 않음)
+ * - 리더 락으로 여러 인스턴스 중 한 노드만 실행
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationInboxBackfill {
+
+    static final String JOB_NAME = "notification-inbox-backfill";
+    static final String PROGRESS_KEY = "notification:inbox:backfill:last-id";
+    static final String DONE = "done";
+    private static final Duration LEASE = Duration.ofMinutes(10);
+    private static final int BATCH_SIZE = 500;
+
+    private final NotificationInboxService inboxService;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisLeaderLock leaderLock;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (!leaderLock.tryAcquire(JOB_NAME, LEASE)) {
+            return;
+        }
+
+        long created = 0;
+        try {
+            String progress = redisTemplate.opsForValue().get(PROGRESS_KEY);
+            if (DONE.equals(progress)) {
+                return;
+            }
+
+            long fromId = progress != null ? Long.parseLong(progress) : 0L;
+            long maxId = inboxService.findMaxNotificationId();
+
+            while (fromId < maxId) {
+                long toId = Math.min(fromId + BATCH_SIZE, maxId);
+                created += inboxService.backfill(fromId, toId);
+                redisTemplate.opsForValue().set(PROGRESS_KEY, String.valueOf(toId));
+                fromId = toId;
+            }
+            redisTemplate.opsForValue().set(PROGRESS_KEY, DONE);
+
+            if (created > 0) {
+                log.info("알림함 초기 이관 완료 - 생성된 알림함 행: {}", created);
+            }
+        } catch (Exception e) {
+            log.error("알림함 초기 이관 실패 - 생성된 알림함 행: {}", created, e);
+        } finally {
+            leaderLock.release(JOB_NAME);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.back.domain.notification.service;
+
+import com.back.domain.notification.dto.CommunityNotificationCommand;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 커뮤니티 알림 배치 저장기 (메모리 큐 + 배치 저장)
+ * - 댓글/좋아요 이벤트는 큐에 적재만 하고 즉시 반환 (이벤트 1건마다 사용자 조회 2회 + INSERT 1회를 하지 않음)
+ * - 주기적으로 큐를 batchSize 단위로 비워 사용자 IN 조회 1회 + JDBC 배치 INSERT로 저장
+ * - 큐가 가득 차면 적재하려던 스레드가 최대 offerTimeout만큼 자리가 나기를 기다리고, 그래도 가득 차 있으면 버리고 집계
+ *   (요청 스레드에서 직접 저장하지 않으므로 요청 트랜잭션의 커넥션을 쥔 채 커넥션을 하나 더 잡는 일이 없음)
+ * - 저장 실패 시 큐 앞쪽에 되돌려 다음 주기에 재시도, maxAttempts를 넘긴 요청은 버리고 집계
+ * - 메트릭: notification.batch.queue.size(적재량), notification.batch.latency(적재~저장 지연),
+ *   notification.batch.size(배치 크기), notification.batch.backpressure(큐 포화로 적재 대기), notification.batch.dropped(유실)
+ */
+@Slf4j
+@Component
+public class CommunityNotificationBatcher {
+
+    private final NotificationService notificationService;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long offerTimeoutMs;
+
+    private final LinkedBlockingDeque<Pending> pendingQueue;
+
+    private final Timer latency;
+    private final DistributionSummary batchSizeSummary;
+    private final Counter backpressure;
+    private final Counter dropped;
+
+    public CommunityNotificationBatcher(NotificationService notificationService,
+                                        MeterRegistry meterRegistry,
+                                        @Value("${notification.batch.queue-capacity:10000}") int queueCapacity,
+                                        @Value("${notification.batch.batch-size:200}") int batchSize,
+                                        @Value("${notification.batch.max-attempts:3}") int maxAttempts,
+                                        @Value("${notification.batch.offer-timeout-ms:50}") long offerTimeoutMs) {
+        this.notificationService = notificationService;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.offerTimeoutMs = offerTimeoutMs;
+        this.pendingQueue = new LinkedBlockingDeque<>(queueCapacity);
+
+        meterRegistry.gauge("notification.batch.queue.size", pendingQueue, LinkedBlockingDeque::size);
+        this.latency = meterRegistry.timer("notification.batch.latency");
+        this.batchSizeSummary = meterRegistry.summary("notification.batch.size");
+        this.backpressure = meterRegistry.counter("notification.batch.backpressure");
+        this.dropped = meterRegistry.counter("notification.batch.dropped");
+    }
+
+    /**
+     * 큐 적재 단위
+     * @param enqueuedAt 최초 적재 시각 (System.nanoTime, 재시도해도 유지)
+     * @param attempts   저장 시도 횟수
+     */
+    record Pending(CommunityNotificationCommand command, long enqueuedAt, int attempts) {
+
+        Pending retried() {
+            return new Pending(command, enqueuedAt, attempts + 1);
+        }
+    }
+
+    // ==================== 적재 ====================
+
+    /**
+     * 알림 생성 요청 적재
+     * - 큐가 가득 차면 최대 offerTimeout 동안 기다린 뒤에도 자리가 없으면 버림
+     */
+    public void enqueue(CommunityNotificationCommand command) {
+        Pending pending = new Pending(command, System.nanoTime(), 0);
+        if (pendingQueue.offerLast(pending)) {
+            return;
+        }
+
+        backpressure.increment();
+        try {
+            if (pendingQueue.offerLast(pending, offerTimeoutMs, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        dropped.increment();
+        log.warn("커뮤니티 알림 큐 적재 한도 초과로 유실 - 수신자 ID: {}, 발신자 ID: {}, 적재량: {}",
+                command.receiverId(), command.actorId(), pendingQueue.size());
+    }
+
+    // ==================== 배치 저장 ====================
+
+    /**
+     * 큐를 batchSize 단위로 모두 비워 저장
+     * - 실패한 배치는 큐에 되돌아가므로 이번 주기는 중단하고 다음 주기에 재시도
+     */
+    @Scheduled(
+            initialDelayString = "${notification.batch.flush-interval-ms:500}",
+            fixedDelayString = "${notification.batch.flush-interval-ms:500}"
+    )
+    public void flush() {
+        while (!pendingQueue.isEmpty()) {
+            if (!writeBatch()) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 큐에서 최대 batchSize개를 꺼내 저장
+     * @return 저장 성공 여부 (꺼낼 요청이 없으면 true)
+     */
+    private boolean writeBatch() {
+        List<Pending> batch = new ArrayList<>(batchSize);
+        pendingQueue.drainTo(batch, batchSize);
+        return batch.isEmpty() || write(batch);
+    }
+
+    private boolean write(List<Pending> batch) {
+        try {
+            notificationService.createCommunityNotifications(
+                    batch.stream().map(Pending::command).toList());
+
+            long now = System.nanoTime();
+            batch.forEach(pending -> latency.record(now - pending.enqueuedAt(), TimeUnit.NANOSECONDS));
+            batchSizeSummary.record(batch.size());
+            return true;
+
+        } catch (Exception e) {
+            log.error("커뮤니티 알림 배치 저장 실패 - 다음 주기에 재시도, 요청: {}", batch.size(), e);
+            requeue(batch);
+            return false;
+        }
+    }
+
+    // 실패한 요청을 원래 순서대로 큐 앞쪽에 되돌림 (시도 횟수 초과 또는 큐 포화 시 버림)
+    private void requeue(List<Pending> batch) {
+        for (int i = batch.size() - 1; i >= 0; i--) {
+            Pending retry = batch.get(i).retried();
+            if (retry.attempts() >= maxAttempts || !pendingQueue.offerFirst(retry)) {
+                dropped.increment();
+                log.warn("커뮤니티 알림 유실 - 수신자 ID: {}, 발신자 ID: {}, 시도: {}",
+                        retry.command().receiverId(), retry.command().actorId(), retry.attempts());
+            }
+        }
+    }
+
+    /**
+     * 종료 시 남은 요청 저장
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("종료 시 커뮤니티 알림 저장 실패 - 남은 요청: {}", pendingQueue.size(), e);
+        }
+    }
+
+    public int pendingCount() {
+        return pendingQueue.size();
+    }
+}
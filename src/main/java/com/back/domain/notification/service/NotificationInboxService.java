@@ -0,0 +1,177 @@
+package com.back.domain.notification.service;
+
+import com.back.domain.notification.entity.Notification;
+import com.back.domain.notification.entity.NotificationFanOut;
+import com.back.domain.notification.entity.NotificationInbox;
+import com.back.domain.notification.entity.NotificationType;
+import com.back.domain.notification.repository.NotificationFanOutRepository;
+import com.back.domain.notification.repository.NotificationInboxRepository;
+import com.back.domain.user.common.entity.User;
+import com.back.domain.user.common.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자별 알림함 기록 서비스 (fan-out-on-write)
+ * - 개인/커뮤니티 알림: 알림 저장과 같은 트랜잭션에서 수신자 알림함에 1행 기록 (배치 저장분은 JDBC 배치)
+ * - 룸 알림: 커밋 이후 비동기로 룸 멤버 전체에 INSERT … SELECT 1회
+ * - 시스템 알림: 커밋 이후 비동기로 알림 생성 시점의 사용자 ID 상한까지 구간(batchSize)마다 INSERT … SELECT,
+ *   구간마다 커밋하고 진행 상태 기록
+ * - 룸/시스템 알림은 알림 저장과 같은 트랜잭션에서 팬아웃 진행 상태(NotificationFanOut)를 남기고,
+ *   비동기 팬아웃이 실패하거나 노드가 중단되면 retryPendingFanOuts가 이어서 기록 (끝나면 진행 상태 삭제)
+ * - 팬아웃은 중복 행을 만들지 않으므로 실패한 구간은 같은 호출로 다시 실행 가능
+ */
+@Slf4j
+@Service
+public class NotificationInboxService {
+
+    private final NotificationInboxRepository inboxRepository;
+    private final NotificationFanOutRepository fanOutRepository;
+    private final UserRepository userRepository;
+    private final int fanOutBatchSize;
+    private final Duration retryDelay;
+
+    public NotificationInboxService(NotificationInboxRepository inboxRepository,
+                                    NotificationFanOutRepository fanOutRepository,
+                                    UserRepository userRepository,
+                                    @Value("${notification.inbox.fan-out-batch-size:1000}") int fanOutBatchSize,
+                                    @Value("${notification.inbox.fan-out-retry-delay-ms:60000}") long retryDelayMs) {
+        this.inboxRepository = inboxRepository;
+        this.fanOutRepository = fanOutRepository;
+        this.userRepository = userRepository;
+        this.fanOutBatchSize = fanOutBatchSize;
+        this.retryDelay = Duration.ofMillis(retryDelayMs);
+    }
+
+    /**
+     * 수신자 알림함에 기록 (호출한 트랜잭션에 참여)
+     */
+    public void deliver(User receiver, Notification notification) {
+        inboxRepository.save(NotificationInbox.create(receiver, notification));
+    }
+
+    /**
+     * 배치 저장된 알림의 수신자 알림함에 일괄 기록 (호출한 트랜잭션에 참여)
+     */
+    public void deliverAll(Map<Long, Long> receiverByNotificationId, LocalDateTime createdAt) {
+        inboxRepository.bulkInsert(receiverByNotificationId, createdAt);
+    }
+
+    /**
+     * 룸/시스템 알림 팬아웃 진행 상태 기록 (호출한 트랜잭션에 참여)
+     * - 알림과 함께 커밋되므로 커밋 이후 팬아웃이 끝나지 못해도 재시도 대상으로 남음
+     * - 시스템 알림의 수신 대상은 지금의 사용자 ID 상한까지 (이후 가입한 사용자에게는 기록하지 않음)
+     */
+    public void registerFanOut(Notification notification) {
+        long targetUserId = notification.isSystemNotification() ? userRepository.findMaxId() : 0L;
+        fanOutRepository.save(NotificationFanOut.create(notification, targetUserId, nextAttemptAt()));
+    }
+
+    /**
+     * 룸 알림 팬아웃 (현재 룸 멤버 전체)
+     */
+    @Async("notificationExecutor")
+    public void fanOutToRoomMembers(Long notificationId) {
+        deliverToRoomMembers(notificationId);
+    }
+
+    /**
+     * 시스템 알림 팬아웃 (전체 사용자, 사용자 ID 구간 단위 배치)
+     */
+    @Async("notificationExecutor")
+    public void fanOutToAllUsers(Long notificationId) {
+        fanOutRepository.findByNotificationId(notificationId).ifPresent(this::deliverToAllUsers);
+    }
+
+    /**
+     * 끝나지 않은 팬아웃 재시도 (실패/중단된 룸·시스템 알림, 완료된 팬아웃은 진행 상태가 삭제되어 대상이 아님)
+     * - nextAttemptAt이 지난 것만 대상으로 하여 진행 중인 팬아웃과 겹치지 않음
+     *
+     * @param limit 한 번에 처리할 최대 팬아웃 수
+     * @return 처리한 팬아웃 수
+     */
+    public int retryPendingFanOuts(int limit) {
+        List<NotificationFanOut> pending = fanOutRepository.findPending(LocalDateTime.now(), PageRequest.of(0, limit));
+
+        for (NotificationFanOut fanOut : pending) {
+            fanOutRepository.markAttempt(fanOut.getId(), nextAttemptAt());
+            if (fanOut.getType() == NotificationType.ROOM) {
+                deliverToRoomMembers(fanOut.getNotificationId());
+            } else {
+                deliverToAllUsers(fanOut);
+            }
+        }
+        return pending.size();
+    }
+
+    private void deliverToRoomMembers(Long notificationId) {
+        try {
+            int delivered = inboxRepository.fanOutToRoomMembers(notificationId);
+            fanOutRepository.deleteByNotificationId(notificationId);
+            log.debug("룸 알림 팬아웃 완료 - 알림 ID: {}, 수신자: {}", notificationId, delivered);
+        } catch (Exception e) {
+            log.error("룸 알림 팬아웃 실패 - 알림 ID: {} (재시도 예정)", notificationId, e);
+        }
+    }
+
+    /**
+     * 사용자 ID 구간 (lastUserId, targetUserId]에 기록하고, 끝나면 진행 상태 삭제
+     * - 실패하면 중단하고, 기록된 진행 상태부터 재시도
+     */
+    private void deliverToAllUsers(NotificationFanOut fanOut) {
+        Long notificationId = fanOut.getNotificationId();
+        long targetUserId = fanOut.getTargetUserId();
+        long fromUserId = fanOut.getLastUserId();
+        long delivered = 0;
+        try {
+            while (fromUserId < targetUserId) {
+                long toUserId = Math.min(fromUserId + fanOutBatchSize, targetUserId);
+                delivered += inboxRepository.fanOutToUsers(notificationId, fromUserId, toUserId);
+                fanOutRepository.advance(notificationId, toUserId, nextAttemptAt());
+                fromUserId = toUserId;
+            }
+            fanOutRepository.deleteByNotificationId(notificationId);
+            log.info("시스템 알림 팬아웃 완료 - 알림 ID: {}, 수신자: {}", notificationId, delivered);
+        } catch (Exception e) {
+            log.error("시스템 알림 팬아웃 실패 - 알림 ID: {}, 사용자 ID {} 이후 재시도 예정, 수신자: {}",
+                    notificationId, fromUserId, delivered, e);
+        }
+    }
+
+    // 진행 중이거나 방금 시도한 팬아웃은 재시도 지연 동안 다시 시도하지 않음
+    private LocalDateTime nextAttemptAt() {
+        return LocalDateTime.now().plus(retryDelay);
+    }
+
+    /**
+     * 알림함 도입 이전 알림 이관 (알림 ID 구간 (fromId, toId])
+     * - 시스템 알림은 사용자 ID 구간(batchSize)마다 나눠 기록 (알림 구간 × 전체 사용자를 한 문장으로 만들지 않음)
+     *
+     * @return 기록된 알림함 행 수
+     */
+    public int backfill(long fromId, long toId) {
+        int created = inboxRepository.backfill(fromId, toId);
+
+        long maxUserId = userRepository.findMaxId();
+        for (long fromUserId = 0; fromUserId < maxUserId; fromUserId += fanOutBatchSize) {
+            long toUserId = Math.min(fromUserId + fanOutBatchSize, maxUserId);
+            created += inboxRepository.backfillSystem(fromId, toId, fromUserId, toUserId);
+        }
+        return created;
+    }
+
+    /**
+     * 이관 대상 알림 ID 상한
+     */
+    public long findMaxNotificationId() {
+        return inboxRepository.findMaxNotificationId();
+    }
+}
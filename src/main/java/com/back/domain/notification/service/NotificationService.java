@@ -1,12 +1,16 @@
 package com.back.domain.notification.service;
 
+import com.back.domain.notification.dto.ActorDto;
+import com.back.domain.notification.dto.CommunityNotificationCommand;
 import com.back.domain.notification.dto.NotificationWebSocketDto;
 import com.back.domain.notification.entity.Notification;
 import com.back.domain.notification.entity.NotificationRead;
 import com.back.domain.notification.entity.NotificationSettingType;
+import com.back.domain.notification.entity.NotificationType;
 import com.back.domain.notification.repository.NotificationReadRepository;
 import com.back.domain.notification.repository.NotificationRepository;
 import com.back.domain.studyroom.entity.Room;
+import com.back.domain.studyroom.repository.RoomMemberRepository;
 import com.back.domain.studyroom.repository.RoomRepository;
 import com.back.domain.user.common.entity.User;
 import com.back.domain.user.common.repository.UserRepository;
@@ -18,10 +22,19 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -32,8 +45,11 @@ public class NotificationService {
     private final NotificationReadRepository notificationReadRepository;
     private final NotificationWebSocketService webSocketService;
     private final NotificationSettingService notificationSettingService;
+    private final NotificationUnreadCounter unreadCounter;
+    private final NotificationInboxService inboxService;
     private final UserRepository userRepository;
     private final RoomRepository roomRepository;
+    private final RoomMemberRepository roomMemberRepository;
 
     // ==================== 알림 생성 및 전송 ====================
 
@@ -57,6 +73,8 @@ public class NotificationService {
         Notification notification = Notification.createPersonalNotification(
                 receiver, actor, title, content, targetUrl);
         Notification savedNotification = notificationRepository.save(notification);
+        inboxService.deliver(receiver, savedNotification);
+        unreadCounter.increment(receiver.getId());
 
         if (shouldSendNotification(receiver.getId(), settingType)) {
             NotificationWebSocketDto dto = NotificationWebSocketDto.from(savedNotification); // ID가 있는 객체 사용
@@ -85,6 +103,8 @@ public class NotificationService {
         Notification notification = Notification.createPersonalNotification(
                 user, user, title, content, targetUrl);
         Notification savedNotification = notificationRepository.save(notification);
+        inboxService.deliver(user, savedNotification);
+        unreadCounter.increment(user.getId());
 
         // 알림 설정 체크 후 전송
         if (shouldSendNotification(user.getId(), settingType)) {
@@ -115,6 +135,9 @@ public class NotificationService {
         Notification notification = Notification.createRoomNotification(
                 room, actor, title, content, targetUrl);
         notificationRepository.save(notification);
+        inboxService.registerFanOut(notification);
+        afterCommit(() -> inboxService.fanOutToRoomMembers(notification.getId()));
+        unreadCounter.incrementAll(roomMemberRepository.findUserIdsByRoomId(room.getId()));
 
         // 룸 멤버들에게 전송 (설정 체크 포함)
         NotificationWebSocketDto dto = NotificationWebSocketDto.from(notification);
@@ -132,6 +155,9 @@ public class NotificationService {
 
         Notification notification = Notification.createSystemNotification(title, content, targetUrl);
         notificationRepository.save(notification);
+        inboxService.registerFanOut(notification);
+        afterCommit(() -> inboxService.fanOutToAllUsers(notification.getId()));
+        unreadCounter.incrementSystem();
 
         NotificationWebSocketDto dto = NotificationWebSocketDto.from(notification);
         webSocketService.broadcastSystemNotification(dto);
@@ -159,6 +185,8 @@ public class NotificationService {
         Notification notification = Notification.createCommunityNotification(
                 receiver, actor, title, content, targetUrl);
         notificationRepository.save(notification);
+        inboxService.deliver(receiver, notification);
+        unreadCounter.increment(receiver.getId());
 
         // 알림 설정 체크 후 전송
         if (shouldSendNotification(receiver.getId(), settingType)) {
@@ -174,6 +202,79 @@ public class NotificationService {
         return notification;
     }
 
+    /**
+     * 커뮤니티 알림 일괄 생성 (CommunityNotificationBatcher가 모은 요청 단위)
+     * - 수신자/발신자를 IN 조회 1회로 확인, 없는 사용자나 자기 자신에게 보내는 요청은 건너뜀
+     * - 알림과 알림함 행은 JDBC 배치로 저장, 읽지 않은 수 반영과 실시간 전송은 커밋 이후 수행
+     *
+     * @return 저장된 알림 수
+     */
+    @Transactional
+    public int createCommunityNotifications(List<CommunityNotificationCommand> commands) {
+        Set<Long> userIds = new HashSet<>();
+        for (CommunityNotificationCommand command : commands) {
+            userIds.add(command.receiverId());
+            userIds.add(command.actorId());
+        }
+
+        Map<Long, User> users = userRepository.findAllWithProfileByIdIn(userIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        List<CommunityNotificationCommand> valid = new ArrayList<>();
+        for (CommunityNotificationCommand command : commands) {
+            if (!users.containsKey(command.receiverId()) || !users.containsKey(command.actorId())) {
+                log.warn("커뮤니티 알림 생략 (사용자 없음) - 수신자 ID: {}, 발신자 ID: {}",
+                        command.receiverId(), command.actorId());
+            } else if (command.receiverId().equals(command.actorId())) {
+                log.debug("자기 자신에게 알림 전송 시도 - receiver: {}, actor: {}",
+                        command.receiverId(), command.actorId());
+            } else {
+                valid.add(command);
+            }
+        }
+
+        if (valid.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> notificationIds = notificationRepository.bulkInsertCommunity(valid, now);
+
+        Map<Long, Long> receiverByNotificationId = new LinkedHashMap<>();
+        List<Long> receiverIds = new ArrayList<>(valid.size());
+        Map<Long, NotificationWebSocketDto> deliveries = new LinkedHashMap<>();
+
+        for (int i = 0; i < valid.size(); i++) {
+            CommunityNotificationCommand command = valid.get(i);
+            Long notificationId = notificationIds.get(i);
+            receiverByNotificationId.put(notificationId, command.receiverId());
+            receiverIds.add(command.receiverId());
+
+            // 알림 설정 체크 후 전송 대상에 추가
+            if (shouldSendNotification(command.receiverId(), command.settingType())) {
+                deliveries.put(notificationId, new NotificationWebSocketDto(
+                        notificationId,
+                        command.title(),
+                        command.content(),
+                        NotificationType.COMMUNITY,
+                        command.targetUrl(),
+                        ActorDto.from(users.get(command.actorId())),
+                        now
+                ));
+            }
+        }
+
+        inboxService.deliverAll(receiverByNotificationId, now);
+        unreadCounter.incrementAll(receiverIds);
+        afterCommit(() -> deliveries.forEach((notificationId, dto) ->
+                webSocketService.sendNotificationToUser(receiverByNotificationId.get(notificationId), dto)));
+
+        log.info("커뮤니티 알림 일괄 저장 - 요청: {}, 저장: {}, 전송: {}",
+                commands.size(), valid.size(), deliveries.size());
+
+        return valid.size();
+    }
+
     // ==================== 알림 조회 ====================
 
     // 유저의 알림 목록 조회
@@ -186,10 +287,10 @@ public class NotificationService {
         }
     }
 
-    // 유저의 읽지 않은 알림 개수 조회
+    // 유저의 읽지 않은 알림 개수 조회 (Redis 카운터, 미적재 시에만 DB 집계)
     @Transactional(readOnly = true)
     public long getUnreadCount(Long userId) {
-        return notificationRepository.countUnreadByUserId(userId);
+        return unreadCounter.get(userId);
     }
 
     // 특정 알림 조회
@@ -241,30 +342,40 @@ public class NotificationService {
         // 읽음 기록 생성
         NotificationRead notificationRead = NotificationRead.create(notification, user);
         notificationReadRepository.save(notificationRead);
+        unreadCounter.decrement(user.getId(), 1);
 
         log.info("알림 읽음 처리 - 알림 ID: {}, 유저 ID: {}", notificationId, user.getId());
     }
 
-    // 여러 알림 일괄 읽음 처리
+    // 여러 알림 일괄 읽음 처리 (읽지 않은 알림 수와 무관하게 INSERT … SELECT 1회)
     @Transactional
     public void markMultipleAsRead(Long userId, User user) {
-        // Page가 아닌 List로 직접 조회
-        List<Notification> unreadNotifications = notificationRepository.findAllUnreadByUserId(userId);
-
-        List<NotificationRead> notificationReads = unreadNotifications.stream()
-                .filter(notification -> !notificationReadRepository
-                        .existsByNotificationIdAndUserId(notification.getId(), user.getId()))
-                .map(notification -> NotificationRead.create(notification, user))
-                .toList();
+        int readCount = notificationReadRepository.markAllAsRead(user.getId(), LocalDateTime.now());
 
-        if (!notificationReads.isEmpty()) {
-            notificationReadRepository.saveAll(notificationReads);
-            log.info("일괄 읽음 처리 - 유저 ID: {}, 처리 개수: {}", userId, notificationReads.size());
+        if (readCount > 0) {
+            unreadCounter.decrement(user.getId(), readCount);
+            log.info("일괄 읽음 처리 - 유저 ID: {}, 처리 개수: {}", userId, readCount);
         } else {
             log.info("일괄 읽음 처리 - 유저 ID: {}, 읽을 알림 없음", userId);
         }
     }
 
+    // ==================== 내부 메서드 ====================
+
+    // 트랜잭션 커밋 후 실행 (커밋 전에 비동기 팬아웃이 알림 행을 읽지 못하는 것 방지)
+    private void afterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+
     // ==================== 검증 메서드 ====================
 
     // 발신자와 수신자 검증
@@ -4,6 +4,7 @@ import com.back.domain.notification.dto.NotificationSettingDto.*;
 import com.back.domain.notification.entity.NotificationSetting;
 import com.back.domain.notification.entity.NotificationSettingType;
 import com.back.domain.notification.repository.NotificationSettingRepository;
+import com.back.domain.notification.store.NotificationSettingStore;
 import com.back.domain.user.common.entity.User;
 import com.back.domain.user.common.repository.UserRepository;
 import com.back.global.exception.CustomException;
@@ -12,17 +13,29 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.Arrays;
 import java.util.List;
 
+/**
+ * 알림 설정 서비스
+ * - 알림 전송 경로의 설정 확인은 사용자별 활성화 비트마스크(NotificationSettingStore)로 처리하여 설정 조회 쿼리 없음
+ * - 미적재 시 사용자의 설정 전체를 한 번 읽어 적재, 설정 변경 시 커밋 이후 무효화
+ * - Redis 장애 시 DB 조회로 대체
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class NotificationSettingService {
 
+    // 모든 알림 타입 활성화 (설정이 없는 타입은 기본값 true)
+    private static final int ALL_ENABLED = (1 << NotificationSettingType.values().length) - 1;
+
     private final NotificationSettingRepository settingRepository;
     private final UserRepository userRepository;
+    private final NotificationSettingStore settingStore;
 
     // 사용자의 모든 알림 설정 조회
     @Transactional(readOnly = true)
@@ -54,6 +67,7 @@ public class NotificationSettingService {
                 .orElseThrow(() -> new CustomException(ErrorCode.NOTIFICATION_SETTING_NOT_FOUND));
 
         setting.toggle();
+        evictAfterCommit(userId);
         log.info("알림 설정 토글 완료 - type: {}, enabled: {}", type, setting.isEnabled());
     }
 
@@ -75,6 +89,7 @@ public class NotificationSettingService {
                 setting.disable();
             }
         });
+        evictAfterCommit(userId);
 
         log.info("전체 알림 설정 변경 완료 - 변경된 설정 개수: {}", settings.size());
     }
@@ -92,17 +107,65 @@ public class NotificationSettingService {
                 .map(type -> NotificationSetting.create(user, type))
                 .map(settingRepository::save)
                 .toList();
+        evictAfterCommit(userId);
 
         log.info("기본 알림 설정 초기화 완료 - 생성된 설정 개수: {}", settings.size());
 
         return settings;
     }
 
-    // 특정 알림 타입이 활성화되어 있는지 확인
+    // 특정 알림 타입이 활성화되어 있는지 확인 (캐시된 비트마스크 기준)
     @Transactional(readOnly = true)
     public boolean isNotificationEnabled(Long userId, NotificationSettingType type) {
-        return settingRepository.findByUserIdAndType(userId, type)
-                .map(NotificationSetting::isEnabled)
-                .orElse(true); // 설정이 없으면 기본값 true (활성화)
+        try {
+            int enabledMask = settingStore.find(userId).orElseGet(() -> {
+                int loaded = toEnabledMask(settingRepository.findAllByUserId(userId));
+                settingStore.save(userId, loaded);
+                return loaded;
+            });
+            return (enabledMask & bit(type)) != 0;
+        } catch (Exception e) {
+            log.warn("알림 설정 캐시 조회 실패, DB 조회로 대체 - userId: {}", userId, e);
+            return settingRepository.findByUserIdAndType(userId, type)
+                    .map(NotificationSetting::isEnabled)
+                    .orElse(true); // 설정이 없으면 기본값 true (활성화)
+        }
+    }
+
+    // 설정 목록 → 활성화 비트마스크 (설정이 없는 타입은 활성화)
+    private int toEnabledMask(List<NotificationSetting> settings) {
+        int enabledMask = ALL_ENABLED;
+        for (NotificationSetting setting : settings) {
+            if (!setting.isEnabled()) {
+                enabledMask &= ~bit(setting.getType());
+            }
+        }
+        return enabledMask;
+    }
+
+    private static int bit(NotificationSettingType type) {
+        return 1 << type.ordinal();
+    }
+
+    // 트랜잭션 커밋 후 캐시 무효화 (롤백된 변경이 반영되지 않도록)
+    private void evictAfterCommit(Long userId) {
+        Runnable evict = () -> {
+            try {
+                settingStore.evict(userId);
+            } catch (Exception e) {
+                log.warn("알림 설정 캐시 무효화 실패 - userId: {}", userId, e);
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict.run();
+                }
+            });
+        } else {
+            evict.run();
+        }
     }
 }
\ No newline at end of file
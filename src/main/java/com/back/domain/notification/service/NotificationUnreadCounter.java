@@ -0,0 +1,106 @@
+package com.back.domain.notification.service;
+
+import com.back.domain.notification.repository.NotificationRepository;
+import com.back.domain.notification.store.NotificationUnreadStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 사용자별 읽지 않은 알림 수 카운터
+ * - 배지 조회는 Redis(NotificationUnreadStore) 값만 읽어 O(1)로 응답, 미적재 시에만 DB 집계 쿼리 1회
+ * - 알림 생성(개인/커뮤니티 +1, 룸 멤버 전체 +1, 시스템은 순번 +1)과 읽음 처리(-n)는 커밋 이후 반영
+ * - 반영 실패 시 해당 사용자 캐시를 비워 다음 조회에서 DB로부터 다시 적재
+ * - 적재 후 TTL이 지나면 DB 값으로 다시 적재되어 누락/중복 반영이 주기적으로 보정됨
+ * - Redis 장애 시 DB 집계 쿼리로 대체
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationUnreadCounter {
+
+    private final NotificationUnreadStore unreadStore;
+    private final NotificationRepository notificationRepository;
+
+    /**
+     * 읽지 않은 알림 수 조회 (미적재 시 DB에서 한 번 계산해 적재)
+     */
+    public long get(Long userId) {
+        try {
+            return unreadStore.find(userId).orElseGet(() -> {
+                long unreadCount = notificationRepository.countUnreadByUserId(userId);
+                unreadStore.save(userId, unreadCount);
+                return unreadCount;
+            });
+        } catch (Exception e) {
+            log.warn("읽지 않은 알림 수 캐시 조회 실패, DB 조회로 대체 - UserId: {}", userId, e);
+            return notificationRepository.countUnreadByUserId(userId);
+        }
+    }
+
+    /**
+     * 개인/커뮤니티 알림 생성 반영
+     */
+    public void increment(Long userId) {
+        afterCommit(List.of(userId), () -> unreadStore.addIfLoaded(userId, 1));
+    }
+
+    /**
+     * 룸 알림 생성 반영 (룸 멤버 전체)
+     */
+    public void incrementAll(Collection<Long> userIds) {
+        afterCommit(userIds, () -> unreadStore.incrementAllIfLoaded(userIds));
+    }
+
+    /**
+     * 시스템 알림 생성 반영 (사용자별 Key 갱신 없이 순번만 증가)
+     */
+    public void incrementSystem() {
+        afterCommit(List.of(), unreadStore::incrementSystem);
+    }
+
+    /**
+     * 읽음 처리 반영
+     */
+    public void decrement(Long userId, long count) {
+        if (count <= 0) {
+            return;
+        }
+        afterCommit(List.of(userId), () -> unreadStore.addIfLoaded(userId, -count));
+    }
+
+    /**
+     * 트랜잭션 커밋 후 캐시 반영 (롤백된 변경이 캐시에 남지 않도록)
+     * - 반영 실패 시 대상 사용자의 캐시를 비워 다음 조회에서 DB로부터 다시 적재
+     */
+    private void afterCommit(Collection<Long> userIds, Runnable cacheUpdate) {
+        Runnable safeUpdate = () -> {
+            try {
+                cacheUpdate.run();
+            } catch (Exception e) {
+                log.warn("읽지 않은 알림 수 반영 실패 - 대상: {}", userIds.size(), e);
+                try {
+                    userIds.forEach(unreadStore::evict);
+                } catch (Exception ignored) {
+                    // Redis 장애 시 TTL 만료로 정리
+                }
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    safeUpdate.run();
+                }
+            });
+        } else {
+            safeUpdate.run();
+        }
+    }
+}
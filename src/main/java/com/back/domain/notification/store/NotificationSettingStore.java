@@ -0,0 +1,47 @@
+package com.back.domain.notification.store;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 사용자별 알림 설정 비트마스크 Redis 저장소
+ * - notification:settings:{userId} → 활성화된 NotificationSettingType 비트마스크 (bit = ordinal)
+ * - 설정 변경 시 커밋 이후 무효화, 무효화 직전에 읽힌 값이 다시 적재되는 경우는 TTL로 정리
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationSettingStore {
+
+    private static final String KEY_PREFIX = "notification:settings:";
+    private static final Duration TTL = Duration.ofHours(1);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 활성화 비트마스크 조회
+     * @return 캐시 미적재 시 Optional.empty()
+     */
+    public Optional<Integer> find(Long userId) {
+        String value = redisTemplate.opsForValue().get(buildKey(userId));
+        return Optional.ofNullable(value).map(Integer::valueOf);
+    }
+
+    public void save(Long userId, int enabledMask) {
+        redisTemplate.opsForValue().set(buildKey(userId), String.valueOf(enabledMask), TTL);
+    }
+
+    /**
+     * 캐시 무효화 (다음 조회 시 DB에서 다시 적재)
+     */
+    public void evict(Long userId) {
+        redisTemplate.delete(buildKey(userId));
+    }
+
+    private String buildKey(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+}
@@ -0,0 +1,124 @@
+package com.back.domain.notification.store;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 사용자별 읽지 않은 알림 수 Redis 저장소
+ * - notification:unread:{userId} → Hash { count: 적재 이후 개인/룸 알림 증감 반영 값, sys: 적재 시점의 시스템 알림 순번 }
+ * - notification:unread:system-seq → 시스템 알림 생성 때마다 1 증가
+ *   시스템 알림은 전체 사용자 Key를 갱신하지 않고, 조회 시 (현재 순번 - 적재 시점 순번)만큼 더해서 계산
+ * - 증감은 이미 적재된 Key에만 반영하고 TTL은 갱신하지 않으므로, 적재 후 TTL이 지나면 DB 값으로 다시 적재 (주기적 보정)
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationUnreadStore {
+
+    private static final String KEY_PREFIX = "notification:unread:";
+    private static final String SYSTEM_SEQ_KEY = KEY_PREFIX + "system-seq";
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    private static final RedisScript<Long> GET_SCRIPT = new DefaultRedisScript<>(
+            "local count = redis.call('hget', KEYS[1], 'count'); " +
+            "if not count then return -1 end; " +
+            "local sys = tonumber(redis.call('hget', KEYS[1], 'sys') or '0'); " +
+            "local seq = tonumber(redis.call('get', KEYS[2]) or '0'); " +
+            "local unread = tonumber(count) + seq - sys; " +
+            "if unread < 0 then return 0 end; " +
+            "return unread",
+            Long.class
+    );
+
+    private static final RedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>(
+            "local seq = redis.call('get', KEYS[2]) or '0'; " +
+            "redis.call('hset', KEYS[1], 'count', ARGV[1], 'sys', seq); " +
+            "redis.call('expire', KEYS[1], ARGV[2]); " +
+            "return 1",
+            Long.class
+    );
+
+    private static final RedisScript<Long> ADD_IF_LOADED_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('exists', KEYS[1]) == 1 then " +
+            "return redis.call('hincrby', KEYS[1], 'count', ARGV[1]) " +
+            "else return nil end",
+            Long.class
+    );
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 읽지 않은 알림 수 조회
+     * @return 캐시 미적재 시 Optional.empty()
+     */
+    public Optional<Long> find(Long userId) {
+        Long unread = redisTemplate.execute(GET_SCRIPT, List.of(buildKey(userId), SYSTEM_SEQ_KEY));
+        if (unread == null || unread < 0) {
+            return Optional.empty();
+        }
+        return Optional.of(unread);
+    }
+
+    /**
+     * DB에서 계산한 읽지 않은 알림 수로 적재 (현재 시스템 알림 순번을 함께 기록)
+     */
+    public void save(Long userId, long unreadCount) {
+        redisTemplate.execute(SAVE_SCRIPT, List.of(buildKey(userId), SYSTEM_SEQ_KEY),
+                String.valueOf(unreadCount), String.valueOf(TTL.toSeconds()));
+    }
+
+    /**
+     * 읽지 않은 알림 수 증감 (캐시가 적재된 경우에만)
+     */
+    public void addIfLoaded(Long userId, long delta) {
+        redisTemplate.execute(ADD_IF_LOADED_SCRIPT, List.of(buildKey(userId)), String.valueOf(delta));
+    }
+
+    /**
+     * 여러 사용자의 읽지 않은 알림 수 증가 (파이프라인 1회)
+     */
+    public void incrementAllIfLoaded(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                for (Long userId : userIds) {
+                    ops.execute(ADD_IF_LOADED_SCRIPT, List.of(buildKey(userId)), "1");
+                }
+                return null;
+            }
+        });
+    }
+
+    /**
+     * 시스템 알림 순번 증가 (모든 사용자의 읽지 않은 수가 1씩 늘어난 것으로 계산됨)
+     */
+    public void incrementSystem() {
+        redisTemplate.opsForValue().increment(SYSTEM_SEQ_KEY);
+    }
+
+    /**
+     * 캐시 무효화 (다음 조회 시 DB에서 다시 적재)
+     */
+    public void evict(Long userId) {
+        redisTemplate.delete(buildKey(userId));
+    }
+
+    private String buildKey(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+}
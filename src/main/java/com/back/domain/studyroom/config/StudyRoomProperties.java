@@ -13,6 +13,10 @@ public class StudyRoomProperties {
     
     private Heartbeat heartbeat = new Heartbeat();
     private Default defaultSettings = new Default();
+    private History history = new History();
+    private Occupancy occupancy = new Occupancy();
+    private Cleanup cleanup = new Cleanup();
+    private Search search = new Search();
     
     @Getter
     @Setter
@@ -28,4 +32,55 @@ public class StudyRoomProperties {
         private boolean allowAudio = true;
         private boolean allowScreenShare = true;
     }
+    
+    /**
+     * 참가 이력 비동기 기록 설정
+     * - flush/reap 주기는 @Scheduled 플레이스홀더(studyroom.history.*)로 직접 참조
+     */
+    @Getter
+    @Setter
+    public static class History {
+        private int queueCapacity = 10_000;   // 메모리 로그 최대 적재량 (초과 시 기록 누락, 입장 경로는 차단하지 않음)
+        private int batchSize = 500;          // JDBC 배치 크기
+        private long flushIntervalMs = 5_000;
+        private long reapIntervalMs = 600_000;
+    }
+
+    /**
+     * 방 점유율 시계열 설정
+     * - 분 단위 버킷은 짧게, 시간 단위 버킷은 길게 보관
+     */
+    @Getter
+    @Setter
+    public static class Occupancy {
+        private String sampleCron = "0 * * * * *";
+        private int minuteRetentionDays = 2;
+        private int hourRetentionDays = 90;
+        private int maxMinuteRangeHours = 24;   // 분 단위 조회 최대 범위
+        private int maxHourRangeDays = 31;      // 시간 단위 조회 최대 범위
+    }
+
+    /**
+     * 비활성 방 자동 종료 설정
+     */
+    @Getter
+    @Setter
+    public static class Cleanup {
+        private String cron = "0 */10 * * * *";
+        private int inactiveHours = 24;       // 마지막 업데이트 후 이 시간이 지나고 참가자가 0명이면 종료
+        private int batchSize = 200;          // 배치당 후보 방 수 (Redis Pipeline 1회)
+        private int leaseMinutes = 9;         // 리더 락 임대 시간 (실행 주기보다 짧게)
+    }
+
+    /**
+     * 방 검색 색인 설정
+     * - 동기화 주기는 @Scheduled 플레이스홀더(studyroom.search.sync-interval-ms)로 직접 참조
+     */
+    @Getter
+    @Setter
+    public static class Search {
+        private long syncIntervalMs = 30_000;   // 다른 인스턴스 변경분 증분 반영 주기
+        private int rebuildBatchSize = 1_000;   // 전체 재색인 시 배치당 조회 방 수
+        private int maxKeywordLength = 50;      // 검색어 최대 길이 (초과분은 잘라서 검색)
+    }
 }
@@ -2,8 +2,8 @@ package com.back.domain.studyroom.controller;
 
 import com.back.domain.studyroom.dto.*;
 import com.back.domain.studyroom.entity.Room;
-import com.back.domain.studyroom.entity.RoomMember;
 import com.back.domain.studyroom.entity.RoomRole;
+import com.back.domain.studyroom.service.RoomSearchService;
 import com.back.domain.studyroom.service.RoomService;
 import com.back.domain.user.common.entity.User;
 import com.back.global.common.dto.RsData;
@@ -39,6 +39,7 @@ import java.util.Map;
 @SecurityRequirement(name = "Bearer Authentication")
 public class RoomController {
     private final RoomService roomService;
+    private final RoomSearchService roomSearchService;
     private final CurrentUser currentUser;
     
     @PostMapping
@@ -194,6 +195,40 @@ public class RoomController {
                 .body(RsData.success("공개 방 목록 조회 완료", response));
     }
 
+    @GetMapping("/search")
+    @Operation(
+        summary = "방 검색", 
+        description = "방 제목과 설명으로 종료되지 않은 공개 방을 검색합니다. 관련도가 높은 순(제목 일치 우선)으로 정렬됩니다. 비로그인 사용자도 조회 가능합니다."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "검색 성공"),
+        @ApiResponse(responseCode = "400", description = "검색어 누락")
+    })
+    public ResponseEntity<RsData<Map<String, Object>>> searchRooms(
+            @Parameter(description = "검색어", required = true) @RequestParam(required = false) String keyword,
+            @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size) {
+
+        Pageable pageable = PageRequest.of(page, size);
+        Page<Room> rooms = roomSearchService.searchRooms(keyword, pageable);
+
+        // 비로그인 사용자도 조회 가능
+        Long userId = currentUser.getUserIdOrNull();
+        List<RoomResponse> roomList = roomService.toRoomResponseList(rooms.getContent(), userId);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("rooms", roomList);
+        response.put("page", rooms.getNumber());
+        response.put("size", rooms.getSize());
+        response.put("totalElements", rooms.getTotalElements());
+        response.put("totalPages", rooms.getTotalPages());
+        response.put("hasNext", rooms.hasNext());
+
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(RsData.success("방 검색 완료", response));
+    }
+
     @GetMapping("/private")
     @Operation(
         summary = "내 비공개 방 목록 조회", 
@@ -309,7 +344,7 @@ public class RoomController {
         Long currentUserId = currentUser.getUserIdOrNull();
 
         Room room = roomService.getRoomDetail(roomId, currentUserId);
-        List<RoomMember> members = roomService.getRoomMembers(roomId, currentUserId);
+        List<RoomMemberResponse> members = roomService.getRoomMembers(roomId, currentUserId);
 
         RoomDetailResponse response = roomService.toRoomDetailResponse(room, members, currentUserId);
 
@@ -537,10 +572,8 @@ public class RoomController {
 
         Long currentUserId = currentUser.getUserId();
 
-        List<RoomMember> members = roomService.getRoomMembers(roomId, currentUserId);
-        
-        // 아바타 정보 포함하여 변환 (N+1 방지)
-        List<RoomMemberResponse> memberList = roomService.toRoomMemberResponseList(roomId, members);
+        // 멤버 스냅샷 조회 (Redis Pipeline 1회 + SQL 1회, 아바타 포함)
+        List<RoomMemberResponse> memberList = roomService.getRoomMembers(roomId, currentUserId);
 
         return ResponseEntity
                 .status(HttpStatus.OK)
@@ -1,7 +1,7 @@
 package com.back.domain.studyroom.controller;
 
+import com.back.domain.studyroom.dto.InviteRoomSnapshot;
 import com.back.domain.studyroom.dto.JoinRoomResponse;
-import com.back.domain.studyroom.entity.Room;
 import com.back.domain.studyroom.entity.RoomMember;
 import com.back.domain.studyroom.service.RoomInviteService;
 import com.back.domain.studyroom.service.RoomService;
@@ -55,11 +55,11 @@ public class RoomInvitePublicController {
         // 로그인 체크는 Spring Security에서 자동 처리 (비로그인 시 401)
         Long userId = currentUser.getUserId();
 
-        // 초대 코드 검증 및 방 조회
-        Room room = inviteService.getRoomByInviteCode(inviteCode);
+        // 초대 코드 검증 및 방 조회 (Redis 스냅샷)
+        InviteRoomSnapshot invite = inviteService.getRoomByInviteCode(inviteCode);
 
         // 방 입장 권한 체크 (비밀번호 무시, Redis 등록 건너뜀)
-        RoomMember member = roomService.joinRoom(room.getId(), null, userId, false);
+        RoomMember member = roomService.joinRoom(invite.roomId(), null, userId, false);
         
         // 랜덤 아바타 ID 생성
         Long avatarId = avatarService.assignRandomAvatar();
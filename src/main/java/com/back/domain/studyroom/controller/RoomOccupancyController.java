@@ -0,0 +1,81 @@
+package com.back.domain.studyroom.controller;
+
+import com.back.domain.studyroom.dto.OccupancyGranularity;
+import com.back.domain.studyroom.dto.RoomOccupancyResponse;
+import com.back.domain.studyroom.service.RoomOccupancyService;
+import com.back.global.common.dto.RsData;
+import com.back.global.security.user.CurrentUser;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 방 점유율 통계 API 컨트롤러
+ */
+@RestController
+@RequestMapping("/api/rooms")
+@RequiredArgsConstructor
+@Tag(name = "Room Occupancy API", description = "방 점유율 통계 관련 API")
+@SecurityRequirement(name = "Bearer Authentication")
+public class RoomOccupancyController {
+
+    private final RoomOccupancyService occupancyService;
+    private final CurrentUser currentUser;
+
+    @GetMapping("/{roomId}/occupancy")
+    @Operation(
+        summary = "방 점유율 곡선 조회",
+        description = "방의 시간대별 참가자 수를 조회합니다.\n\n" +
+                      "- MINUTE: 분 단위 참가자 수 (최대 24시간, 기본 최근 1시간)\n" +
+                      "- HOUR: 시간 단위 최대/평균 참가자 수 (최대 31일, 기본 최근 24시간)\n" +
+                      "- 비공개 방은 방 멤버만 조회할 수 있습니다."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "조회 성공"),
+        @ApiResponse(responseCode = "400", description = "잘못된 조회 기간"),
+        @ApiResponse(responseCode = "403", description = "비공개 방의 멤버가 아님"),
+        @ApiResponse(responseCode = "404", description = "존재하지 않는 방"),
+        @ApiResponse(responseCode = "401", description = "인증 실패")
+    })
+    public ResponseEntity<RsData<RoomOccupancyResponse>> getRoomOccupancy(
+            @Parameter(description = "방 ID", required = true) @PathVariable Long roomId,
+            @Parameter(description = "조회 단위") @RequestParam(defaultValue = "HOUR") OccupancyGranularity granularity,
+            @Parameter(description = "조회 시작 시간") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "조회 종료 시간") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+
+        RoomOccupancyResponse response = occupancyService.getRoomOccupancy(
+                roomId, currentUser.getUserId(), granularity, from, to);
+
+        return ResponseEntity.ok(RsData.success("방 점유율 조회 완료", response));
+    }
+
+    @GetMapping("/occupancy")
+    @Operation(
+        summary = "서비스 전체 점유율 곡선 조회",
+        description = "전체 방의 시간대별 참가자 수 합계를 조회합니다. 조회 단위와 기간 규칙은 방 점유율 조회와 같습니다. (관리자 전용)"
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "조회 성공"),
+        @ApiResponse(responseCode = "400", description = "잘못된 조회 기간"),
+        @ApiResponse(responseCode = "401", description = "인증 실패"),
+        @ApiResponse(responseCode = "403", description = "관리자 권한 없음")
+    })
+    public ResponseEntity<RsData<RoomOccupancyResponse>> getServiceOccupancy(
+            @Parameter(description = "조회 단위") @RequestParam(defaultValue = "HOUR") OccupancyGranularity granularity,
+            @Parameter(description = "조회 시작 시간") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "조회 종료 시간") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+
+        RoomOccupancyResponse response = occupancyService.getServiceOccupancy(granularity, from, to);
+
+        return ResponseEntity.ok(RsData.success("서비스 점유율 조회 완료", response));
+    }
+}
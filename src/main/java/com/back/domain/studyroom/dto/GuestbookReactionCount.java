@@ -0,0 +1,26 @@
+package com.back.domain.studyroom.dto;
+
+import com.querydsl.core.annotations.QueryProjection;
+
+/**
+ * 방명록별 이모지 반응 집계 (조회 전용 모델)
+ * - 방명록 + 이모지 단위 반응 수 집계 결과
+ *
+ * @param guestbookId 방명록 ID
+ * @param emoji       이모지
+ * @param count       반응 수
+ * @param myCount     현재 사용자의 반응 수 (0 또는 1, 비로그인이면 0)
+ */
+public record GuestbookReactionCount(
+        Long guestbookId,
+        String emoji,
+        Long count,
+        Long myCount
+) {
+    @QueryProjection
+    public GuestbookReactionCount {}
+
+    public boolean reactedByMe() {
+        return myCount != null && myCount > 0;
+    }
+}
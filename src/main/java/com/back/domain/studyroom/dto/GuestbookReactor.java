@@ -0,0 +1,25 @@
+package com.back.domain.studyroom.dto;
+
+/**
+ * 방명록 이모지별 최근 반응 사용자 (조회 전용 모델)
+ *
+ * @param guestbookId     방명록 ID
+ * @param emoji           이모지
+ * @param username        사용자 아이디 (닉네임이 없을 때 대체값)
+ * @param profileNickname 프로필 닉네임
+ */
+public record GuestbookReactor(
+        Long guestbookId,
+        String emoji,
+        String username,
+        String profileNickname
+) {
+    /**
+     * User.getNickname()과 동일한 규칙 (프로필 닉네임이 비어 있으면 username)
+     */
+    public String nickname() {
+        return profileNickname != null && !profileNickname.trim().isEmpty()
+                ? profileNickname
+                : username;
+    }
+}
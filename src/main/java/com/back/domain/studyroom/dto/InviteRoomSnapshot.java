@@ -0,0 +1,30 @@
+package com.back.domain.studyroom.dto;
+
+import com.back.domain.studyroom.entity.RoomInviteCode;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.time.LocalDateTime;
+
+/**
+ * 초대 코드 → 방 스냅샷 (Redis 캐시 값)
+ * - 유효한 초대 코드는 Redis 1회 조회로 방 ID까지 확인 (DB/지연 로딩 없음)
+ *
+ * @param inviteCode 초대 코드
+ * @param roomId     방 ID
+ * @param expiresAt  만료 시간
+ */
+public record InviteRoomSnapshot(
+        String inviteCode,
+        Long roomId,
+        LocalDateTime expiresAt
+) {
+
+    public static InviteRoomSnapshot from(RoomInviteCode code) {
+        return new InviteRoomSnapshot(code.getInviteCode(), code.getRoom().getId(), code.getExpiresAt());
+    }
+
+    @JsonIgnore
+    public boolean isExpired() {
+        return LocalDateTime.now().isAfter(expiresAt);
+    }
+}
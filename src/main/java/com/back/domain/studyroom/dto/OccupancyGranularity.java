@@ -0,0 +1,11 @@
+package com.back.domain.studyroom.dto;
+
+/**
+ * 방 점유율 조회 단위
+ * - MINUTE: 분 단위 참가자 수 (단기 보관)
+ * - HOUR: 시간 단위 최대/평균 참가자 수 (장기 보관)
+ */
+public enum OccupancyGranularity {
+    MINUTE,
+    HOUR
+}
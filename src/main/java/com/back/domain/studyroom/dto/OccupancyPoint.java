@@ -0,0 +1,18 @@
+package com.back.domain.studyroom.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 점유율 곡선의 한 지점
+ * - 분 단위 조회에서는 peak와 average가 같은 값 (해당 분의 샘플)
+ */
+@Getter
+@AllArgsConstructor
+public class OccupancyPoint {
+    private LocalDateTime at;
+    private long peak;
+    private double average;
+}
@@ -0,0 +1,37 @@
+package com.back.domain.studyroom.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 참가 이력 기록 단위 (입장~퇴장 구간)
+ * - 배치 INSERT 대상: joinedAt 필수, leftAt은 아직 퇴장 전이면 null
+ * - 배치 종료(UPDATE) 대상: roomId가 null이면 사용자의 모든 열린 구간을 종료
+ *
+ * @param roomId   방 ID
+ * @param userId   사용자 ID
+ * @param joinedAt 입장 시간
+ * @param leftAt   퇴장 시간
+ */
+public record ParticipantInterval(
+        Long roomId,
+        Long userId,
+        LocalDateTime joinedAt,
+        LocalDateTime leftAt
+) {
+
+    public static ParticipantInterval open(Long roomId, Long userId, LocalDateTime joinedAt) {
+        return new ParticipantInterval(roomId, userId, joinedAt, null);
+    }
+
+    public static ParticipantInterval close(Long roomId, Long userId, LocalDateTime leftAt) {
+        return new ParticipantInterval(roomId, userId, null, leftAt);
+    }
+
+    public ParticipantInterval closedAt(LocalDateTime leftAt) {
+        return new ParticipantInterval(roomId, userId, joinedAt, leftAt);
+    }
+
+    public boolean isOpen() {
+        return leftAt == null;
+    }
+}
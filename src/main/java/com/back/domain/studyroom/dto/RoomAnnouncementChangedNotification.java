@@ -0,0 +1,47 @@
+package com.back.domain.studyroom.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 방 공지사항 변경 알림 DTO
+ * WebSocket을 통해 방 참가자들에게 변경분만 브로드캐스트 (클라이언트는 목록을 다시 조회하지 않고 반영)
+ * - CREATED/UPDATED: 변경된 공지사항 전체 포함
+ * - DELETED: 삭제된 공지사항 ID만 포함
+ */
+@Getter
+@Builder
+public class RoomAnnouncementChangedNotification {
+
+    public enum ChangeType {
+        CREATED, UPDATED, DELETED
+    }
+
+    private Long roomId;
+    private ChangeType changeType;
+    private Long announcementId;
+    private RoomAnnouncementResponse announcement;
+    private LocalDateTime timestamp;
+
+    public static RoomAnnouncementChangedNotification of(Long roomId, ChangeType changeType,
+                                                         RoomAnnouncementResponse announcement) {
+        return RoomAnnouncementChangedNotification.builder()
+                .roomId(roomId)
+                .changeType(changeType)
+                .announcementId(announcement.getId())
+                .announcement(announcement)
+                .timestamp(LocalDateTime.now())
+                .build();
+    }
+
+    public static RoomAnnouncementChangedNotification deleted(Long roomId, Long announcementId) {
+        return RoomAnnouncementChangedNotification.builder()
+                .roomId(roomId)
+                .changeType(ChangeType.DELETED)
+                .announcementId(announcementId)
+                .timestamp(LocalDateTime.now())
+                .build();
+    }
+}
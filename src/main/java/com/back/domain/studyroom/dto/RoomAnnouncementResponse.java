@@ -1,16 +1,21 @@
 package com.back.domain.studyroom.dto;
 
 import com.back.domain.studyroom.entity.RoomAnnouncement;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 
 /**
  * 방 공지사항 응답 DTO
+ * - 방별 공지사항 목록 캐시(RoomAnnouncementStore) 값으로도 사용
  */
 @Getter
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class RoomAnnouncementResponse {
     private Long id;
     private String title;
@@ -0,0 +1,58 @@
+package com.back.domain.studyroom.dto;
+
+import com.back.domain.studyroom.entity.RoomRole;
+import com.querydsl.core.annotations.QueryProjection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 온라인 멤버 스냅샷 (조회 전용 모델)
+ * - User + UserProfile + RoomMember를 한 번의 쿼리로 평탄화한 결과
+ * - DB에 멤버십이 없는 사용자(VISITOR)는 role/joinedAt/promotedAt이 null
+ *   (응답 변환 시 VISITOR의 joinedAt은 조회 시점으로 채움 - RoomMember.createVisitor와 동일)
+ *
+ * @param userId          사용자 ID
+ * @param username        사용자 아이디 (닉네임이 없을 때 대체값)
+ * @param profileNickname 프로필 닉네임
+ * @param profileImageUrl 프로필 이미지 URL
+ * @param role            방 내 역할 (VISITOR면 null)
+ * @param joinedAt        멤버 등록 시간
+ * @param promotedAt      권한 변경 시간
+ */
+public record RoomMemberSnapshot(
+        Long userId,
+        String username,
+        String profileNickname,
+        String profileImageUrl,
+        RoomRole role,
+        LocalDateTime joinedAt,
+        LocalDateTime promotedAt
+) {
+    @QueryProjection
+    public RoomMemberSnapshot {}
+
+    /**
+     * User.getNickname()과 동일한 규칙 (프로필 닉네임이 비어 있으면 username)
+     */
+    public String nickname() {
+        return profileNickname != null && !profileNickname.trim().isEmpty()
+                ? profileNickname
+                : username;
+    }
+
+    public RoomRole roleOrVisitor() {
+        return role != null ? role : RoomRole.VISITOR;
+    }
+
+    public RoomMemberResponse toResponse(Long avatarId) {
+        return RoomMemberResponse.builder()
+                .userId(userId)
+                .nickname(nickname())
+                .profileImageUrl(profileImageUrl)
+                .avatarId(avatarId)
+                .role(roleOrVisitor())
+                .joinedAt(joinedAt != null ? joinedAt : LocalDateTime.now())
+                .promotedAt(promotedAt)
+                .build();
+    }
+}
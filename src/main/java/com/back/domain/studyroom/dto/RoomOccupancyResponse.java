@@ -0,0 +1,23 @@
+package com.back.domain.studyroom.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 방 점유율 곡선 응답
+ * - roomId가 null이면 서비스 전체 참가자 수
+ * - 참가자가 없던 구간도 0으로 채워 연속된 곡선으로 반환
+ */
+@Getter
+@Builder
+public class RoomOccupancyResponse {
+    private Long roomId;
+    private OccupancyGranularity granularity;
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private List<OccupancyPoint> points;
+    private OccupancyPoint peak;  // 기간 내 최대 참가자 지점 (기록이 없으면 null)
+}
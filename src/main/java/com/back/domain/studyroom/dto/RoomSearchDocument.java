@@ -0,0 +1,43 @@
+package com.back.domain.studyroom.dto;
+
+import com.back.domain.studyroom.entity.Room;
+import com.back.domain.studyroom.entity.RoomStatus;
+import com.querydsl.core.annotations.QueryProjection;
+
+/**
+ * 방 검색 색인 문서 (조회 전용 모델)
+ * - 색인에 필요한 컬럼만 조회하여 전체 재색인 시 엔티티 로딩 비용을 줄임
+ *
+ * @param roomId      방 ID
+ * @param title       방 제목
+ * @param description 방 설명
+ * @param status      방 상태
+ * @param isPrivate   비공개 여부
+ */
+public record RoomSearchDocument(
+        Long roomId,
+        String title,
+        String description,
+        RoomStatus status,
+        boolean isPrivate
+) {
+    @QueryProjection
+    public RoomSearchDocument {}
+
+    public static RoomSearchDocument from(Room room) {
+        return new RoomSearchDocument(
+                room.getId(),
+                room.getTitle(),
+                room.getDescription(),
+                room.getStatus(),
+                room.isPrivate()
+        );
+    }
+
+    /**
+     * 검색 대상 여부 (종료되지 않은 공개 방만 검색에 노출)
+     */
+    public boolean isSearchable() {
+        return status != RoomStatus.TERMINATED && !isPrivate;
+    }
+}
@@ -9,15 +9,29 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.DynamicUpdate;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * 스터디 룸 엔티티
+ * - 마지막 활동 시각은 벌크 UPDATE로만 갱신하므로, 설정 변경 등 다른 필드 수정 시 읽어 둔 값으로
+ *   덮어쓰지 않도록 변경된 컬럼만 UPDATE (@DynamicUpdate)
+ */
 @Entity
 @Getter
 @SuperBuilder
 @NoArgsConstructor
 @AllArgsConstructor
+@DynamicUpdate
+@Table(indexes = {
+        // 비활성 방 정리 배치의 후보 조회용
+        @Index(name = "idx_room_status_last_activity_at", columnList = "status, last_activity_at"),
+        // 검색 색인 증분 동기화용
+        @Index(name = "idx_room_updated_at", columnList = "updated_at")
+})
 public class Room extends BaseEntity {
     private String title;
     private String description;
@@ -60,6 +74,10 @@ public class Room extends BaseEntity {
     @Column(nullable = false)
     private RoomStatus status = RoomStatus.WAITING;
 
+    // 마지막 활동 시각 (퇴장, 점유율 샘플링 시 갱신)
+    // 설정 변경 시각(updatedAt)과 분리해 비활성 방 정리 기준으로 사용, 벌크 UPDATE로만 갱신
+    private LocalDateTime lastActivityAt;
+
     // 방장
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "created_by")
@@ -192,6 +210,7 @@ public class Room extends BaseEntity {
         room.allowAudio = useWebRTC;   // WebRTC 사용 여부에 따라 설정
         room.allowScreenShare = useWebRTC;  // WebRTC 사용 여부에 따라 설정
         room.status = RoomStatus.WAITING;  // 생성 시 대기 상태
+        room.lastActivityAt = LocalDateTime.now();
         room.createdBy = creator;
         room.theme = theme;
         
@@ -33,6 +33,9 @@ public class RoomGuestbook extends BaseEntity {
     @OneToMany(mappedBy = "guestbook", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<RoomGuestbookReaction> reactions = new ArrayList<>();
 
+    @OneToMany(mappedBy = "guestbook", cascade = CascadeType.ALL, orphanRemoval = true)
+    private List<RoomGuestbookReactionCounter> reactionCounters = new ArrayList<>();
+
     private RoomGuestbook(Room room, User user, String content) {
         this.room = room;
         this.user = user;
@@ -20,6 +20,10 @@ import lombok.NoArgsConstructor;
             name = "uk_guestbook_user_emoji",
             columnNames = {"guestbook_id", "user_id", "emoji"}
         )
+    },
+    indexes = {
+        // 이모지별 집계 + 최근 반응 사용자 조회용
+        @Index(name = "idx_guestbook_reaction_emoji_created", columnList = "guestbook_id, emoji, created_at")
     }
 )
 public class RoomGuestbookReaction extends BaseEntity {
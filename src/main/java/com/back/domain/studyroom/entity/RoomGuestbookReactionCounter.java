@@ -0,0 +1,46 @@
+package com.back.domain.studyroom.entity;
+
+import com.back.global.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 방명록 이모지별 반응 수 카운터 엔티티
+ * - 반응 추가/제거 시 원자적 증감 쿼리로만 갱신 (엔티티 더티 체킹으로 수정하지 않음)
+ * - 반응 목록 전체를 다시 세지 않고 이모지별 개수를 바로 조회하기 위한 집계 테이블
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(
+    name = "room_guestbook_reaction_counter",
+    uniqueConstraints = {
+        @UniqueConstraint(
+            name = "uk_guestbook_reaction_counter",
+            columnNames = {"guestbook_id", "emoji"}
+        )
+    }
+)
+public class RoomGuestbookReactionCounter extends BaseEntity {
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "guestbook_id", nullable = false)
+    private RoomGuestbook guestbook;
+
+    @Column(nullable = false, length = 10)
+    private String emoji;
+
+    @Column(nullable = false)
+    private long reactionCount;
+
+    private RoomGuestbookReactionCounter(RoomGuestbook guestbook, String emoji, long reactionCount) {
+        this.guestbook = guestbook;
+        this.emoji = emoji;
+        this.reactionCount = reactionCount;
+    }
+
+    public static RoomGuestbookReactionCounter create(RoomGuestbook guestbook, String emoji, long reactionCount) {
+        return new RoomGuestbookReactionCounter(guestbook, emoji, reactionCount);
+    }
+}
@@ -2,18 +2,28 @@ package com.back.domain.studyroom.entity;
 
 import com.back.domain.user.common.entity.User;
 import com.back.global.entity.BaseEntity;
-import jakarta.persistence.Entity;
-import jakarta.persistence.FetchType;
-import jakarta.persistence.JoinColumn;
-import jakarta.persistence.ManyToOne;
+import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 
+/**
+ * 방 참가 이력 엔티티
+ * - 입장~퇴장 구간 1건 = 1행 (퇴장 전이면 leftAt = null)
+ * - ParticipantHistoryRecorder가 비동기로 모아 JDBC 배치로 기록 (입장 경로에 INSERT 없음)
+ */
 @Entity
 @NoArgsConstructor
 @Getter
+@Table(
+    name = "room_participant_history",
+    indexes = {
+        @Index(name = "idx_participant_history_room_user_left", columnList = "room_id, user_id, left_at"),
+        @Index(name = "idx_participant_history_user_left", columnList = "user_id, left_at"),
+        @Index(name = "idx_participant_history_left_joined", columnList = "left_at, joined_at")
+    }
+)
 public class RoomParticipantHistory extends BaseEntity {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "room_id")
@@ -26,4 +36,8 @@ public class RoomParticipantHistory extends BaseEntity {
     private LocalDateTime joinedAt;
 
     private LocalDateTime leftAt;
+
+    public boolean isOpen() {
+        return leftAt == null;
+    }
 }
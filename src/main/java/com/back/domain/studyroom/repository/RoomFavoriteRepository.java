@@ -39,6 +39,12 @@ public interface RoomFavoriteRepository extends JpaRepository<RoomFavorite, Long
            "WHERE rf.user.id = :userId AND rf.room.id IN :roomIds")
     Set<Long> findFavoriteRoomIds(@Param("userId") Long userId, @Param("roomIds") List<Long> roomIds);
     
+    /**
+     * 사용자의 즐겨찾기 방 ID 전체 조회 (즐겨찾기 캐시 적재용)
+     */
+    @Query("SELECT rf.room.id FROM RoomFavorite rf WHERE rf.user.id = :userId")
+    List<Long> findRoomIdsByUserId(@Param("userId") Long userId);
+    
     /**
      * 특정 방의 즐겨찾기 개수 (추후 통계용)
      */
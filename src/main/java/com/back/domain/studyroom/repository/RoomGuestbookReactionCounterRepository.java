@@ -0,0 +1,73 @@
+package com.back.domain.studyroom.repository;
+
+import com.back.domain.studyroom.entity.RoomGuestbookReactionCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+/**
+ * 방명록 이모지별 반응 수 카운터
+ * - 모든 증감은 단일 UPDATE/UPSERT 문으로 처리하여 동시 요청에도 개수가 어긋나지 않음
+ */
+public interface RoomGuestbookReactionCounterRepository extends JpaRepository<RoomGuestbookReactionCounter, Long> {
+
+    /**
+     * 반응 수 1 증가 (카운터 행이 없으면 1로 생성)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO room_guestbook_reaction_counter " +
+                   "(guestbook_id, emoji, reaction_count, created_at, updated_at) " +
+                   "VALUES (:guestbookId, :emoji, 1, :now, :now) " +
+                   "ON DUPLICATE KEY UPDATE reaction_count = reaction_count + 1, updated_at = :now",
+           nativeQuery = true)
+    int increment(@Param("guestbookId") Long guestbookId,
+                  @Param("emoji") String emoji,
+                  @Param("now") LocalDateTime now);
+
+    /**
+     * 반응 수 1 감소 (0 미만으로 내려가지 않음)
+     */
+    @Modifying
+    @Query("UPDATE RoomGuestbookReactionCounter c " +
+           "SET c.reactionCount = c.reactionCount - 1, c.updatedAt = :now " +
+           "WHERE c.guestbook.id = :guestbookId AND c.emoji = :emoji AND c.reactionCount > 0")
+    int decrement(@Param("guestbookId") Long guestbookId,
+                  @Param("emoji") String emoji,
+                  @Param("now") LocalDateTime now);
+
+    /**
+     * 방명록 ID 구간의 카운터를 반응 행 수로 다시 계산 (없으면 생성, 있으면 덮어씀)
+     * - 몇 번을 실행해도 결과가 같으므로 재시작/롤링 배포 중 중복 실행되어도 안전
+     * - INSERT ... SELECT는 읽은 반응 행에 공유 잠금을 걸어 동시 토글(반응 행 + 카운터 갱신)과 직렬화됨
+     * @return 영향받은 행 수 (MySQL 기준 생성 1, 변경 2)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO room_guestbook_reaction_counter " +
+                   "(guestbook_id, emoji, reaction_count, created_at, updated_at) " +
+                   "SELECT guestbook_id, emoji, COUNT(*), :now, :now " +
+                   "FROM room_guestbook_reaction " +
+                   "WHERE guestbook_id > :fromId AND guestbook_id <= :toId " +
+                   "GROUP BY guestbook_id, emoji " +
+                   "ON DUPLICATE KEY UPDATE reaction_count = VALUES(reaction_count), updated_at = VALUES(updated_at)",
+           nativeQuery = true)
+    int recountFromReactions(@Param("fromId") long fromId,
+                             @Param("toId") long toId,
+                             @Param("now") LocalDateTime now);
+
+    /**
+     * 방명록 ID 구간에서 반응 행이 모두 사라진 카운터를 0으로 정리 (recountFromReactions가 다루지 못하는 행)
+     */
+    @Modifying
+    @Query(value = "UPDATE room_guestbook_reaction_counter c " +
+                   "SET c.reaction_count = 0, c.updated_at = :now " +
+                   "WHERE c.guestbook_id > :fromId AND c.guestbook_id <= :toId AND c.reaction_count > 0 " +
+                   "AND NOT EXISTS (SELECT 1 FROM room_guestbook_reaction r " +
+                   "                WHERE r.guestbook_id = c.guestbook_id AND r.emoji = c.emoji)",
+           nativeQuery = true)
+    int resetOrphanCounters(@Param("fromId") long fromId,
+                            @Param("toId") long toId,
+                            @Param("now") LocalDateTime now);
+}
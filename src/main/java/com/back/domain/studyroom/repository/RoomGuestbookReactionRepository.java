@@ -2,13 +2,15 @@ package com.back.domain.studyroom.repository;
 
 import com.back.domain.studyroom.entity.RoomGuestbookReaction;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
-public interface RoomGuestbookReactionRepository extends JpaRepository<RoomGuestbookReaction, Long> {
+public interface RoomGuestbookReactionRepository extends JpaRepository<RoomGuestbookReaction, Long>, RoomGuestbookReactionRepositoryCustom {
 
     /**
      * 특정 방명록의 모든 반응 조회
@@ -24,6 +26,37 @@ public interface RoomGuestbookReactionRepository extends JpaRepository<RoomGuest
     Optional<RoomGuestbookReaction> findByGuestbookIdAndUserIdAndEmoji(
             Long guestbookId, Long userId, String emoji);
 
+    /**
+     * 특정 방명록에 특정 사용자가 특정 이모지로 반응했는지 확인 (잠금 없는 일반 조회)
+     */
+    boolean existsByGuestbookIdAndUserIdAndEmoji(Long guestbookId, Long userId, String emoji);
+
+    /**
+     * 반응 추가 (이미 있으면 무시)
+     * - 동시 토글로 같은 반응이 두 번 들어와도 유니크 제약 예외 없이 1건만 저장
+     * @return 실제로 추가된 행 수 (0 또는 1)
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO room_guestbook_reaction " +
+                   "(guestbook_id, user_id, emoji, created_at, updated_at) " +
+                   "VALUES (:guestbookId, :userId, :emoji, :now, :now)",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("guestbookId") Long guestbookId,
+                       @Param("userId") Long userId,
+                       @Param("emoji") String emoji,
+                       @Param("now") LocalDateTime now);
+
+    /**
+     * 반응 제거
+     * @return 실제로 삭제된 행 수 (0 또는 1)
+     */
+    @Modifying
+    @Query("DELETE FROM RoomGuestbookReaction r " +
+           "WHERE r.guestbook.id = :guestbookId AND r.user.id = :userId AND r.emoji = :emoji")
+    int deleteReaction(@Param("guestbookId") Long guestbookId,
+                       @Param("userId") Long userId,
+                       @Param("emoji") String emoji);
+
     /**
      * 특정 방명록에 특정 사용자의 모든 반응 조회
      */
@@ -38,4 +71,10 @@ public interface RoomGuestbookReactionRepository extends JpaRepository<RoomGuest
      * 특정 방명록의 전체 반응 개수
      */
     long countByGuestbookId(Long guestbookId);
+
+    /**
+     * 반응이 달린 방명록 중 가장 큰 ID (카운터 재계산 구간 상한)
+     */
+    @Query("SELECT COALESCE(MAX(r.guestbook.id), 0) FROM RoomGuestbookReaction r")
+    long findMaxReactedGuestbookId();
 }
@@ -0,0 +1,22 @@
+package com.back.domain.studyroom.repository;
+
+import com.back.domain.studyroom.dto.GuestbookReactionCount;
+import com.back.domain.studyroom.dto.GuestbookReactor;
+
+import java.util.List;
+
+public interface RoomGuestbookReactionRepositoryCustom {
+
+    /**
+     * 여러 방명록의 이모지별 반응 수 + 내 반응 여부 일괄 조회 (카운터 테이블 조회 1회)
+     * @param guestbookIds 방명록 ID 목록
+     * @param userId 현재 사용자 ID (비로그인이면 null)
+     */
+    List<GuestbookReactionCount> countReactions(List<Long> guestbookIds, Long userId);
+
+    /**
+     * 여러 방명록의 이모지별 최근 반응 사용자 일괄 조회 (방명록 + 이모지당 최대 limit명)
+     * - 결과는 방명록, 이모지, 최신순으로 정렬
+     */
+    List<GuestbookReactor> findRecentReactors(List<Long> guestbookIds, int limit);
+}
@@ -0,0 +1,114 @@
+package com.back.domain.studyroom.repository;
+
+import com.back.domain.studyroom.dto.GuestbookReactionCount;
+import com.back.domain.studyroom.dto.GuestbookReactor;
+import com.back.domain.studyroom.dto.QGuestbookReactionCount;
+import com.back.domain.studyroom.entity.QRoomGuestbookReaction;
+import com.back.domain.studyroom.entity.QRoomGuestbookReactionCounter;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 방명록 반응 집계 조회
+ * - 페이지 단위로 방명록 ID를 모아 반응 수/내 반응 여부/최근 반응 사용자를 각각 쿼리 1회로 조회
+ * - 반응 수는 RoomGuestbookReactionCounter 집계 테이블 기준
+ * - 반응 엔티티와 User 전체 로딩 없이 요약에 필요한 컬럼만 조회
+ */
+@Repository
+@RequiredArgsConstructor
+public class RoomGuestbookReactionRepositoryImpl implements RoomGuestbookReactionRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+    private final EntityManager entityManager;
+
+    // QueryDSL Q 클래스 인스턴스
+    private final QRoomGuestbookReaction reaction = QRoomGuestbookReaction.roomGuestbookReaction;
+    private final QRoomGuestbookReactionCounter counter = QRoomGuestbookReactionCounter.roomGuestbookReactionCounter;
+
+    /**
+     * 이모지별 반응 수 + 내 반응 여부 집계
+     * - 반응 수는 카운터 테이블에서 바로 읽고 (반응 행 전체 GROUP BY 없음),
+     *   내 반응 여부는 uk_guestbook_user_emoji 인덱스 EXISTS 서브쿼리로 확인
+     * - 반응이 모두 취소되어 0이 된 카운터 행은 제외
+     */
+    @Override
+    public List<GuestbookReactionCount> countReactions(List<Long> guestbookIds, Long userId) {
+        if (guestbookIds.isEmpty()) {
+            return List.of();
+        }
+
+        NumberExpression<Long> myCount = new CaseBuilder()
+                .when(JPAExpressions.selectOne()
+                        .from(reaction)
+                        .where(
+                                reaction.guestbook.id.eq(counter.guestbook.id),
+                                reaction.emoji.eq(counter.emoji),
+                                userId != null ? reaction.user.id.eq(userId) : reaction.user.id.isNull()
+                        )
+                        .exists())
+                .then(1L)
+                .otherwise(0L);
+
+        return queryFactory
+                .select(new QGuestbookReactionCount(
+                        counter.guestbook.id,
+                        counter.emoji,
+                        counter.reactionCount,
+                        myCount
+                ))
+                .from(counter)
+                .where(
+                        counter.guestbook.id.in(guestbookIds),
+                        counter.reactionCount.gt(0L)
+                )
+                .fetch();
+    }
+
+    /**
+     * 이모지별 최근 반응 사용자 조회
+     * - 반응 수가 남아 있는 카운터 행(방명록 + 이모지)마다 LATERAL 서브쿼리로 최신 limit명만 조회
+     * - idx_guestbook_reaction_emoji_created 인덱스를 최신순으로 limit행만 읽으므로
+     *   반응이 많은 방명록이어도 방명록 전체 반응 행을 훑지 않음 (토글 응답마다 호출되어도 비용이 일정)
+     */
+    @Override
+    public List<GuestbookReactor> findRecentReactors(List<Long> guestbookIds, int limit) {
+        if (guestbookIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<Object[]> rows = entityManager.createQuery(
+                        "SELECT c.guestbook.id, c.emoji, x.username, x.nickname " +
+                        "FROM RoomGuestbookReactionCounter c " +
+                        "JOIN LATERAL (" +
+                        "   SELECT u.username AS username, p.nickname AS nickname, " +
+                        "          r.createdAt AS createdAt, r.id AS reactionId " +
+                        "   FROM RoomGuestbookReaction r " +
+                        "   JOIN r.user u " +
+                        "   LEFT JOIN u.userProfile p " +
+                        "   WHERE r.guestbook.id = c.guestbook.id AND r.emoji = c.emoji " +
+                        "   ORDER BY r.createdAt DESC, r.id DESC " +
+                        "   LIMIT :limit" +
+                        ") x " +
+                        "WHERE c.guestbook.id IN :guestbookIds AND c.reactionCount > 0 " +
+                        "ORDER BY c.guestbook.id, c.emoji, x.createdAt DESC, x.reactionId DESC", Object[].class)
+                .setParameter("guestbookIds", guestbookIds)
+                .setParameter("limit", limit)
+                .getResultList();
+
+        return rows.stream()
+                .map(row -> new GuestbookReactor(
+                        (Long) row[0],
+                        (String) row[1],
+                        (String) row[2],
+                        (String) row[3]
+                ))
+                .toList();
+    }
+}
@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface RoomInviteCodeRepository extends JpaRepository<RoomInviteCode, Long> {
@@ -20,6 +21,14 @@ public interface RoomInviteCodeRepository extends JpaRepository<RoomInviteCode,
            "WHERE ric.inviteCode = :inviteCode")
     Optional<RoomInviteCode> findByInviteCode(@Param("inviteCode") String inviteCode);
 
+    /**
+     * 활성 초대 코드 문자열 목록 (Bloom Filter 생성용)
+     */
+    @Query("SELECT ric.inviteCode FROM RoomInviteCode ric " +
+           "WHERE ric.isActive = true " +
+           "AND ric.expiresAt > :now")
+    List<String> findActiveInviteCodes(@Param("now") LocalDateTime now);
+
     /**
      * 초대 코드 중복 확인
      */
@@ -1,5 +1,6 @@
 package com.back.domain.studyroom.repository;
 
+import com.back.domain.studyroom.dto.RoomMemberSnapshot;
 import com.back.domain.studyroom.entity.RoomMember;
 import com.back.domain.studyroom.entity.RoomRole;
 
@@ -57,4 +58,19 @@ public interface RoomMemberRepositoryCustom {
      * @return 멤버십 목록 (MEMBER 이상만 DB에 있음)
      */
     List<RoomMember> findByRoomIdAndUserIdIn(Long roomId, java.util.Set<Long> userIds);
+
+    /**
+     * 온라인 사용자들의 멤버 스냅샷 일괄 조회 (단일 쿼리)
+     * User + UserProfile + RoomMember(LEFT JOIN)를 평탄화하여 조회
+     * @param roomId 방 ID
+     * @param userIds 온라인 사용자 ID 목록
+     * @return 멤버 스냅샷 목록 (DB 멤버십이 없으면 role = null → VISITOR)
+     */
+    List<RoomMemberSnapshot> findMemberSnapshots(Long roomId, java.util.Set<Long> userIds);
+
+    /**
+     * 방의 모든 멤버 사용자 ID 조회 (엔티티 로딩 없이 ID만)
+     * 룸 알림 생성 시 멤버별 읽지 않은 알림 수 반영에 사용
+     */
+    List<Long> findUserIdsByRoomId(Long roomId);
 }
@@ -1,9 +1,12 @@
 package com.back.domain.studyroom.repository;
 
+import com.back.domain.studyroom.dto.QRoomMemberSnapshot;
+import com.back.domain.studyroom.dto.RoomMemberSnapshot;
 import com.back.domain.studyroom.entity.QRoomMember;
 import com.back.domain.studyroom.entity.RoomMember;
 import com.back.domain.studyroom.entity.RoomRole;
 import com.back.domain.user.common.entity.QUser;
+import com.back.domain.user.common.entity.QUserProfile;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
@@ -28,6 +31,7 @@ public class RoomMemberRepositoryImpl implements RoomMemberRepositoryCustom {
     // QueryDSL Q 클래스 인스턴스
     private final QRoomMember roomMember = QRoomMember.roomMember;
     private final QUser user = QUser.user;
+    private final QUserProfile userProfile = QUserProfile.userProfile;
 
     /**
      * 방의 특정 사용자 멤버십 조회
@@ -212,4 +216,54 @@ public class RoomMemberRepositoryImpl implements RoomMemberRepositoryCustom {
 
         return count != null && count > 0;
     }
+
+    /**
+     * 온라인 사용자들의 멤버 스냅샷 일괄 조회
+     * - User 기준으로 UserProfile, RoomMember를 LEFT JOIN (엔티티 로딩 없이 컬럼만 프로젝션)
+     * - 지연 로딩 연관관계를 건드리지 않으므로 방 인원과 무관하게 쿼리 1회
+     * - RoomMember가 없는 사용자 = VISITOR (role = null)
+     * @param roomId 방 ID
+     * @param userIds 온라인 사용자 ID Set
+     * @return 멤버 스냅샷 목록
+     */
+    @Override
+    public List<RoomMemberSnapshot> findMemberSnapshots(Long roomId, java.util.Set<Long> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return List.of();
+        }
+
+        return queryFactory
+                .select(new QRoomMemberSnapshot(
+                        user.id,
+                        user.username,
+                        userProfile.nickname,
+                        userProfile.profileImageUrl,
+                        roomMember.role,
+                        roomMember.joinedAt,
+                        roomMember.promotedAt
+                ))
+                .from(user)
+                .leftJoin(user.userProfile, userProfile)
+                .leftJoin(roomMember).on(
+                        roomMember.user.id.eq(user.id),
+                        roomMember.room.id.eq(roomId)
+                )
+                .where(user.id.in(userIds))
+                .fetch();
+    }
+
+    /**
+     * 방의 모든 멤버 사용자 ID 조회
+     * - 룸 알림 생성 시 읽지 않은 알림 수를 반영할 대상 (DB 멤버십 = MEMBER 이상)
+     * @param roomId 방 ID
+     * @return 멤버 사용자 ID 목록
+     */
+    @Override
+    public List<Long> findUserIdsByRoomId(Long roomId) {
+        return queryFactory
+                .select(roomMember.user.id)
+                .from(roomMember)
+                .where(roomMember.room.id.eq(roomId))
+                .fetch();
+    }
 }
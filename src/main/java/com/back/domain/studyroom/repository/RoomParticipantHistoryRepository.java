@@ -0,0 +1,30 @@
+package com.back.domain.studyroom.repository;
+
+import com.back.domain.studyroom.entity.RoomParticipantHistory;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface RoomParticipantHistoryRepository extends JpaRepository<RoomParticipantHistory, Long>, RoomParticipantHistoryRepositoryCustom {
+
+    /**
+     * 기준 시간 이전에 시작되어 아직 종료되지 않은 구간 조회 (세션 정리용, ID 키셋 배치)
+     * @param afterId  이전 배치의 마지막 구간 ID (첫 배치는 0)
+     * @param pageable 배치 크기 (정렬은 구간 ID 오름차순 고정)
+     * @return [historyId, roomId, userId] 목록
+     */
+    @Query("SELECT h.id, h.room.id, h.user.id FROM RoomParticipantHistory h " +
+           "WHERE h.leftAt IS NULL " +
+           "AND h.joinedAt < :threshold " +
+           "AND h.id > :afterId " +
+           "ORDER BY h.id")
+    List<Object[]> findOpenIntervalKeysJoinedBefore(@Param("threshold") LocalDateTime threshold,
+                                                    @Param("afterId") Long afterId,
+                                                    Pageable pageable);
+}
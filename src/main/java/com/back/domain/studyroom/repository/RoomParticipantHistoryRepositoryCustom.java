@@ -0,0 +1,26 @@
+package com.back.domain.studyroom.repository;
+
+import com.back.domain.studyroom.dto.ParticipantInterval;
+
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public interface RoomParticipantHistoryRepositoryCustom {
+
+    /**
+     * 참가 구간 일괄 INSERT (JDBC 배치)
+     * @param intervals 입장~퇴장 구간 목록 (퇴장 전이면 leftAt = null)
+     */
+    void bulkInsert(List<ParticipantInterval> intervals);
+
+    /**
+     * 열린 구간 일괄 종료 (JDBC 배치)
+     * - roomId가 있으면 해당 방의 열린 구간만, null이면 사용자의 모든 열린 구간 종료
+     * - 목록 순서대로 적용하며, 이미 종료된 구간은 변경하지 않으므로 같은 구간에 대한 중복 종료는 먼저 온 것이 반영됨
+     * - 호출 측 트랜잭션이 없으면 호출마다 별도 트랜잭션으로 반영 (정리 작업의 배치 단위 커밋)
+     * @param closes 종료 대상 목록 (joinedAt 무시)
+     */
+    @Transactional
+    void bulkClose(List<ParticipantInterval> closes);
+}
@@ -0,0 +1,90 @@
+package com.back.domain.studyroom.repository;
+
+import com.back.domain.studyroom.dto.ParticipantInterval;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 참가 이력 배치 저장소
+ * - IDENTITY 전략에서는 JPA saveAll이 배치되지 않으므로 JdbcTemplate.batchUpdate 사용
+ * - 쓰기 전용 경로이므로 영속성 컨텍스트를 거치지 않음
+ */
+@Repository
+@RequiredArgsConstructor
+public class RoomParticipantHistoryRepositoryImpl implements RoomParticipantHistoryRepositoryCustom {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO room_participant_history (room_id, user_id, joined_at, left_at, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String CLOSE_BY_ROOM_SQL =
+            "UPDATE room_participant_history SET left_at = ?, updated_at = ? " +
+            "WHERE room_id = ? AND user_id = ? AND left_at IS NULL";
+
+    private static final String CLOSE_BY_USER_SQL =
+            "UPDATE room_participant_history SET left_at = ?, updated_at = ? " +
+            "WHERE user_id = ? AND left_at IS NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void bulkInsert(List<ParticipantInterval> intervals) {
+        if (intervals.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, intervals, intervals.size(), (ps, interval) -> {
+            ps.setLong(1, interval.roomId());
+            ps.setLong(2, interval.userId());
+            ps.setTimestamp(3, Timestamp.valueOf(interval.joinedAt()));
+            ps.setTimestamp(4, interval.leftAt() != null ? Timestamp.valueOf(interval.leftAt()) : null);
+            ps.setTimestamp(5, now);
+            ps.setTimestamp(6, now);
+        });
+    }
+
+    /**
+     * 방 단위/사용자 단위 종료가 연속된 구간마다 JDBC 배치 1회로 실행 (종류별로 모으면 순서가 바뀜)
+     * - 예: 연결 끊김(t1) 후 같은 방 재입장(t2)이면 이전 구간은 t1로 닫혀야 함
+     */
+    @Override
+    public void bulkClose(List<ParticipantInterval> closes) {
+        if (closes.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        int start = 0;
+        while (start < closes.size()) {
+            boolean byRoom = closes.get(start).roomId() != null;
+            int end = start + 1;
+            while (end < closes.size() && (closes.get(end).roomId() != null) == byRoom) {
+                end++;
+            }
+
+            List<ParticipantInterval> run = closes.subList(start, end);
+            if (byRoom) {
+                jdbcTemplate.batchUpdate(CLOSE_BY_ROOM_SQL, run, run.size(), (ps, close) -> {
+                    ps.setTimestamp(1, Timestamp.valueOf(close.leftAt()));
+                    ps.setTimestamp(2, now);
+                    ps.setLong(3, close.roomId());
+                    ps.setLong(4, close.userId());
+                });
+            } else {
+                jdbcTemplate.batchUpdate(CLOSE_BY_USER_SQL, run, run.size(), (ps, close) -> {
+                    ps.setTimestamp(1, Timestamp.valueOf(close.leftAt()));
+                    ps.setTimestamp(2, now);
+                    ps.setLong(3, close.userId());
+                });
+            }
+            start = end;
+        }
+    }
+}
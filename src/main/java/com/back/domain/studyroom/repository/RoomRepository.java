@@ -21,6 +21,10 @@ public interface RoomRepository extends JpaRepository<Room, Long>, RoomRepositor
     @Query("SELECT r FROM Room r WHERE r.isActive = true")
     List<Room> findActiveRooms();
 
+    // 활성화된 방 ID 목록 조회 (점유율 샘플링용, 엔티티 로딩 없음)
+    @Query("SELECT r.id FROM Room r WHERE r.isActive = true")
+    List<Long> findActiveRoomIds();
+
     // 특정 상태의 방 목록 조회
     @Query("SELECT r FROM Room r WHERE r.status = :status")
     List<Room> findByStatus(@Param("status") RoomStatus status);
@@ -1,11 +1,13 @@
 package com.back.domain.studyroom.repository;
 
+import com.back.domain.studyroom.dto.RoomSearchDocument;
 import com.back.domain.studyroom.entity.Room;
 import com.back.domain.studyroom.entity.RoomStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -30,18 +32,62 @@ public interface RoomRepositoryCustom {
      */
     Page<Room> findRoomsWithFilters(String title, RoomStatus status, Boolean isPrivate, Pageable pageable);
 
+    /**
+     * 검색 색인 문서 조회 (전체 재색인용, ID 기준 키셋 페이징)
+     * - 종료되지 않은 방만 조회
+     * @param afterId 이전 배치의 마지막 방 ID (첫 배치는 0)
+     * @param limit 배치 크기
+     */
+    List<RoomSearchDocument> findSearchDocuments(Long afterId, int limit);
+
+    /**
+     * 특정 시점 이후 변경된 방의 검색 색인 문서 조회 (증분 색인용)
+     * - 종료된 방도 포함 (색인에서 제거하기 위함)
+     */
+    List<RoomSearchDocument> findSearchDocumentsUpdatedSince(LocalDateTime since);
+
+    /**
+     * ID 목록으로 방 조회 (방장 JOIN FETCH, 순서 보장 안 함)
+     */
+    List<Room> findRoomsByIdsWithCreator(List<Long> roomIds);
+
     /**
      * 인기 방 조회 (참가자 수 기준)
      * - JOIN FETCH로 N+1 문제 방지
      */
     Page<Room> findPopularRooms(Pageable pageable);
 
+    /**
+     * 비활성 방 정리 후보 ID 조회 (배치용, ID 기준 키셋 페이징)
+     * - ACTIVE 상태이고 cutoffTime 이전에 마지막으로 활동한 방
+     * @param cutoffTime 기준 시간
+     * @param afterId 이전 배치의 마지막 방 ID (첫 배치는 0)
+     * @param limit 배치 크기
+     * @return 방 ID 목록 (오름차순)
+     */
+    List<Long> findInactiveRoomCandidateIds(LocalDateTime cutoffTime, Long afterId, int limit);
+
+    /**
+     * 비활성 방 정리 대상 비관적 락 (배치용, 트랜잭션 안에서 호출)
+     * - 아직 ACTIVE이고 cutoffTime 이전에 마지막으로 활동한 방만 ID 순으로 락
+     * @return 락을 잡은 방 ID 목록
+     */
+    List<Long> lockInactiveRoomIds(List<Long> roomIds, LocalDateTime cutoffTime);
+
     /**
      * 비활성 방 정리 (배치용)
-     * - 참가자가 0명이고 일정 시간 이상 비활성 상태인 방 종료
+     * - 방 락을 잡은 뒤 Redis에서 참가자 0명으로 확인된 방 ID만 전달
+     * - 확인 이후 퇴장/샘플링으로 활동한 방은 cutoffTime 조건으로 제외
      * @return 종료된 방 개수
      */
-    int terminateInactiveRooms(LocalDateTime cutoffTime);
+    int terminateInactiveRooms(List<Long> roomIds, LocalDateTime cutoffTime);
+
+    /**
+     * 방 마지막 활동 시각 갱신 (퇴장, 점유율 샘플링)
+     * - 벌크 UPDATE로 처리해 updatedAt(설정 변경 시각)은 건드리지 않음
+     * @return 갱신된 방 개수
+     */
+    int touchLastActivity(Collection<Long> roomIds, LocalDateTime activityAt);
 
     /**
      * 비관적 락으로 방 조회 (동시성 제어용)
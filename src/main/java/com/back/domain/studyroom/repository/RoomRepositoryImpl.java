@@ -1,5 +1,7 @@
 package com.back.domain.studyroom.repository;
 
+import com.back.domain.studyroom.dto.QRoomSearchDocument;
+import com.back.domain.studyroom.dto.RoomSearchDocument;
 import com.back.domain.studyroom.entity.QRoom;
 import com.back.domain.studyroom.entity.QRoomMember;
 import com.back.domain.studyroom.entity.Room;
@@ -15,8 +17,10 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -162,6 +166,56 @@ public class RoomRepositoryImpl implements RoomRepositoryCustom {
         return new PageImpl<>(rooms, pageable, totalCount != null ? totalCount : 0);
     }
 
+    /**
+     * 검색 색인 문서 조회 (전체 재색인용)
+     * - 엔티티 대신 색인에 필요한 컬럼만 프로젝션
+     * - ID 기준 키셋 페이징으로 OFFSET 스캔 없이 배치 조회
+     */
+    @Override
+    public List<RoomSearchDocument> findSearchDocuments(Long afterId, int limit) {
+        return queryFactory
+                .select(searchDocument())
+                .from(room)
+                .where(
+                        room.id.gt(afterId),
+                        room.status.ne(RoomStatus.TERMINATED)
+                )
+                .orderBy(room.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * 특정 시점 이후 변경된 방의 검색 색인 문서 조회 (증분 색인용)
+     */
+    @Override
+    public List<RoomSearchDocument> findSearchDocumentsUpdatedSince(LocalDateTime since) {
+        return queryFactory
+                .select(searchDocument())
+                .from(room)
+                .where(room.updatedAt.goe(since))
+                .fetch();
+    }
+
+    /**
+     * ID 목록으로 방 조회 (검색 결과 로딩용)
+     */
+    @Override
+    public List<Room> findRoomsByIdsWithCreator(List<Long> roomIds) {
+        if (roomIds.isEmpty()) {
+            return List.of();
+        }
+        return queryFactory
+                .selectFrom(room)
+                .leftJoin(room.createdBy, user).fetchJoin()  // N+1 방지
+                .where(room.id.in(roomIds))
+                .fetch();
+    }
+
+    private QRoomSearchDocument searchDocument() {
+        return new QRoomSearchDocument(room.id, room.title, room.description, room.status, room.isPrivate);
+    }
+
     /**
      * 인기 방 조회 (참가자 수 기준, TERMINATED 제외)
      * 
@@ -202,39 +256,134 @@ public class RoomRepositoryImpl implements RoomRepositoryCustom {
     }
 
     /**
-     * 비활성 방 정리 (배치 작업용)
-     * 
+     * 비활성 방 정리 후보 ID 조회 (배치 작업용)
+     *
      * 참고: 참가자 수는 Redis에서 관리하므로 DB에서 직접 확인 불가
-     * 이 메서드는 Redis와 연동하여 사용해야 함
-     * 
+     * 조회된 후보는 Redis에서 참가자 0명인지 확인한 뒤 terminateInactiveRooms로 종료
+     *
      * 대상:
-     * - ACTIVE 상태인 방
-     * - cutoffTime 이전에 마지막으로 업데이트된 방
-     * 
+     * - ACTIVE 상태인 방 (WAITING/PAUSED 방은 방장이 관리하므로 제외)
+     * - cutoffTime 이전에 마지막으로 활동한 방 (설정 변경 시각인 updatedAt은 기준이 아님)
+     *
+     * 페이징:
+     * - OFFSET 대신 ID 키셋 사용 (종료 처리로 대상이 줄어도 누락/중복 없음)
+     *
+     * @param cutoffTime 기준 시간
+     * @param afterId 이전 배치의 마지막 방 ID
+     * @param limit 배치 크기
+     * @return 방 ID 목록
+     */
+    @Override
+    public List<Long> findInactiveRoomCandidateIds(LocalDateTime cutoffTime, Long afterId, int limit) {
+        return queryFactory
+                .select(room.id)
+                .from(room)
+                .where(
+                        room.id.gt(afterId),
+                        room.status.eq(RoomStatus.ACTIVE),
+                        inactiveSince(cutoffTime)
+                )
+                .orderBy(room.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * 비활성 방 일괄 종료 (배치 작업용)
+     *
      * 처리:
      * - 상태를 TERMINATED로 변경
      * - isActive를 false로 변경
-     * 
-     * TODO: Redis에서 참가자 0명인 방 확인 후 호출
-     * 
-     * @param cutoffTime 기준 시간 (이 시간 이전에 업데이트된 방 정리)
+     * - 벌크 UPDATE는 Auditing이 적용되지 않으므로 updatedAt 직접 갱신
+     *
+     * 동시 입장 처리:
+     * - 입장은 방 행을 비관적 락으로 잡은 채 Redis에 참가자를 등록하고, 정리 쪽은 lockInactiveRoomIds로
+     *   같은 행을 잡은 뒤 Redis를 확인하므로 락 이전에 끝난 입장은 참가자로 보여 제외됨
+     * - 이 UPDATE가 먼저 커밋되면 입장 쪽은 TERMINATED 상태를 보고 거절됨
+     *
+     * @param roomIds 방 락을 잡은 뒤 Redis에서 참가자 0명으로 확인된 방 ID 목록
+     * @param cutoffTime 기준 시간 (이 시간 이전에 마지막으로 활동한 방만 정리)
      * @return 정리된 방 개수
      */
     @Override
-    public int terminateInactiveRooms(LocalDateTime cutoffTime) {
+    @Transactional
+    public int terminateInactiveRooms(List<Long> roomIds, LocalDateTime cutoffTime) {
+        if (roomIds.isEmpty()) {
+            return 0;
+        }
+
         long affectedRows = queryFactory
                 .update(room)
                 .set(room.status, RoomStatus.TERMINATED)
                 .set(room.isActive, false)
+                .set(room.updatedAt, LocalDateTime.now())
                 .where(
+                        room.id.in(roomIds),
                         room.status.eq(RoomStatus.ACTIVE),
-                        room.updatedAt.lt(cutoffTime)
+                        inactiveSince(cutoffTime)
                 )
                 .execute();
 
         return (int) affectedRows;
     }
 
+    @Override
+    public List<Long> lockInactiveRoomIds(List<Long> roomIds, LocalDateTime cutoffTime) {
+        if (roomIds.isEmpty()) {
+            return List.of();
+        }
+
+        // ID 순으로 락을 잡아 다른 배치/입장과 교착되지 않도록 함
+        return queryFactory
+                .selectFrom(room)
+                .where(
+                        room.id.in(roomIds),
+                        room.status.eq(RoomStatus.ACTIVE),
+                        inactiveSince(cutoffTime)
+                )
+                .orderBy(room.id.asc())
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .fetch()
+                .stream()
+                .map(Room::getId)
+                .toList();
+    }
+
+    /**
+     * 방 마지막 활동 시각 갱신
+     * - 퇴장 시 단건, 점유율 샘플링 시 참가자 있는 방 일괄
+     * - 벌크 UPDATE라 updatedAt이 바뀌지 않으므로 검색 색인 증분 동기화 대상이 되지 않음
+     * - 이미 더 늦은 시각으로 갱신된 방은 되돌리지 않음
+     *
+     * @param roomIds 방 ID 목록
+     * @param activityAt 활동 시각
+     * @return 갱신된 방 개수
+     */
+    @Override
+    @Transactional
+    public int touchLastActivity(Collection<Long> roomIds, LocalDateTime activityAt) {
+        if (roomIds.isEmpty()) {
+            return 0;
+        }
+
+        long affectedRows = queryFactory
+                .update(room)
+                .set(room.lastActivityAt, activityAt)
+                .where(
+                        room.id.in(roomIds),
+                        room.lastActivityAt.isNull().or(room.lastActivityAt.lt(activityAt))
+                )
+                .execute();
+
+        return (int) affectedRows;
+    }
+
+    // 활동 시각이 없는 기존 방은 updatedAt으로 대신 판단 (첫 입장/샘플링 이후에는 lastActivityAt 사용)
+    private BooleanExpression inactiveSince(LocalDateTime cutoffTime) {
+        return room.lastActivityAt.lt(cutoffTime)
+                .or(room.lastActivityAt.isNull().and(room.updatedAt.lt(cutoffTime)));
+    }
+
     /**
      * 비관적 락으로 방 조회 (동시성 제어용)
      * 동시성 제어:
@@ -0,0 +1,59 @@
+package com.back.domain.studyroom.scheduler;
+
+import com.back.domain.studyroom.service.RoomGuestbookService;
+import com.back.global.common.lock.RedisLeaderLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 방명록 반응 카운터 재계산
+ * - 애플리케이션 시작 시 방명록 ID 구간 배치로 이모지별 반응 수를 반응 데이터로 다시 계산
+ * - 재계산은 덮어쓰기라 여러 번 실행되어도 안전하므로, 카운터 테이블이 비어 있는지로 판단하지 않고 매 시작마다 실행
+ *   (롤링 배포 중 카운터를 모르는 이전 버전 노드가 남긴 반응도 마지막으로 뜬 노드가 바로잡음)
+ * - 구간마다 트랜잭션을 나눠 잠금 범위와 시간을 제한
+ * - 리더 락으로 여러 인스턴스 중 한 노드만 실행
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GuestbookReactionCounterBackfill {
+
+    static final String JOB_NAME = "guestbook-reaction-counter-backfill";
+    private static final Duration LEASE = Duration.ofMinutes(10);
+    static final int BATCH_SIZE = 1000;
+
+    private final RoomGuestbookService guestbookService;
+    private final RedisLeaderLock leaderLock;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (!leaderLock.tryAcquire(JOB_NAME, LEASE)) {
+            return;
+        }
+
+        long updated = 0;
+        try {
+            long maxId = guestbookService.findMaxReactedGuestbookId();
+            long fromId = 0L;
+
+            while (fromId < maxId) {
+                long toId = Math.min(fromId + BATCH_SIZE, maxId);
+                updated += guestbookService.recountReactionCounters(fromId, toId);
+                fromId = toId;
+            }
+
+            if (updated > 0) {
+                log.info("방명록 반응 카운터 재계산 완료 - 생성/변경된 카운터: {}", updated);
+            }
+        } catch (Exception e) {
+            log.error("방명록 반응 카운터 재계산 실패 - 생성/변경된 카운터: {}", updated, e);
+        } finally {
+            leaderLock.release(JOB_NAME);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.back.domain.studyroom.scheduler;
+
+import com.back.domain.studyroom.config.StudyRoomProperties;
+import com.back.domain.studyroom.repository.RoomRepository;
+import com.back.domain.studyroom.service.RoomService;
+import com.back.global.common.lock.RedisLeaderLock;
+import com.back.global.websocket.store.RedisSessionStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 비활성 방 자동 종료 스케줄러
+ * - 마지막 활동(퇴장, 점유율 샘플링) 이후 오래 지난 ACTIVE 방을 ID 키셋으로 배치 조회
+ * - 배치마다 Redis Pipeline 1회로 참가자 수 확인 후 0명인 방만 종료 대상으로 전달
+ *   (종료 시 방 락을 잡고 참가자 수를 다시 확인해 동시 입장과 직렬화)
+ * - 리더 락으로 여러 인스턴스 중 한 노드만 실행
+ * - 실행 결과는 Micrometer 지표로 기록 (studyroom.cleanup.*)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class InactiveRoomCleanupScheduler {
+
+    static final String JOB_NAME = "inactive-room-cleanup";
+
+    private final RoomRepository roomRepository;
+    private final RoomService roomService;
+    private final RedisSessionStore redisSessionStore;
+    private final RedisLeaderLock leaderLock;
+    private final StudyRoomProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @Scheduled(cron = "${studyroom.cleanup.cron:0 */10 * * * *}")
+    public void cleanupInactiveRooms() {
+        StudyRoomProperties.Cleanup config = properties.getCleanup();
+        Duration lease = Duration.ofMinutes(config.getLeaseMinutes());
+
+        if (!leaderLock.tryAcquire(JOB_NAME, lease)) {
+            meterRegistry.counter("studyroom.cleanup.runs", "result", "skipped").increment();
+            return;
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String result = "success";
+        try {
+            CleanupResult cleanup = terminateEmptyStaleRooms(config, lease);
+
+            meterRegistry.counter("studyroom.cleanup.rooms.scanned").increment(cleanup.scanned());
+            meterRegistry.counter("studyroom.cleanup.rooms.occupied").increment(cleanup.occupied());
+            meterRegistry.counter("studyroom.cleanup.rooms.terminated").increment(cleanup.terminated());
+
+            if (cleanup.terminated() > 0) {
+                log.info("비활성 방 자동 종료 완료 - 후보: {}, 참가자 있음: {}, 종료: {}",
+                        cleanup.scanned(), cleanup.occupied(), cleanup.terminated());
+            }
+        } catch (Exception e) {
+            result = "failure";
+            log.error("비활성 방 자동 종료 실패", e);
+        } finally {
+            sample.stop(meterRegistry.timer("studyroom.cleanup.duration"));
+            meterRegistry.counter("studyroom.cleanup.runs", "result", result).increment();
+            leaderLock.release(JOB_NAME);
+        }
+    }
+
+    private CleanupResult terminateEmptyStaleRooms(StudyRoomProperties.Cleanup config, Duration lease) {
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(config.getInactiveHours());
+        // 임대 만료 전에 멈춰 다른 노드와 겹쳐 실행되지 않도록 함 (남은 방은 다음 주기에 처리)
+        long deadline = System.nanoTime() + lease.multipliedBy(4).dividedBy(5).toNanos();
+
+        long scanned = 0;
+        long occupied = 0;
+        long terminated = 0;
+        Long afterId = 0L;
+
+        while (System.nanoTime() < deadline) {
+            List<Long> candidateIds = roomRepository.findInactiveRoomCandidateIds(cutoff, afterId, config.getBatchSize());
+            if (candidateIds.isEmpty()) {
+                break;
+            }
+
+            Map<Long, Long> counts = redisSessionStore.getRoomUserCounts(candidateIds);
+            List<Long> emptyRoomIds = candidateIds.stream()
+                    .filter(roomId -> counts.getOrDefault(roomId, 0L) == 0)
+                    .toList();
+
+            scanned += candidateIds.size();
+            occupied += candidateIds.size() - emptyRoomIds.size();
+            terminated += roomService.terminateEmptyInactiveRooms(emptyRoomIds, cutoff);
+
+            if (candidateIds.size() < config.getBatchSize()) {
+                break;
+            }
+            afterId = candidateIds.get(candidateIds.size() - 1);
+        }
+
+        return new CleanupResult(scanned, occupied, terminated);
+    }
+
+    private record CleanupResult(long scanned, long occupied, long terminated) {
+    }
+}
@@ -1,8 +1,11 @@
 package com.back.domain.studyroom.scheduler;
 
 import com.back.domain.studyroom.repository.RoomInviteCodeRepository;
+import com.back.domain.studyroom.service.RoomInviteService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -12,6 +15,7 @@ import java.time.LocalDateTime;
 /**
  * 초대 코드 정리 스케줄러
  * - 만료된 초대 코드 자동 비활성화
+ * - 초대 코드 Bloom Filter 갱신 (만료 코드 제거)
  * - 매시간 실행
  */
 @Component
@@ -20,6 +24,7 @@ import java.time.LocalDateTime;
 public class InviteCodeCleanupScheduler {
 
     private final RoomInviteCodeRepository inviteCodeRepository;
+    private final RoomInviteService inviteService;
 
     /**
      * 만료된 초대 코드 정리
@@ -35,5 +40,24 @@ public class InviteCodeCleanupScheduler {
         if (deactivatedCount > 0) {
             log.info("만료된 초대 코드 정리 완료 - 비활성화된 코드 수: {}", deactivatedCount);
         }
+
+        refreshInviteCodeFilter();
+    }
+
+    /**
+     * 애플리케이션 시작 시 Bloom Filter 최초 생성
+     * - 생성 전까지는 필터가 모든 코드를 통과시키므로 기존 동작과 동일
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initInviteCodeFilter() {
+        refreshInviteCodeFilter();
+    }
+
+    private void refreshInviteCodeFilter() {
+        try {
+            inviteService.refreshInviteCodeFilter();
+        } catch (Exception e) {
+            log.error("초대 코드 Bloom Filter 갱신 실패 - 기존 필터 유지", e);
+        }
     }
 }
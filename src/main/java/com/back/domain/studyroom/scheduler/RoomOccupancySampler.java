@@ -0,0 +1,117 @@
+package com.back.domain.studyroom.scheduler;
+
+import com.back.domain.studyroom.repository.RoomRepository;
+import com.back.domain.studyroom.store.RoomOccupancyStore;
+import com.back.domain.studyroom.store.RoomOccupancyStore.HourBucket;
+import com.back.global.common.lock.RedisLeaderLock;
+import com.back.global.websocket.store.RedisSessionStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * 방 점유율 샘플링 스케줄러
+ * - 매분 활성 방의 참가자 수를 Redis에서 일괄 조회해 분 버킷에 기록
+ * - 참가자가 있는 방은 마지막 활동 시각도 함께 갱신 (오래 머무는 방이 비활성 방 정리 대상이 되지 않도록)
+ * - 시간이 바뀌면 직전 시간의 분 버킷을 시간 버킷(최대/평균)으로 집계
+ * - 여러 인스턴스에서 실행되어도 분당 한 번만 기록되도록 Redis 락 사용
+ * - 시간 집계는 리더 락을 잡은 한 노드만 실행하고, 시간 버킷 기록에 성공한 뒤에만 완료 표시
+ *   → 집계가 실패하면 락을 풀고 다음 샘플링 때 다시 집계 (실패한 시간이 누락되지 않음)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RoomOccupancySampler {
+
+    static final String ROLLUP_JOB_NAME = "room-occupancy-rollup";
+    private static final Duration ROLLUP_LEASE = Duration.ofMinutes(5);
+
+    private final RoomRepository roomRepository;
+    private final RedisSessionStore redisSessionStore;
+    private final RoomOccupancyStore occupancyStore;
+    private final RedisLeaderLock leaderLock;
+
+    @Scheduled(cron = "${studyroom.occupancy.sample-cron:0 * * * * *}")
+    public void sample() {
+        LocalDateTime minute = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES);
+
+        try {
+            if (occupancyStore.tryAcquireSample(minute)) {
+                recordMinute(minute);
+            }
+
+            LocalDateTime previousHour = minute.truncatedTo(ChronoUnit.HOURS).minusHours(1);
+            if (!occupancyStore.isRolledUp(previousHour)) {
+                rollup(previousHour);
+            }
+        } catch (Exception e) {
+            log.error("방 점유율 샘플링 실패 - minute: {}", minute, e);
+        }
+    }
+
+    private void recordMinute(LocalDateTime minute) {
+        List<Long> roomIds = roomRepository.findActiveRoomIds();
+        Map<Long, Long> counts = redisSessionStore.getRoomUserCounts(roomIds);
+
+        Map<Long, Long> occupied = counts.entrySet().stream()
+                .filter(entry -> entry.getValue() > 0)
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        long total = occupied.values().stream().mapToLong(Long::longValue).sum();
+
+        occupancyStore.recordMinute(minute, occupied, total);
+        roomRepository.touchLastActivity(occupied.keySet(), minute);
+
+        log.debug("방 점유율 샘플 기록 - minute: {}, 참가자 있는 방: {}, 전체 참가자: {}",
+                minute, occupied.size(), total);
+    }
+
+    private void rollup(LocalDateTime hour) {
+        if (!leaderLock.tryAcquire(ROLLUP_JOB_NAME, ROLLUP_LEASE)) {
+            return;
+        }
+        try {
+            // 완료 여부 확인 후 락 획득 전에 다른 노드가 집계를 마쳤을 수 있음
+            if (occupancyStore.isRolledUp(hour)) {
+                return;
+            }
+            rollupHour(hour);
+            occupancyStore.markRolledUp(hour);
+        } finally {
+            leaderLock.release(ROLLUP_JOB_NAME);
+        }
+    }
+
+    void rollupHour(LocalDateTime hour) {
+        List<String> scopes = new ArrayList<>();
+        scopes.add(RoomOccupancyStore.TOTAL_SCOPE);
+        occupancyStore.getRoomsSampledIn(hour).forEach(roomId -> scopes.add(String.valueOf(roomId)));
+
+        Map<String, List<Long>> minutes = occupancyStore.getMinutesOfHour(scopes, hour);
+
+        // 전체 scope는 매 샘플마다 기록되므로 기록된 분 수 = 샘플 수
+        int samples = (int) minutes.getOrDefault(RoomOccupancyStore.TOTAL_SCOPE, List.of()).stream()
+                .filter(Objects::nonNull)
+                .count();
+        if (samples == 0) {
+            return;
+        }
+
+        Map<String, HourBucket> buckets = new HashMap<>();
+        minutes.forEach((scope, values) -> buckets.put(scope, HourBucket.aggregate(values, samples)));
+
+        occupancyStore.recordHours(hour, buckets);
+
+        log.info("방 점유율 시간 집계 완료 - hour: {}, scope: {}, 샘플: {}", hour, buckets.size(), samples);
+    }
+}
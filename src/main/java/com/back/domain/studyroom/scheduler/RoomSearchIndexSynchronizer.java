@@ -0,0 +1,89 @@
+package com.back.domain.studyroom.scheduler;
+
+import com.back.domain.studyroom.config.StudyRoomProperties;
+import com.back.domain.studyroom.dto.RoomSearchDocument;
+import com.back.domain.studyroom.repository.RoomRepository;
+import com.back.domain.studyroom.service.RoomSearchIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 방 검색 색인 동기화 스케줄러
+ * - 애플리케이션 시작 시 종료되지 않은 방 전체로 색인 구성 (ID 키셋 배치 조회)
+ * - 이후 주기적으로 마지막 동기화 이후 변경된 방(updatedAt)만 반영
+ *   (다른 인스턴스에서 생성/수정된 방, 벌크 UPDATE로 종료된 방 포함)
+ * - 색인은 인스턴스마다 따로 가지므로 리더 락 없이 모든 노드에서 실행
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RoomSearchIndexSynchronizer {
+
+    // 커밋 지연/서버 간 시계 차이로 누락되지 않도록 이전 동기화 구간과 겹쳐서 조회
+    private static final long SYNC_OVERLAP_SECONDS = 10;
+
+    private final RoomRepository roomRepository;
+    private final RoomSearchIndex searchIndex;
+    private final StudyRoomProperties properties;
+
+    private volatile LocalDateTime lastSyncedAt;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("방 검색 색인 초기 구성 실패 - 다음 동기화 주기에 재시도", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${studyroom.search.sync-interval-ms:30000}",
+               initialDelayString = "${studyroom.search.sync-interval-ms:30000}")
+    public void syncChanges() {
+        try {
+            if (lastSyncedAt == null) {
+                rebuild();
+                return;
+            }
+
+            LocalDateTime startedAt = LocalDateTime.now();
+            List<RoomSearchDocument> changed = roomRepository.findSearchDocumentsUpdatedSince(
+                    lastSyncedAt.minusSeconds(SYNC_OVERLAP_SECONDS));
+            changed.forEach(searchIndex::index);
+            lastSyncedAt = startedAt;
+
+            if (!changed.isEmpty()) {
+                log.debug("방 검색 색인 증분 반영 - 변경된 방: {}", changed.size());
+            }
+        } catch (Exception e) {
+            log.error("방 검색 색인 동기화 실패", e);
+        }
+    }
+
+    private void rebuild() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        int batchSize = properties.getSearch().getRebuildBatchSize();
+
+        List<RoomSearchDocument> documents = new ArrayList<>();
+        Long afterId = 0L;
+        while (true) {
+            List<RoomSearchDocument> batch = roomRepository.findSearchDocuments(afterId, batchSize);
+            documents.addAll(batch);
+            if (batch.size() < batchSize) {
+                break;
+            }
+            afterId = batch.get(batch.size() - 1).roomId();
+        }
+
+        searchIndex.rebuild(documents);
+        lastSyncedAt = startedAt;
+    }
+}
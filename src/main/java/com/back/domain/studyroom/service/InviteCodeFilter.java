@@ -0,0 +1,48 @@
+package com.back.domain.studyroom.service;
+
+import com.back.global.common.util.BloomFilter;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+/**
+ * 활성 초대 코드 Bloom Filter (인스턴스 메모리)
+ * - 존재하지 않는 코드를 DB 조회 없이 메모리에서 거절하기 위한 앞단 필터
+ * - InviteCodeCleanupScheduler가 주기적으로 활성 코드 전체로 다시 생성 (만료 코드 제거)
+ * - 이 인스턴스에서 생성한 코드는 즉시 추가, 다른 인스턴스에서 생성된 코드는 Redis 캐시로 먼저 확인됨
+ * - 최초 생성 전에는 모든 코드를 통과시킴 (잘못된 거절 방지)
+ */
+@Component
+public class InviteCodeFilter {
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final int MIN_CAPACITY = 1_024;
+
+    private volatile BloomFilter filter;
+
+    public boolean mightContain(String inviteCode) {
+        BloomFilter current = filter;
+        return current == null || current.mightContain(inviteCode);
+    }
+
+    public void add(String inviteCode) {
+        BloomFilter current = filter;
+        if (current != null) {
+            current.put(inviteCode);
+        }
+    }
+
+    /**
+     * 활성 코드 목록으로 필터 재생성 후 교체
+     * - 다음 갱신 전까지 새로 생성될 코드를 고려해 여유 있게 생성
+     */
+    public void rebuild(Collection<String> activeCodes) {
+        BloomFilter rebuilt = BloomFilter.create(Math.max(MIN_CAPACITY, activeCodes.size() * 2), FALSE_POSITIVE_RATE);
+        activeCodes.forEach(rebuilt::put);
+        this.filter = rebuilt;
+    }
+
+    public boolean isReady() {
+        return filter != null;
+    }
+}
@@ -0,0 +1,282 @@
+package com.back.domain.studyroom.service;
+
+import com.back.domain.studyroom.config.StudyRoomProperties;
+import com.back.domain.studyroom.dto.ParticipantInterval;
+import com.back.domain.studyroom.repository.RoomParticipantHistoryRepository;
+import com.back.global.websocket.config.WebSocketConstants;
+import com.back.global.websocket.event.RoomPresenceChangedEvent;
+import com.back.global.websocket.event.SessionDisconnectedEvent;
+import com.back.global.websocket.store.RedisSessionStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 방 참가 이력 비동기 기록기 (append-only 로그 + 배치 저장)
+ * - 입장/퇴장 이벤트는 메모리 로그에 append만 하고 즉시 반환 (입장 경로에 DB 작업 없음)
+ * - 주기적으로 로그를 비워 입장~퇴장 구간으로 접은 뒤 JDBC 배치로 저장
+ * - 세션 종료/만료로 퇴장 이벤트가 누락된 열린 구간은 정리 작업에서 종료 처리
+ */
+@Slf4j
+@Component
+public class ParticipantHistoryRecorder {
+
+    private final RoomParticipantHistoryRepository historyRepository;
+    private final RedisSessionStore redisSessionStore;
+    private final StudyRoomProperties properties;
+
+    private final LinkedBlockingDeque<LogEntry> pendingLog;
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    public ParticipantHistoryRecorder(RoomParticipantHistoryRepository historyRepository,
+                                      RedisSessionStore redisSessionStore,
+                                      StudyRoomProperties properties) {
+        this.historyRepository = historyRepository;
+        this.redisSessionStore = redisSessionStore;
+        this.properties = properties;
+        this.pendingLog = new LinkedBlockingDeque<>(properties.getHistory().getQueueCapacity());
+    }
+
+    enum Kind {
+        JOINED,
+        LEFT,
+        DISCONNECTED
+    }
+
+    record LogEntry(Kind kind, Long roomId, Long userId, LocalDateTime at) {
+    }
+
+    /**
+     * 로그를 접은 결과
+     * @param inserts 새로 기록할 구간 (같은 배치 안에서 퇴장까지 확인되면 leftAt 포함)
+     * @param closes  이전 배치에서 기록된 열린 구간의 종료 (roomId = null이면 사용자 전체)
+     */
+    record Batch(List<ParticipantInterval> inserts, List<ParticipantInterval> closes) {
+    }
+
+    // ==================== 이벤트 수집 (append only) ====================
+
+    @EventListener
+    public void onPresenceChanged(RoomPresenceChangedEvent event) {
+        Kind kind = event.getType() == RoomPresenceChangedEvent.Type.JOINED ? Kind.JOINED : Kind.LEFT;
+        append(new LogEntry(kind, event.getRoomId(), event.getUserId(), event.getOccurredAt()));
+    }
+
+    @EventListener
+    public void onSessionDisconnected(SessionDisconnectedEvent event) {
+        append(new LogEntry(Kind.DISCONNECTED, null, event.getUserId(), LocalDateTime.now()));
+    }
+
+    private void append(LogEntry entry) {
+        if (!pendingLog.offerLast(entry)) {
+            long dropped = droppedCount.incrementAndGet();
+            log.warn("참가 이력 로그 적재 한도 초과로 기록 누락 - kind: {}, roomId: {}, userId: {}, 누적 누락: {}",
+                    entry.kind(), entry.roomId(), entry.userId(), dropped);
+        }
+    }
+
+    // ==================== 배치 저장 ====================
+
+    /**
+     * 메모리 로그를 비워 배치 저장
+     * - 실패 시 로그를 원래 순서대로 앞쪽에 되돌려 다음 주기에 재시도
+     */
+    @Scheduled(
+            initialDelayString = "${studyroom.history.flush-interval-ms:5000}",
+            fixedDelayString = "${studyroom.history.flush-interval-ms:5000}"
+    )
+    @Transactional
+    public void flush() {
+        List<LogEntry> entries = new ArrayList<>();
+        pendingLog.drainTo(entries);
+
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        try {
+            Batch batch = fold(entries);
+            int batchSize = properties.getHistory().getBatchSize();
+
+            // 이전 배치의 열린 구간을 먼저 닫고, 이번 배치 구간을 기록
+            for (List<ParticipantInterval> chunk : chunked(batch.closes(), batchSize)) {
+                historyRepository.bulkClose(chunk);
+            }
+            for (List<ParticipantInterval> chunk : chunked(batch.inserts(), batchSize)) {
+                historyRepository.bulkInsert(chunk);
+            }
+
+            log.debug("참가 이력 배치 저장 완료 - 이벤트: {}, INSERT: {}, 종료: {}",
+                    entries.size(), batch.inserts().size(), batch.closes().size());
+
+        } catch (Exception e) {
+            for (int i = entries.size() - 1; i >= 0; i--) {
+                if (!pendingLog.offerFirst(entries.get(i))) {
+                    droppedCount.incrementAndGet();
+                }
+            }
+            log.error("참가 이력 배치 저장 실패 - 다음 주기에 재시도, 이벤트: {}", entries.size(), e);
+            throw e;
+        }
+    }
+
+    /**
+     * 입장/퇴장 로그를 구간으로 접기
+     * - JOINED: 같은 배치에 열린 구간이 있으면 그 시점에 닫고 새 구간 시작,
+     *           없으면 이전 배치에 남아 있을 수 있는 열린 구간을 닫은 뒤 새 구간 시작 (방당 열린 구간 1개 유지)
+     * - LEFT: 같은 배치에 열린 구간이 있으면 메모리에서 닫고, 없으면 DB 종료 대상으로 추가
+     * - DISCONNECTED: 해당 사용자의 모든 열린 구간 종료
+     * 종료 UPDATE는 이미 닫힌 구간을 건드리지 않으므로 순서대로 실행하면 먼저 온 종료가 반영됨
+     */
+    static Batch fold(List<LogEntry> entries) {
+        List<ParticipantInterval> inserts = new ArrayList<>();
+        List<ParticipantInterval> closes = new ArrayList<>();
+        Map<String, Integer> openInBatch = new LinkedHashMap<>();  // roomId:userId → inserts 인덱스
+
+        for (LogEntry entry : entries) {
+            switch (entry.kind()) {
+                case JOINED -> {
+                    String key = key(entry.roomId(), entry.userId());
+                    Integer openIndex = openInBatch.remove(key);
+                    if (openIndex != null) {
+                        inserts.set(openIndex, inserts.get(openIndex).closedAt(entry.at()));
+                    } else {
+                        closes.add(ParticipantInterval.close(entry.roomId(), entry.userId(), entry.at()));
+                    }
+                    inserts.add(ParticipantInterval.open(entry.roomId(), entry.userId(), entry.at()));
+                    openInBatch.put(key, inserts.size() - 1);
+                }
+                case LEFT -> {
+                    Integer openIndex = openInBatch.remove(key(entry.roomId(), entry.userId()));
+                    if (openIndex != null) {
+                        inserts.set(openIndex, inserts.get(openIndex).closedAt(entry.at()));
+                    } else {
+                        closes.add(ParticipantInterval.close(entry.roomId(), entry.userId(), entry.at()));
+                    }
+                }
+                case DISCONNECTED -> {
+                    String suffix = ":" + entry.userId();
+                    openInBatch.entrySet().removeIf(open -> {
+                        if (!open.getKey().endsWith(suffix)) {
+                            return false;
+                        }
+                        inserts.set(open.getValue(), inserts.get(open.getValue()).closedAt(entry.at()));
+                        return true;
+                    });
+                    closes.add(ParticipantInterval.close(null, entry.userId(), entry.at()));
+                }
+            }
+        }
+
+        return new Batch(inserts, closes);
+    }
+
+    private static String key(Long roomId, Long userId) {
+        return roomId + ":" + userId;
+    }
+
+    private static <T> List<List<T>> chunked(List<T> items, int size) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int i = 0; i < items.size(); i += size) {
+            chunks.add(items.subList(i, Math.min(i + size, items.size())));
+        }
+        return chunks;
+    }
+
+    // ==================== 끊긴 세션 정리 ====================
+
+    /**
+     * 열린 채로 남은 구간 정리
+     * - 세션 TTL보다 오래 열린 구간 중 Redis 방 참가자 목록에 없는 사용자는 현재 시간으로 종료
+     * - 서버 재시작, Heartbeat 만료 등으로 퇴장 이벤트가 발생하지 않은 경우를 보정
+     * - 구간 ID 키셋으로 batchSize씩 나누어 조회/종료 (배치마다 짧은 트랜잭션으로 반영)
+     */
+    @Scheduled(
+            initialDelayString = "${studyroom.history.reap-interval-ms:600000}",
+            fixedDelayString = "${studyroom.history.reap-interval-ms:600000}"
+    )
+    public void reapDanglingIntervals() {
+        LocalDateTime threshold = LocalDateTime.now().minus(WebSocketConstants.SESSION_TTL);
+        LocalDateTime now = LocalDateTime.now();
+        int batchSize = properties.getHistory().getBatchSize();
+
+        long afterId = 0L;
+        int closedCount = 0;
+        while (true) {
+            List<Object[]> openKeys = historyRepository.findOpenIntervalKeysJoinedBefore(
+                    threshold, afterId, PageRequest.of(0, batchSize));
+
+            if (openKeys.isEmpty()) {
+                break;
+            }
+
+            closedCount += closeOfflineIntervals(openKeys, now);
+            afterId = (Long) openKeys.get(openKeys.size() - 1)[0];
+
+            if (openKeys.size() < batchSize) {
+                break;
+            }
+        }
+
+        if (closedCount > 0) {
+            log.info("끊긴 참가 구간 정리 완료 - 종료된 구간: {}", closedCount);
+        }
+    }
+
+    /**
+     * 한 배치의 열린 구간 중 Redis 방 참가자 목록에 없는 사용자의 구간 종료
+     * @param openKeys [historyId, roomId, userId] 목록
+     * @return 종료 대상 구간 수
+     */
+    private int closeOfflineIntervals(List<Object[]> openKeys, LocalDateTime now) {
+        List<Long> roomIds = openKeys.stream()
+                .map(row -> (Long) row[1])
+                .distinct()
+                .collect(Collectors.toList());
+
+        // 방 참가자 목록을 Pipeline 1회로 조회
+        Map<Long, Set<Long>> onlineUsersByRoom = redisSessionStore.getRoomUsersBatch(roomIds);
+
+        List<ParticipantInterval> closes = openKeys.stream()
+                .filter(row -> !onlineUsersByRoom.getOrDefault((Long) row[1], Set.of()).contains((Long) row[2]))
+                .map(row -> ParticipantInterval.close((Long) row[1], (Long) row[2], now))
+                .toList();
+
+        historyRepository.bulkClose(closes);
+        return closes.size();
+    }
+
+    /**
+     * 종료 시 남은 로그 저장
+     * - 컨텍스트 종료 이벤트는 프록시를 거쳐 호출되므로 트랜잭션 안에서 실행됨
+     *   (@PreDestroy에서 flush()를 호출하면 자기 호출이라 트랜잭션 없이 실행됨)
+     * - 저장 실패 시 롤백되고 flush()에서 남은 이벤트 수를 기록
+     */
+    @EventListener(ContextClosedEvent.class)
+    @Transactional
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    public int pendingCount() {
+        return pendingLog.size();
+    }
+
+    public long droppedCount() {
+        return droppedCount.get();
+    }
+}
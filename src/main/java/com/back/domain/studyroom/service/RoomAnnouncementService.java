@@ -1,24 +1,33 @@
 package com.back.domain.studyroom.service;
 
+import com.back.domain.studyroom.dto.RoomAnnouncementChangedNotification;
+import com.back.domain.studyroom.dto.RoomAnnouncementChangedNotification.ChangeType;
 import com.back.domain.studyroom.dto.RoomAnnouncementResponse;
 import com.back.domain.studyroom.entity.Room;
 import com.back.domain.studyroom.entity.RoomAnnouncement;
 import com.back.domain.studyroom.repository.RoomAnnouncementRepository;
 import com.back.domain.studyroom.repository.RoomRepository;
+import com.back.domain.studyroom.store.RoomAnnouncementStore;
 import com.back.domain.user.common.entity.User;
 import com.back.domain.user.common.repository.UserRepository;
 import com.back.global.exception.CustomException;
 import com.back.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
  * 방 공지사항 서비스
+ * - 방별 공지사항 목록은 Redis에 캐시하여 방 입장/새로고침 시 DB 조회 없이 응답
+ * - 생성/수정/삭제/핀 토글 시 커밋 이후 캐시를 무효화하고 변경분을 /topic/room/{roomId}/announcements로 전송
  */
 @Service
 @RequiredArgsConstructor
@@ -29,6 +38,8 @@ public class RoomAnnouncementService {
     private final RoomAnnouncementRepository announcementRepository;
     private final RoomRepository roomRepository;
     private final UserRepository userRepository;
+    private final RoomAnnouncementStore announcementStore;
+    private final SimpMessagingTemplate messagingTemplate;
     
     /**
      * 공지사항 생성 (방장만 가능)
@@ -51,7 +62,10 @@ public class RoomAnnouncementService {
         
         log.info("공지사항 생성 - RoomId: {}, AnnouncementId: {}, UserId: {}", roomId, saved.getId(), userId);
         
-        return RoomAnnouncementResponse.from(saved);
+        RoomAnnouncementResponse response = RoomAnnouncementResponse.from(saved);
+        publishAfterCommit(roomId, RoomAnnouncementChangedNotification.of(roomId, ChangeType.CREATED, response));
+        
+        return response;
     }
     
     /**
@@ -73,7 +87,10 @@ public class RoomAnnouncementService {
         
         log.info("공지사항 수정 - AnnouncementId: {}, UserId: {}", announcementId, userId);
         
-        return RoomAnnouncementResponse.from(announcement);
+        RoomAnnouncementResponse response = RoomAnnouncementResponse.from(announcement);
+        publishAfterCommit(room.getId(), RoomAnnouncementChangedNotification.of(room.getId(), ChangeType.UPDATED, response));
+        
+        return response;
     }
     
     /**
@@ -94,12 +111,21 @@ public class RoomAnnouncementService {
         announcementRepository.delete(announcement);
         
         log.info("공지사항 삭제 - AnnouncementId: {}, UserId: {}", announcementId, userId);
+        
+        publishAfterCommit(room.getId(), RoomAnnouncementChangedNotification.deleted(room.getId(), announcementId));
     }
     
     /**
      * 공지사항 목록 조회 (핀 고정 우선, 최신순)
+     * - 캐시 적중 시 DB 조회 없음 (캐시는 존재하는 방에 대해서만 적재됨)
+     * - Redis 장애 시 DB 조회로 대체
      */
     public List<RoomAnnouncementResponse> getAnnouncements(Long roomId) {
+        Optional<List<RoomAnnouncementResponse>> cached = findCachedAnnouncements(roomId);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        
         // 방 존재 확인
         if (!roomRepository.existsById(roomId)) {
             throw new CustomException(ErrorCode.ROOM_NOT_FOUND);
@@ -107,9 +133,26 @@ public class RoomAnnouncementService {
         
         List<RoomAnnouncement> announcements = announcementRepository.findByRoomIdWithCreator(roomId);
         
-        return announcements.stream()
+        List<RoomAnnouncementResponse> responses = announcements.stream()
                 .map(RoomAnnouncementResponse::from)
                 .collect(Collectors.toList());
+        
+        try {
+            announcementStore.save(roomId, responses);
+        } catch (Exception e) {
+            log.warn("공지사항 캐시 적재 실패 (무시) - RoomId: {}", roomId, e);
+        }
+        
+        return responses;
+    }
+    
+    private Optional<List<RoomAnnouncementResponse>> findCachedAnnouncements(Long roomId) {
+        try {
+            return announcementStore.find(roomId);
+        } catch (Exception e) {
+            log.warn("공지사항 캐시 조회 실패 - DB 조회로 대체, RoomId: {}", roomId, e);
+            return Optional.empty();
+        }
     }
     
     /**
@@ -142,6 +185,36 @@ public class RoomAnnouncementService {
         log.info("공지사항 핀 토글 - AnnouncementId: {}, isPinned: {}, UserId: {}", 
                 announcementId, announcement.isPinned(), userId);
         
-        return RoomAnnouncementResponse.from(announcement);
+        RoomAnnouncementResponse response = RoomAnnouncementResponse.from(announcement);
+        publishAfterCommit(room.getId(), RoomAnnouncementChangedNotification.of(room.getId(), ChangeType.UPDATED, response));
+        
+        return response;
+    }
+    
+    /**
+     * 트랜잭션 커밋 후 공지사항 캐시 무효화 + 변경분 브로드캐스트
+     * - 롤백된 변경이 캐시/클라이언트에 반영되지 않도록 커밋 이후 실행
+     */
+    private void publishAfterCommit(Long roomId, RoomAnnouncementChangedNotification notification) {
+        Runnable publish = () -> {
+            try {
+                announcementStore.evict(roomId);
+            } catch (Exception e) {
+                log.warn("공지사항 캐시 무효화 실패 (TTL 만료 후 갱신) - RoomId: {}", roomId, e);
+            }
+            
+            messagingTemplate.convertAndSend("/topic/room/" + roomId + "/announcements", notification);
+        };
+        
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish.run();
+                }
+            });
+        } else {
+            publish.run();
+        }
     }
 }
@@ -5,6 +5,7 @@ import com.back.domain.studyroom.entity.Room;
 import com.back.domain.studyroom.entity.RoomFavorite;
 import com.back.domain.studyroom.repository.RoomFavoriteRepository;
 import com.back.domain.studyroom.repository.RoomRepository;
+import com.back.domain.studyroom.store.RoomFavoriteStore;
 import com.back.domain.user.common.entity.User;
 import com.back.domain.user.common.repository.UserRepository;
 import com.back.global.exception.CustomException;
@@ -14,14 +15,20 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
  * 방 즐겨찾기 서비스
+ * - 사용자별 즐겨찾기 방 ID는 Redis Set(RoomFavoriteStore)에 캐시하여
+ *   방 목록/상세 조회 시 MySQL 조회 없이 즐겨찾기 여부를 판별
+ * - 추가/제거는 커밋 이후 캐시에 반영, Redis 장애 시 DB 조회로 대체
  */
 @Service
 @RequiredArgsConstructor
@@ -33,6 +40,7 @@ public class RoomFavoriteService {
     private final RoomRepository roomRepository;
     private final UserRepository userRepository;
     private final RoomParticipantService roomParticipantService;
+    private final RoomFavoriteStore favoriteStore;
 
     /**
      * 즐겨찾기 추가
@@ -53,6 +61,7 @@ public class RoomFavoriteService {
 
         RoomFavorite favorite = RoomFavorite.create(user, room);
         favoriteRepository.save(favorite);
+        afterCommit(userId, () -> favoriteStore.addIfLoaded(userId, roomId));
 
         log.info("즐겨찾기 추가 - UserId: {}, RoomId: {}", userId, roomId);
     }
@@ -66,6 +75,7 @@ public class RoomFavoriteService {
                 .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND));
 
         favoriteRepository.delete(favorite);
+        afterCommit(userId, () -> favoriteStore.remove(userId, roomId));
 
         log.info("즐겨찾기 제거 - UserId: {}, RoomId: {}", userId, roomId);
     }
@@ -102,13 +112,74 @@ public class RoomFavoriteService {
      * 특정 방의 즐겨찾기 여부 확인
      */
     public boolean isFavorite(Long roomId, Long userId) {
-        return favoriteRepository.existsByUserIdAndRoomId(userId, roomId);
+        return findCachedFavoriteRoomIds(userId)
+                .map(favoriteRoomIds -> favoriteRoomIds.contains(roomId))
+                .orElseGet(() -> favoriteRepository.existsByUserIdAndRoomId(userId, roomId));
     }
 
     /**
      * 여러 방의 즐겨찾기 여부 일괄 확인 (N+1 방지)
      */
     public Set<Long> getFavoriteRoomIds(List<Long> roomIds, Long userId) {
-        return favoriteRepository.findFavoriteRoomIds(userId, roomIds);
+        if (roomIds.isEmpty()) {
+            return Set.of();
+        }
+        return findCachedFavoriteRoomIds(userId)
+                .map(favoriteRoomIds -> roomIds.stream()
+                        .filter(favoriteRoomIds::contains)
+                        .collect(Collectors.toSet()))
+                .orElseGet(() -> favoriteRepository.findFavoriteRoomIds(userId, roomIds));
+    }
+
+    /**
+     * 캐시된 즐겨찾기 방 ID 조회 (미적재 시 DB에서 한 번 읽어 조건부 적재)
+     * @return Redis 장애 시 Optional.empty()
+     */
+    private Optional<Set<Long>> findCachedFavoriteRoomIds(Long userId) {
+        try {
+            Optional<Set<Long>> cached = favoriteStore.find(userId);
+            if (cached.isPresent()) {
+                return cached;
+            }
+
+            // DB 조회 전에 버전을 읽어 두고, 그 사이 추가/제거가 커밋됐으면 적재하지 않음 (응답에는 그대로 사용)
+            String version = favoriteStore.currentVersion(userId);
+            Set<Long> favoriteRoomIds = Set.copyOf(favoriteRepository.findRoomIdsByUserId(userId));
+            favoriteStore.saveIfUnchanged(userId, favoriteRoomIds, version);
+            return Optional.of(favoriteRoomIds);
+        } catch (Exception e) {
+            log.warn("즐겨찾기 캐시 조회 실패, DB 조회로 대체 - UserId: {}", userId, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 트랜잭션 커밋 후 캐시 반영 (롤백된 변경이 캐시에 남지 않도록)
+     * - 반영 실패 시 캐시를 비워 다음 조회에서 DB로부터 다시 적재
+     */
+    private void afterCommit(Long userId, Runnable cacheUpdate) {
+        Runnable safeUpdate = () -> {
+            try {
+                cacheUpdate.run();
+            } catch (Exception e) {
+                log.warn("즐겨찾기 캐시 반영 실패 - UserId: {}", userId, e);
+                try {
+                    favoriteStore.evict(userId);
+                } catch (Exception ignored) {
+                    // Redis 장애 시 TTL 만료로 정리
+                }
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    safeUpdate.run();
+                }
+            });
+        } else {
+            safeUpdate.run();
+        }
     }
 }
@@ -4,8 +4,8 @@ import com.back.domain.studyroom.dto.*;
 import com.back.domain.studyroom.entity.Room;
 import com.back.domain.studyroom.entity.RoomGuestbook;
 import com.back.domain.studyroom.entity.RoomGuestbookPin;
-import com.back.domain.studyroom.entity.RoomGuestbookReaction;
 import com.back.domain.studyroom.repository.RoomGuestbookPinRepository;
+import com.back.domain.studyroom.repository.RoomGuestbookReactionCounterRepository;
 import com.back.domain.studyroom.repository.RoomGuestbookReactionRepository;
 import com.back.domain.studyroom.repository.RoomGuestbookRepository;
 import com.back.domain.studyroom.repository.RoomRepository;
@@ -20,6 +20,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -29,8 +30,12 @@ import java.util.stream.Collectors;
 @Slf4j
 public class RoomGuestbookService {
 
+    // 이모지별 최근 반응 사용자 표시 인원
+    private static final int RECENT_REACTOR_LIMIT = 3;
+
     private final RoomGuestbookRepository guestbookRepository;
     private final RoomGuestbookReactionRepository reactionRepository;
+    private final RoomGuestbookReactionCounterRepository reactionCounterRepository;
     private final RoomGuestbookPinRepository pinRepository;
     private final RoomRepository roomRepository;
     private final UserRepository userRepository;
@@ -84,18 +89,12 @@ public class RoomGuestbookService {
                 ? pinRepository.findPinnedGuestbookIdsByUserIdAndRoomId(currentUserId, roomId)
                 : Collections.emptySet();
 
-        // 모든 방명록의 반응 일괄 조회 (N+1 방지)
-        Map<Long, List<RoomGuestbookReaction>> reactionsMap = new HashMap<>();
-        if (!guestbookIds.isEmpty()) {
-            for (Long guestbookId : guestbookIds) {
-                List<RoomGuestbookReaction> reactions = reactionRepository.findByGuestbookIdWithUser(guestbookId);
-                reactionsMap.put(guestbookId, reactions);
-            }
-        }
+        // 페이지 전체 방명록의 반응 요약 일괄 조회 (방명록 수와 무관하게 쿼리 2회)
+        Map<Long, List<GuestbookReactionSummary>> summariesMap = loadReactionSummaries(guestbookIds, currentUserId);
 
         return guestbooks.map(guestbook -> {
-            List<RoomGuestbookReaction> reactions = reactionsMap.getOrDefault(guestbook.getId(), Collections.emptyList());
-            List<GuestbookReactionSummary> reactionSummaries = buildReactionSummaries(reactions, currentUserId);
+            List<GuestbookReactionSummary> reactionSummaries =
+                    summariesMap.getOrDefault(guestbook.getId(), Collections.emptyList());
             boolean isPinned = pinnedGuestbookIds.contains(guestbook.getId());
             return GuestbookResponse.from(guestbook, currentUserId, reactionSummaries, isPinned);
         });
@@ -108,8 +107,7 @@ public class RoomGuestbookService {
         RoomGuestbook guestbook = guestbookRepository.findByIdWithUserAndRoom(guestbookId)
                 .orElseThrow(() -> new CustomException(ErrorCode.GUESTBOOK_NOT_FOUND));
 
-        List<RoomGuestbookReaction> reactions = reactionRepository.findByGuestbookIdWithUser(guestbookId);
-        List<GuestbookReactionSummary> reactionSummaries = buildReactionSummaries(reactions, currentUserId);
+        List<GuestbookReactionSummary> reactionSummaries = loadReactionSummaries(guestbookId, currentUserId);
         
         // 핀 여부 확인
         boolean isPinned = currentUserId != null && 
@@ -133,8 +131,7 @@ public class RoomGuestbookService {
 
         guestbook.updateContent(content);
 
-        List<RoomGuestbookReaction> reactions = reactionRepository.findByGuestbookIdWithUser(guestbookId);
-        List<GuestbookReactionSummary> reactionSummaries = buildReactionSummaries(reactions, userId);
+        List<GuestbookReactionSummary> reactionSummaries = loadReactionSummaries(guestbookId, userId);
         
         // 핀 여부 확인
         boolean isPinned = pinRepository.findByGuestbookIdAndUserId(guestbookId, userId).isPresent();
@@ -166,6 +163,8 @@ public class RoomGuestbookService {
      * 방명록 이모지 반응 추가/제거 토글
      * - 이미 반응한 이모지면 제거
      * - 반응하지 않은 이모지면 추가
+     * - 반응 행 INSERT IGNORE/DELETE 결과(영향받은 행 수)에 따라 카운터를 원자적으로 증감하여
+     *   동시 토글에도 반응 수가 실제 반응 행 수와 어긋나지 않음
      */
     @Transactional
     public GuestbookResponse toggleReaction(Long guestbookId, String emoji, Long userId) {
@@ -175,26 +174,30 @@ public class RoomGuestbookService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 
-        // 기존 반응 확인
-        Optional<RoomGuestbookReaction> existingReaction = 
-                reactionRepository.findByGuestbookIdAndUserIdAndEmoji(guestbookId, userId, emoji);
+        // 기존 반응 확인 (잠금 없는 조회, 실제 반영 여부는 영향받은 행 수로 판단)
+        boolean reacted = reactionRepository.existsByGuestbookIdAndUserIdAndEmoji(guestbookId, userId, emoji);
+        LocalDateTime now = LocalDateTime.now();
 
-        if (existingReaction.isPresent()) {
-            // 이미 반응한 경우 → 제거
-            reactionRepository.delete(existingReaction.get());
+        if (reacted) {
+            // 이미 반응한 경우 → 제거 (동시 요청으로 이미 지워졌다면 카운터는 건드리지 않음)
+            int deleted = reactionRepository.deleteReaction(guestbookId, userId, emoji);
+            if (deleted > 0) {
+                reactionCounterRepository.decrement(guestbookId, emoji, now);
+            }
             log.info("방명록 반응 제거 - GuestbookId: {}, UserId: {}, Emoji: {}", 
                     guestbookId, userId, emoji);
         } else {
-            // 반응하지 않은 경우 → 추가
-            RoomGuestbookReaction reaction = RoomGuestbookReaction.create(guestbook, user, emoji);
-            reactionRepository.save(reaction);
+            // 반응하지 않은 경우 → 추가 (동시 요청으로 이미 추가됐다면 카운터는 건드리지 않음)
+            int inserted = reactionRepository.insertIfAbsent(guestbookId, user.getId(), emoji, now);
+            if (inserted > 0) {
+                reactionCounterRepository.increment(guestbookId, emoji, now);
+            }
             log.info("방명록 반응 추가 - GuestbookId: {}, UserId: {}, Emoji: {}", 
                     guestbookId, userId, emoji);
         }
 
         // 업데이트된 반응 목록 조회
-        List<RoomGuestbookReaction> reactions = reactionRepository.findByGuestbookIdWithUser(guestbookId);
-        List<GuestbookReactionSummary> reactionSummaries = buildReactionSummaries(reactions, userId);
+        List<GuestbookReactionSummary> reactionSummaries = loadReactionSummaries(guestbookId, userId);
         
         // 핀 여부 확인
         boolean isPinned = pinRepository.findByGuestbookIdAndUserId(guestbookId, userId).isPresent();
@@ -202,6 +205,27 @@ public class RoomGuestbookService {
         return GuestbookResponse.from(guestbook, userId, reactionSummaries, isPinned);
     }
 
+    /**
+     * 방명록 ID 구간의 이모지별 반응 수 카운터를 반응 데이터로 재계산 (카운터 도입 이전 반응 데이터 이관용)
+     * - 반응 행 수로 덮어쓰므로 여러 번 실행되어도 결과가 같음
+     * @param fromId 구간 시작 (제외)
+     * @param toId   구간 끝 (포함)
+     * @return 생성/변경된 카운터 행 수
+     */
+    @Transactional
+    public int recountReactionCounters(long fromId, long toId) {
+        LocalDateTime now = LocalDateTime.now();
+        return reactionCounterRepository.recountFromReactions(fromId, toId, now)
+                + reactionCounterRepository.resetOrphanCounters(fromId, toId, now);
+    }
+
+    /**
+     * 반응이 달린 방명록 중 가장 큰 ID
+     */
+    public long findMaxReactedGuestbookId() {
+        return reactionRepository.findMaxReactedGuestbookId();
+    }
+
     /**
      * 방명록 핀 추가/제거 토글
      * - 이미 핀한 방명록이면 제거
@@ -234,51 +258,60 @@ public class RoomGuestbookService {
         }
 
         // 반응 목록 조회
-        List<RoomGuestbookReaction> reactions = reactionRepository.findByGuestbookIdWithUser(guestbookId);
-        List<GuestbookReactionSummary> reactionSummaries = buildReactionSummaries(reactions, userId);
+        List<GuestbookReactionSummary> reactionSummaries = loadReactionSummaries(guestbookId, userId);
 
         return GuestbookResponse.from(guestbook, userId, reactionSummaries, isPinned);
     }
 
     /**
-     * 이모지 반응 요약 정보 생성
-     * 이모지별로 그룹화하여 개수와 반응한 사용자 정보 포함
+     * 단일 방명록의 이모지 반응 요약 조회
      */
-    private List<GuestbookReactionSummary> buildReactionSummaries(
-            List<RoomGuestbookReaction> reactions, Long currentUserId) {
-        
-        if (reactions.isEmpty()) {
-            return Collections.emptyList();
+    private List<GuestbookReactionSummary> loadReactionSummaries(Long guestbookId, Long currentUserId) {
+        return loadReactionSummaries(List.of(guestbookId), currentUserId)
+                .getOrDefault(guestbookId, Collections.emptyList());
+    }
+
+    /**
+     * 여러 방명록의 이모지 반응 요약 일괄 조회
+     * - 이모지별 개수/내 반응 여부: GROUP BY 집계 쿼리 1회
+     * - 최근 반응한 사용자 닉네임(이모지당 최대 3명): LATERAL 조인 쿼리 1회 (이모지당 인덱스 3행만 읽음)
+     * @return 방명록 ID → 반응 요약 목록 (반응 많은 순)
+     */
+    private Map<Long, List<GuestbookReactionSummary>> loadReactionSummaries(
+            List<Long> guestbookIds, Long currentUserId) {
+
+        if (guestbookIds.isEmpty()) {
+            return Collections.emptyMap();
         }
 
-        // 이모지별로 그룹화
-        Map<String, List<RoomGuestbookReaction>> groupedByEmoji = reactions.stream()
-                .collect(Collectors.groupingBy(RoomGuestbookReaction::getEmoji));
-
-        return groupedByEmoji.entrySet().stream()
-                .map(entry -> {
-                    String emoji = entry.getKey();
-                    List<RoomGuestbookReaction> emojiReactions = entry.getValue();
-
-                    // 현재 사용자가 이 이모지로 반응했는지
-                    boolean reactedByMe = currentUserId != null && 
-                            emojiReactions.stream()
-                                    .anyMatch(r -> r.isReactedBy(currentUserId));
-
-                    // 최근 반응한 사용자 닉네임 (최대 3명)
-                    List<String> recentUsers = emojiReactions.stream()
-                            .limit(3)
-                            .map(r -> r.getUser().getNickname())
-                            .collect(Collectors.toList());
-
-                    return GuestbookReactionSummary.builder()
-                            .emoji(emoji)
-                            .count((long) emojiReactions.size())
-                            .reactedByMe(reactedByMe)
-                            .recentUsers(recentUsers)
-                            .build();
-                })
-                .sorted(Comparator.comparing(GuestbookReactionSummary::getCount).reversed())
-                .collect(Collectors.toList());
+        List<GuestbookReactionCount> counts = reactionRepository.countReactions(guestbookIds, currentUserId);
+        if (counts.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        // (방명록 ID, 이모지) → 최근 반응 사용자 닉네임
+        Map<Long, Map<String, List<String>>> recentUsers = new HashMap<>();
+        for (GuestbookReactor reactor : reactionRepository.findRecentReactors(guestbookIds, RECENT_REACTOR_LIMIT)) {
+            recentUsers.computeIfAbsent(reactor.guestbookId(), id -> new HashMap<>())
+                    .computeIfAbsent(reactor.emoji(), emoji -> new ArrayList<>())
+                    .add(reactor.nickname());
+        }
+
+        return counts.stream()
+                .collect(Collectors.groupingBy(
+                        GuestbookReactionCount::guestbookId,
+                        Collectors.collectingAndThen(Collectors.toList(), emojiCounts -> emojiCounts.stream()
+                                .map(count -> GuestbookReactionSummary.builder()
+                                        .emoji(count.emoji())
+                                        .count(count.count())
+                                        .reactedByMe(count.reactedByMe())
+                                        .recentUsers(recentUsers
+                                                .getOrDefault(count.guestbookId(), Collections.emptyMap())
+                                                .getOrDefault(count.emoji(), Collections.emptyList()))
+                                        .build())
+                                .sorted(Comparator.comparing(GuestbookReactionSummary::getCount).reversed()
+                                        .thenComparing(GuestbookReactionSummary::getEmoji))
+                                .collect(Collectors.toList()))
+                ));
     }
 }
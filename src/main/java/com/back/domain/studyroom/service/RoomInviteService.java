@@ -1,5 +1,6 @@
 package com.back.domain.studyroom.service;
 
+import com.back.domain.studyroom.dto.InviteRoomSnapshot;
 import com.back.domain.studyroom.entity.Room;
 import com.back.domain.studyroom.entity.RoomInviteCode;
 import com.back.domain.studyroom.repository.RoomInviteCodeRepository;
@@ -18,6 +19,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.security.SecureRandom;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.Random;
 import java.util.concurrent.TimeUnit;
@@ -26,7 +28,8 @@ import java.util.stream.Collectors;
 /**
  * 초대 코드 서비스
  * - DB: 영속적 저장 (생성 이력, 만료 관리)
- * - Redis: 빠른 검증, TTL 자동 만료
+ * - Redis: 빠른 검증, TTL 자동 만료 (유효 코드 → 방 스냅샷, 무효 코드 → 네거티브 캐시)
+ * - Bloom Filter: 존재하지 않는 코드를 DB 조회 없이 메모리에서 거절
  */
 @Service
 @RequiredArgsConstructor
@@ -39,11 +42,14 @@ public class RoomInviteService {
     private final UserRepository userRepository;
     private final RedisTemplate<String, String> redisTemplate;
     private final ObjectMapper objectMapper;
+    private final InviteCodeFilter inviteCodeFilter;
 
     private static final String CODE_CHARS = "ABCDEFGHJKLMNPQRSTUVWXYZ23456789"; // 혼동 문자 제외
     private static final int CODE_LENGTH = 8;
     private static final Random RANDOM = new SecureRandom();
     private static final String REDIS_KEY_PREFIX = "invite:code:";
+    private static final String NEGATIVE_KEY_PREFIX = "invite:miss:";
+    private static final Duration NEGATIVE_TTL = Duration.ofMinutes(10);
     private static final int EXPIRY_HOURS = 3;
 
     /**
@@ -88,6 +94,7 @@ public class RoomInviteService {
         String inviteCode = generateUniqueInviteCode();
         RoomInviteCode newCode = RoomInviteCode.create(inviteCode, room, user);
         inviteCodeRepository.save(newCode);
+        inviteCodeFilter.add(inviteCode);
         
         // Redis에 저장 (3시간 TTL)
         saveToRedis(newCode);
@@ -100,36 +107,78 @@ public class RoomInviteService {
 
     /**
      * 초대 코드로 방 조회 및 검증
-     * - Redis 우선 조회 (빠름)
-     * - Redis에 없으면 DB 조회
+     * 1. 코드 형식 검증 (메모리)
+     * 2. Redis 방 스냅샷 조회 - 유효한 코드는 여기서 끝 (Redis 1회)
+     * 3. Bloom Filter에 없으면 거절 (메모리)
+     * 4. 네거티브 캐시에 있으면 거절 (반복 요청되는 무효 코드)
+     * 5. DB 조회 후 결과를 스냅샷/네거티브 캐시에 저장
      */
-    public Room getRoomByInviteCode(String inviteCode) {
-        
-        // 1. Redis에서 먼저 확인 (빠른 조회)
-        RoomInviteCode code = getFromRedis(inviteCode);
-        
-        // 2. Redis에 없으면 DB 조회
-        if (code == null) {
-            code = inviteCodeRepository.findByInviteCode(inviteCode)
-                    .orElseThrow(() -> new CustomException(ErrorCode.INVALID_INVITE_CODE));
-            
-            // 유효한 코드라면 Redis에 다시 저장
-            if (code.isValid()) {
-                saveToRedis(code);
+    public InviteRoomSnapshot getRoomByInviteCode(String inviteCode) {
+
+        if (!isWellFormed(inviteCode)) {
+            throw new CustomException(ErrorCode.INVALID_INVITE_CODE);
+        }
+
+        // 1. Redis 스냅샷 확인 (다른 인스턴스에서 갓 생성된 코드도 여기서 확인됨)
+        InviteRoomSnapshot snapshot = getFromRedis(inviteCode);
+        if (snapshot != null) {
+            if (snapshot.isExpired()) {
+                throw new CustomException(ErrorCode.INVITE_CODE_EXPIRED);
             }
+            return snapshot;
         }
-        
-        // 3. 유효성 검증
+
+        // 2. Bloom Filter에 없으면 DB에도 없는 코드
+        if (!inviteCodeFilter.mightContain(inviteCode)) {
+            throw new CustomException(ErrorCode.INVALID_INVITE_CODE);
+        }
+
+        // 3. 최근 DB에서 무효로 확인된 코드
+        ErrorCode cachedError = getNegativeCache(inviteCode);
+        if (cachedError != null) {
+            throw new CustomException(cachedError);
+        }
+
+        // 4. DB 조회
+        RoomInviteCode code = inviteCodeRepository.findByInviteCode(inviteCode).orElse(null);
+
+        if (code == null) {
+            saveNegativeCache(inviteCode, ErrorCode.INVALID_INVITE_CODE);
+            throw new CustomException(ErrorCode.INVALID_INVITE_CODE);
+        }
+
         if (!code.isValid()) {
+            saveNegativeCache(inviteCode, ErrorCode.INVITE_CODE_EXPIRED);
             throw new CustomException(ErrorCode.INVITE_CODE_EXPIRED);
         }
-        
-        Room room = code.getRoom();
-        
-        log.info("초대 코드 검증 완료 - Code: {}, RoomId: {}", 
-                inviteCode, room.getId());
-        
-        return room;
+
+        saveToRedis(code);
+
+        log.info("초대 코드 검증 완료 (DB) - Code: {}, RoomId: {}",
+                inviteCode, code.getRoom().getId());
+
+        return InviteRoomSnapshot.from(code);
+    }
+
+    /**
+     * 초대 코드 Bloom Filter 재생성
+     * - 활성 코드 전체로 다시 만들어 만료된 코드를 제거
+     */
+    public void refreshInviteCodeFilter() {
+        List<String> activeCodes = inviteCodeRepository.findActiveInviteCodes(LocalDateTime.now());
+        inviteCodeFilter.rebuild(activeCodes);
+
+        log.info("초대 코드 Bloom Filter 갱신 완료 - 활성 코드 수: {}", activeCodes.size());
+    }
+
+    /**
+     * 초대 코드 형식 검증 (생성 규칙과 동일한 길이/문자 집합)
+     */
+    private boolean isWellFormed(String inviteCode) {
+        if (inviteCode == null || inviteCode.length() != CODE_LENGTH) {
+            return false;
+        }
+        return inviteCode.chars().allMatch(c -> CODE_CHARS.indexOf(c) >= 0);
     }
 
     /**
@@ -154,20 +203,21 @@ public class RoomInviteService {
     }
 
     /**
-     * Redis에 저장 (3시간 TTL)
+     * Redis에 방 스냅샷 저장 (만료 시간까지 TTL)
+     * - 새 코드가 네거티브 캐시에 남아 있지 않도록 함께 정리
      */
     private void saveToRedis(RoomInviteCode code) {
         try {
             String key = REDIS_KEY_PREFIX + code.getInviteCode();
             
-            // JSON으로 변환 (roomId만 저장)
-            String value = String.valueOf(code.getRoom().getId());
+            String value = objectMapper.writeValueAsString(InviteRoomSnapshot.from(code));
             
             // 만료 시간까지의 남은 시간 계산
             long ttl = Duration.between(LocalDateTime.now(), code.getExpiresAt()).getSeconds();
             
             if (ttl > 0) {
                 redisTemplate.opsForValue().set(key, value, ttl, TimeUnit.SECONDS);
+                redisTemplate.delete(NEGATIVE_KEY_PREFIX + code.getInviteCode());
                 log.debug("Redis 저장 완료 - Code: {}, RoomId: {}, TTL: {}초", 
                         code.getInviteCode(), code.getRoom().getId(), ttl);
             }
@@ -178,18 +228,15 @@ public class RoomInviteService {
     }
 
     /**
-     * Redis에서 조회
+     * Redis에서 방 스냅샷 조회
+     * - 이전 형식(roomId 문자열) 값은 캐시 미스로 처리해 DB 조회 후 다시 저장
      */
-    private RoomInviteCode getFromRedis(String inviteCode) {
+    private InviteRoomSnapshot getFromRedis(String inviteCode) {
         try {
-            String key = REDIS_KEY_PREFIX + inviteCode;
-            String value = redisTemplate.opsForValue().get(key);
+            String value = redisTemplate.opsForValue().get(REDIS_KEY_PREFIX + inviteCode);
             
-            if (value != null) {
-                Long roomId = Long.parseLong(value);
-                
-                // DB에서 전체 정보 조회
-                return inviteCodeRepository.findByInviteCode(inviteCode).orElse(null);
+            if (value != null && value.startsWith("{")) {
+                return objectMapper.readValue(value, InviteRoomSnapshot.class);
             }
         } catch (Exception e) {
             log.warn("Redis 조회 실패 (무시) - Code: {}", inviteCode, e);
@@ -197,6 +244,31 @@ public class RoomInviteService {
         return null;
     }
 
+    /**
+     * 네거티브 캐시 조회
+     * @return 캐시된 실패 사유 (없으면 null)
+     */
+    private ErrorCode getNegativeCache(String inviteCode) {
+        try {
+            String value = redisTemplate.opsForValue().get(NEGATIVE_KEY_PREFIX + inviteCode);
+            return value != null ? ErrorCode.valueOf(value) : null;
+        } catch (Exception e) {
+            log.warn("네거티브 캐시 조회 실패 (무시) - Code: {}", inviteCode, e);
+            return null;
+        }
+    }
+
+    /**
+     * 네거티브 캐시 저장 (짧은 TTL)
+     */
+    private void saveNegativeCache(String inviteCode, ErrorCode reason) {
+        try {
+            redisTemplate.opsForValue().set(NEGATIVE_KEY_PREFIX + inviteCode, reason.name(), NEGATIVE_TTL);
+        } catch (Exception e) {
+            log.warn("네거티브 캐시 저장 실패 (무시) - Code: {}", inviteCode, e);
+        }
+    }
+
     /**
      * Redis에 존재 여부 확인
      */
@@ -0,0 +1,155 @@
+package com.back.domain.studyroom.service;
+
+import com.back.domain.studyroom.config.StudyRoomProperties;
+import com.back.domain.studyroom.dto.OccupancyGranularity;
+import com.back.domain.studyroom.dto.OccupancyPoint;
+import com.back.domain.studyroom.dto.RoomOccupancyResponse;
+import com.back.domain.studyroom.entity.Room;
+import com.back.domain.studyroom.repository.RoomMemberRepository;
+import com.back.domain.studyroom.repository.RoomRepository;
+import com.back.domain.studyroom.store.RoomOccupancyStore;
+import com.back.domain.studyroom.store.RoomOccupancyStore.HourBucket;
+import com.back.global.exception.CustomException;
+import com.back.global.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 방 점유율 조회 서비스
+ * - 샘플러가 미리 집계한 분/시간 버킷만 읽으므로 원본 이벤트를 스캔하지 않음
+ * - 아직 집계되지 않은 최근 시간은 분 버킷으로 즉시 계산
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Slf4j
+public class RoomOccupancyService {
+
+    private final RoomOccupancyStore occupancyStore;
+    private final RoomRepository roomRepository;
+    private final RoomMemberRepository roomMemberRepository;
+    private final StudyRoomProperties properties;
+
+    /**
+     * 방 점유율 곡선 조회
+     * - 비공개 방은 방 멤버만 조회 가능
+     */
+    public RoomOccupancyResponse getRoomOccupancy(Long roomId, Long userId, OccupancyGranularity granularity,
+                                                  LocalDateTime from, LocalDateTime to) {
+        Room room = roomRepository.findById(roomId)
+                .orElseThrow(() -> new CustomException(ErrorCode.ROOM_NOT_FOUND));
+
+        if (room.isPrivate() && !roomMemberRepository.existsByRoomIdAndUserId(roomId, userId)) {
+            throw new CustomException(ErrorCode.ROOM_FORBIDDEN);
+        }
+        return buildCurve(String.valueOf(roomId), roomId, granularity, from, to);
+    }
+
+    /**
+     * 서비스 전체 점유율 곡선 조회 (관리자 전용 - SecurityConfig에서 ADMIN 권한 확인)
+     */
+    public RoomOccupancyResponse getServiceOccupancy(OccupancyGranularity granularity,
+                                                     LocalDateTime from, LocalDateTime to) {
+        return buildCurve(RoomOccupancyStore.TOTAL_SCOPE, null, granularity, from, to);
+    }
+
+    private RoomOccupancyResponse buildCurve(String scope, Long roomId, OccupancyGranularity granularity,
+                                             LocalDateTime from, LocalDateTime to) {
+        ChronoUnit unit = granularity == OccupancyGranularity.MINUTE ? ChronoUnit.MINUTES : ChronoUnit.HOURS;
+        LocalDateTime now = LocalDateTime.now();
+
+        LocalDateTime rangeTo = (to != null ? to : now).truncatedTo(unit);
+        LocalDateTime rangeFrom = (from != null ? from : rangeTo.minus(defaultRange(granularity))).truncatedTo(unit);
+        validateRange(granularity, rangeFrom, rangeTo);
+
+        List<OccupancyPoint> points = granularity == OccupancyGranularity.MINUTE
+                ? minutePoints(scope, rangeFrom, rangeTo)
+                : hourPoints(scope, rangeFrom, rangeTo, now);
+
+        OccupancyPoint peak = points.stream()
+                .filter(point -> point.getPeak() > 0)
+                .max(Comparator.comparingLong(OccupancyPoint::getPeak))
+                .orElse(null);
+
+        return RoomOccupancyResponse.builder()
+                .roomId(roomId)
+                .granularity(granularity)
+                .from(rangeFrom)
+                .to(rangeTo)
+                .points(points)
+                .peak(peak)
+                .build();
+    }
+
+    private List<OccupancyPoint> minutePoints(String scope, LocalDateTime from, LocalDateTime to) {
+        Map<LocalDateTime, Long> minutes = occupancyStore.getMinutes(scope, from, to);
+
+        List<OccupancyPoint> points = new ArrayList<>();
+        for (LocalDateTime at = from; !at.isAfter(to); at = at.plusMinutes(1)) {
+            long count = minutes.getOrDefault(at, 0L);
+            points.add(new OccupancyPoint(at, count, count));
+        }
+        return points;
+    }
+
+    private List<OccupancyPoint> hourPoints(String scope, LocalDateTime from, LocalDateTime to, LocalDateTime now) {
+        Map<LocalDateTime, HourBucket> hours = occupancyStore.getHours(scope, from, to);
+
+        // 직전 시간은 정각 직후 집계 전일 수 있으므로 현재 시간과 함께 분 버킷으로 보완
+        LocalDateTime liveFrom = max(from, now.truncatedTo(ChronoUnit.HOURS).minusHours(1));
+        Map<LocalDateTime, List<Long>> liveMinutes = !liveFrom.isAfter(to)
+                ? occupancyStore.getMinutes(scope, liveFrom, to.plusMinutes(59)).entrySet().stream()
+                        .collect(Collectors.groupingBy(
+                                entry -> entry.getKey().truncatedTo(ChronoUnit.HOURS),
+                                Collectors.mapping(Map.Entry::getValue, Collectors.toList())))
+                : Map.of();
+
+        List<OccupancyPoint> points = new ArrayList<>();
+        for (LocalDateTime at = from; !at.isAfter(to); at = at.plusHours(1)) {
+            HourBucket bucket = hours.get(at);
+            if (bucket == null && liveMinutes.containsKey(at)) {
+                bucket = HourBucket.aggregate(liveMinutes.get(at), elapsedMinutes(at, now));
+            }
+            points.add(bucket != null
+                    ? new OccupancyPoint(at, bucket.peak(), bucket.average())
+                    : new OccupancyPoint(at, 0, 0.0));
+        }
+        return points;
+    }
+
+    private void validateRange(OccupancyGranularity granularity, LocalDateTime from, LocalDateTime to) {
+        if (from.isAfter(to)) {
+            throw new CustomException(ErrorCode.ROOM_OCCUPANCY_INVALID_RANGE);
+        }
+        Duration maxRange = granularity == OccupancyGranularity.MINUTE
+                ? Duration.ofHours(properties.getOccupancy().getMaxMinuteRangeHours())
+                : Duration.ofDays(properties.getOccupancy().getMaxHourRangeDays());
+        if (Duration.between(from, to).compareTo(maxRange) > 0) {
+            throw new CustomException(ErrorCode.ROOM_OCCUPANCY_RANGE_TOO_LONG);
+        }
+    }
+
+    private static Duration defaultRange(OccupancyGranularity granularity) {
+        return granularity == OccupancyGranularity.MINUTE ? Duration.ofHours(1) : Duration.ofHours(24);
+    }
+
+    private static int elapsedMinutes(LocalDateTime hour, LocalDateTime now) {
+        long elapsed = Duration.between(hour, now).toMinutes() + 1;
+        return (int) Math.min(60, Math.max(1, elapsed));
+    }
+
+    private static LocalDateTime max(LocalDateTime a, LocalDateTime b) {
+        return a.isAfter(b) ? a : b;
+    }
+}
@@ -0,0 +1,105 @@
+package com.back.domain.studyroom.service;
+
+import com.back.domain.studyroom.dto.RoomSearchDocument;
+import com.back.domain.studyroom.entity.Room;
+import com.back.global.common.util.InvertedIndex;
+import com.back.global.common.util.NGramTokenizer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 방 제목/설명 검색용 메모리 역색인
+ * - 종료되지 않은 공개 방만 색인 (제목 가중치 3, 설명 가중치 1)
+ * - 방 생성/수정/종료 시 커밋 이후 즉시 반영하고,
+ *   다른 인스턴스의 변경은 RoomSearchIndexSynchronizer가 주기적으로 반영
+ * - 색인이 만들어지기 전(isReady=false)에는 검색 서비스가 DB 조회로 대체
+ */
+@Component
+@Slf4j
+public class RoomSearchIndex {
+
+    private static final int TITLE_WEIGHT = 3;
+    private static final int DESCRIPTION_WEIGHT = 1;
+
+    private final InvertedIndex index = new InvertedIndex();
+    private volatile boolean ready = false;
+
+    /**
+     * 검색어와 관련된 방 ID 조회 (관련도 순)
+     */
+    public List<Long> search(String keyword) {
+        return index.search(NGramTokenizer.tokenizeQuery(keyword)).stream()
+                .map(InvertedIndex.Hit::docId)
+                .toList();
+    }
+
+    /**
+     * 방 색인 반영 (검색 대상이 아니면 색인에서 제거)
+     */
+    public void index(RoomSearchDocument document) {
+        if (document.isSearchable()) {
+            index.put(document.roomId(), toGrams(document));
+        } else {
+            index.remove(document.roomId());
+        }
+    }
+
+    /**
+     * 트랜잭션 커밋 후 방 색인 반영 (롤백된 변경이 검색에 노출되지 않도록)
+     * - 호출 시점의 엔티티 상태를 스냅샷으로 사용
+     */
+    public void indexAfterCommit(Room room) {
+        RoomSearchDocument document = RoomSearchDocument.from(room);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    index(document);
+                }
+            });
+        } else {
+            index(document);
+        }
+    }
+
+    /**
+     * 전체 재색인 (새 색인을 만든 뒤 한 번에 교체)
+     */
+    public void rebuild(Collection<RoomSearchDocument> documents) {
+        Map<Long, Map<String, Integer>> source = new HashMap<>();
+        for (RoomSearchDocument document : documents) {
+            if (document.isSearchable()) {
+                source.put(document.roomId(), toGrams(document));
+            }
+        }
+        index.replaceAll(source);
+        ready = true;
+
+        log.info("방 검색 색인 재구성 완료 - 색인된 방: {}", source.size());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    private static Map<String, Integer> toGrams(RoomSearchDocument document) {
+        Map<String, Integer> grams = new HashMap<>();
+        NGramTokenizer.tokenize(document.title())
+                .forEach((gram, count) -> grams.merge(gram, count * TITLE_WEIGHT, Integer::sum));
+        NGramTokenizer.tokenize(document.description())
+                .forEach((gram, count) -> grams.merge(gram, count * DESCRIPTION_WEIGHT, Integer::sum));
+        return grams;
+    }
+}
@@ -0,0 +1,81 @@
+package com.back.domain.studyroom.service;
+
+import com.back.domain.studyroom.config.StudyRoomProperties;
+import com.back.domain.studyroom.entity.Room;
+import com.back.domain.studyroom.entity.RoomStatus;
+import com.back.domain.studyroom.repository.RoomRepository;
+import com.back.global.exception.CustomException;
+import com.back.global.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 방 검색 서비스
+ * - 메모리 역색인(RoomSearchIndex)으로 관련도 순 방 ID를 구한 뒤 해당 페이지의 방만 ID로 조회
+ * - SQL LIKE 전체 스캔 없이 검색, 색인 준비 전에만 DB 검색으로 대체
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Slf4j
+public class RoomSearchService {
+
+    private final RoomSearchIndex searchIndex;
+    private final RoomRepository roomRepository;
+    private final StudyRoomProperties properties;
+
+    /**
+     * 방 검색 (종료되지 않은 공개 방, 관련도 순)
+     */
+    public Page<Room> searchRooms(String keyword, Pageable pageable) {
+        if (keyword == null || keyword.isBlank()) {
+            throw new CustomException(ErrorCode.ROOM_SEARCH_KEYWORD_REQUIRED);
+        }
+        String query = keyword.strip();
+        int maxLength = properties.getSearch().getMaxKeywordLength();
+        if (query.length() > maxLength) {
+            query = query.substring(0, maxLength);
+        }
+
+        if (!searchIndex.isReady()) {
+            log.warn("방 검색 색인 준비 전 - DB 검색으로 대체, keyword: {}", query);
+            return searchFromDatabase(query, pageable);
+        }
+
+        List<Long> rankedIds = searchIndex.search(query);
+        int fromIndex = (int) Math.min(pageable.getOffset(), rankedIds.size());
+        int toIndex = Math.min(fromIndex + pageable.getPageSize(), rankedIds.size());
+        List<Long> pageIds = rankedIds.subList(fromIndex, toIndex);
+
+        Map<Long, Room> rooms = roomRepository.findRoomsByIdsWithCreator(pageIds).stream()
+                .collect(Collectors.toMap(Room::getId, Function.identity()));
+
+        // 색인 반영 전 다른 인스턴스에서 종료/비공개 전환된 방은 제외
+        List<Room> content = pageIds.stream()
+                .map(rooms::get)
+                .filter(Objects::nonNull)
+                .filter(room -> room.getStatus() != RoomStatus.TERMINATED && !room.isPrivate())
+                .toList();
+
+        return new PageImpl<>(content, pageable, rankedIds.size());
+    }
+
+    private Page<Room> searchFromDatabase(String query, Pageable pageable) {
+        Page<Room> rooms = roomRepository.findRoomsWithFilters(query, null, false, pageable);
+        List<Room> content = rooms.getContent().stream()
+                .filter(room -> room.getStatus() != RoomStatus.TERMINATED)
+                .toList();
+        return new PageImpl<>(content, pageable, rooms.getTotalElements());
+    }
+}
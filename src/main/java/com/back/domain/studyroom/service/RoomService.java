@@ -6,6 +6,7 @@ import com.back.domain.notification.event.studyroom.OwnerTransferredEvent;
 import com.back.domain.studyroom.config.StudyRoomProperties;
 import com.back.domain.studyroom.dto.RoomDetailResponse;
 import com.back.domain.studyroom.dto.RoomMemberResponse;
+import com.back.domain.studyroom.dto.RoomMemberSnapshot;
 import com.back.domain.studyroom.dto.RoomResponse;
 import com.back.domain.studyroom.entity.*;
 import com.back.domain.studyroom.repository.*;
@@ -13,6 +14,7 @@ import com.back.domain.user.common.entity.User;
 import com.back.domain.user.common.repository.UserRepository;
 import com.back.global.exception.CustomException;
 import com.back.global.exception.ErrorCode;
+import com.back.global.websocket.dto.RoomPresenceSnapshot;
 import com.back.global.websocket.service.RoomParticipantService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,7 +25,10 @@ import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -56,6 +61,13 @@ public class RoomService {
     private final AvatarService avatarService;
     private final RoomThumbnailService roomThumbnailService;
     private final RoomFavoriteService roomFavoriteService;
+    private final RoomSearchIndex roomSearchIndex;
+
+    // 멤버 목록 정렬 기준: 역할순(HOST > SUB_HOST > MEMBER > VISITOR) → 입장 시간순
+    private static final Comparator<RoomMemberSnapshot> MEMBER_ORDER = Comparator
+            .comparing(RoomMemberSnapshot::roleOrVisitor)
+            .thenComparing(RoomMemberSnapshot::joinedAt, Comparator.nullsLast(Comparator.<LocalDateTime>naturalOrder()))
+            .thenComparing(RoomMemberSnapshot::userId);
 
     /**
      * 방 생성 메서드
@@ -94,6 +106,8 @@ public class RoomService {
         roomMemberRepository.save(hostMember);
 
         // savedRoom.incrementParticipant();  // Redis로 이관 - DB 업데이트 제거
+
+        roomSearchIndex.indexAfterCommit(savedRoom);
         
         log.info("방 생성 완료 - RoomId: {}, Title: {}, CreatorId: {}, WebRTC: {}, ThumbnailId: {}", 
                 savedRoom.getId(), title, creatorId, useWebRTC, 
@@ -219,6 +233,31 @@ public class RoomService {
         return visitorMember;
     }
 
+    /**
+     * 비활성 방 일괄 종료 (정리 배치용)
+     * - 후보 방 행을 비관적 락으로 잡은 뒤 Redis 참가자 수를 확인하고 0명인 방만 종료
+     * - 입장은 같은 방 락을 잡은 채 Redis에 등록하므로, 락 이전에 끝난 입장은 참가자로 보여 제외되고
+     *   이후의 입장은 TERMINATED 상태를 보고 거절됨 (입장 시 활동 시각을 갱신하지 않아도 됨)
+     *
+     * @param roomIds 정리 후보 방 ID 목록
+     * @param cutoffTime 기준 시간 (이 시간 이전에 마지막으로 활동한 방만 정리)
+     * @return 종료된 방 개수
+     */
+    @Transactional
+    public int terminateEmptyInactiveRooms(List<Long> roomIds, LocalDateTime cutoffTime) {
+        List<Long> lockedRoomIds = roomRepository.lockInactiveRoomIds(roomIds, cutoffTime);
+        if (lockedRoomIds.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, Long> counts = roomParticipantService.getParticipantCounts(lockedRoomIds);
+        List<Long> emptyRoomIds = lockedRoomIds.stream()
+                .filter(roomId -> counts.getOrDefault(roomId, 0L) == 0)
+                .toList();
+
+        return roomRepository.terminateInactiveRooms(emptyRoomIds, cutoffTime);
+    }
+
     /**
      * 방 나가기 메서드
      * 
@@ -240,6 +279,9 @@ public class RoomService {
         // Redis에서 퇴장 처리 (모든 사용자)
         roomParticipantService.exitRoom(userId, roomId);
 
+        // 마지막 퇴장 후부터 비활성 시간을 계산하도록 활동 시각 갱신
+        roomRepository.touchLastActivity(List.of(roomId), LocalDateTime.now());
+
         log.info("방 퇴장 완료 - RoomId: {}, UserId: {}", roomId, userId);
     }
 
@@ -352,6 +394,7 @@ public class RoomService {
         }
 
         room.updateSettings(title, description, maxParticipants, thumbnailUrl);
+        roomSearchIndex.indexAfterCommit(room);
         
         log.info("방 설정 변경 완료 - RoomId: {}, UserId: {}, ThumbnailId: {}", 
                 roomId, userId, thumbnailAttachmentId != null ? thumbnailAttachmentId : "변경 없음");
@@ -383,6 +426,7 @@ public class RoomService {
         
         // 새 비밀번호 설정
         room.updatePassword(newPassword);
+        roomSearchIndex.indexAfterCommit(room);
         
         log.info("방 비밀번호 변경 완료 - RoomId: {}, UserId: {}", roomId, userId);
     }
@@ -405,6 +449,7 @@ public class RoomService {
         
         // 비밀번호 제거
         room.updatePassword(null);
+        roomSearchIndex.indexAfterCommit(room);
         
         log.info("방 비밀번호 제거 완료 - RoomId: {}, UserId: {}", roomId, userId);
     }
@@ -434,6 +479,7 @@ public class RoomService {
         
         // 새 비밀번호 설정
         room.updatePassword(newPassword);
+        roomSearchIndex.indexAfterCommit(room);
         
         log.info("방 비밀번호 설정 완료 - RoomId: {}, UserId: {}", roomId, userId);
     }
@@ -452,6 +498,7 @@ public class RoomService {
         roomThumbnailService.deleteThumbnailMapping(roomId, userId);
 
         room.terminate();
+        roomSearchIndex.indexAfterCommit(room);
         
         // Redis에서 모든 온라인 사용자 제거
         Set<Long> onlineUserIds = roomParticipantService.getParticipants(roomId);
@@ -613,58 +660,39 @@ public class RoomService {
     }
 
     /**
-     * 방 멤버 목록 조회 (Redis + DB 조합)
-     * 1. Redis에서 온라인 사용자 ID 조회
-     * 2. DB에서 해당 사용자들의 멤버십 조회 (IN 절)
-     * 3. DB에 없는 사용자 = VISITOR
-     * 4. User 정보와 조합하여 반환
+     * 방 멤버 목록 조회 (Redis + DB 조합, 멤버 스냅샷)
+     * 1. Redis Pipeline 1회로 온라인 사용자 ID + 아바타 조회
+     * 2. 단일 쿼리로 User + UserProfile + RoomMember(LEFT JOIN) 스냅샷 조회
+     * 3. DB 멤버십이 없는 사용자 = VISITOR
+     * 4. 역할순 → 입장 시간순 정렬
+     * 
+     * 방 인원과 무관하게 Redis 1회 + SQL 1회로 고정
+     * (온라인 사용자가 있다는 것은 입장 검증을 통과한 방이므로 방 존재 확인은 빈 방일 때만 수행)
      * 
      * @param roomId 방 ID
      * @param userId 요청자 ID (권한 체크용)
-     * @return 온라인 멤버 목록 (VISITOR 포함)
+     * @return 온라인 멤버 목록 (VISITOR 포함, 아바타 ID 포함)
      */
-    public List<RoomMember> getRoomMembers(Long roomId, Long userId) {
-        
-        Room room = roomRepository.findById(roomId)
-                .orElseThrow(() -> new CustomException(ErrorCode.ROOM_NOT_FOUND));
+    public List<RoomMemberResponse> getRoomMembers(Long roomId, Long userId) {
 
-        // 1. Redis에서 온라인 사용자 ID 조회
-        Set<Long> onlineUserIds = roomParticipantService.getParticipants(roomId);
+        // 1. Redis에서 온라인 사용자 ID + 아바타 조회 (Pipeline 1회)
+        RoomPresenceSnapshot presence = roomParticipantService.getRoomPresence(roomId);
         
-        if (onlineUserIds.isEmpty()) {
+        if (presence.isEmpty()) {
+            if (!roomRepository.existsById(roomId)) {
+                throw new CustomException(ErrorCode.ROOM_NOT_FOUND);
+            }
             return List.of();
         }
 
-        // 2. DB에서 멤버십 조회 (MEMBER 이상만 DB에 있음)
-        List<RoomMember> dbMembers = roomMemberRepository.findByRoomIdAndUserIdIn(roomId, onlineUserIds);
-        
-        // 3. DB에 있는 userId Set 생성
-        Set<Long> dbUserIds = dbMembers.stream()
-                .map(m -> m.getUser().getId())
-                .collect(java.util.stream.Collectors.toSet());
-        
-        // 4. DB에 없는 userId = VISITOR들
-        Set<Long> visitorUserIds = onlineUserIds.stream()
-                .filter(id -> !dbUserIds.contains(id))
-                .collect(java.util.stream.Collectors.toSet());
-        
-        // 5. VISITOR User 정보 조회 (일괄 조회)
-        if (!visitorUserIds.isEmpty()) {
-            List<User> visitorUsers = userRepository.findAllById(visitorUserIds);
-            
-            // 6. VISITOR RoomMember 객체 생성 (메모리상)
-            List<RoomMember> visitorMembers = visitorUsers.stream()
-                    .map(user -> RoomMember.createVisitor(room, user))
-                    .collect(java.util.stream.Collectors.toList());
-            
-            // 7. DB 멤버 + VISITOR 합치기
-            List<RoomMember> allMembers = new java.util.ArrayList<>(dbMembers);
-            allMembers.addAll(visitorMembers);
-            
-            return allMembers;
-        }
-        
-        return dbMembers;
+        // 2. DB에서 멤버 스냅샷 조회 (쿼리 1회, VISITOR 포함)
+        List<RoomMemberSnapshot> snapshots = roomMemberRepository.findMemberSnapshots(roomId, presence.userIds());
+
+        // 3. 역할순 → 입장 시간순 정렬 후 아바타 ID와 조합
+        return snapshots.stream()
+                .sorted(MEMBER_ORDER)
+                .map(snapshot -> snapshot.toResponse(presence.avatarIdOf(snapshot.userId())))
+                .toList();
     }
 
     public RoomRole getUserRoomRole(Long roomId, Long userId) {
@@ -801,15 +829,13 @@ public class RoomService {
     
     /**
      * RoomDetailResponse 생성 (즐겨찾기 여부 포함)
+     * @param members getRoomMembers로 조회한 멤버 스냅샷 (아바타 포함)
      */
-    public RoomDetailResponse toRoomDetailResponse(Room room, List<RoomMember> members, Long userId) {
+    public RoomDetailResponse toRoomDetailResponse(Room room, List<RoomMemberResponse> members, Long userId) {
         long onlineCount = roomParticipantService.getParticipantCount(room.getId());
         boolean isFavorite = userId != null && roomFavoriteService.isFavorite(room.getId(), userId);
         
-        // RoomMember를 RoomMemberResponse로 변환
-        List<RoomMemberResponse> memberResponses = toRoomMemberResponseList(room.getId(), members);
-        
-        return RoomDetailResponse.of(room, onlineCount, memberResponses, isFavorite);
+        return RoomDetailResponse.of(room, onlineCount, members, isFavorite);
     }
 
     /**
@@ -841,38 +867,4 @@ public class RoomService {
                 })
                 .collect(java.util.stream.Collectors.toList());
     }
-    
-    /**
-     * RoomMemberResponse 리스트 생성 (아바타 ID만 포함, N+1 방지)
-     * @param roomId 방 ID
-     * @param members 멤버 목록
-     * @return 아바타 ID가 포함된 RoomMemberResponse 리스트
-     */
-    public java.util.List<com.back.domain.studyroom.dto.RoomMemberResponse> toRoomMemberResponseList(
-            Long roomId,
-            java.util.List<RoomMember> members) {
-        
-        if (members.isEmpty()) {
-            return java.util.List.of();
-        }
-        
-        // 1. 모든 사용자 ID 추출
-        Set<Long> userIds = members.stream()
-                .map(m -> m.getUser().getId())
-                .collect(java.util.stream.Collectors.toSet());
-        
-        // 2. Redis에서 아바타 ID 일괄 조회
-        java.util.Map<Long, Long> avatarMap = roomParticipantService.getUserAvatars(roomId, userIds);
-        
-        // 3. RoomMemberResponse 생성 (avatarId만 포함)
-        return members.stream()
-                .map(member -> {
-                    Long userId = member.getUser().getId();
-                    Long avatarId = avatarMap.get(userId);
-                    
-                    return com.back.domain.studyroom.dto.RoomMemberResponse.of(
-                            member, avatarId);
-                })
-                .collect(java.util.stream.Collectors.toList());
-    }
 }
@@ -0,0 +1,71 @@
+package com.back.domain.studyroom.store;
+
+import com.back.domain.studyroom.dto.RoomAnnouncementResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 방별 공지사항 목록 Redis 캐시
+ * - room:announcements:{roomId} → 공지사항 목록 JSON (핀 고정 우선, 최신순 정렬 상태 그대로)
+ * - 공지사항 생성/수정/삭제/핀 토글 시 커밋 이후 무효화, 다음 조회 시 DB에서 다시 적재
+ * - 무효화와 동시에 진행 중이던 조회가 이전 목록을 다시 적재하는 경우는 TTL로 제한
+ */
+@Component
+@RequiredArgsConstructor
+public class RoomAnnouncementStore {
+
+    private static final String KEY_PREFIX = "room:announcements:";
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    private static final TypeReference<List<RoomAnnouncementResponse>> LIST_TYPE = new TypeReference<>() {};
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 캐시된 공지사항 목록 조회
+     * @return 캐시 미적재 시 Optional.empty() (공지사항 0개는 빈 목록으로 캐시됨)
+     */
+    public Optional<List<RoomAnnouncementResponse>> find(Long roomId) {
+        String value = redisTemplate.opsForValue().get(buildKey(roomId));
+        if (value == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(objectMapper.readValue(value, LIST_TYPE));
+        } catch (JsonProcessingException e) {
+            // 이전 형식 값은 캐시 미스로 처리
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * DB에서 읽은 공지사항 목록으로 캐시 적재
+     */
+    public void save(Long roomId, List<RoomAnnouncementResponse> announcements) {
+        try {
+            redisTemplate.opsForValue().set(buildKey(roomId), objectMapper.writeValueAsString(announcements), TTL);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("공지사항 캐시 직렬화 실패 - roomId: " + roomId, e);
+        }
+    }
+
+    /**
+     * 캐시 무효화
+     */
+    public void evict(Long roomId) {
+        redisTemplate.delete(buildKey(roomId));
+    }
+
+    private String buildKey(Long roomId) {
+        return KEY_PREFIX + roomId;
+    }
+}
@@ -0,0 +1,135 @@
+package com.back.domain.studyroom.store;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자별 즐겨찾기 방 ID Redis 저장소
+ * - favorite:rooms:{userId} → Set<roomId>
+ * - 즐겨찾기가 없는 사용자도 캐시할 수 있도록 센티널 멤버(0)를 함께 저장
+ *   (Key 없음 = 캐시 미적재, 센티널만 있음 = 즐겨찾기 0개)
+ * - 추가는 이미 적재된 Set에만 반영 (미적재 상태에서 일부만 채워지는 것 방지)
+ * - favorite:rooms:version:{userId} → 추가/제거마다 증가하는 버전
+ *   적재는 DB 조회 전에 읽은 버전이 그대로이고 Key가 없을 때만 수행
+ *   (조회 도중 커밋된 변경을 덮어쓰는 오래된 Set이 TTL 동안 남는 것 방지)
+ */
+@Component
+@RequiredArgsConstructor
+public class RoomFavoriteStore {
+
+    private static final String KEY_PREFIX = "favorite:rooms:";
+    private static final String VERSION_KEY_PREFIX = "favorite:rooms:version:";
+    private static final String SENTINEL = "0";
+    private static final Duration TTL = Duration.ofHours(6);
+
+    // KEYS[1]=Set, KEYS[2]=버전 / ARGV[1]=조회 전 버전('' = 없음), ARGV[2]=TTL(초), ARGV[3..]=멤버
+    private static final RedisScript<Long> SAVE_IF_UNCHANGED_SCRIPT = new DefaultRedisScript<>(
+            "if (redis.call('get', KEYS[2]) or '') ~= ARGV[1] or redis.call('exists', KEYS[1]) == 1 then return 0 end " +
+            "redis.call('sadd', KEYS[1], unpack(ARGV, 3)); redis.call('expire', KEYS[1], ARGV[2]); return 1",
+            Long.class
+    );
+
+    // KEYS[1]=Set, KEYS[2]=버전 / ARGV[1]=sadd|srem, ARGV[2]=방 ID, ARGV[3]=TTL(초)
+    private static final RedisScript<Long> APPLY_CHANGE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('incr', KEYS[2]); redis.call('expire', KEYS[2], ARGV[3]); " +
+            "if redis.call('exists', KEYS[1]) == 1 then " +
+            "redis.call(ARGV[1], KEYS[1], ARGV[2]); redis.call('expire', KEYS[1], ARGV[3]); return 1 " +
+            "else return 0 end",
+            Long.class
+    );
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 즐겨찾기 방 ID 목록 조회
+     * @return 캐시 미적재 시 Optional.empty()
+     */
+    public Optional<Set<Long>> find(Long userId) {
+        Set<String> members = redisTemplate.opsForSet().members(buildKey(userId));
+        if (members == null || members.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(members.stream()
+                .filter(member -> !SENTINEL.equals(member))
+                .map(Long::valueOf)
+                .collect(Collectors.toSet()));
+    }
+
+    /**
+     * 현재 버전 조회 (DB 조회 전에 읽어 saveIfUnchanged에 전달)
+     * @return 버전이 없으면 빈 문자열
+     */
+    public String currentVersion(Long userId) {
+        String version = redisTemplate.opsForValue().get(buildVersionKey(userId));
+        return version != null ? version : "";
+    }
+
+    /**
+     * DB에서 읽은 즐겨찾기 전체로 캐시 적재 (Lua 스크립트 1회)
+     * - 그 사이 추가/제거로 버전이 바뀌었거나 다른 요청이 먼저 적재했으면 적재하지 않음
+     * @param version DB 조회 전에 읽은 버전
+     * @return 적재 여부
+     */
+    public boolean saveIfUnchanged(Long userId, Collection<Long> roomIds, String version) {
+        String[] args = new String[roomIds.size() + 3];
+        args[0] = version;
+        args[1] = String.valueOf(TTL.toSeconds());
+        args[2] = SENTINEL;
+        int i = 3;
+        for (Long roomId : roomIds) {
+            args[i++] = String.valueOf(roomId);
+        }
+
+        Long saved = redisTemplate.execute(SAVE_IF_UNCHANGED_SCRIPT,
+                List.of(buildKey(userId), buildVersionKey(userId)), (Object[]) args);
+        return saved != null && saved == 1L;
+    }
+
+    /**
+     * 즐겨찾기 추가 반영 (버전 증가 + 캐시가 적재된 경우에만 추가)
+     */
+    public void addIfLoaded(Long userId, Long roomId) {
+        applyChange(userId, "sadd", roomId);
+    }
+
+    /**
+     * 즐겨찾기 제거 반영 (버전 증가 + 센티널은 남으므로 적재 상태 유지)
+     */
+    public void remove(Long userId, Long roomId) {
+        applyChange(userId, "srem", roomId);
+    }
+
+    private void applyChange(Long userId, String command, Long roomId) {
+        redisTemplate.execute(APPLY_CHANGE_SCRIPT, List.of(buildKey(userId), buildVersionKey(userId)),
+                command, String.valueOf(roomId), String.valueOf(TTL.toSeconds()));
+    }
+
+    /**
+     * 캐시 무효화 (다음 조회 시 DB에서 다시 적재)
+     * - 버전도 올려 진행 중이던 적재가 무효화 이전 데이터로 다시 채우지 않도록 함
+     */
+    public void evict(Long userId) {
+        String versionKey = buildVersionKey(userId);
+        redisTemplate.opsForValue().increment(versionKey);
+        redisTemplate.expire(versionKey, TTL);
+        redisTemplate.delete(buildKey(userId));
+    }
+
+    private String buildKey(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+
+    private String buildVersionKey(Long userId) {
+        return VERSION_KEY_PREFIX + userId;
+    }
+}
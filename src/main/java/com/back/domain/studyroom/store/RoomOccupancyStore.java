@@ -0,0 +1,314 @@
+package com.back.domain.studyroom.store;
+
+import com.back.domain.studyroom.config.StudyRoomProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 방 점유율 시계열 Redis 저장소
+ * - 분 버킷: stats:occupancy:minute:{scope}:{yyyyMMdd} → Hash<HHmm, 참가자 수>
+ * - 시간 버킷: stats:occupancy:hour:{scope}:{yyyyMMdd} → Hash<HH:peak | HH:avg, 값>
+ * - scope는 방 ID 또는 서비스 전체(all)
+ * - 참가자가 0명인 방은 기록하지 않음 (필드 없음 = 0명)
+ * - 일 단위 Key에 TTL을 걸어 보관 기간이 지난 버킷은 자동 삭제
+ */
+@Component
+@RequiredArgsConstructor
+public class RoomOccupancyStore {
+
+    public static final String TOTAL_SCOPE = "all";
+
+    private static final String KEY_PREFIX = "stats:occupancy:";
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final DateTimeFormatter HOUR_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHH");
+    private static final DateTimeFormatter MINUTE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmm");
+    private static final DateTimeFormatter MINUTE_FIELD_FORMAT = DateTimeFormatter.ofPattern("HHmm");
+    private static final DateTimeFormatter HOUR_FIELD_FORMAT = DateTimeFormatter.ofPattern("HH");
+
+    private static final Duration SAMPLE_LOCK_TTL = Duration.ofMinutes(5);
+    private static final Duration ROLLUP_DONE_TTL = Duration.ofDays(1);
+    private static final Duration HOUR_ROOMS_TTL = Duration.ofDays(1);
+
+    private final StringRedisTemplate redisTemplate;
+    private final StudyRoomProperties properties;
+
+    /**
+     * 시간 단위 집계 값
+     * @param peak    해당 시간 최대 참가자 수
+     * @param average 해당 시간 평균 참가자 수
+     */
+    public record HourBucket(long peak, double average) {
+
+        /**
+         * 분 값 목록을 최대/평균으로 집계
+         * - 기록 없는 분(null)은 참가자 0명으로 간주
+         * @param counts  분 단위 참가자 수 목록
+         * @param samples 평균 계산에 사용할 샘플 수
+         */
+        public static HourBucket aggregate(Collection<Long> counts, int samples) {
+            long peak = 0;
+            long sum = 0;
+            for (Long count : counts) {
+                if (count == null) {
+                    continue;
+                }
+                peak = Math.max(peak, count);
+                sum += count;
+            }
+            double average = samples > 0 ? Math.round(sum * 100.0 / samples) / 100.0 : 0.0;
+            return new HourBucket(peak, average);
+        }
+    }
+
+    // ==================== 분산 실행 제어 ====================
+
+    /**
+     * 해당 분의 샘플링 권한 획득 (여러 인스턴스 중 한 곳만 기록)
+     */
+    public boolean tryAcquireSample(LocalDateTime minute) {
+        return tryLock(KEY_PREFIX + "lock:sample:" + minute.format(MINUTE_FORMAT), SAMPLE_LOCK_TTL);
+    }
+
+    /**
+     * 해당 시간의 집계 완료 여부
+     */
+    public boolean isRolledUp(LocalDateTime hour) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(buildRollupDoneKey(hour)));
+    }
+
+    /**
+     * 해당 시간의 집계 완료 기록 (시간 버킷 기록에 성공한 뒤에만 호출, 실패한 시간은 다음 샘플링 때 다시 집계)
+     */
+    public void markRolledUp(LocalDateTime hour) {
+        redisTemplate.opsForValue().set(buildRollupDoneKey(hour), "1", ROLLUP_DONE_TTL);
+    }
+
+    private boolean tryLock(String key, Duration ttl) {
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(key, "1", ttl);
+        return Boolean.TRUE.equals(acquired);
+    }
+
+    // ==================== 분 버킷 ====================
+
+    /**
+     * 분 단위 샘플 기록 (Pipeline 1회)
+     * @param minute     샘플 시각 (분 단위로 절삭된 값)
+     * @param roomCounts 방 ID → 참가자 수 (0명 제외)
+     * @param total      서비스 전체 참가자 수
+     */
+    public void recordMinute(LocalDateTime minute, Map<Long, Long> roomCounts, long total) {
+        String field = minute.format(MINUTE_FIELD_FORMAT);
+        Duration minuteTtl = Duration.ofDays(properties.getOccupancy().getMinuteRetentionDays() + 1L);
+        String hourRoomsKey = buildHourRoomsKey(minute);
+
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+
+                String totalKey = buildMinuteKey(TOTAL_SCOPE, minute.toLocalDate());
+                ops.opsForHash().put(totalKey, field, String.valueOf(total));
+                ops.expire(totalKey, minuteTtl);
+
+                roomCounts.forEach((roomId, count) -> {
+                    String key = buildMinuteKey(String.valueOf(roomId), minute.toLocalDate());
+                    ops.opsForHash().put(key, field, String.valueOf(count));
+                    ops.expire(key, minuteTtl);
+                });
+
+                if (!roomCounts.isEmpty()) {
+                    ops.opsForSet().add(hourRoomsKey, roomCounts.keySet().stream()
+                            .map(String::valueOf)
+                            .toArray(String[]::new));
+                    ops.expire(hourRoomsKey, HOUR_ROOMS_TTL);
+                }
+                return null;
+            }
+        });
+    }
+
+    /**
+     * 기간 내 분 단위 값 조회 (일 단위 Key를 Pipeline으로 일괄 조회)
+     * @return 분 시각 → 참가자 수 (기록 없는 분은 제외)
+     */
+    public Map<LocalDateTime, Long> getMinutes(String scope, LocalDateTime from, LocalDateTime to) {
+        List<LocalDate> days = daysBetween(from.toLocalDate(), to.toLocalDate());
+        List<Map<String, String>> hashes = getHashes(days.stream()
+                .map(day -> buildMinuteKey(scope, day))
+                .toList());
+
+        Map<LocalDateTime, Long> result = new HashMap<>();
+        for (int i = 0; i < days.size(); i++) {
+            LocalDate day = days.get(i);
+            hashes.get(i).forEach((field, value) -> {
+                LocalDateTime at = day.atTime(Integer.parseInt(field.substring(0, 2)), Integer.parseInt(field.substring(2)));
+                if (!at.isBefore(from) && !at.isAfter(to)) {
+                    result.put(at, Long.parseLong(value));
+                }
+            });
+        }
+        return result;
+    }
+
+    // ==================== 시간 버킷 ====================
+
+    /**
+     * 해당 시간에 참가자가 있었던 방 ID 목록
+     */
+    public Set<Long> getRoomsSampledIn(LocalDateTime hour) {
+        Set<String> members = redisTemplate.opsForSet().members(buildHourRoomsKey(hour));
+        if (members == null) {
+            return Set.of();
+        }
+        return members.stream().map(Long::valueOf).collect(Collectors.toSet());
+    }
+
+    /**
+     * 여러 scope의 한 시간 분량 분 버킷 조회 (Pipeline 1회)
+     * @return scope → 60개 분 값 (기록 없는 분은 null)
+     */
+    public Map<String, List<Long>> getMinutesOfHour(List<String> scopes, LocalDateTime hour) {
+        List<Object> fields = new ArrayList<>(60);
+        for (int minute = 0; minute < 60; minute++) {
+            fields.add(hour.withMinute(minute).format(MINUTE_FIELD_FORMAT));
+        }
+
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                for (String scope : scopes) {
+                    ops.opsForHash().multiGet(buildMinuteKey(scope, hour.toLocalDate()), fields);
+                }
+                return null;
+            }
+        });
+
+        Map<String, List<Long>> result = new HashMap<>();
+        for (int i = 0; i < scopes.size(); i++) {
+            List<Long> values = new ArrayList<>();
+            if (results.get(i) instanceof List<?> list) {
+                list.forEach(value -> values.add(value != null ? Long.valueOf(value.toString()) : null));
+            }
+            result.put(scopes.get(i), values);
+        }
+        return result;
+    }
+
+    /**
+     * 시간 단위 집계 기록 (Pipeline 1회)
+     */
+    public void recordHours(LocalDateTime hour, Map<String, HourBucket> buckets) {
+        String hh = hour.format(HOUR_FIELD_FORMAT);
+        Duration hourTtl = Duration.ofDays(properties.getOccupancy().getHourRetentionDays() + 1L);
+
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                buckets.forEach((scope, bucket) -> {
+                    String key = buildHourKey(scope, hour.toLocalDate());
+                    ops.opsForHash().put(key, hh + ":peak", String.valueOf(bucket.peak()));
+                    ops.opsForHash().put(key, hh + ":avg", String.valueOf(bucket.average()));
+                    ops.expire(key, hourTtl);
+                });
+                return null;
+            }
+        });
+    }
+
+    /**
+     * 기간 내 시간 단위 집계 조회 (일 단위 Key를 Pipeline으로 일괄 조회)
+     * @return 시간 → 집계 값 (집계 전이거나 참가자가 없던 시간은 제외)
+     */
+    public Map<LocalDateTime, HourBucket> getHours(String scope, LocalDateTime from, LocalDateTime to) {
+        List<LocalDate> days = daysBetween(from.toLocalDate(), to.toLocalDate());
+        List<Map<String, String>> hashes = getHashes(days.stream()
+                .map(day -> buildHourKey(scope, day))
+                .toList());
+
+        Map<LocalDateTime, HourBucket> result = new HashMap<>();
+        for (int i = 0; i < days.size(); i++) {
+            LocalDate day = days.get(i);
+            Map<String, String> hash = hashes.get(i);
+            hash.forEach((field, value) -> {
+                if (!field.endsWith(":peak")) {
+                    return;
+                }
+                String hh = field.substring(0, 2);
+                LocalDateTime at = day.atTime(Integer.parseInt(hh), 0);
+                if (at.isBefore(from) || at.isAfter(to)) {
+                    return;
+                }
+                String average = hash.get(hh + ":avg");
+                result.put(at, new HourBucket(Long.parseLong(value), average != null ? Double.parseDouble(average) : 0.0));
+            });
+        }
+        return result;
+    }
+
+    // ==================== 내부 유틸 ====================
+
+    private List<Map<String, String>> getHashes(List<String> keys) {
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                for (String key : keys) {
+                    ops.opsForHash().entries(key);
+                }
+                return null;
+            }
+        });
+
+        List<Map<String, String>> hashes = new ArrayList<>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            Map<String, String> hash = new HashMap<>();
+            if (results.get(i) instanceof Map<?, ?> entries) {
+                entries.forEach((field, value) -> hash.put(field.toString(), value.toString()));
+            }
+            hashes.add(hash);
+        }
+        return hashes;
+    }
+
+    private static List<LocalDate> daysBetween(LocalDate from, LocalDate to) {
+        return from.datesUntil(to.plusDays(1)).toList();
+    }
+
+    private static String buildMinuteKey(String scope, LocalDate day) {
+        return KEY_PREFIX + "minute:" + scope + ":" + day.format(DAY_FORMAT);
+    }
+
+    private static String buildHourKey(String scope, LocalDate day) {
+        return KEY_PREFIX + "hour:" + scope + ":" + day.format(DAY_FORMAT);
+    }
+
+    private static String buildRollupDoneKey(LocalDateTime hour) {
+        return KEY_PREFIX + "rollup-done:" + hour.format(HOUR_FORMAT);
+    }
+
+    private static String buildHourRoomsKey(LocalDateTime hour) {
+        return KEY_PREFIX + "rooms:" + hour.format(HOUR_FORMAT);
+    }
+}
@@ -1,6 +1,7 @@
 package com.back.domain.user.account.controller;
 
 import com.back.domain.board.comment.dto.MyCommentResponse;
+import com.back.domain.board.common.dto.CursorResponse;
 import com.back.domain.board.common.dto.PageResponse;
 import com.back.domain.board.post.dto.PostListResponse;
 import com.back.domain.user.account.controller.docs.AccountControllerDocs;
@@ -118,4 +119,49 @@ public class AccountController implements AccountControllerDocs {
                         response
                 ));
     }
+
+    // 내 게시글 목록 커서 조회
+    @GetMapping("/posts/cursor")
+    public ResponseEntity<RsData<CursorResponse<PostListResponse>>> getMyPostsByCursor(
+            @AuthenticationPrincipal CustomUserDetails user,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        CursorResponse<PostListResponse> response = accountService.getMyPostsByCursor(user.getUserId(), cursor, size);
+        return ResponseEntity
+                .ok(RsData.success(
+                        "내 게시글 목록이 조회되었습니다.",
+                        response
+                ));
+    }
+
+    // 내 댓글 목록 커서 조회
+    @GetMapping("/comments/cursor")
+    public ResponseEntity<RsData<CursorResponse<MyCommentResponse>>> getMyCommentsByCursor(
+            @AuthenticationPrincipal CustomUserDetails user,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        CursorResponse<MyCommentResponse> response = accountService.getMyCommentsByCursor(user.getUserId(), cursor, size);
+        return ResponseEntity
+                .ok(RsData.success(
+                        "내 댓글 목록이 조회되었습니다.",
+                        response
+                ));
+    }
+
+    // 내 북마크 게시글 목록 커서 조회
+    @GetMapping("/bookmarks/cursor")
+    public ResponseEntity<RsData<CursorResponse<PostListResponse>>> getMyBookmarksByCursor(
+            @AuthenticationPrincipal CustomUserDetails user,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        CursorResponse<PostListResponse> response = accountService.getMyBookmarksByCursor(user.getUserId(), cursor, size);
+        return ResponseEntity
+                .ok(RsData.success(
+                        "내 북마크 게시글 목록이 조회되었습니다.",
+                        response
+                ));
+    }
 }
@@ -1,6 +1,7 @@
 package com.back.domain.user.account.controller.docs;
 
 import com.back.domain.board.comment.dto.MyCommentResponse;
+import com.back.domain.board.common.dto.CursorResponse;
 import com.back.domain.board.common.dto.PageResponse;
 import com.back.domain.board.post.dto.PostListResponse;
 import com.back.domain.user.account.dto.ChangePasswordRequest;
@@ -20,6 +21,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 
 @Tag(name = "User API", description = "사용자 정보 관련 API")
 public interface AccountControllerDocs {
@@ -1098,4 +1100,430 @@ public interface AccountControllerDocs {
             @AuthenticationPrincipal CustomUserDetails user,
             @ParameterObject Pageable pageable
     );
+
+    @Operation(
+            summary = "내 게시글 목록 조회 (커서)",
+            description = """
+                    로그인한 사용자의 작성 게시글 목록을 커서 기반으로 조회합니다.
+                    - 정렬: 작성한 순서의 최신순 (생성 일시, ID 내림차순)
+                    - 첫 페이지는 cursor 없이 요청하고, 이후에는 응답의 nextCursor를 그대로 전달합니다.
+                    - totalElements는 첫 페이지에서만 포함됩니다.
+                    - size는 1 ~ 100 범위로 조정됩니다. (기본 20)
+                    """
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "내 게시글 목록 조회 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                    {
+                                      "success": true,
+                                      "code": "SUCCESS_200",
+                                      "message": "내 게시글 목록이 조회되었습니다.",
+                                      "data": {
+                                        "items": [
+                                          {
+                                            "postId": 22,
+                                            "author": { "id": 3, "nickname": "홍길동", "profileImageUrl": null },
+                                            "title": "JPA 영속성 전이 완벽 정리",
+                                            "thumbnailUrl": "https://cdn.example.com/thumbnails/jpa.png",
+                                            "categories": [
+                                              { "id": 2, "name": "백엔드", "type": "SUBJECT" }
+                                            ],
+                                            "likeCount": 12,
+                                            "bookmarkCount": 7,
+                                            "commentCount": 3,
+                                            "createdAt": "2025-09-28T11:20:00",
+                                            "updatedAt": "2025-09-28T12:00:00"
+                                          }
+                                        ],
+                                        "nextCursor": "MjAyNS0wOS0yOFQxMToyMHwyMg",
+                                        "hasNext": true,
+                                        "totalElements": 35
+                                      }
+                                    }
+                                    """)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "유효하지 않은 커서",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                    {
+                                      "success": false,
+                                      "code": "POST_009",
+                                      "message": "유효하지 않은 커서입니다.",
+                                      "data": null
+                                    }
+                                    """)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "존재하지 않는 사용자",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                    {
+                                      "success": false,
+                                      "code": "USER_001",
+                                      "message": "존재하지 않는 사용자입니다.",
+                                      "data": null
+                                    }
+                                    """)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "410",
+                    description = "탈퇴한 계정",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                    {
+                                      "success": false,
+                                      "code": "USER_009",
+                                      "message": "탈퇴한 계정입니다.",
+                                      "data": null
+                                    }
+                                    """)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "정지된 계정",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                    {
+                                      "success": false,
+                                      "code": "USER_008",
+                                      "message": "정지된 계정입니다. 관리자에게 문의하세요.",
+                                      "data": null
+                                    }
+                                    """)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "인증 실패 (토큰 없음/잘못됨/만료)",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                    {
+                                      "success": false,
+                                      "code": "AUTH_001",
+                                      "message": "인증이 필요합니다.",
+                                      "data": null
+                                    }
+                                    """)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "서버 내부 오류",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                    {
+                                      "success": false,
+                                      "code": "COMMON_500",
+                                      "message": "서버 오류가 발생했습니다.",
+                                      "data": null
+                                    }
+                                    """)
+                    )
+            )
+    })
+    ResponseEntity<RsData<CursorResponse<PostListResponse>>> getMyPostsByCursor(
+            @AuthenticationPrincipal CustomUserDetails user,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    );
+
+    @Operation(
+            summary = "내 댓글 목록 조회 (커서)",
+            description = """
+                    로그인한 사용자의 작성 댓글 목록을 커서 기반으로 조회합니다.
+                    - 정렬: 작성한 순서의 최신순 (생성 일시, ID 내림차순)
+                    - 첫 페이지는 cursor 없이 요청하고, 이후에는 응답의 nextCursor를 그대로 전달합니다.
+                    - totalElements는 첫 페이지에서만 포함됩니다.
+                    - size는 1 ~ 100 범위로 조정됩니다. (기본 20)
+                    """
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "내 댓글 목록 조회 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                    {
+                                      "success": true,
+                                      "code": "SUCCESS_200",
+                                      "message": "내 댓글 목록이 조회되었습니다.",
+                                      "data": {
+                                        "items": [
+                                          {
+                                            "commentId": 12,
+                                            "postId": 5,
+                                            "postTitle": "스프링 트랜잭션 정리",
+                                            "parentId": null,
+                                            "parentContent": null,
+                                            "content": "좋은 글 감사합니다!",
+                                            "likeCount": 2,
+                                            "createdAt": "2025-09-22T11:30:00",
+                                            "updatedAt": "2025-09-22T11:30:00"
+                                          }
+                                        ],
+                                        "nextCursor": "MjAyNS0wOS0yOFQxMToyMHwyMg",
+                                        "hasNext": true,
+                                        "totalElements": 35
+                                      }
+                                    }
+                                    """)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "유효하지 않은 커서",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                    {
+                                      "success": false,
+                                      "code": "POST_009",
+                                      "message": "유효하지 않은 커서입니다.",
+                                      "data": null
+                                    }
+                                    """)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "존재하지 않는 사용자",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                    {
+                                      "success": false,
+                                      "code": "USER_001",
+                                      "message": "존재하지 않는 사용자입니다.",
+                                      "data": null
+                                    }
+                                    """)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "410",
+                    description = "탈퇴한 계정",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                    {
+                                      "success": false,
+                                      "code": "USER_009",
+                                      "message": "탈퇴한 계정입니다.",
+                                      "data": null
+                                    }
+                                    """)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "정지된 계정",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                    {
+                                      "success": false,
+                                      "code": "USER_008",
+                                      "message": "정지된 계정입니다. 관리자에게 문의하세요.",
+                                      "data": null
+                                    }
+                                    """)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "인증 실패 (토큰 없음/잘못됨/만료)",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                    {
+                                      "success": false,
+                                      "code": "AUTH_001",
+                                      "message": "인증이 필요합니다.",
+                                      "data": null
+                                    }
+                                    """)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "서버 내부 오류",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                    {
+                                      "success": false,
+                                      "code": "COMMON_500",
+                                      "message": "서버 오류가 발생했습니다.",
+                                      "data": null
+                                    }
+                                    """)
+                    )
+            )
+    })
+    ResponseEntity<RsData<CursorResponse<MyCommentResponse>>> getMyCommentsByCursor(
+            @AuthenticationPrincipal CustomUserDetails user,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    );
+
+    @Operation(
+            summary = "내 북마크 게시글 목록 조회 (커서)",
+            description = """
+                    로그인한 사용자의 북마크 게시글 목록을 커서 기반으로 조회합니다.
+                    - 정렬: 북마크한 순서의 최신순 (생성 일시, ID 내림차순)
+                    - 첫 페이지는 cursor 없이 요청하고, 이후에는 응답의 nextCursor를 그대로 전달합니다.
+                    - totalElements는 첫 페이지에서만 포함됩니다.
+                    - size는 1 ~ 100 범위로 조정됩니다. (기본 20)
+                    """
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "내 북마크 게시글 목록 조회 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                    {
+                                      "success": true,
+                                      "code": "SUCCESS_200",
+                                      "message": "내 북마크 게시글 목록이 조회되었습니다.",
+                                      "data": {
+                                        "items": [
+                                          {
+                                            "postId": 22,
+                                            "author": { "id": 3, "nickname": "홍길동", "profileImageUrl": null },
+                                            "title": "JPA 영속성 전이 완벽 정리",
+                                            "thumbnailUrl": "https://cdn.example.com/thumbnails/jpa.png",
+                                            "categories": [
+                                              { "id": 2, "name": "백엔드", "type": "SUBJECT" }
+                                            ],
+                                            "likeCount": 12,
+                                            "bookmarkCount": 7,
+                                            "commentCount": 3,
+                                            "createdAt": "2025-09-28T11:20:00",
+                                            "updatedAt": "2025-09-28T12:00:00"
+                                          }
+                                        ],
+                                        "nextCursor": "MjAyNS0wOS0yOFQxMToyMHwyMg",
+                                        "hasNext": true,
+                                        "totalElements": 35
+                                      }
+                                    }
+                                    """)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "유효하지 않은 커서",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                    {
+                                      "success": false,
+                                      "code": "POST_009",
+                                      "message": "유효하지 않은 커서입니다.",
+                                      "data": null
+                                    }
+                                    """)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "존재하지 않는 사용자",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                    {
+                                      "success": false,
+                                      "code": "USER_001",
+                                      "message": "존재하지 않는 사용자입니다.",
+                                      "data": null
+                                    }
+                                    """)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "410",
+                    description = "탈퇴한 계정",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                    {
+                                      "success": false,
+                                      "code": "USER_009",
+                                      "message": "탈퇴한 계정입니다.",
+                                      "data": null
+                                    }
+                                    """)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "정지된 계정",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                    {
+                                      "success": false,
+                                      "code": "USER_008",
+                                      "message": "정지된 계정입니다. 관리자에게 문의하세요.",
+                                      "data": null
+                                    }
+                                    """)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "인증 실패 (토큰 없음/잘못됨/만료)",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                    {
+                                      "success": false,
+                                      "code": "AUTH_001",
+                                      "message": "인증이 필요합니다.",
+                                      "data": null
+                                    }
+                                    """)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "서버 내부 오류",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                    {
+                                      "success": false,
+                                      "code": "COMMON_500",
+                                      "message": "서버 오류가 발생했습니다.",
+                                      "data": null
+                                    }
+                                    """)
+                    )
+            )
+    })
+    ResponseEntity<RsData<CursorResponse<PostListResponse>>> getMyBookmarksByCursor(
+            @AuthenticationPrincipal CustomUserDetails user,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    );
 }
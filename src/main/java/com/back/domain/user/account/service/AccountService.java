@@ -2,9 +2,13 @@ package com.back.domain.user.account.service;
 
 import com.back.domain.board.comment.dto.MyCommentResponse;
 import com.back.domain.board.comment.repository.CommentRepository;
+import com.back.domain.board.common.dto.CursorResponse;
+import com.back.domain.board.common.dto.KeysetCursor;
 import com.back.domain.board.common.dto.PageResponse;
 import com.back.domain.board.post.dto.PostListResponse;
+import com.back.domain.board.post.repository.PostBookmarkRepository;
 import com.back.domain.board.post.repository.PostRepository;
+import com.back.domain.board.post.service.PostSummaryService;
 import com.back.domain.file.entity.EntityType;
 import com.back.domain.file.service.AttachmentMappingService;
 import com.back.domain.user.account.dto.ChangePasswordRequest;
@@ -32,11 +36,17 @@ import java.util.Optional;
 @RequiredArgsConstructor
 @Transactional
 public class AccountService {
+
+    /** 커서 조회 페이지 크기 상한 */
+    public static final int MAX_CURSOR_SIZE = 100;
+
     private final UserRepository userRepository;
     private final UserProfileRepository userProfileRepository;
     private final CommentRepository commentRepository;
     private final PostRepository postRepository;
+    private final PostBookmarkRepository postBookmarkRepository;
     private final AttachmentMappingService attachmentMappingService;
+    private final PostSummaryService postSummaryService;
     private final PasswordEncoder passwordEncoder;
 
     /**
@@ -58,7 +68,8 @@ public class AccountService {
      * 1. 사용자 조회 및 상태 검증
      * 2. 닉네임 중복 검사
      * 3. UserProfile 업데이트
-     * 4. UserDetailResponse 변환 및 반환
+     * 4. 작성 게시글 요약의 작성자 스냅샷 갱신
+     * 5. UserDetailResponse 변환 및 반환
      */
     public UserDetailResponse updateUserProfile(Long userId, UserProfileRequest request) {
 
@@ -85,6 +96,9 @@ public class AccountService {
             profile.setProfileImageUrl(newUrl);
         }
 
+        // 게시글 요약의 작성자 스냅샷 갱신
+        postSummaryService.syncAuthor(user);
+
         // UserDetailResponse로 변환하여 반환
         return UserDetailResponse.from(user);
     }
@@ -148,6 +162,9 @@ public class AccountService {
             profile.setBio(null);
             profile.setBirthDate(null);
         }
+
+        // 게시글 요약의 작성자 스냅샷 갱신
+        postSummaryService.syncAuthor(user);
     }
 
     /**
@@ -207,6 +224,88 @@ public class AccountService {
         return PageResponse.from(page);
     }
 
+    /**
+     * 내 게시글 목록 커서 조회 서비스 (최신순)
+     * 1. 사용자 조회 및 상태 검증
+     * 2. 커서 이후 게시글 목록 조회
+     * 3. 첫 페이지면 전체 개수 포함
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지면 null)
+     * @param size   페이지 크기 (1 ~ MAX_CURSOR_SIZE)
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<PostListResponse> getMyPostsByCursor(Long userId, String cursor, int size) {
+        KeysetCursor keyset = KeysetCursor.decode(cursor);
+
+        // 사용자 조회 및 상태 검증
+        User user = getValidUser(userId);
+
+        // 게시글 목록 조회
+        CursorResponse<PostListResponse> response =
+                postRepository.findPostsByUserIdAfter(user.getId(), keyset, clampSize(size));
+
+        // 전체 개수는 첫 페이지에서만 계산
+        return keyset == null
+                ? response.withTotalElements(postRepository.countByUserId(user.getId()))
+                : response;
+    }
+
+    /**
+     * 내 댓글 목록 커서 조회 서비스 (최신순)
+     * 1. 사용자 조회 및 상태 검증
+     * 2. 커서 이후 댓글 목록 조회
+     * 3. 첫 페이지면 전체 개수 포함
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지면 null)
+     * @param size   페이지 크기 (1 ~ MAX_CURSOR_SIZE)
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<MyCommentResponse> getMyCommentsByCursor(Long userId, String cursor, int size) {
+        KeysetCursor keyset = KeysetCursor.decode(cursor);
+
+        // 사용자 조회 및 상태 검증
+        User user = getValidUser(userId);
+
+        // 댓글 목록 조회
+        CursorResponse<MyCommentResponse> response =
+                commentRepository.findCommentsByUserIdAfter(user.getId(), keyset, clampSize(size));
+
+        // 전체 개수는 첫 페이지에서만 계산
+        return keyset == null
+                ? response.withTotalElements(commentRepository.countByUserId(user.getId()))
+                : response;
+    }
+
+    /**
+     * 내 북마크 게시글 목록 커서 조회 서비스 (북마크한 순서의 최신순)
+     * 1. 사용자 조회 및 상태 검증
+     * 2. 커서 이후 북마크 게시글 목록 조회
+     * 3. 첫 페이지면 전체 개수 포함
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지면 null)
+     * @param size   페이지 크기 (1 ~ MAX_CURSOR_SIZE)
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<PostListResponse> getMyBookmarksByCursor(Long userId, String cursor, int size) {
+        KeysetCursor keyset = KeysetCursor.decode(cursor);
+
+        // 사용자 조회 및 상태 검증
+        User user = getValidUser(userId);
+
+        // 북마크된 게시글 조회
+        CursorResponse<PostListResponse> response =
+                postRepository.findBookmarkedPostsByUserIdAfter(user.getId(), keyset, clampSize(size));
+
+        // 전체 개수는 첫 페이지에서만 계산
+        return keyset == null
+                ? response.withTotalElements(postBookmarkRepository.countByUserId(user.getId()))
+                : response;
+    }
+
+    private int clampSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_CURSOR_SIZE);
+    }
+
     /**
      * 유효한 사용자 조회 및 상태 검증
      *
@@ -2,8 +2,12 @@ package com.back.domain.user.common.repository;
 
 import com.back.domain.user.common.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -13,4 +17,12 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     Optional<User> findByUsername(String username);
     Optional<User> findByProviderAndProviderId(String provider, String providerId);
+
+    // 여러 사용자를 프로필과 함께 한 번에 조회 (알림 배치 저장 시 수신자/발신자 일괄 확인용)
+    @Query("SELECT u FROM User u LEFT JOIN FETCH u.userProfile WHERE u.id IN :ids")
+    List<User> findAllWithProfileByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 사용자 ID 상한 (ID 구간 단위 배치 처리용)
+    @Query("SELECT COALESCE(MAX(u.id), 0) FROM User u")
+    long findMaxId();
 }
\ No newline at end of file
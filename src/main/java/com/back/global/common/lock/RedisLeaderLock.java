@@ -0,0 +1,62 @@
+package com.back.global.common.lock;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Redis 기반 리더 선출 락
+ * - 여러 인스턴스에서 같은 스케줄 작업이 동시에 실행되지 않도록 한 노드만 실행 권한 획득
+ * - SET NX PX로 임대(lease) 획득, 소유자(인스턴스 ID)가 일치할 때만 해제
+ * - 노드가 비정상 종료되어도 임대 시간이 지나면 자동 해제
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisLeaderLock {
+
+    private static final String KEY_PREFIX = "lock:leader:";
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class
+    );
+
+    private final StringRedisTemplate redisTemplate;
+
+    private final String instanceId = UUID.randomUUID().toString();
+
+    /**
+     * 작업 실행 권한 획득 시도
+     * @param jobName 작업 이름
+     * @param lease 임대 시간 (작업 최대 실행 시간보다 길게 설정)
+     * @return 획득 여부 (Redis 오류 시 실행하지 않도록 false)
+     */
+    public boolean tryAcquire(String jobName, Duration lease) {
+        try {
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + jobName, instanceId, lease);
+            return Boolean.TRUE.equals(acquired);
+        } catch (Exception e) {
+            log.error("리더 락 획득 실패 - job: {}", jobName, e);
+            return false;
+        }
+    }
+
+    /**
+     * 작업 실행 권한 해제 (내가 보유한 경우에만)
+     */
+    public void release(String jobName) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(KEY_PREFIX + jobName), instanceId);
+        } catch (Exception e) {
+            log.warn("리더 락 해제 실패 - 임대 만료 시 자동 해제됨, job: {}", jobName, e);
+        }
+    }
+}
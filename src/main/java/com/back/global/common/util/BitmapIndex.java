@@ -0,0 +1,98 @@
+package com.back.global.common.util;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 메모리 비트맵 색인 (키 → 문서 ID 비트셋)
+ * - 문서 ID를 비트 위치로 사용하므로 키당 메모리는 (최대 문서 ID / 8) 바이트로 고정
+ *   (예: 문서 ID 100만 → 키당 약 125KB), 문서당 역방향 맵을 두지 않음
+ * - 키 수가 적은 분류(카테고리 등)를 가정하여 문서 제거 시 모든 키의 비트를 지움
+ * - 문서 ID는 int 범위(약 21억)까지만 지원
+ * - 읽기/쓰기 락으로 조회는 동시에, 색인 변경은 단독으로 수행
+ */
+public class BitmapIndex {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Map<Long, BitSet> bitmaps = new HashMap<>();
+
+    /**
+     * 문서의 키 목록 교체 (기존 키에서는 제거)
+     */
+    public void put(long docId, Collection<Long> keys) {
+        int bit = toBit(docId);
+        lock.writeLock().lock();
+        try {
+            bitmaps.values().forEach(bitmap -> bitmap.clear(bit));
+            keys.forEach(key -> bitmaps.computeIfAbsent(key, k -> new BitSet()).set(bit));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 문서에 키 추가 (기존 키 유지)
+     */
+    public void add(long docId, long key) {
+        int bit = toBit(docId);
+        lock.writeLock().lock();
+        try {
+            bitmaps.computeIfAbsent(key, k -> new BitSet()).set(bit);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long docId) {
+        int bit = toBit(docId);
+        lock.writeLock().lock();
+        try {
+            bitmaps.values().forEach(bitmap -> bitmap.clear(bit));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 전체 색인 교체 (락 밖에서 만든 비트맵으로 교체만 잠금)
+     */
+    public void replaceAll(Map<Long, BitSet> source) {
+        Map<Long, BitSet> copy = new HashMap<>();
+        source.forEach((key, bitmap) -> copy.put(key, (BitSet) bitmap.clone()));
+
+        lock.writeLock().lock();
+        try {
+            bitmaps = copy;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 키 중 하나 이상을 가진 문서 (합집합, 복사본 반환)
+     */
+    public BitSet union(Collection<Long> keys) {
+        BitSet result = new BitSet();
+        lock.readLock().lock();
+        try {
+            for (Long key : keys) {
+                BitSet bitmap = bitmaps.get(key);
+                if (bitmap != null) {
+                    result.or(bitmap);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    public static int toBit(long docId) {
+        return Math.toIntExact(docId);
+    }
+}
@@ -0,0 +1,191 @@
+package com.back.global.common.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 메모리 역색인 (gram → 문서 ID → 가중 빈도)
+ * - 검색어의 모든 gram을 포함한 문서만 결과로 반환 (AND 검색, LIKE '%검색어%'에 가까운 재현율)
+ * - 점수: gram별 BM25 (빈도 포화 + 문서 길이 정규화 + IDF) 합계
+ * - 읽기/쓰기 락으로 검색은 동시에, 색인 변경은 단독으로 수행
+ */
+public class InvertedIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    private Map<Long, Map<String, Integer>> documents = new HashMap<>();
+    private long totalLength;
+
+    /**
+     * 검색 결과
+     * @param docId 문서 ID
+     * @param score 관련도 점수 (높을수록 관련도 높음)
+     */
+    public record Hit(long docId, double score) {
+    }
+
+    /**
+     * 문서 색인 (이미 있으면 교체)
+     * @param grams gram → 가중 빈도
+     */
+    public void put(long docId, Map<String, Integer> grams) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(docId);
+            if (grams.isEmpty()) {
+                return;
+            }
+            Map<String, Integer> copy = Map.copyOf(grams);
+            documents.put(docId, copy);
+            copy.forEach((gram, frequency) -> {
+                postings.computeIfAbsent(gram, key -> new HashMap<>()).put(docId, frequency);
+                totalLength += frequency;
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long docId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(docId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 전체 문서로 색인을 새로 만들어 교체 (락 밖에서 생성 후 교체만 잠금)
+     */
+    public void replaceAll(Map<Long, Map<String, Integer>> source) {
+        Map<String, Map<Long, Integer>> newPostings = new HashMap<>();
+        Map<Long, Map<String, Integer>> newDocuments = new HashMap<>();
+        long newTotalLength = 0;
+
+        for (Map.Entry<Long, Map<String, Integer>> entry : source.entrySet()) {
+            if (entry.getValue().isEmpty()) {
+                continue;
+            }
+            Map<String, Integer> copy = Map.copyOf(entry.getValue());
+            newDocuments.put(entry.getKey(), copy);
+            for (Map.Entry<String, Integer> gram : copy.entrySet()) {
+                newPostings.computeIfAbsent(gram.getKey(), key -> new HashMap<>()).put(entry.getKey(), gram.getValue());
+                newTotalLength += gram.getValue();
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            postings = newPostings;
+            documents = newDocuments;
+            totalLength = newTotalLength;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색 (관련도 내림차순, 동점이면 최신 문서(ID 큰 순) 우선)
+     * @param queryGrams 검색어 gram
+     * @return 모든 gram을 포함한 문서 목록
+     */
+    public List<Hit> search(Map<String, Integer> queryGrams) {
+        if (queryGrams.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<Map<Long, Integer>> lists = new ArrayList<>(queryGrams.size());
+            for (String gram : queryGrams.keySet()) {
+                Map<Long, Integer> list = postings.get(gram);
+                if (list == null) {
+                    return List.of();
+                }
+                lists.add(list);
+            }
+            // 가장 짧은 posting list를 기준으로 교집합
+            lists.sort(Comparator.comparingInt(Map::size));
+
+            int docCount = documents.size();
+            double averageLength = docCount > 0 ? (double) totalLength / docCount : 1.0;
+
+            List<Hit> hits = new ArrayList<>();
+            candidates:
+            for (Long docId : lists.get(0).keySet()) {
+                for (int i = 1; i < lists.size(); i++) {
+                    if (!lists.get(i).containsKey(docId)) {
+                        continue candidates;
+                    }
+                }
+                double lengthNorm = K1 * (1 - B + B * documentLength(docId) / averageLength);
+                double score = 0;
+                for (Map<Long, Integer> list : lists) {
+                    int frequency = list.get(docId);
+                    double idf = Math.log(1 + (docCount - list.size() + 0.5) / (list.size() + 0.5));
+                    score += idf * frequency * (K1 + 1) / (frequency + lengthNorm);
+                }
+                hits.add(new Hit(docId, score));
+            }
+
+            hits.sort(Comparator.comparingDouble(Hit::score).reversed()
+                    .thenComparing(Comparator.comparingLong(Hit::docId).reversed()));
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean contains(long docId) {
+        lock.readLock().lock();
+        try {
+            return documents.containsKey(docId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private long documentLength(long docId) {
+        long length = 0;
+        for (int frequency : documents.get(docId).values()) {
+            length += frequency;
+        }
+        return length;
+    }
+
+    private void removeInternal(long docId) {
+        Map<String, Integer> previous = documents.remove(docId);
+        if (previous == null) {
+            return;
+        }
+        previous.forEach((gram, frequency) -> {
+            Map<Long, Integer> list = postings.get(gram);
+            if (list != null) {
+                list.remove(docId);
+                if (list.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+            totalLength -= frequency;
+        });
+    }
+}
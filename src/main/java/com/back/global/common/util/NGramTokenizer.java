@@ -0,0 +1,71 @@
+package com.back.global.common.util;
+
+import java.text.Normalizer;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 검색용 n-gram 토크나이저
+ * - 형태소 분석 없이 한국어를 검색할 수 있도록 단어를 2-gram으로 분해
+ *   (예: "자바스터디" → 자바, 바스, 스터, 터디)
+ * - NFKC 정규화 + 소문자 변환 후 문자/숫자가 아닌 문자를 단어 경계로 사용
+ * - 색인 시에는 1-gram도 함께 만들어 한 글자 검색어도 찾을 수 있게 함
+ *   (검색어는 두 글자 이상이면 2-gram만 사용, 한 글자 단어는 그대로 사용)
+ */
+public final class NGramTokenizer {
+
+    private static final int GRAM_SIZE = 2;
+
+    private NGramTokenizer() {
+    }
+
+    /**
+     * 색인할 텍스트를 gram 빈도로 변환 (1-gram + 2-gram)
+     * @return gram → 등장 횟수 (text가 비어 있으면 빈 Map)
+     */
+    public static Map<String, Integer> tokenize(String text) {
+        return tokenize(text, true);
+    }
+
+    /**
+     * 검색어를 gram 빈도로 변환 (2-gram, 한 글자 단어만 1-gram)
+     */
+    public static Map<String, Integer> tokenizeQuery(String query) {
+        return tokenize(query, false);
+    }
+
+    private static Map<String, Integer> tokenize(String text, boolean withUnigrams) {
+        Map<String, Integer> grams = new HashMap<>();
+        if (text == null || text.isBlank()) {
+            return grams;
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        int[] codePoints = normalized.codePoints().toArray();
+
+        int wordStart = -1;
+        for (int i = 0; i <= codePoints.length; i++) {
+            boolean wordChar = i < codePoints.length && Character.isLetterOrDigit(codePoints[i]);
+            if (wordChar && wordStart < 0) {
+                wordStart = i;
+            } else if (!wordChar && wordStart >= 0) {
+                addWordGrams(codePoints, wordStart, i, withUnigrams, grams);
+                wordStart = -1;
+            }
+        }
+        return grams;
+    }
+
+    private static void addWordGrams(int[] codePoints, int start, int end, boolean withUnigrams,
+                                     Map<String, Integer> grams) {
+        if (withUnigrams || end - start < GRAM_SIZE) {
+            for (int i = start; i < end; i++) {
+                grams.merge(new String(codePoints, i, 1), 1, Integer::sum);
+            }
+        }
+        for (int i = start; i + GRAM_SIZE <= end; i++) {
+            grams.merge(new String(codePoints, i, GRAM_SIZE), 1, Integer::sum);
+        }
+    }
+}
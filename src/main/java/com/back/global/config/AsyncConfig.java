@@ -1,26 +1,56 @@
 package com.back.global.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * 비동기 실행기 설정
+ * - notificationExecutor: 큐가 가득 차면 작업을 버리지 않고 제출한 스레드에서 실행 (CallerRunsPolicy)
+ *   → 제출 속도가 처리 속도를 넘으면 제출 측이 느려지는 방식으로 역압 적용
+ * - 큐 길이/활성 스레드 등은 Spring Boot 실행기 메트릭(executor.*{name=notificationExecutor})으로 노출되며,
+ *   큐 대기 시간은 notification.executor.queue.wait 타이머로 별도 기록
+ */
 @Configuration
 @EnableAsync
 public class AsyncConfig {
 
     @Bean(name = "notificationExecutor")
-    public Executor notificationExecutor() {
+    public Executor notificationExecutor(
+            MeterRegistry meterRegistry,
+            @Value("${notification.executor.core-pool-size:5}") int corePoolSize,
+            @Value("${notification.executor.max-pool-size:10}") int maxPoolSize,
+            @Value("${notification.executor.queue-capacity:1000}") int queueCapacity) {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(5);           // 기본 스레드 수
-        executor.setMaxPoolSize(10);           // 최대 스레드 수
-        executor.setQueueCapacity(100);        // 큐 용량
+        executor.setCorePoolSize(corePoolSize);    // 기본 스레드 수
+        executor.setMaxPoolSize(maxPoolSize);      // 최대 스레드 수
+        executor.setQueueCapacity(queueCapacity);  // 큐 용량
         executor.setThreadNamePrefix("notification-async-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setTaskDecorator(queueWaitRecorder(meterRegistry.timer("notification.executor.queue.wait")));
         executor.setWaitForTasksToCompleteOnShutdown(true);
         executor.setAwaitTerminationSeconds(60);
         executor.initialize();
         return executor;
     }
+
+    // 제출 시점부터 실행 시작까지의 대기 시간 기록
+    private TaskDecorator queueWaitRecorder(Timer queueWait) {
+        return task -> {
+            long submittedAt = System.nanoTime();
+            return () -> {
+                queueWait.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                task.run();
+            };
+        };
+    }
 }
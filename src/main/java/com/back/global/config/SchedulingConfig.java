@@ -0,0 +1,32 @@
+package com.back.global.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * 스케줄러 설정 클래스
+ * - @Scheduled 기반 배치 작업 활성화 (초대 코드 정리, 참가 이력 저장 등)
+ * - 기본 스케줄러는 단일 스레드라 재색인/정리/팬아웃 재시도 같은 긴 작업이 알림 플러시(500ms), 조회수 반영(10s),
+ *   색인 버전 확인(5s) 등 짧은 주기 작업을 지연시키므로 스레드 풀에서 실행
+ * - 같은 작업은 이전 실행이 끝나야 다음 실행이 예약되므로 풀을 늘려도 작업별 동시 실행은 생기지 않음
+ */
+@Slf4j
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(@Value("${scheduling.pool-size:8}") int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("scheduling-");
+        scheduler.setErrorHandler(e -> log.error("스케줄 작업 실패", e));
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(30);
+        return scheduler;
+    }
+}
@@ -40,6 +40,9 @@ public enum ErrorCode {
     ROOM_PASSWORD_MISMATCH(HttpStatus.BAD_REQUEST, "ROOM_017", "현재 비밀번호가 일치하지 않습니다."),
     NOT_ROOM_HOST(HttpStatus.FORBIDDEN, "ROOM_018", "방장 권한이 필요합니다."),
     ROOM_PASSWORD_ALREADY_EXISTS(HttpStatus.BAD_REQUEST, "ROOM_019", "이미 비밀번호가 설정되어 있습니다. 비밀번호 변경 API를 사용하세요."),
+    ROOM_OCCUPANCY_RANGE_TOO_LONG(HttpStatus.BAD_REQUEST, "ROOM_020", "점유율 조회 기간이 허용 범위를 초과했습니다."),
+    ROOM_SEARCH_KEYWORD_REQUIRED(HttpStatus.BAD_REQUEST, "ROOM_021", "검색어를 입력해주세요."),
+    ROOM_OCCUPANCY_INVALID_RANGE(HttpStatus.BAD_REQUEST, "ROOM_022", "점유율 조회 시작 시간은 종료 시간보다 빨라야 합니다."),
 
     // ======================== 방명록 관련 ========================
     GUESTBOOK_NOT_FOUND(HttpStatus.NOT_FOUND, "GUESTBOOK_001", "존재하지 않는 방명록입니다."),
@@ -124,6 +127,7 @@ public enum ErrorCode {
     POST_LIKE_NOT_FOUND(HttpStatus.NOT_FOUND, "POST_006", "해당 게시글에 대한 좋아요 기록이 없습니다."),
     BOOKMARK_ALREADY_EXISTS(HttpStatus.CONFLICT, "POST_007", "이미 북마크한 게시글입니다."),
     BOOKMARK_NOT_FOUND(HttpStatus.NOT_FOUND, "POST_008", "해당 게시글에 대한 북마크 기록이 없습니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "POST_009", "유효하지 않은 커서입니다."),
 
     COMMENT_NOT_FOUND(HttpStatus.NOT_FOUND, "COMMENT_001", "존재하지 않는 댓글입니다."),
     COMMENT_NO_PERMISSION(HttpStatus.FORBIDDEN, "COMMENT_002", "댓글 작성자만 수정/삭제할 수 있습니다."),
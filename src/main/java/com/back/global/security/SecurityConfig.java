@@ -48,6 +48,7 @@ public class SecurityConfig {
                                 ).permitAll()                                      // Swagger
                                 .requestMatchers("/h2-console/**").permitAll()   // H2 콘솔
                                 .requestMatchers("/actuator/health").permitAll() // Health check
+                                .requestMatchers("/actuator/metrics/**").hasRole("ADMIN") // 메트릭 (관리자 전용)
 
                                 // 인증/인가
                                 .requestMatchers(
@@ -63,6 +64,7 @@ public class SecurityConfig {
                                 ).permitAll()
 
                                 // 스터디룸 관련
+                                .requestMatchers(HttpMethod.GET, "/api/rooms/occupancy").hasRole("ADMIN")  // 서비스 전체 점유율 (관리자 전용)
                                 .requestMatchers("/api/rooms/*/messages/**").permitAll()  // 방 내 채팅 메시지
                                 .requestMatchers(HttpMethod.GET,
                                         "/api/rooms",             // 전체 목록 조회
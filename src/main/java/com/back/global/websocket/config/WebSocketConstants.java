@@ -46,6 +46,14 @@ public final class WebSocketConstants {
     public static final String ROOM_USERS_KEY_PREFIX = "ws:room:";
     public static final String ROOM_USERS_KEY_SUFFIX = ":users";
 
+    /**
+     * 방별 아바타 정보 Key
+     * - 패턴: ws:room:{roomId}:avatars
+     * - 값: Hash<userId, avatarId>
+     * - 참가자 목록과 한 번의 Pipeline으로 함께 조회하기 위해 방 단위 Hash로 관리
+     */
+    public static final String ROOM_AVATARS_KEY_SUFFIX = ":avatars";
+
     /**
      * 전체 온라인 사용자 수 저장 Key
      * - 패턴: ws:online_users:count
@@ -67,6 +75,10 @@ public final class WebSocketConstants {
         return ROOM_USERS_KEY_PREFIX + roomId + ROOM_USERS_KEY_SUFFIX;
     }
 
+    public static String buildRoomAvatarsKey(Long roomId) {
+        return ROOM_USERS_KEY_PREFIX + roomId + ROOM_AVATARS_KEY_SUFFIX;
+    }
+
     public static String buildUserSessionKeyPattern() {
         return USER_SESSION_KEY_PREFIX + "*";
     }
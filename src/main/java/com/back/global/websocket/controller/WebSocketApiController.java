@@ -58,6 +58,7 @@ public class WebSocketApiController {
         connectionInfo.put("sessionTTL", WebSocketConstants.getSessionTTLDescription());
         connectionInfo.put("subscribeTopics", Map.of(
                 "roomChat", "/topic/rooms/{roomId}/chat",
+                "roomAnnouncements", "/topic/room/{roomId}/announcements",
                 "privateMessage", "/user/queue/messages",
                 "notifications", "/user/queue/notifications"
         ));
@@ -0,0 +1,26 @@
+package com.back.global.websocket.dto;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 방의 온라인 참가자 스냅샷
+ * - 참가자 ID 목록과 아바타 정보를 한 번의 Redis Pipeline으로 조회한 결과
+ */
+public record RoomPresenceSnapshot(
+        Set<Long> userIds,
+        Map<Long, Long> avatarIds
+) {
+
+    public static RoomPresenceSnapshot empty() {
+        return new RoomPresenceSnapshot(Set.of(), Map.of());
+    }
+
+    public boolean isEmpty() {
+        return userIds.isEmpty();
+    }
+
+    public Long avatarIdOf(Long userId) {
+        return avatarIds.get(userId);
+    }
+}
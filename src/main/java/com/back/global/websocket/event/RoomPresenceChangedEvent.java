@@ -0,0 +1,41 @@
+package com.back.global.websocket.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+import java.time.LocalDateTime;
+
+/**
+ * 방 입장/퇴장이 발생했을 때 발행되는 내부 이벤트.
+ * UserJoinedEvent/UserLeftEvent 방송과 같은 시점에 ParticipantService가 발행하고,
+ * 참가 이력 기록 등 부가 기능이 구독하여 처리합니다. (입장 경로에 DB 작업을 추가하지 않기 위함)
+ */
+@Getter
+public class RoomPresenceChangedEvent extends ApplicationEvent {
+
+    public enum Type {
+        JOINED,
+        LEFT
+    }
+
+    private final Type type;
+    private final Long roomId;
+    private final Long userId;
+    private final LocalDateTime occurredAt;
+
+    public RoomPresenceChangedEvent(Object source, Type type, Long roomId, Long userId) {
+        super(source);
+        this.type = type;
+        this.roomId = roomId;
+        this.userId = userId;
+        this.occurredAt = LocalDateTime.now();
+    }
+
+    public static RoomPresenceChangedEvent joined(Object source, Long roomId, Long userId) {
+        return new RoomPresenceChangedEvent(source, Type.JOINED, roomId, userId);
+    }
+
+    public static RoomPresenceChangedEvent left(Object source, Long roomId, Long userId) {
+        return new RoomPresenceChangedEvent(source, Type.LEFT, roomId, userId);
+    }
+}
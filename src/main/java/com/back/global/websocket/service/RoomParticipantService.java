@@ -4,13 +4,16 @@ import com.back.domain.user.common.entity.User;
 import com.back.domain.user.common.repository.UserRepository;
 import com.back.global.exception.CustomException;
 import com.back.global.exception.ErrorCode;
+import com.back.global.websocket.dto.RoomPresenceSnapshot;
 import com.back.global.websocket.dto.WebSocketSessionInfo;
+import com.back.global.websocket.event.RoomPresenceChangedEvent;
 import com.back.global.websocket.event.SessionDisconnectedEvent;
 import com.back.global.websocket.event.UserJoinedEvent;
 import com.back.global.websocket.event.UserLeftEvent;
 import com.back.global.websocket.store.RedisSessionStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.event.EventListener;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
@@ -33,6 +36,7 @@ public class RoomParticipantService {
     private final RedisSessionStore redisSessionStore;
     private final SimpMessagingTemplate messagingTemplate;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 세션 종료 이벤트 리스너
     @EventListener
@@ -73,6 +77,7 @@ public class RoomParticipantService {
 
         log.info("방 입장 완료 - 사용자: {}, 방: {}, 아바타: {}", userId, roomId, avatarId);
 
+        eventPublisher.publishEvent(RoomPresenceChangedEvent.joined(this, roomId, userId));
         broadcastUserJoined(roomId, userId, avatarId);
     }
     
@@ -90,6 +95,7 @@ public class RoomParticipantService {
         }
         redisSessionStore.removeUserFromRoom(roomId, userId);
         log.info("방 퇴장 완료 - 사용자: {}, 방: {}", userId, roomId);
+        eventPublisher.publishEvent(RoomPresenceChangedEvent.left(this, roomId, userId));
         broadcastUserLeft(roomId, userId);
     }
 
@@ -137,6 +143,16 @@ public class RoomParticipantService {
         return redisSessionStore.getRoomUserCounts(roomIds);
     }
     
+    /**
+     * 방의 온라인 참가자 + 아바타 스냅샷 조회
+     * Redis Pipeline 1회로 참가자 목록과 아바타 정보를 함께 조회
+     * @param roomId 방 ID
+     * @return 참가자 ID 목록 + 아바타 맵
+     */
+    public RoomPresenceSnapshot getRoomPresence(Long roomId) {
+        return redisSessionStore.getRoomPresence(roomId);
+    }
+    
     // ==================== 아바타 관련 메서드 ====================
     
     /**
@@ -147,8 +163,7 @@ public class RoomParticipantService {
      */
     private void saveUserAvatar(Long roomId, Long userId, Long avatarId) {
         if (avatarId == null) return;
-        String avatarKey = buildAvatarKey(roomId, userId);
-        redisSessionStore.saveValue(avatarKey, avatarId.toString(), java.time.Duration.ofMinutes(6));
+        redisSessionStore.saveRoomAvatar(roomId, userId, avatarId);
         log.debug("아바타 정보 저장 - RoomId: {}, UserId: {}, AvatarId: {}", roomId, userId, avatarId);
     }
 
@@ -159,31 +174,21 @@ public class RoomParticipantService {
      * @return 아바타 ID (없으면 null)
      */
     public Long getUserAvatar(Long roomId, Long userId) {
-        String avatarKey = buildAvatarKey(roomId, userId);
-        String avatarIdStr = redisSessionStore.getValue(avatarKey);
-        
-        if (avatarIdStr == null) {
-            return null;
-        }
-        
-        try {
-            return Long.parseLong(avatarIdStr);
-        } catch (NumberFormatException e) {
-            log.warn("아바타 ID 파싱 실패 - RoomId: {}, UserId: {}, Value: {}", roomId, userId, avatarIdStr);
-            return null;
-        }
+        return redisSessionStore.getRoomAvatar(roomId, userId);
     }
 
     /**
      * 여러 사용자의 아바타 ID 일괄 조회 (N+1 방지)
+     * 방 단위 Hash를 한 번에 조회한 뒤 요청한 사용자만 필터링
      * @param roomId 방 ID
      * @param userIds 사용자 ID 목록
      * @return 사용자 ID → 아바타 ID 맵
      */
     public Map<Long, Long> getUserAvatars(Long roomId, Set<Long> userIds) {
+        Map<Long, Long> roomAvatars = redisSessionStore.getRoomAvatars(roomId);
         Map<Long, Long> result = new java.util.HashMap<>();
         for (Long userId : userIds) {
-            Long avatarId = getUserAvatar(roomId, userId);
+            Long avatarId = roomAvatars.get(userId);
             if (avatarId != null) {
                 result.put(userId, avatarId);
             }
@@ -192,13 +197,6 @@ public class RoomParticipantService {
         return result;
     }
     
-    /**
-     * 아바타 Redis Key 생성
-     */
-    private String buildAvatarKey(Long roomId, Long userId) {
-        return "ws:room:" + roomId + ":user:" + userId + ":avatar";
-    }
-    
     /**
      * 아바타 정보 업데이트 (외부에서 호출 가능)
      * VISITOR가 아바타를 변경할 때 사용
@@ -208,8 +206,7 @@ public class RoomParticipantService {
      */
     public void updateUserAvatar(Long roomId, Long userId, Long avatarId) {
         if (avatarId == null) return;
-        String avatarKey = buildAvatarKey(roomId, userId);
-        redisSessionStore.saveValue(avatarKey, avatarId.toString(), java.time.Duration.ofMinutes(6));
+        redisSessionStore.saveRoomAvatar(roomId, userId, avatarId);
         log.info("아바타 업데이트 (Redis) - RoomId: {}, UserId: {}, AvatarId: {}", roomId, userId, avatarId);
     }
 
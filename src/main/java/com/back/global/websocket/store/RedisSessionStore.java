@@ -3,15 +3,21 @@ package com.back.global.websocket.store;
 import com.back.global.exception.CustomException;
 import com.back.global.exception.ErrorCode;
 import com.back.global.websocket.config.WebSocketConstants;
+import com.back.global.websocket.dto.RoomPresenceSnapshot;
 import com.back.global.websocket.dto.WebSocketSessionInfo;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.stereotype.Component;
 
+import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -144,6 +150,8 @@ public class RedisSessionStore {
         try {
             String roomUsersKey = WebSocketConstants.buildRoomUsersKey(roomId);
             redisTemplate.opsForSet().remove(roomUsersKey, userId);
+            // 퇴장한 사용자의 아바타도 함께 제거 (방 단위 Hash가 누적되지 않도록)
+            redisTemplate.opsForHash().delete(WebSocketConstants.buildRoomAvatarsKey(roomId), userId.toString());
             log.debug("방에서 사용자 제거 완료 - roomId: {}, userId: {}", roomId, userId);
         } catch (Exception e) {
             log.error("방에서 사용자 제거 실패 - roomId: {}, userId: {}", roomId, userId, e);
@@ -258,6 +266,149 @@ public class RedisSessionStore {
         }
     }
 
+    /**
+     * 여러 방의 참가자 목록을 일괄 조회 (Redis Pipeline 사용)
+     * @param roomIds 조회할 방 ID 목록
+     * @return 방 ID → 참가자 ID Set 맵
+     */
+    public Map<Long, Set<Long>> getRoomUsersBatch(List<Long> roomIds) {
+        if (roomIds == null || roomIds.isEmpty()) {
+            return Map.of();
+        }
+
+        try {
+            List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                    for (Long roomId : roomIds) {
+                        ops.opsForSet().members(WebSocketConstants.buildRoomUsersKey(roomId));
+                    }
+                    return null;
+                }
+            });
+
+            Map<Long, Set<Long>> resultMap = new HashMap<>();
+            for (int i = 0; i < roomIds.size(); i++) {
+                Set<Long> userIds = results.get(i) instanceof Set<?> members
+                        ? members.stream().map(this::convertToLong).collect(Collectors.toSet())
+                        : Set.of();
+                resultMap.put(roomIds.get(i), userIds);
+            }
+
+            log.debug("방 참가자 목록 일괄 조회 완료 - 방 개수: {}", roomIds.size());
+            return resultMap;
+
+        } catch (Exception e) {
+            log.error("방 참가자 목록 일괄 조회 실패 - 방 개수: {}", roomIds.size(), e);
+            throw new CustomException(ErrorCode.WS_REDIS_ERROR);
+        }
+    }
+
+    // ==================== 방 아바타 / 참가자 스냅샷 ====================
+
+    /**
+     * 방 내 사용자 아바타 저장 (방 단위 Hash)
+     * - 방 사용자 Set과 동일하게 쓰기 시점마다 TTL 연장
+     * @param roomId 방 ID
+     * @param userId 사용자 ID
+     * @param avatarId 아바타 ID
+     */
+    public void saveRoomAvatar(Long roomId, Long userId, Long avatarId) {
+        try {
+            String roomAvatarsKey = WebSocketConstants.buildRoomAvatarsKey(roomId);
+            redisTemplate.opsForHash().put(roomAvatarsKey, userId.toString(), avatarId);
+            redisTemplate.expire(roomAvatarsKey, WebSocketConstants.SESSION_TTL);
+            log.debug("아바타 저장 완료 - roomId: {}, userId: {}, avatarId: {}", roomId, userId, avatarId);
+        } catch (Exception e) {
+            log.error("아바타 저장 실패 - roomId: {}, userId: {}", roomId, userId, e);
+            throw new CustomException(ErrorCode.WS_REDIS_ERROR);
+        }
+    }
+
+    /**
+     * 방 내 사용자 아바타 조회
+     * @return 아바타 ID (없으면 null)
+     */
+    public Long getRoomAvatar(Long roomId, Long userId) {
+        try {
+            String roomAvatarsKey = WebSocketConstants.buildRoomAvatarsKey(roomId);
+            Object value = redisTemplate.opsForHash().get(roomAvatarsKey, userId.toString());
+            return value != null ? convertToLong(value) : null;
+        } catch (Exception e) {
+            log.error("아바타 조회 실패 - roomId: {}, userId: {}", roomId, userId, e);
+            return null; // 아바타는 부가 정보이므로 예외 던지지 않음
+        }
+    }
+
+    /**
+     * 방의 모든 아바타 조회 (HGETALL 1회)
+     * @return 사용자 ID → 아바타 ID 맵
+     */
+    public Map<Long, Long> getRoomAvatars(Long roomId) {
+        try {
+            String roomAvatarsKey = WebSocketConstants.buildRoomAvatarsKey(roomId);
+            return toAvatarMap(redisTemplate.opsForHash().entries(roomAvatarsKey));
+        } catch (Exception e) {
+            log.error("방 아바타 목록 조회 실패 - roomId: {}", roomId, e);
+            return Map.of();
+        }
+    }
+
+    /**
+     * 방 참가자 + 아바타 스냅샷 조회 (Redis Pipeline 1회)
+     * - SMEMBERS(참가자) + HGETALL(아바타)를 한 번의 왕복으로 처리
+     * - 방 인원과 무관하게 Redis 왕복 횟수 고정
+     * @param roomId 방 ID
+     * @return 참가자 ID 목록 + 아바타 맵
+     */
+    public RoomPresenceSnapshot getRoomPresence(Long roomId) {
+        String roomUsersKey = WebSocketConstants.buildRoomUsersKey(roomId);
+        String roomAvatarsKey = WebSocketConstants.buildRoomAvatarsKey(roomId);
+
+        try {
+            List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                    ops.opsForSet().members(roomUsersKey);
+                    ops.opsForHash().entries(roomAvatarsKey);
+                    return null;
+                }
+            });
+
+            Set<Long> userIds = results.get(0) instanceof Set<?> members
+                    ? members.stream().map(this::convertToLong).collect(Collectors.toSet())
+                    : Set.of();
+            Map<Long, Long> avatarIds = results.get(1) instanceof Map<?, ?> entries
+                    ? toAvatarMap(entries)
+                    : Map.of();
+
+            log.debug("방 참가자 스냅샷 조회 완료 - roomId: {}, 참가자 수: {}", roomId, userIds.size());
+            return new RoomPresenceSnapshot(userIds, avatarIds);
+
+        } catch (Exception e) {
+            log.error("방 참가자 스냅샷 조회 실패 - roomId: {}", roomId, e);
+            throw new CustomException(ErrorCode.WS_REDIS_ERROR);
+        }
+    }
+
+    private Map<Long, Long> toAvatarMap(Map<?, ?> entries) {
+        if (entries == null || entries.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, Long> avatarMap = new HashMap<>();
+        entries.forEach((field, value) -> {
+            if (field != null && value != null) {
+                avatarMap.put(Long.parseLong(field.toString()), convertToLong(value));
+            }
+        });
+        return avatarMap;
+    }
+
     private Long convertToLong(Object obj) {
         if (obj instanceof Long) {
             return (Long) obj;
@@ -78,7 +78,7 @@ class CommentRepositoryImplTest {
         PageRequest pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
 
         // when
-        Page<CommentListResponse> page = commentRepository.findCommentsByPostId(post.getId(), pageable);
+        Page<CommentListResponse> page = commentRepository.findCommentsByPostId(post.getId(), pageable, 3);
 
         // then
         assertThat(page.getTotalElements()).isEqualTo(3L); // 부모 3개
@@ -117,7 +117,7 @@ class CommentRepositoryImplTest {
         PageRequest pageable = PageRequest.of(0, 5);
 
         // when
-        Page<CommentListResponse> page = commentRepository.findCommentsByPostId(newPost.getId(), pageable);
+        Page<CommentListResponse> page = commentRepository.findCommentsByPostId(newPost.getId(), pageable, 3);
 
         // then
         assertThat(page.getTotalElements()).isZero();
@@ -133,13 +133,52 @@ class CommentRepositoryImplTest {
         PageRequest pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "unknownField"));
 
         // when
-        Page<CommentListResponse> page = commentRepository.findCommentsByPostId(post.getId(), pageable);
+        Page<CommentListResponse> page = commentRepository.findCommentsByPostId(post.getId(), pageable, 3);
 
         // then
         // createdAt DESC 기본 정렬이 적용되어, 마지막에 생성된 parent3이 먼저 나와야 함
         assertThat(page.getContent().getFirst().getCommentId()).isEqualTo(parent4.getId());
     }
 
+    @Test
+    @DisplayName("부모별 앞쪽 대댓글만 포함하고 전체 대댓글 수와 다음 커서를 설정")
+    void getCommentsByPostId_boundedReplies() {
+        // given: 부모1에 대댓글 3개 추가 (총 5개)
+        List<Comment> more = List.of(
+                Comment.createChild(post, user, "부모1의 자식3", parent1),
+                Comment.createChild(post, user, "부모1의 자식4", parent1),
+                Comment.createChild(post, user, "부모1의 자식5", parent1)
+        );
+        commentRepository.saveAll(more);
+        PageRequest pageable = PageRequest.of(0, 10);
+
+        // when
+        Page<CommentListResponse> page = commentRepository.findCommentsByPostId(post.getId(), pageable, 2);
+
+        // then
+        CommentListResponse p1 = page.getContent().stream()
+                .filter(c -> c.getCommentId().equals(parent1.getId()))
+                .findFirst()
+                .orElseThrow();
+        assertThat(p1.getChildren()).extracting("commentId")
+                .containsExactly(child11.getId(), child12.getId());
+        assertThat(p1.getReplyCount()).isEqualTo(5L);
+        assertThat(p1.getNextReplyCursor()).isEqualTo(child12.getId());
+
+        // 남은 대댓글이 없으면 커서 없음
+        CommentListResponse p2 = page.getContent().stream()
+                .filter(c -> c.getCommentId().equals(parent2.getId()))
+                .findFirst()
+                .orElseThrow();
+        assertThat(p2.getReplyCount()).isEqualTo(1L);
+        assertThat(p2.getNextReplyCursor()).isNull();
+
+        // 커서 이후 대댓글 이어서 조회
+        List<CommentListResponse> rest = commentRepository.findRepliesAfter(parent1.getId(), p1.getNextReplyCursor(), 10);
+        assertThat(rest).extracting("commentId")
+                .containsExactly(more.get(0).getId(), more.get(1).getId(), more.get(2).getId());
+    }
+
     // ====================== 특정 사용자의 댓글 목록 조회 테스트 ======================
 
     @Test
@@ -0,0 +1,128 @@
+package com.back.domain.board.comment.service;
+
+import com.back.domain.board.comment.dto.CommentListResponse;
+import com.back.domain.board.comment.entity.Comment;
+import com.back.domain.board.comment.entity.CommentLike;
+import com.back.domain.board.comment.repository.CommentLikeRepository;
+import com.back.domain.board.comment.repository.CommentRepository;
+import com.back.domain.board.common.dto.PageResponse;
+import com.back.domain.board.post.entity.Post;
+import com.back.domain.board.post.repository.PostRepository;
+import com.back.domain.board.post.service.PostDetailCache;
+import com.back.domain.user.common.entity.User;
+import com.back.domain.user.common.entity.UserProfile;
+import com.back.domain.user.common.enums.UserStatus;
+import com.back.domain.user.common.repository.UserRepository;
+import com.back.global.config.DataSourceProxyTestConfig;
+import com.back.global.config.QueryDslConfig;
+import com.back.global.util.QueryCounter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({CommentService.class, QueryDslConfig.class, DataSourceProxyTestConfig.class})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@DisplayName("댓글 목록 조회 쿼리 수 테스트")
+class CommentQueryCountTest {
+
+    private static final int PARENT_COUNT = 5;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private CommentLikeRepository commentLikeRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @MockitoBean
+    private PostDetailCache postDetailCache; // Redis 캐시 반영 차단용 mock
+
+    private User createUser(String username) {
+        User user = User.createUser(username, username + "@example.com", "encodedPwd");
+        user.setUserProfile(new UserProfile(user, username, null, null, null, 0));
+        user.setUserStatus(UserStatus.ACTIVE);
+        return userRepository.save(user);
+    }
+
+    @ParameterizedTest(name = "부모당 대댓글 {0}개")
+    @ValueSource(ints = {1, 40})
+    @DisplayName("로그인 사용자의 댓글 페이지는 대댓글 수와 무관하게 최대 4회 쿼리로 좋아요 여부까지 조회")
+    void getComments_boundedQueryCount(int repliesPerParent) {
+        // given
+        User writer = createUser("writer");
+        User viewer = createUser("viewer");
+        Post post = postRepository.save(new Post(writer, "제목", "내용", null));
+
+        List<Comment> parents = new ArrayList<>();
+        List<Comment> firstReplies = new ArrayList<>();
+        for (int i = 0; i < PARENT_COUNT; i++) {
+            Comment parent = commentRepository.save(Comment.createRoot(post, writer, "부모" + i));
+            parents.add(parent);
+            for (int j = 0; j < repliesPerParent; j++) {
+                Comment reply = commentRepository.save(Comment.createChild(post, writer, "대댓글" + j, parent));
+                if (j == 0) {
+                    firstReplies.add(reply);
+                }
+            }
+        }
+
+        // 첫 번째 부모와 그 첫 대댓글에만 좋아요
+        commentLikeRepository.save(new CommentLike(parents.getFirst(), viewer));
+        commentLikeRepository.save(new CommentLike(firstReplies.getFirst(), viewer));
+
+        testEntityManager.flush();
+        testEntityManager.clear();
+        QueryCounter.clear();
+
+        // when
+        PageResponse<CommentListResponse> response = commentService.getComments(
+                post.getId(), PageRequest.of(0, 10), 3, viewer.getId());
+
+        // then
+        assertThat(QueryCounter.getSelectCount()).isLessThanOrEqualTo(4);
+        assertThat(response.items()).hasSize(PARENT_COUNT);
+
+        CommentListResponse first = response.items().stream()
+                .filter(c -> c.getCommentId().equals(parents.getFirst().getId()))
+                .findFirst()
+                .orElseThrow();
+        assertThat(first.getLikedByMe()).isTrue();
+        assertThat(first.getReplyCount()).isEqualTo(repliesPerParent);
+        assertThat(first.getChildren()).hasSize(Math.min(repliesPerParent, 3));
+        assertThat(first.getChildren().getFirst().getLikedByMe()).isTrue();
+
+        // 좋아요하지 않은 댓글은 false
+        assertThat(response.items())
+                .filteredOn(c -> !c.getCommentId().equals(parents.getFirst().getId()))
+                .allSatisfy(c -> {
+                    assertThat(c.getLikedByMe()).isFalse();
+                    assertThat(c.getChildren()).allSatisfy(child -> assertThat(child.getLikedByMe()).isFalse());
+                });
+    }
+}
@@ -3,6 +3,7 @@ package com.back.domain.board.comment.service;
 import com.back.domain.board.comment.dto.CommentListResponse;
 import com.back.domain.board.comment.dto.CommentRequest;
 import com.back.domain.board.comment.dto.CommentResponse;
+import com.back.domain.board.comment.dto.ReplyListResponse;
 import com.back.domain.board.comment.dto.ReplyResponse;
 import com.back.domain.board.common.dto.PageResponse;
 import com.back.domain.board.comment.entity.Comment;
@@ -138,7 +139,7 @@ class CommentServiceTest {
         Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "createdAt"));
 
         // when
-        PageResponse<CommentListResponse> response = commentService.getComments(post.getId(), pageable, null);
+        PageResponse<CommentListResponse> response = commentService.getComments(post.getId(), pageable, 3, null);
 
         // then
         assertThat(response.items()).hasSize(1); // 부모만 페이징 결과
@@ -154,11 +155,62 @@ class CommentServiceTest {
         Pageable pageable = PageRequest.of(0, 10);
 
         assertThatThrownBy(() ->
-                commentService.getComments(999L, pageable, null)
+                commentService.getComments(999L, pageable, 3, null)
         ).isInstanceOf(CustomException.class)
                 .hasMessage(ErrorCode.POST_NOT_FOUND.getMessage());
     }
 
+    @Test
+    @DisplayName("대댓글 목록 조회 성공 - 커서로 이어서 조회")
+    void getReplies_success_withCursor() {
+        // given: 유저 + 게시글 + 부모 댓글 + 대댓글 3개
+        User user = User.createUser("writer", "writer@example.com", "pwd");
+        user.setUserProfile(new UserProfile(user, "홍길동", null, null, null, 0));
+        user.setUserStatus(UserStatus.ACTIVE);
+        userRepository.save(user);
+
+        Post post = new Post(user, "제목", "내용", null);
+        postRepository.save(post);
+
+        Comment parent = Comment.createRoot(post, user, "부모 댓글");
+        commentRepository.save(parent);
+        for (int i = 1; i <= 3; i++) {
+            commentRepository.save(Comment.createChild(post, user, "대댓글" + i, parent));
+        }
+
+        // when
+        ReplyListResponse first = commentService.getReplies(post.getId(), parent.getId(), null, 2, null);
+        ReplyListResponse second = commentService.getReplies(post.getId(), parent.getId(), first.nextCursor(), 2, null);
+
+        // then
+        assertThat(first.items()).extracting("content").containsExactly("대댓글1", "대댓글2");
+        assertThat(first.nextCursor()).isEqualTo(first.items().getLast().getCommentId());
+        assertThat(second.items()).extracting("content").containsExactly("대댓글3");
+        assertThat(second.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("대댓글 목록 조회 실패 - 다른 게시글의 댓글")
+    void getReplies_fail_parentMismatch() {
+        // given
+        User user = User.createUser("writer", "writer@example.com", "pwd");
+        user.setUserProfile(new UserProfile(user, "홍길동", null, null, null, 0));
+        user.setUserStatus(UserStatus.ACTIVE);
+        userRepository.save(user);
+
+        Post post = new Post(user, "제목", "내용", null);
+        Post other = new Post(user, "다른 글", "내용", null);
+        postRepository.saveAll(List.of(post, other));
+
+        Comment parent = Comment.createRoot(post, user, "부모 댓글");
+        commentRepository.save(parent);
+
+        // when & then
+        assertThatThrownBy(() -> commentService.getReplies(other.getId(), parent.getId(), null, 10, null))
+                .isInstanceOf(CustomException.class)
+                .hasMessage(ErrorCode.COMMENT_PARENT_MISMATCH.getMessage());
+    }
+
     // ====================== 댓글 수정 테스트 ======================
 
     @Test
@@ -0,0 +1,215 @@
+package com.back.domain.board.post.repository;
+
+import com.back.domain.board.post.repository.PostFullTextRepository.Condition;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.utility.DockerImageName;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글 검색 벤치마크 (LIKE '%검색어%' vs FULLTEXT ngram)
+ * - 실제 MySQL 8 컨테이너에 합성 게시글을 적재하고 규모별(기본 1만/10만/100만) 검색 지연 시간을 비교
+ * - 적재/인덱스 생성에 시간이 오래 걸리므로 일반 테스트에서는 제외
+ *   실행: POST_SEARCH_BENCHMARK=true ./gradlew test --tests "*PostSearchBenchmarkTest"
+ *   규모 변경: POST_SEARCH_BENCHMARK_SIZES=10000,100000
+ */
+@EnabledIfEnvironmentVariable(named = "POST_SEARCH_BENCHMARK", matches = "true")
+@DisplayName("게시글 검색 벤치마크")
+class PostSearchBenchmarkTest {
+
+    private static final int WARMUP_RUNS = 2;
+    private static final int MEASURED_RUNS = 7;
+    private static final int PAGE_SIZE = 20;
+    private static final int INSERT_BATCH_SIZE = 5_000;
+    private static final long SEED = 42L;
+
+    // 자주 등장하는 단어 / 드문 단어 / 두 단어 조합
+    private static final List<String> KEYWORDS = List.of("스터디", "쿠버네티스", "자바 알고리즘");
+
+    private static final List<String> VOCABULARY = List.of(
+            "스터디", "자바", "스프링", "알고리즘", "코딩테스트", "모집", "질문", "공부", "후기", "프로젝트",
+            "데이터베이스", "인덱스", "네트워크", "운영체제", "자료구조", "리액트", "타입스크립트", "면접", "취업", "회고",
+            "오늘", "같이", "열심히", "정리", "문제", "풀이", "방법", "추천", "강의", "도서"
+    );
+    private static final String RARE_WORD = "쿠버네티스";
+
+    private static GenericContainer<?> mysql;
+    private static JdbcTemplate jdbcTemplate;
+    private static PostFullTextRepository fullTextRepository;
+
+    @BeforeAll
+    static void startDatabase() {
+        mysql = new GenericContainer<>(DockerImageName.parse("mysql:8.0"))
+                .withEnv("MYSQL_ROOT_PASSWORD", "root")
+                .withEnv("MYSQL_DATABASE", "bench")
+                .withCommand("--character-set-server=utf8mb4", "--innodb-buffer-pool-size=1G")
+                .withExposedPorts(3306)
+                .waitingFor(Wait.forLogMessage(".*ready for connections.*port: 3306.*", 1)
+                        .withStartupTimeout(Duration.ofMinutes(3)));
+        mysql.start();
+
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:mysql://" + mysql.getHost() + ":" + mysql.getFirstMappedPort()
+                        + "/bench?rewriteBatchedStatements=true&characterEncoding=UTF-8",
+                "root", "root");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        fullTextRepository = new PostFullTextRepository(jdbcTemplate);
+
+        jdbcTemplate.execute("CREATE TABLE users (id BIGINT AUTO_INCREMENT PRIMARY KEY, username VARCHAR(50) NOT NULL)");
+        jdbcTemplate.execute("CREATE TABLE post (id BIGINT AUTO_INCREMENT PRIMARY KEY, user_id BIGINT NOT NULL, "
+                + "title VARCHAR(255) NOT NULL, content TEXT NOT NULL, created_at DATETIME(6) NOT NULL)");
+        jdbcTemplate.batchUpdate("INSERT INTO users (username) VALUES (?)",
+                IntStream.range(0, 1_000).mapToObj(i -> new Object[]{"user" + i}).toList());
+    }
+
+    @AfterAll
+    static void stopDatabase() {
+        if (mysql != null) {
+            mysql.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("규모별 LIKE 검색 vs FULLTEXT 검색 지연 시간")
+    void compareLatency() {
+        Random random = new Random(SEED);
+        List<String> report = new ArrayList<>();
+        report.add(String.format("%-10s %-12s %14s %14s %14s", "posts", "keyword", "like p50(ms)", "fulltext p50", "index build"));
+
+        int loaded = 0;
+        for (int size : sizes()) {
+            // 대량 적재 시에는 인덱스를 제거한 뒤 적재 후 한 번에 재생성
+            dropIndexes();
+            loaded = load(random, loaded, size);
+
+            long buildStarted = System.nanoTime();
+            fullTextRepository.createIndexesIfAbsent();
+            long buildMillis = (System.nanoTime() - buildStarted) / 1_000_000;
+            jdbcTemplate.execute("ANALYZE TABLE post");
+
+            for (String keyword : KEYWORDS) {
+                double like = median(() -> searchWithLike(keyword));
+                double fullText = median(() -> searchWithFullText(keyword));
+                report.add(String.format("%-10d %-12s %14.1f %14.1f %14d", size, keyword, like, fullText, buildMillis));
+            }
+
+            // FULLTEXT 결과는 모두 실제로 검색어를 포함해야 함 (오탐 없음)
+            List<Long> rareIds = searchWithFullText(RARE_WORD);
+            assertThat(rareIds).isNotEmpty();
+            assertThat(jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM post WHERE id IN (" + String.join(",", rareIds.stream().map(String::valueOf).toList())
+                            + ") AND (title LIKE ? OR content LIKE ?)",
+                    Integer.class, "%" + RARE_WORD + "%", "%" + RARE_WORD + "%"))
+                    .isEqualTo(rareIds.size());
+        }
+
+        report.forEach(System.out::println);
+    }
+
+    /**
+     * 기존 방식: 제목/본문 LIKE 전체 스캔 (페이지 조회 + COUNT)
+     */
+    private List<Long> searchWithLike(String keyword) {
+        String pattern = "%" + keyword + "%";
+        jdbcTemplate.queryForObject("SELECT COUNT(*) FROM post WHERE title LIKE ? OR content LIKE ?",
+                Long.class, pattern, pattern);
+        return jdbcTemplate.queryForList(
+                "SELECT id FROM post WHERE title LIKE ? OR content LIKE ? ORDER BY created_at DESC LIMIT ?",
+                Long.class, pattern, pattern, PAGE_SIZE);
+    }
+
+    /**
+     * 전문 검색: 제목/본문/작성자 페이지 조회 + COUNT (PostSearchService와 동일한 검색식)
+     */
+    private List<Long> searchWithFullText(String keyword) {
+        String booleanQuery = String.join(" ", Arrays.stream(keyword.split("\\s+"))
+                .map(word -> "+\"" + word + "\"")
+                .toList());
+        Condition condition = new Condition(booleanQuery, keyword, null, null);
+        fullTextRepository.count(condition);
+        return fullTextRepository.findPageIds(condition, Sort.unsorted(), 0, PAGE_SIZE);
+    }
+
+    private static double median(Supplier<List<Long>> search) {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            search.get();
+        }
+        double[] millis = new double[MEASURED_RUNS];
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            long started = System.nanoTime();
+            search.get();
+            millis[i] = (System.nanoTime() - started) / 1_000_000.0;
+        }
+        Arrays.sort(millis);
+        return millis[MEASURED_RUNS / 2];
+    }
+
+    private int load(Random random, int from, int to) {
+        List<Object[]> batch = new ArrayList<>(INSERT_BATCH_SIZE);
+        for (int i = from; i < to; i++) {
+            batch.add(new Object[]{
+                    random.nextInt(1_000) + 1,
+                    sentence(random, 3 + random.nextInt(3), i),
+                    sentence(random, 40 + random.nextInt(40), i),
+                    Timestamp.valueOf(LocalDateTime.now().minusSeconds(to - i))
+            });
+            if (batch.size() == INSERT_BATCH_SIZE) {
+                insert(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            insert(batch);
+        }
+        return to;
+    }
+
+    private void insert(List<Object[]> batch) {
+        jdbcTemplate.batchUpdate("INSERT INTO post (user_id, title, content, created_at) VALUES (?, ?, ?, ?)", batch);
+    }
+
+    private static String sentence(Random random, int words, int seq) {
+        StringJoiner joiner = new StringJoiner(" ");
+        for (int i = 0; i < words; i++) {
+            joiner.add(VOCABULARY.get(random.nextInt(VOCABULARY.size())));
+        }
+        // 게시글 1,000개 중 1개 정도에만 드문 단어 포함
+        if (seq % 997 == 0) {
+            joiner.add(RARE_WORD);
+        }
+        return joiner.toString();
+    }
+
+    private void dropIndexes() {
+        for (String index : List.of(PostFullTextRepository.TITLE_INDEX, PostFullTextRepository.CONTENT_INDEX)) {
+            Integer exists = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM information_schema.statistics "
+                            + "WHERE table_schema = DATABASE() AND table_name = 'post' AND index_name = ?",
+                    Integer.class, index);
+            if (exists != null && exists > 0) {
+                jdbcTemplate.execute("ALTER TABLE post DROP INDEX " + index);
+            }
+        }
+    }
+
+    private static List<Integer> sizes() {
+        String sizes = Optional.ofNullable(System.getenv("POST_SEARCH_BENCHMARK_SIZES")).orElse("10000,100000,1000000");
+        return Arrays.stream(sizes.split(",")).map(String::strip).map(Integer::parseInt).sorted().toList();
+    }
+}
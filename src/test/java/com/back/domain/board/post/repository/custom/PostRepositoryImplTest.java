@@ -7,16 +7,21 @@ import com.back.domain.board.post.repository.PostBookmarkRepository;
 import com.back.domain.board.post.repository.PostCategoryMappingRepository;
 import com.back.domain.board.post.repository.PostRepository;
 import com.back.domain.board.post.repository.PostCategoryRepository;
+import com.back.domain.board.post.repository.PostSummaryRepository;
 import com.back.domain.user.common.entity.User;
 import com.back.domain.user.common.entity.UserProfile;
 import com.back.domain.user.common.enums.UserStatus;
 import com.back.domain.user.common.repository.UserRepository;
+import com.back.global.config.DataSourceProxyTestConfig;
 import com.back.global.config.QueryDslConfig;
+import com.back.global.util.QueryCounter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -28,7 +33,8 @@ import java.util.List;
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DataJpaTest
-@Import(QueryDslConfig.class)
+@Import({QueryDslConfig.class, DataSourceProxyTestConfig.class})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 @ActiveProfiles("test")
 class PostRepositoryImplTest {
 
@@ -50,6 +56,12 @@ class PostRepositoryImplTest {
     @Autowired
     private PostCategoryMappingRepository postCategoryMappingRepository;
 
+    @Autowired
+    private PostSummaryRepository postSummaryRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
     @BeforeEach
     void setUp() {
         // 사용자
@@ -154,6 +166,20 @@ class PostRepositoryImplTest {
         assertThat(page.getContent()).isEmpty();
     }
 
+    @Test
+    @DisplayName("마지막 페이지를 넘어선 요청도 전체 개수는 유지")
+    void searchPosts_pageBeyondLast() {
+        // given
+        PageRequest pageable = PageRequest.of(5, 10);
+
+        // when
+        Page<PostListResponse> page = postRepository.searchPosts(null, null, null, pageable);
+
+        // then
+        assertThat(page.getContent()).isEmpty();
+        assertThat(page.getTotalElements()).isEqualTo(3);
+    }
+
     // ====================== 특정 사용자의 게시글 목록 조회 테스트 ======================
 
     @Test
@@ -321,4 +347,82 @@ class PostRepositoryImplTest {
         assertThat(page.getContent().get(0).getTitle()).isEqualTo("10대 대상 스터디");
         assertThat(page.getContent().get(1).getTitle()).isEqualTo("과학 토론 모집");
     }
+
+    // ====================== 게시글 요약(PostSummary) 테스트 ======================
+
+    private void saveSummaries(Post... posts) {
+        for (Post post : posts) {
+            postSummaryRepository.save(PostSummary.create(post, post.getCategories()));
+        }
+        testEntityManager.flush();
+        testEntityManager.clear();
+        QueryCounter.clear();
+    }
+
+    @Test
+    @DisplayName("요약이 있는 게시글은 카테고리 필터 + 작성자/카테고리 + 전체 개수를 쿼리 1회로 조회")
+    void searchPosts_withSummary_singleQuery() {
+        // given
+        saveSummaries(post1, post2, post3);
+        PageRequest pageable = PageRequest.of(0, 10);
+        List<Long> categoryIds = List.of(math.getId(), science.getId(), teen.getId());
+
+        // when
+        Page<PostListResponse> page = postRepository.searchPosts(null, null, categoryIds, pageable);
+
+        // then
+        assertThat(page.getTotalElements()).isEqualTo(1);
+        PostListResponse first = page.getContent().getFirst();
+        assertThat(first.getTitle()).isEqualTo("수학 공부 팁");
+        assertThat(first.getAuthor().nickname()).isEqualTo("작성자");
+        assertThat(first.getCategories()).extracting("name").containsExactlyInAnyOrder("수학", "10대");
+        assertThat(QueryCounter.getSelectCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("전체 개수는 현재 페이지 크기와 무관하게 조건에 맞는 전체 게시글 수")
+    void searchPosts_withSummary_totalCount() {
+        // given
+        saveSummaries(post1, post2, post3);
+        PageRequest pageable = PageRequest.of(1, 2, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+        // when
+        Page<PostListResponse> page = postRepository.searchPosts(null, null, null, pageable);
+
+        // then
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(page.getContent()).hasSize(1);
+        assertThat(QueryCounter.getSelectCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("요약이 없는 게시글이 섞여 있으면 해당 게시글만 보조 조회로 작성자/카테고리를 채운다")
+    void searchPosts_mixedSummary() {
+        // given
+        saveSummaries(post1);
+        PageRequest pageable = PageRequest.of(0, 10);
+
+        // when
+        Page<PostListResponse> page = postRepository.searchPosts(null, null, null, pageable);
+
+        // then
+        assertThat(page.getContent()).hasSize(3);
+        assertThat(page.getContent()).allSatisfy(post -> {
+            assertThat(post.getAuthor().nickname()).isEqualTo("작성자");
+            assertThat(post.getCategories()).isNotEmpty();
+        });
+    }
+
+    @Test
+    @DisplayName("요약이 없는 게시글만 ID 순으로 조회")
+    void findPostsWithoutSummary() {
+        // given
+        saveSummaries(post1);
+
+        // when
+        List<Post> posts = postRepository.findPostsWithoutSummary(0L, 10);
+
+        // then
+        assertThat(posts).extracting(Post::getId).containsExactly(post2.getId(), post3.getId());
+    }
 }
@@ -0,0 +1,188 @@
+package com.back.domain.board.post.service;
+
+import com.back.domain.board.post.dto.CategoryResponse;
+import com.back.domain.board.post.entity.Post;
+import com.back.domain.board.post.entity.PostCategory;
+import com.back.domain.board.post.entity.PostCategoryMapping;
+import com.back.domain.board.post.enums.CategoryType;
+import com.back.domain.board.post.store.PostCategoryIndexVersionStore;
+import com.back.domain.board.post.store.PostCategoryIndexVersionStore.Version;
+import com.back.domain.user.common.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PostCategoryIndex 테스트")
+class PostCategoryIndexTest {
+
+    private static final long MATH = 1L;        // SUBJECT
+    private static final long ENGLISH = 2L;     // SUBJECT
+    private static final long TEENS = 3L;       // DEMOGRAPHIC
+    private static final long SMALL = 4L;       // GROUP_SIZE
+
+    @Mock
+    private PostCategoryIndexVersionStore versionStore;
+
+    private PostCategoryIndex categoryIndex;
+    private User author;
+
+    @BeforeEach
+    void setUp() {
+        categoryIndex = new PostCategoryIndex(versionStore);
+        lenient().when(versionStore.readWrites()).thenReturn(5L);
+        author = User.builder().id(1L).username("author").build();
+
+        // 1: 수학+10대, 2: 영어+10대, 3: 수학, 4: 영어+소규모
+        Map<Long, BitSet> bitmaps = new HashMap<>();
+        bitmaps.put(MATH, bits(1, 3));
+        bitmaps.put(ENGLISH, bits(2, 4));
+        bitmaps.put(TEENS, bits(1, 2));
+        bitmaps.put(SMALL, bits(4));
+        categoryIndex.rebuild(Map.of(
+                MATH, CategoryType.SUBJECT,
+                ENGLISH, CategoryType.SUBJECT,
+                TEENS, CategoryType.DEMOGRAPHIC,
+                SMALL, CategoryType.GROUP_SIZE
+        ), bitmaps, new Version(5L, 2L));
+    }
+
+    private static BitSet bits(int... ids) {
+        BitSet bitSet = new BitSet();
+        for (int id : ids) {
+            bitSet.set(id);
+        }
+        return bitSet;
+    }
+
+    private static <T> T withId(T entity, Long id) {
+        try {
+            java.lang.reflect.Field idField = entity.getClass().getSuperclass().getDeclaredField("id");
+            idField.setAccessible(true);
+            idField.set(entity, id);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+        return entity;
+    }
+
+    private static List<Long> ids(BitSet bitSet) {
+        return bitSet.stream().mapToObj(bit -> (long) bit).toList();
+    }
+
+    @Test
+    @DisplayName("같은 타입은 OR, 다른 타입은 AND로 결합")
+    void match_OrWithinType_AndAcrossTypes() {
+        assertThat(ids(categoryIndex.match(List.of(MATH, ENGLISH)).orElseThrow())).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(ids(categoryIndex.match(List.of(MATH, TEENS)).orElseThrow())).containsExactly(1L);
+        assertThat(ids(categoryIndex.match(List.of(MATH, ENGLISH, TEENS)).orElseThrow())).containsExactly(1L, 2L);
+        assertThat(categoryIndex.match(List.of(TEENS, SMALL)).orElseThrow().isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("모르는 카테고리 또는 색인 준비 전이면 DB 조회로 대체하도록 empty")
+    void match_Unknown_ReturnsEmpty() {
+        assertThat(categoryIndex.match(List.of(MATH, 99L))).isEmpty();
+        assertThat(new PostCategoryIndex(versionStore).match(List.of(MATH))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("동기화 이후 다른 변경이 있었거나 검증 실패로 표시되면 DB 조회로 대체하도록 empty")
+    void match_NotCurrent_ReturnsEmpty() {
+        // given - 다른 인스턴스의 변경으로 버전 증가
+        given(versionStore.readWrites()).willReturn(6L);
+
+        // when & then
+        assertThat(categoryIndex.match(List.of(MATH))).isEmpty();
+
+        // given - 조회 결과 검증 실패
+        categoryIndex.markStale();
+
+        // when & then
+        assertThat(categoryIndex.match(List.of(MATH))).isEmpty();
+        assertThat(categoryIndex.needsRebuild(new Version(5L, 2L))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Redis 장애로 버전을 확인할 수 없으면 DB 조회로 대체하도록 empty")
+    void match_VersionUnavailable_ReturnsEmpty() {
+        // given
+        given(versionStore.readWrites()).willThrow(new RuntimeException("Redis 연결 실패"));
+
+        // when & then
+        assertThat(categoryIndex.match(List.of(MATH))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("매핑 제거가 포함된 변경이 있었으면 전체 재색인, 추가만 있었으면 증분 동기화")
+    void needsRebuild() {
+        assertThat(categoryIndex.needsRebuild(new Version(5L, 2L))).isFalse();
+        assertThat(categoryIndex.isSynced(new Version(5L, 2L))).isTrue();
+
+        assertThat(categoryIndex.needsRebuild(new Version(7L, 2L))).isFalse();
+        assertThat(categoryIndex.isSynced(new Version(7L, 2L))).isFalse();
+
+        assertThat(categoryIndex.needsRebuild(new Version(7L, 3L))).isTrue();
+    }
+
+    @Test
+    @DisplayName("ID 내림차순 페이지")
+    void pageDescending() {
+        BitSet matched = bits(1, 2, 3, 4, 10);
+
+        assertThat(PostCategoryIndex.pageDescending(matched, 0, 2)).containsExactly(10L, 4L);
+        assertThat(PostCategoryIndex.pageDescending(matched, 2, 2)).containsExactly(3L, 2L);
+        assertThat(PostCategoryIndex.pageDescending(matched, 4, 2)).containsExactly(1L);
+        assertThat(PostCategoryIndex.pageDescending(matched, 6, 2)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("매핑 변경/게시글 삭제 반영 (트랜잭션 밖에서는 즉시)")
+    void indexAndRemove() {
+        // given - 3번 게시글을 영어+10대로 변경
+        Post post = withId(new Post(author, "제목", "내용", null), 3L);
+        new PostCategoryMapping(post, withId(new PostCategory("영어", CategoryType.SUBJECT), ENGLISH));
+        new PostCategoryMapping(post, withId(new PostCategory("10대", CategoryType.DEMOGRAPHIC), TEENS));
+
+        // when
+        categoryIndex.reindexAfterCommit(post);
+
+        // then
+        verify(versionStore).bump(true);
+        assertThat(ids(categoryIndex.match(List.of(MATH)).orElseThrow())).containsExactly(1L);
+        assertThat(ids(categoryIndex.match(List.of(ENGLISH, TEENS)).orElseThrow())).containsExactly(2L, 3L);
+
+        // when
+        categoryIndex.removeAfterCommit(3L);
+
+        // then
+        assertThat(ids(categoryIndex.match(List.of(ENGLISH)).orElseThrow())).containsExactly(2L, 4L);
+        verify(versionStore, times(2)).bump(true);
+    }
+
+    @Test
+    @DisplayName("조회된 게시글 카테고리로 필터 조건 재검증")
+    void matches() {
+        List<CategoryResponse> mathTeens = List.of(
+                new CategoryResponse(MATH, "수학", CategoryType.SUBJECT),
+                new CategoryResponse(TEENS, "10대", CategoryType.DEMOGRAPHIC));
+
+        assertThat(categoryIndex.matches(mathTeens, List.of(MATH, ENGLISH, TEENS))).isTrue();
+        assertThat(categoryIndex.matches(mathTeens, List.of(ENGLISH))).isFalse();
+        assertThat(categoryIndex.matches(mathTeens, List.of(MATH, SMALL))).isFalse();
+    }
+}
@@ -0,0 +1,239 @@
+package com.back.domain.board.post.service;
+
+import com.back.domain.board.comment.entity.Comment;
+import com.back.domain.board.comment.repository.CommentLikeRepository;
+import com.back.domain.board.comment.repository.CommentRepository;
+import com.back.domain.board.comment.repository.custom.CommentLikeRepositoryImpl;
+import com.back.domain.board.comment.repository.custom.CommentRepositoryImpl;
+import com.back.domain.board.comment.service.CommentLikeService;
+import com.back.domain.board.post.entity.Post;
+import com.back.domain.board.post.repository.PostBookmarkRepository;
+import com.back.domain.board.post.repository.PostLikeRepository;
+import com.back.domain.board.post.repository.PostRepository;
+import com.back.domain.board.post.repository.custom.PostRepositoryImpl;
+import com.back.domain.user.common.entity.User;
+import com.back.domain.user.common.repository.UserRepository;
+import com.back.global.config.QueryDslTestConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글/댓글 카운터 동시성 테스트
+ * - 테스트 트랜잭션 없이 실제 커밋되는 요청을 여러 스레드에서 동시에 실행
+ * - 좋아요/북마크/댓글 수가 갱신 유실 없이 실제 행 수와 일치하는지 확인
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({
+        PostLikeService.class,
+        PostBookmarkService.class,
+        CommentLikeService.class,
+        PostRepositoryImpl.class,
+        CommentRepositoryImpl.class,
+        CommentLikeRepositoryImpl.class,
+        QueryDslTestConfig.class
+})
+@DisplayName("게시글/댓글 카운터 동시성 테스트")
+class PostCounterConcurrencyTest {
+
+    private static final int USER_COUNT = 50;
+    private static final int THREAD_COUNT = 16;
+    private static final int INCREMENT_COUNT = 200;
+
+    @Autowired
+    private PostLikeService postLikeService;
+
+    @Autowired
+    private PostBookmarkService postBookmarkService;
+
+    @Autowired
+    private CommentLikeService commentLikeService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostLikeRepository postLikeRepository;
+
+    @Autowired
+    private PostBookmarkRepository postBookmarkRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private CommentLikeRepository commentLikeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockBean
+    private PostDetailCache postDetailCache; // Redis 캐시 반영 차단용 mock
+
+    @MockBean
+    private PostTrendingService postTrendingService; // 인기 게시글 점수 반영 차단용 mock
+
+    private final List<Long> userIds = new ArrayList<>();
+    private Long postId;
+    private Long commentId;
+
+    @BeforeEach
+    void setUp() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            for (int i = 0; i < USER_COUNT; i++) {
+                User user = userRepository.save(User.builder()
+                        .email("counter" + i + "@example.com")
+                        .username("counter" + i)
+                        .password("password")
+                        .build());
+                userIds.add(user.getId());
+            }
+
+            User writer = userRepository.findById(userIds.get(0)).orElseThrow();
+            Post post = postRepository.save(new Post(writer, "동시성 테스트 글", "내용", null));
+            postId = post.getId();
+            commentId = commentRepository.save(Comment.createRoot(post, writer, "댓글")).getId();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        commentLikeRepository.deleteAllInBatch();
+        commentRepository.deleteAllInBatch();
+        postLikeRepository.deleteAllInBatch();
+        postBookmarkRepository.deleteAllInBatch();
+        postRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("여러 사용자가 동시에 좋아요/취소해도 좋아요 수와 실제 좋아요 수가 일치")
+    void postLike_Concurrent_NoLostUpdates() throws InterruptedException {
+        // when - 모든 사용자가 동시에 좋아요
+        List<Throwable> likeErrors = runConcurrently(userIds, userId -> postLikeService.likePost(postId, userId));
+
+        // then
+        assertThat(likeErrors).isEmpty();
+        assertThat(postLikeRepository.count()).isEqualTo(USER_COUNT);
+        assertThat(postRepository.findLikeCountById(postId)).isEqualTo(USER_COUNT);
+
+        // when - 절반의 사용자가 동시에 좋아요 취소
+        List<Throwable> cancelErrors = runConcurrently(userIds.subList(0, USER_COUNT / 2),
+                userId -> postLikeService.cancelLikePost(postId, userId));
+
+        // then
+        assertThat(cancelErrors).isEmpty();
+        assertThat(postLikeRepository.count()).isEqualTo(USER_COUNT - USER_COUNT / 2);
+        assertThat(postRepository.findLikeCountById(postId)).isEqualTo(postLikeRepository.count());
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 중복 동시 취소 - 한 요청만 감소")
+    void postLike_SameUserConcurrentCancel_DecreasesOnce() throws InterruptedException {
+        // given
+        postLikeService.likePost(postId, userIds.get(1));
+        postLikeService.likePost(postId, userIds.get(2));
+
+        // when - 같은 사용자가 동시에 여러 번 취소
+        List<Throwable> errors = runConcurrently(Collections.nCopies(THREAD_COUNT, userIds.get(1)),
+                userId -> postLikeService.cancelLikePost(postId, userId));
+
+        // then - 한 번만 성공하고 나머지는 좋아요 내역 없음(또는 락 경합) 예외
+        assertThat(errors).hasSize(THREAD_COUNT - 1);
+        assertThat(postLikeRepository.count()).isEqualTo(1);
+        assertThat(postRepository.findLikeCountById(postId)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("북마크/댓글 좋아요도 동시 요청에서 카운터와 실제 행 수가 일치")
+    void bookmarkAndCommentLike_Concurrent_NoLostUpdates() throws InterruptedException {
+        // when
+        List<Throwable> bookmarkErrors = runConcurrently(userIds,
+                userId -> postBookmarkService.bookmarkPost(postId, userId));
+        List<Throwable> commentLikeErrors = runConcurrently(userIds,
+                userId -> commentLikeService.likeComment(commentId, userId));
+
+        // then
+        assertThat(bookmarkErrors).isEmpty();
+        assertThat(commentLikeErrors).isEmpty();
+        assertThat(postRepository.findBookmarkCountById(postId)).isEqualTo(postBookmarkRepository.count()).isEqualTo(USER_COUNT);
+        assertThat(commentRepository.findLikeCountById(commentId)).isEqualTo(commentLikeRepository.count()).isEqualTo(USER_COUNT);
+    }
+
+    @Test
+    @DisplayName("단일 UPDATE 증감 - 높은 병렬도에서도 갱신 유실 없음")
+    void counterUpdate_HighParallelism_NoLostUpdates() throws InterruptedException {
+        // given
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        List<Long> requests = Collections.nCopies(INCREMENT_COUNT, postId);
+
+        // when - 댓글 수를 동시에 증가시킨 뒤 절반을 동시에 감소
+        List<Throwable> increaseErrors = runConcurrently(requests,
+                id -> transaction.executeWithoutResult(status -> postRepository.increaseCommentCount(id)));
+        List<Throwable> decreaseErrors = runConcurrently(requests.subList(0, INCREMENT_COUNT / 2),
+                id -> transaction.executeWithoutResult(status -> postRepository.decreaseCommentCount(id)));
+
+        // then
+        assertThat(increaseErrors).isEmpty();
+        assertThat(decreaseErrors).isEmpty();
+        Post post = postRepository.findById(postId).orElseThrow();
+        assertThat(post.getCommentCount()).isEqualTo(INCREMENT_COUNT - INCREMENT_COUNT / 2);
+    }
+
+    private List<Throwable> runConcurrently(List<Long> ids, Consumer<Long> action) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch ready = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(ids.size());
+        Queue<Throwable> errors = new ConcurrentLinkedQueue<>();
+
+        for (Long id : ids) {
+            executor.submit(() -> {
+                try {
+                    ready.await();
+                    action.accept(id);
+                } catch (Throwable e) {
+                    errors.add(e);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        ready.countDown();
+        assertThat(done.await(60, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+
+        return new ArrayList<>(errors);
+    }
+}
@@ -0,0 +1,162 @@
+package com.back.domain.board.post.service;
+
+import com.back.domain.board.common.dto.AuthorResponse;
+import com.back.domain.board.post.dto.PostDetailResponse;
+import com.back.domain.board.post.repository.PostBookmarkRepository;
+import com.back.domain.board.post.repository.PostLikeRepository;
+import com.back.domain.board.post.store.PostDetailStore;
+import com.back.domain.board.post.store.PostDetailStore.Counter;
+import com.back.domain.board.post.store.PostDetailStore.Lookup;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PostDetailCache 테스트")
+class PostDetailCacheTest {
+
+    private static final Long POST_ID = 10L;
+    private static final Long USER_ID = 1L;
+
+    @Mock
+    private PostDetailStore postDetailStore;
+
+    @Mock
+    private PostLikeRepository postLikeRepository;
+
+    @Mock
+    private PostBookmarkRepository postBookmarkRepository;
+
+    @Mock
+    private Supplier<PostDetailResponse> loader;
+
+    @InjectMocks
+    private PostDetailCache postDetailCache;
+
+    private static PostDetailResponse detail(long likeCount) {
+        return new PostDetailResponse(POST_ID, new AuthorResponse(2L, "작성자", null), "제목", "내용", null,
+                List.of(), List.of(), 0, likeCount, 0, 0, false, false, LocalDateTime.now(), LocalDateTime.now());
+    }
+
+    @Test
+    @DisplayName("스냅샷과 사용자 Set이 모두 적재되어 있으면 DB 조회 없이 응답")
+    void getPost_CacheHit_NoDatabaseAccess() {
+        // given
+        given(postDetailStore.lookup(POST_ID, USER_ID)).willReturn(new Lookup(detail(5), true, false));
+
+        // when
+        PostDetailResponse response = postDetailCache.getPost(POST_ID, USER_ID, loader);
+
+        // then
+        assertThat(response.likeCount()).isEqualTo(5);
+        assertThat(response.likedByMe()).isTrue();
+        assertThat(response.bookmarkedByMe()).isFalse();
+        then(loader).shouldHaveNoInteractions();
+        then(postLikeRepository).shouldHaveNoInteractions();
+        then(postBookmarkRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("스냅샷/사용자 Set 미적재 시 DB에서 읽어 적재")
+    void getPost_CacheMiss_LoadsAndSaves() {
+        // given
+        given(postDetailStore.lookup(POST_ID, USER_ID)).willReturn(new Lookup(null, null, null));
+        given(loader.get()).willReturn(detail(3));
+        given(postDetailStore.beginLikesLoad(USER_ID)).willReturn("like-token");
+        given(postDetailStore.beginBookmarksLoad(USER_ID)).willReturn("bookmark-token");
+        given(postLikeRepository.findPostIdsByUserId(USER_ID)).willReturn(List.of(7L, POST_ID));
+        given(postBookmarkRepository.findPostIdsByUserId(USER_ID)).willReturn(List.of());
+
+        // when
+        PostDetailResponse response = postDetailCache.getPost(POST_ID, USER_ID, loader);
+
+        // then
+        assertThat(response.likeCount()).isEqualTo(3);
+        assertThat(response.likedByMe()).isTrue();
+        assertThat(response.bookmarkedByMe()).isFalse();
+        then(postDetailStore).should().saveSnapshot(any(PostDetailResponse.class));
+        then(postDetailStore).should().saveLikes(USER_ID, "like-token", Set.of(7L, POST_ID));
+        then(postDetailStore).should().saveBookmarks(USER_ID, "bookmark-token", Set.of());
+    }
+
+    @Test
+    @DisplayName("적재 토큰 기록에 실패하면 DB 조회 결과로 응답하되 사용자 Set은 적재하지 않음")
+    void getPost_LoadTokenFailure_SkipsUserSetSave() {
+        // given
+        given(postDetailStore.lookup(POST_ID, USER_ID)).willReturn(new Lookup(detail(3), null, true));
+        given(postDetailStore.beginLikesLoad(USER_ID)).willThrow(new RedisConnectionFailureException("down"));
+        given(postLikeRepository.findPostIdsByUserId(USER_ID)).willReturn(List.of(POST_ID));
+
+        // when
+        PostDetailResponse response = postDetailCache.getPost(POST_ID, USER_ID, loader);
+
+        // then
+        assertThat(response.likedByMe()).isTrue();
+        assertThat(response.bookmarkedByMe()).isTrue();
+        then(postDetailStore).should(never()).saveLikes(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("비로그인 사용자는 사용자 Set을 조회하지 않음")
+    void getPost_Anonymous() {
+        // given
+        given(postDetailStore.lookup(POST_ID, null)).willReturn(new Lookup(detail(0), null, null));
+
+        // when
+        PostDetailResponse response = postDetailCache.getPost(POST_ID, null, loader);
+
+        // then
+        assertThat(response.likedByMe()).isFalse();
+        assertThat(response.bookmarkedByMe()).isFalse();
+        then(postLikeRepository).shouldHaveNoInteractions();
+        then(postBookmarkRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 DB 조회 + exists 쿼리로 대체")
+    void getPost_RedisFailure_FallsBackToDatabase() {
+        // given
+        given(postDetailStore.lookup(POST_ID, USER_ID)).willThrow(new RedisConnectionFailureException("down"));
+        given(loader.get()).willReturn(detail(1));
+        given(postLikeRepository.existsByUserIdAndPostId(USER_ID, POST_ID)).willReturn(false);
+        given(postBookmarkRepository.existsByUserIdAndPostId(USER_ID, POST_ID)).willReturn(true);
+
+        // when
+        PostDetailResponse response = postDetailCache.getPost(POST_ID, USER_ID, loader);
+
+        // then
+        assertThat(response.likedByMe()).isFalse();
+        assertThat(response.bookmarkedByMe()).isTrue();
+        then(postDetailStore).should(never()).saveSnapshot(any());
+        then(postLikeRepository).should(never()).findPostIdsByUserId(any());
+    }
+
+    @Test
+    @DisplayName("좋아요 반영 실패 시 관련 캐시 무효화 (트랜잭션 밖에서는 즉시)")
+    void likedAfterCommit_FailureEvicts() {
+        // given
+        willThrow(new RedisConnectionFailureException("down"))
+                .given(postDetailStore).addLikeIfLoaded(USER_ID, POST_ID);
+
+        // when
+        postDetailCache.likedAfterCommit(POST_ID, USER_ID);
+
+        // then
+        then(postDetailStore).should().incrementIfLoaded(POST_ID, Counter.LIKE, 1);
+        then(postDetailStore).should().evictSnapshot(POST_ID);
+        then(postDetailStore).should().evictUser(USER_ID);
+    }
+}
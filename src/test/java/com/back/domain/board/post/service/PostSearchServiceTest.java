@@ -0,0 +1,185 @@
+package com.back.domain.board.post.service;
+
+import com.back.domain.board.common.dto.AuthorResponse;
+import com.back.domain.board.post.dto.HighlightRange;
+import com.back.domain.board.post.dto.PostListResponse;
+import com.back.domain.board.post.dto.PostSearchHighlight;
+import com.back.domain.board.post.repository.PostFullTextRepository;
+import com.back.domain.board.post.repository.PostFullTextRepository.Condition;
+import com.back.domain.board.post.repository.PostRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PostSearchService 테스트")
+class PostSearchServiceTest {
+
+    @Mock
+    private PostFullTextRepository fullTextRepository;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @InjectMocks
+    private PostSearchService searchService;
+
+    private static PostListResponse post(Long id, String title) {
+        return new PostListResponse(id, new AuthorResponse(1L, "작성자", null), title, null, List.of(),
+                0, 0, 0, LocalDateTime.now(), LocalDateTime.now());
+    }
+
+    private void givenFullTextReady() {
+        given(fullTextRepository.isSupported()).willReturn(true);
+        given(fullTextRepository.hasIndexes()).willReturn(true);
+    }
+
+    @Test
+    @DisplayName("관련도 순 검색 - 저장소가 정렬한 페이지 순서 유지, 첫 페이지가 다 차지 않으면 COUNT 생략")
+    void searchPosts_RelevanceOrder() {
+        // given
+        givenFullTextReady();
+        Condition condition = new Condition("+\"자바\"", "자바", null, null);
+        given(fullTextRepository.findPageIds(condition, Sort.unsorted(), 0, 10)).willReturn(List.of(2L, 1L));
+        given(postRepository.findPostsByIds(List.of(2L, 1L)))
+                .willReturn(List.of(post(1L, "알고리즘"), post(2L, "자바 스터디")));
+        given(postRepository.findContentsByIds(List.of(2L, 1L)))
+                .willReturn(Map.of(1L, "자바로 푸는 알고리즘", 2L, "매일 공부"));
+
+        // when
+        Page<PostListResponse> result = searchService.searchPosts("자바", null, null, PageRequest.of(0, 10));
+
+        // then
+        assertThat(result.getContent()).extracting(PostListResponse::getPostId).containsExactly(2L, 1L);
+        assertThat(result.getTotalElements()).isEqualTo(2);
+        verify(fullTextRepository, never()).count(any());
+        verify(postRepository, never()).searchPosts(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("뒤쪽 페이지 - 후보 수 상한 없이 COUNT 쿼리로 전체 개수 계산")
+    void searchPosts_DeepPage_CountsAllMatches() {
+        // given
+        givenFullTextReady();
+        Condition condition = new Condition("+\"스터디\"", "스터디", "title", null);
+        given(fullTextRepository.findPageIds(condition, Sort.unsorted(), 2_000, 10)).willReturn(List.of(5L));
+        given(fullTextRepository.count(condition)).willReturn(2_001L);
+        given(postRepository.findPostsByIds(List.of(5L))).willReturn(List.of(post(5L, "스터디 5")));
+        given(postRepository.findContentsByIds(List.of(5L))).willReturn(Map.of(5L, "내용"));
+
+        // when
+        Page<PostListResponse> result = searchService.searchPosts("스터디", "title", null, PageRequest.of(200, 10));
+
+        // then
+        assertThat(result.getContent()).extracting(PostListResponse::getPostId).containsExactly(5L);
+        assertThat(result.getTotalElements()).isEqualTo(2_001);
+    }
+
+    @Test
+    @DisplayName("정렬/카테고리 조건은 일치하는 게시글 전체를 대상으로 SQL에서 적용")
+    void searchPosts_SortedWithCategories_DelegatesToDatabase() {
+        // given
+        givenFullTextReady();
+        Pageable pageable = PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "likeCount"));
+        Condition condition = new Condition("+\"스프링\"", "스프링", "content", List.of(10L));
+        given(fullTextRepository.findPageIds(condition, pageable.getSort(), 0, 1)).willReturn(List.of(1L));
+        given(fullTextRepository.count(condition)).willReturn(3L);
+        given(postRepository.findPostsByIds(List.of(1L))).willReturn(List.of(post(1L, "제목")));
+        given(postRepository.findContentsByIds(List.of(1L))).willReturn(Map.of(1L, "스프링 내용"));
+
+        // when
+        Page<PostListResponse> result = searchService.searchPosts("스프링", "content", List.of(10L), pageable);
+
+        // then
+        assertThat(result.getContent()).extracting(PostListResponse::getPostId).containsExactly(1L);
+        assertThat(result.getTotalElements()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("전문 검색 미지원 DB(H2)에서는 LIKE 검색으로 대체")
+    void searchPosts_Unsupported_FallbackToLike() {
+        // given
+        Pageable pageable = PageRequest.of(0, 10);
+        given(fullTextRepository.isSupported()).willReturn(false);
+        given(postRepository.searchPosts("자바", "title", null, pageable))
+                .willReturn(new PageImpl<>(List.of(post(1L, "자바 스터디")), pageable, 1));
+        given(postRepository.findContentsByIds(List.of(1L))).willReturn(Map.of(1L, "내용"));
+
+        // when
+        Page<PostListResponse> result = searchService.searchPosts("자바", "title", null, pageable);
+
+        // then
+        assertThat(result.getContent()).hasSize(1);
+        verify(fullTextRepository, never()).findPageIds(any(), any(), anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("ngram 토큰보다 짧은 한 글자 검색어는 LIKE 검색으로 대체")
+    void searchPosts_SingleCharacter_FallbackToLike() {
+        // given
+        givenFullTextReady();
+        Pageable pageable = PageRequest.of(0, 10);
+        given(postRepository.searchPosts("방", "title", null, pageable)).willReturn(Page.empty(pageable));
+
+        // when
+        searchService.searchPosts("방", "title", null, pageable);
+
+        // then
+        verify(fullTextRepository, never()).findPageIds(any(), any(), anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("검색식 생성 - BOOLEAN MODE 연산자 제거 후 단어별 필수 구문")
+    void searchPosts_BooleanOperatorsStripped() {
+        // given
+        givenFullTextReady();
+        given(fullTextRepository.findPageIds(any(), any(), anyLong(), anyInt())).willReturn(List.of());
+
+        // when
+        searchService.searchPosts("+자바 -\"스터디\"*", "title", null, PageRequest.of(0, 10));
+
+        // then
+        verify(fullTextRepository).findPageIds(
+                eq(new Condition("+\"자바\" +\"스터디\"", "+자바 -\"스터디\"*", "title", null)),
+                any(), anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("하이라이트 - 제목 일치 구간과 본문 첫 일치 주변 발췌")
+    void highlight_TitleAndSnippet() {
+        // given
+        String content = "가".repeat(100) + "Spring 부트와 spring 시큐리티";
+
+        // when
+        PostSearchHighlight highlight = PostSearchHighlighter.highlight(
+                "SPRING 스터디 모집 spring", content, PostSearchHighlighter.words("spring"));
+
+        // then
+        assertThat(highlight.title()).containsExactly(new HighlightRange(0, 6), new HighlightRange(14, 20));
+        assertThat(highlight.snippet()).startsWith("가".repeat(30) + "Spring");
+        assertThat(highlight.snippetRanges()).containsExactly(new HighlightRange(30, 36), new HighlightRange(41, 47));
+    }
+
+    @Test
+    @DisplayName("하이라이트 - 겹치는 단어 구간은 병합")
+    void highlight_MergeOverlapping() {
+        assertThat(PostSearchHighlighter.find("자바스크립트", List.of("자바스", "스크립트")))
+                .containsExactly(new HighlightRange(0, 6));
+    }
+}
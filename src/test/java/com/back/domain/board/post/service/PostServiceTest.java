@@ -4,6 +4,8 @@ import com.amazonaws.services.s3.AmazonS3;
 import com.back.domain.board.common.dto.PageResponse;
 import com.back.domain.board.post.entity.Post;
 import com.back.domain.board.post.entity.PostCategory;
+import com.back.domain.board.post.entity.PostSummary;
+import com.back.domain.board.post.dto.CategoryResponse;
 import com.back.domain.board.post.dto.PostDetailResponse;
 import com.back.domain.board.post.dto.PostListResponse;
 import com.back.domain.board.post.dto.PostRequest;
@@ -11,6 +13,7 @@ import com.back.domain.board.post.dto.PostResponse;
 import com.back.domain.board.post.enums.CategoryType;
 import com.back.domain.board.post.repository.PostCategoryRepository;
 import com.back.domain.board.post.repository.PostRepository;
+import com.back.domain.board.post.repository.PostSummaryRepository;
 import com.back.domain.file.entity.AttachmentMapping;
 import com.back.domain.file.entity.EntityType;
 import com.back.domain.file.entity.FileAttachment;
@@ -65,6 +68,9 @@ class PostServiceTest {
     @Autowired
     private AttachmentMappingRepository attachmentMappingRepository;
 
+    @Autowired
+    private PostSummaryRepository postSummaryRepository;
+
     @MockBean
     private AmazonS3 amazonS3; // S3 호출 차단용 mock
 
@@ -122,6 +128,13 @@ class PostServiceTest {
                     assertThat(mapping.getFileAttachment().getId())
                             .isIn(img1.getId(), img2.getId());
                 });
+
+        // then — 목록 조회용 요약 검증
+        PostSummary summary = postSummaryRepository.findById(response.postId()).orElseThrow();
+        assertThat(summary.getAuthorNickname()).isEqualTo("작성자");
+        assertThat(PostSummary.decodeCategories(summary.getCategories()))
+                .extracting(CategoryResponse::name)
+                .containsExactly("공지");
     }
 
     @Test
@@ -463,6 +476,27 @@ class PostServiceTest {
                 .isEmpty();
     }
 
+    @Test
+    @DisplayName("게시글 삭제 성공 - 목록 조회용 요약도 함께 삭제")
+    void deletePost_success_removesSummary() {
+        // given
+        User user = User.createUser("writer", "writer@example.com", "encodedPwd");
+        user.setUserProfile(new UserProfile(user, "작성자", null, null, null, 0));
+        user.setUserStatus(UserStatus.ACTIVE);
+        userRepository.save(user);
+
+        PostResponse created = postService.createPost(
+                new PostRequest("제목", "내용", null, List.of(), List.of()), user.getId());
+        assertThat(postSummaryRepository.findById(created.postId())).isPresent();
+
+        // when
+        postService.deletePost(created.postId(), user.getId());
+
+        // then
+        assertThat(postRepository.findById(created.postId())).isEmpty();
+        assertThat(postSummaryRepository.findById(created.postId())).isEmpty();
+    }
+
     @Test
     @DisplayName("게시글 삭제 실패 - 게시글 없음")
     void deletePost_fail_postNotFound() {
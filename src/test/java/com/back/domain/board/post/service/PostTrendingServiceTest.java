@@ -0,0 +1,115 @@
+package com.back.domain.board.post.service;
+
+import com.back.domain.board.common.dto.AuthorResponse;
+import com.back.domain.board.post.dto.PostListResponse;
+import com.back.domain.board.post.repository.PostRepository;
+import com.back.domain.board.post.service.PostTrendingService.Signal;
+import com.back.domain.board.post.store.PostTrendingStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PostTrendingService 테스트")
+class PostTrendingServiceTest {
+
+    @Mock
+    private PostTrendingStore postTrendingStore;
+
+    @Mock
+    private PostRepository postRepository;
+
+    private PostTrendingService trendingService;
+
+    @BeforeEach
+    void setUp() {
+        trendingService = new PostTrendingService(postTrendingStore, postRepository, 12);
+    }
+
+    private static PostListResponse post(Long id) {
+        return new PostListResponse(id, new AuthorResponse(1L, "작성자", null), "제목 " + id, null, List.of(),
+                0, 0, 0, LocalDateTime.now(), LocalDateTime.now());
+    }
+
+    @Test
+    @DisplayName("갱신 시 점수 순서를 유지하고 삭제된 게시글은 제외")
+    void refresh_KeepsScoreOrder() {
+        // given
+        given(postTrendingStore.findTopPostIds(PostTrendingService.MAX_SIZE)).willReturn(List.of(3L, 1L, 2L));
+        given(postRepository.findPostsByIds(List.of(3L, 1L, 2L))).willReturn(List.of(post(1L), post(3L)));
+
+        // when
+        trendingService.refresh();
+
+        // then
+        assertThat(trendingService.getTrendingPosts(10))
+                .extracting(PostListResponse::getPostId)
+                .containsExactly(3L, 1L);
+        assertThat(trendingService.getTrendingPosts(1)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 이전 목록 유지")
+    void refresh_RedisFailure_KeepsPreviousList() {
+        // given
+        given(postTrendingStore.findTopPostIds(anyInt()))
+                .willReturn(List.of(1L))
+                .willThrow(new RedisConnectionFailureException("down"));
+        given(postRepository.findPostsByIds(List.of(1L))).willReturn(List.of(post(1L)));
+        trendingService.refresh();
+
+        // when
+        trendingService.refresh();
+
+        // then
+        assertThat(trendingService.getTrendingPosts(10))
+                .extracting(PostListResponse::getPostId)
+                .containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("반응 종류별 가중치와 반응자 키로 점수 반영 (트랜잭션 밖에서는 즉시), 실패해도 예외 없음")
+    void recordAfterCommit_AddsWeightedScore() {
+        // given
+        willThrow(new RedisConnectionFailureException("down"))
+                .given(postTrendingStore).addScore(2L, "COMMENT:10", 3.0, Duration.ofHours(12), Duration.ofHours(84));
+
+        // when
+        trendingService.recordAfterCommit(1L, 10L, Signal.LIKE);
+        trendingService.recordAfterCommit(2L, 10L, Signal.COMMENT);
+
+        // then
+        then(postTrendingStore).should().addScore(1L, "LIKE:10", 1.0, Duration.ofHours(12), Duration.ofHours(84));
+        then(postTrendingStore).should().addScore(2L, "COMMENT:10", 3.0, Duration.ofHours(12), Duration.ofHours(84));
+    }
+
+    @Test
+    @DisplayName("삭제된 게시글은 목록과 Sorted Set에서 즉시 제거")
+    void removeAfterCommit_RemovesFromList() {
+        // given
+        given(postTrendingStore.findTopPostIds(anyInt())).willReturn(List.of(1L, 2L));
+        given(postRepository.findPostsByIds(List.of(1L, 2L))).willReturn(List.of(post(1L), post(2L)));
+        trendingService.refresh();
+
+        // when
+        trendingService.removeAfterCommit(1L);
+
+        // then
+        assertThat(trendingService.getTrendingPosts(10))
+                .extracting(PostListResponse::getPostId)
+                .containsExactly(2L);
+        then(postTrendingStore).should().remove(1L);
+    }
+}
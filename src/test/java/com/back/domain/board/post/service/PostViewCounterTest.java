@@ -0,0 +1,106 @@
+package com.back.domain.board.post.service;
+
+import com.back.domain.board.post.repository.PostStatsRepository;
+import com.back.domain.board.post.store.PostDetailStore;
+import com.back.domain.board.post.store.PostDetailStore.Counter;
+import com.back.domain.board.post.store.PostViewStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PostViewCounter 단위 테스트")
+class PostViewCounterTest {
+
+    @Mock
+    private PostViewStore postViewStore;
+
+    @Mock
+    private PostDetailStore postDetailStore;
+
+    @Mock
+    private PostStatsRepository postStatsRepository;
+
+    private PostViewCounter viewCounter;
+
+    @BeforeEach
+    void setUp() {
+        viewCounter = new PostViewCounter(postViewStore, postDetailStore, postStatsRepository, 30, 2);
+    }
+
+    @Test
+    @DisplayName("윈도우 내 새 조회자만 집계하고, 로그인 사용자는 ID·비로그인은 IP로 구분")
+    void recordView_CountsOnlyNewViewers() {
+        // given
+        given(postViewStore.addViewer(eq(1L), eq("u:10"), any(Duration.class))).willReturn(true, false);
+        given(postViewStore.addViewer(eq(1L), eq("ip:127.0.0.1"), any(Duration.class))).willReturn(true);
+
+        // when
+        viewCounter.recordView(1L, 10L, "127.0.0.1");
+        viewCounter.recordView(1L, 10L, "127.0.0.1");  // 같은 사용자 재조회
+        viewCounter.recordView(1L, null, "127.0.0.1");
+
+        // then
+        viewCounter.flush();
+        then(postStatsRepository).should().bulkAddViews(Map.of(1L, 2L));
+        then(postDetailStore).should(times(2)).incrementIfLoaded(1L, Counter.VIEW, 1);
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 중복 여부를 알 수 없으므로 집계하지 않음")
+    void recordView_RedisFailure_NotCounted() {
+        // given
+        given(postViewStore.addViewer(anyLong(), anyString(), any(Duration.class)))
+                .willThrow(new RedisConnectionFailureException("down"));
+
+        // when
+        viewCounter.recordView(1L, 10L, "127.0.0.1");
+
+        // then
+        assertThat(viewCounter.pendingCount()).isZero();
+        viewCounter.flush();
+        then(postStatsRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("배치 크기 단위로 반영하고, 실패한 배치의 증가분은 다음 주기에 재시도")
+    @SuppressWarnings("unchecked")
+    void flush_ChunksAndRetriesFailedChunk() {
+        // given
+        given(postViewStore.addViewer(anyLong(), anyString(), any(Duration.class))).willReturn(true);
+        for (long postId = 1; postId <= 3; postId++) {
+            viewCounter.recordView(postId, 10L, null);
+        }
+        willThrow(new DataAccessResourceFailureException("db down"))
+                .willDoNothing()
+                .given(postStatsRepository).bulkAddViews(anyMap());
+
+        // when - 배치 크기 2: 첫 배치 실패, 두 번째 배치 성공
+        viewCounter.flush();
+
+        // then
+        assertThat(viewCounter.pendingCount()).isEqualTo(2);
+
+        // when - 다음 주기
+        viewCounter.flush();
+
+        // then
+        assertThat(viewCounter.pendingCount()).isZero();
+        ArgumentCaptor<Map<Long, Long>> captor = ArgumentCaptor.forClass(Map.class);
+        then(postStatsRepository).should(times(3)).bulkAddViews(captor.capture());
+        assertThat(captor.getAllValues().get(2)).hasSize(2).containsValues(1L, 1L);
+    }
+}
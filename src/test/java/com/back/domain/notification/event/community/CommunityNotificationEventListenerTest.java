@@ -1,7 +1,8 @@
 package com.back.domain.notification.event.community;
 
+import com.back.domain.notification.dto.CommunityNotificationCommand;
 import com.back.domain.notification.entity.NotificationSettingType;
-import com.back.domain.notification.service.NotificationService;
+import com.back.domain.notification.service.CommunityNotificationBatcher;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -18,7 +19,7 @@ import static org.mockito.BDDMockito.*;
 class CommunityNotificationEventListenerTest {
 
     @Mock
-    private NotificationService notificationService;
+    private CommunityNotificationBatcher notificationBatcher;
 
     @InjectMocks
     private CommunityNotificationEventListener listener;
@@ -35,14 +36,7 @@ class CommunityNotificationEventListenerTest {
         listener.handleCommentCreated(event);
 
         // then
-        verify(notificationService).createCommunityNotification(
-                eq(2L), // receiverId
-                eq(1L), // actorId
-                anyString(),
-                anyString(),
-                eq("/posts/100"),
-                eq(NotificationSettingType.POST_COMMENT)
-        );
+        verify(notificationBatcher).enqueue(command(2L, 1L, "/posts/100", NotificationSettingType.POST_COMMENT));
     }
 
     @Test
@@ -55,14 +49,7 @@ class CommunityNotificationEventListenerTest {
         listener.handleReplyCreated(event);
 
         // then
-        verify(notificationService).createCommunityNotification(
-                eq(2L), // receiverId
-                eq(1L), // actorId
-                anyString(),
-                anyString(),
-                eq("/posts/100#comment-200"),
-                eq(NotificationSettingType.POST_COMMENT)
-        );
+        verify(notificationBatcher).enqueue(command(2L, 1L, "/posts/100#comment-200", NotificationSettingType.POST_COMMENT));
     }
 
     @Test
@@ -75,14 +62,7 @@ class CommunityNotificationEventListenerTest {
         listener.handlePostLiked(event);
 
         // then
-        verify(notificationService).createCommunityNotification(
-                eq(2L), // receiverId
-                eq(1L), // actorId
-                anyString(),
-                anyString(),
-                eq("/posts/100"),
-                eq(NotificationSettingType.POST_LIKE)
-        );
+        verify(notificationBatcher).enqueue(command(2L, 1L, "/posts/100", NotificationSettingType.POST_LIKE));
     }
 
     // ====================== 대댓글 작성 이벤트 ======================
@@ -97,14 +77,7 @@ class CommunityNotificationEventListenerTest {
         listener.handleCommentLiked(event);
 
         // then
-        verify(notificationService).createCommunityNotification(
-                eq(2L), // receiverId
-                eq(1L), // actorId
-                anyString(),
-                anyString(),
-                eq("/posts/100#comment-200"),
-                eq(NotificationSettingType.POST_LIKE)
-        );
+        verify(notificationBatcher).enqueue(command(2L, 1L, "/posts/100#comment-200", NotificationSettingType.POST_LIKE));
     }
 
     @Test
@@ -112,7 +85,7 @@ class CommunityNotificationEventListenerTest {
     void t5() {
         // given
         CommentCreatedEvent event = new CommentCreatedEvent(1L, 2L, 100L, 200L, "댓글");
-        willThrow(new RuntimeException("DB 오류")).given(notificationService).createCommunityNotification(anyLong(), anyLong(), any(), any(), any(), any());
+        willThrow(new RuntimeException("DB 오류")).given(notificationBatcher).enqueue(any());
 
         // when & then
         assertThatCode(() -> listener.handleCommentCreated(event))
@@ -131,14 +104,7 @@ class CommunityNotificationEventListenerTest {
         listener.handlePostLiked(event);
 
         // then
-        verify(notificationService).createCommunityNotification(
-                eq(2L), // receiverId
-                eq(1L), // actorId
-                anyString(),
-                anyString(),
-                eq("/posts/100"),
-                eq(NotificationSettingType.POST_LIKE)
-        );
+        verify(notificationBatcher).enqueue(command(2L, 1L, "/posts/100", NotificationSettingType.POST_LIKE));
     }
 
     // ====================== 댓글 좋아요 이벤트 ======================
@@ -153,14 +119,7 @@ class CommunityNotificationEventListenerTest {
         listener.handleCommentLiked(event);
 
         // then
-        verify(notificationService).createCommunityNotification(
-                eq(2L), // receiverId
-                eq(1L), // actorId
-                anyString(),
-                anyString(),
-                eq("/posts/100#comment-200"),
-                eq(NotificationSettingType.POST_LIKE)
-        );
+        verify(notificationBatcher).enqueue(command(2L, 1L, "/posts/100#comment-200", NotificationSettingType.POST_LIKE));
     }
 
     @Test
@@ -180,14 +139,7 @@ class CommunityNotificationEventListenerTest {
 
         // then
         // 서비스에 동일한 ID가 전달되는지만 확인하면 됨
-        verify(notificationService).createCommunityNotification(
-                eq(1L), // receiverId
-                eq(1L), // actorId
-                anyString(),
-                anyString(),
-                anyString(),
-                eq(NotificationSettingType.POST_LIKE)
-        );
+        verify(notificationBatcher).enqueue(command(1L, 1L, null, NotificationSettingType.POST_LIKE));
     }
 
     // ====================== 예외 처리 테스트 ======================
@@ -199,14 +151,23 @@ class CommunityNotificationEventListenerTest {
         CommentCreatedEvent event = new CommentCreatedEvent(1L, 2L, 100L, 200L, "댓글 내용");
 
         willThrow(new RuntimeException("DB 오류"))
-                .given(notificationService)
-                .createCommunityNotification(anyLong(), anyLong(), any(), any(), any(), any());
+                .given(notificationBatcher)
+                .enqueue(any());
 
         // when & then
         assertThatCode(() -> listener.handleCommentCreated(event))
                 .doesNotThrowAnyException();
 
         // 서비스 메서드가 호출된 것 자체는 검증
-        verify(notificationService).createCommunityNotification(anyLong(), anyLong(), any(), any(), any(), any());
+        verify(notificationBatcher).enqueue(any());
+    }
+
+    // 수신자/발신자/이동 경로/설정 타입이 일치하는 적재 요청 (targetUrl = null이면 경로 검증 생략)
+    private CommunityNotificationCommand command(Long receiverId, Long actorId, String targetUrl,
+                                                 NotificationSettingType settingType) {
+        return argThat(command -> command.receiverId().equals(receiverId)
+                && command.actorId().equals(actorId)
+                && (targetUrl == null || targetUrl.equals(command.targetUrl()))
+                && command.settingType() == settingType);
     }
-}
\ No newline at end of file
+}
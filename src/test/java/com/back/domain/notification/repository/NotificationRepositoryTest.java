@@ -1,7 +1,10 @@
 package com.back.domain.notification.repository;
 
+import com.back.domain.notification.dto.CommunityNotificationCommand;
 import com.back.domain.notification.entity.Notification;
+import com.back.domain.notification.entity.NotificationInbox;
 import com.back.domain.notification.entity.NotificationRead;
+import com.back.domain.notification.entity.NotificationSettingType;
 import com.back.domain.notification.entity.NotificationType;
 import com.back.domain.studyroom.entity.Room;
 import com.back.domain.studyroom.entity.RoomMember;
@@ -23,7 +26,9 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -42,6 +47,9 @@ class NotificationRepositoryTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private NotificationInboxRepository notificationInboxRepository;
+
     @Autowired
     private RoomRepository roomRepository;
 
@@ -100,6 +108,22 @@ class NotificationRepositoryTest {
         entityManager.clear();
     }
 
+    // 알림 저장 + 수신 대상 알림함 기록 (서비스의 fan-out-on-write와 동일)
+    private void saveAndDeliver(Notification... notifications) {
+        for (Notification notification : notifications) {
+            notificationRepository.save(notification);
+            entityManager.flush();
+
+            switch (notification.getType()) {
+                case PERSONAL, COMMUNITY -> notificationInboxRepository.save(
+                        NotificationInbox.create(notification.getReceiver(), notification));
+                case ROOM -> notificationInboxRepository.fanOutToRoomMembers(notification.getId());
+                case SYSTEM -> notificationInboxRepository.fanOutToUsers(notification.getId(), 0L, Long.MAX_VALUE);
+            }
+        }
+        entityManager.flush();
+    }
+
     @Nested
     @DisplayName("findByUserIdOrSystemType 테스트")
     class FindByUserIdOrSystemTypeTest {
@@ -111,7 +135,7 @@ class NotificationRepositoryTest {
             Notification personalNotification = Notification.createPersonalNotification(
                     user1, actor, "개인 알림", "내용", "/target"
             );
-            notificationRepository.save(personalNotification);
+            saveAndDeliver(personalNotification);
 
             Pageable pageable = PageRequest.of(0, 10);
 
@@ -134,7 +158,7 @@ class NotificationRepositoryTest {
             Notification systemNotification = Notification.createSystemNotification(
                     "시스템 알림", "전체 공지", "/notice"
             );
-            notificationRepository.save(systemNotification);
+            saveAndDeliver(systemNotification);
 
             Pageable pageable = PageRequest.of(0, 10);
 
@@ -159,7 +183,7 @@ class NotificationRepositoryTest {
             Notification roomNotification2 = Notification.createRoomNotification(
                     room2, actor, "스터디룸2 알림", "내용", "/room/2"
             );
-            notificationRepository.saveAll(List.of(roomNotification1, roomNotification2));
+            saveAndDeliver(roomNotification1, roomNotification2);
 
             Pageable pageable = PageRequest.of(0, 10);
 
@@ -188,7 +212,7 @@ class NotificationRepositoryTest {
             Notification otherRoomNotification = Notification.createRoomNotification(
                     otherRoom, actor, "다른 방 알림", "내용", "/room/other"
             );
-            notificationRepository.save(otherRoomNotification);
+            saveAndDeliver(otherRoomNotification);
 
             Pageable pageable = PageRequest.of(0, 10);
 
@@ -216,7 +240,7 @@ class NotificationRepositoryTest {
             Notification community = Notification.createCommunityNotification(
                     user1, actor, "커뮤니티", "내용", "/c"
             );
-            notificationRepository.saveAll(List.of(personal, system, room, community));
+            saveAndDeliver(personal, system, room, community);
 
             Pageable pageable = PageRequest.of(0, 10);
 
@@ -243,14 +267,14 @@ class NotificationRepositoryTest {
             Notification old = Notification.createPersonalNotification(
                     user1, actor, "오래된 알림", "내용", "/old"
             );
-            notificationRepository.save(old);
+            saveAndDeliver(old);
 
             Thread.sleep(100); // 시간 차이를 위한 대기
 
             Notification recent = Notification.createPersonalNotification(
                     user1, actor, "최근 알림", "내용", "/recent"
             );
-            notificationRepository.save(recent);
+            saveAndDeliver(recent);
 
             Pageable pageable = PageRequest.of(0, 10);
 
@@ -272,7 +296,7 @@ class NotificationRepositoryTest {
                 Notification notification = Notification.createPersonalNotification(
                         user1, actor, "알림 " + i, "내용", "/target"
                 );
-                notificationRepository.save(notification);
+                saveAndDeliver(notification);
             }
 
             Pageable pageable = PageRequest.of(0, 10);
@@ -302,7 +326,7 @@ class NotificationRepositoryTest {
             Notification notification2 = Notification.createPersonalNotification(
                     user1, actor, "알림2", "내용", "/2"
             );
-            notificationRepository.saveAll(List.of(notification1, notification2));
+            saveAndDeliver(notification1, notification2);
 
             // when
             long count = notificationRepository.countUnreadByUserId(user1.getId());
@@ -321,7 +345,7 @@ class NotificationRepositoryTest {
             Notification notification2 = Notification.createPersonalNotification(
                     user1, actor, "알림2", "내용", "/2"
             );
-            notificationRepository.saveAll(List.of(notification1, notification2));
+            saveAndDeliver(notification1, notification2);
 
             // notification1을 읽음 처리
             NotificationRead read = NotificationRead.create(notification1, user1);
@@ -341,7 +365,7 @@ class NotificationRepositoryTest {
             Notification systemNotification = Notification.createSystemNotification(
                     "시스템 알림", "내용", "/system"
             );
-            notificationRepository.save(systemNotification);
+            saveAndDeliver(systemNotification);
 
             // when
             long count = notificationRepository.countUnreadByUserId(user1.getId());
@@ -357,7 +381,7 @@ class NotificationRepositoryTest {
             Notification roomNotification = Notification.createRoomNotification(
                     room1, actor, "스터디룸 알림", "내용", "/room"
             );
-            notificationRepository.save(roomNotification);
+            saveAndDeliver(roomNotification);
 
             // when
             long count = notificationRepository.countUnreadByUserId(user1.getId());
@@ -381,7 +405,7 @@ class NotificationRepositoryTest {
             Notification read = Notification.createPersonalNotification(
                     user1, actor, "읽음", "내용", "/read"
             );
-            notificationRepository.saveAll(List.of(unread, read));
+            saveAndDeliver(unread, read);
 
             // read 알림을 읽음 처리
             NotificationRead notificationRead = NotificationRead.create(read, user1);
@@ -411,7 +435,7 @@ class NotificationRepositoryTest {
             Notification room = Notification.createRoomNotification(
                     room1, actor, "스터디룸", "내용", "/r"
             );
-            notificationRepository.saveAll(List.of(personal, system, room));
+            saveAndDeliver(personal, system, room);
 
             Pageable pageable = PageRequest.of(0, 10);
 
@@ -430,14 +454,14 @@ class NotificationRepositoryTest {
             Notification old = Notification.createPersonalNotification(
                     user1, actor, "오래된", "내용", "/old"
             );
-            notificationRepository.save(old);
+            saveAndDeliver(old);
 
             Thread.sleep(100);
 
             Notification recent = Notification.createPersonalNotification(
                     user1, actor, "최근", "내용", "/recent"
             );
-            notificationRepository.save(recent);
+            saveAndDeliver(recent);
 
             Pageable pageable = PageRequest.of(0, 10);
 
@@ -522,7 +546,7 @@ class NotificationRepositoryTest {
             Notification read = Notification.createPersonalNotification(
                     user1, actor, "읽음", "내용", "/read"
             );
-            notificationRepository.saveAll(List.of(unread1, unread2, read));
+            saveAndDeliver(unread1, unread2, read);
 
             // read 알림을 읽음 처리
             NotificationRead notificationRead = NotificationRead.create(read, user1);
@@ -546,7 +570,7 @@ class NotificationRepositoryTest {
             Notification notification = Notification.createPersonalNotification(
                     user1, actor, "읽음", "내용", "/read"
             );
-            notificationRepository.save(notification);
+            saveAndDeliver(notification);
 
             NotificationRead read = NotificationRead.create(notification, user1);
             notificationReadRepository.save(read);
@@ -566,14 +590,14 @@ class NotificationRepositoryTest {
             Notification old = Notification.createPersonalNotification(
                     user1, actor, "오래된", "내용", "/old"
             );
-            notificationRepository.save(old);
+            saveAndDeliver(old);
 
             Thread.sleep(100);
 
             Notification recent = Notification.createPersonalNotification(
                     user1, actor, "최근", "내용", "/recent"
             );
-            notificationRepository.save(recent);
+            saveAndDeliver(recent);
 
             // when
             List<Notification> result = notificationRepository
@@ -585,6 +609,90 @@ class NotificationRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("markAllAsRead 테스트")
+    class MarkAllAsReadTest {
+
+        @Test
+        @DisplayName("읽지 않은 알림만 한 번에 읽음 기록 생성")
+        void t1() {
+            // given
+            Notification personal = Notification.createPersonalNotification(
+                    user1, actor, "개인", "내용", "/p"
+            );
+            Notification room = Notification.createRoomNotification(
+                    room1, actor, "스터디룸", "내용", "/r"
+            );
+            Notification system = Notification.createSystemNotification(
+                    "시스템", "내용", "/s"
+            );
+            saveAndDeliver(personal, room, system);
+
+            // 개인 알림은 이미 읽음
+            notificationReadRepository.save(NotificationRead.create(personal, user1));
+            entityManager.flush();
+
+            // when
+            int readCount = notificationReadRepository.markAllAsRead(user1.getId(), LocalDateTime.now());
+
+            // then
+            assertThat(readCount).isEqualTo(2);
+            assertThat(notificationRepository.countUnreadByUserId(user1.getId())).isZero();
+
+            // 다른 사용자의 읽음 상태에는 영향 없음
+            assertThat(notificationRepository.countUnreadByUserId(user2.getId())).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("다시 실행해도 중복 기록 없음")
+        void t2() {
+            // given
+            Notification notification = Notification.createPersonalNotification(
+                    user1, actor, "알림", "내용", "/1"
+            );
+            saveAndDeliver(notification);
+            notificationReadRepository.markAllAsRead(user1.getId(), LocalDateTime.now());
+
+            // when
+            int readCount = notificationReadRepository.markAllAsRead(user1.getId(), LocalDateTime.now());
+
+            // then
+            assertThat(readCount).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("bulkInsertCommunity 테스트")
+    class BulkInsertCommunityTest {
+
+        @Test
+        @DisplayName("JDBC 배치로 저장하고 생성된 ID를 요청 순서대로 반환, 알림함 일괄 기록 후 피드 조회 가능")
+        void t1() {
+            // given
+            List<CommunityNotificationCommand> commands = List.of(
+                    new CommunityNotificationCommand(user1.getId(), actor.getId(), "새 댓글", "내용1", "/posts/1",
+                            NotificationSettingType.POST_COMMENT),
+                    new CommunityNotificationCommand(user2.getId(), actor.getId(), "좋아요", "내용2", "/posts/2",
+                            NotificationSettingType.POST_LIKE)
+            );
+            LocalDateTime now = LocalDateTime.now();
+
+            // when
+            List<Long> ids = notificationRepository.bulkInsertCommunity(commands, now);
+            notificationInboxRepository.bulkInsert(Map.of(ids.get(0), user1.getId(), ids.get(1), user2.getId()), now);
+
+            // then
+            assertThat(ids).hasSize(2);
+            Notification first = notificationRepository.findById(ids.get(0)).orElseThrow();
+            assertThat(first.getType()).isEqualTo(NotificationType.COMMUNITY);
+            assertThat(first.getTitle()).isEqualTo("새 댓글");
+            assertThat(first.getReceiver().getId()).isEqualTo(user1.getId());
+
+            Page<Notification> feed = notificationRepository.findByUserIdOrSystemType(user2.getId(), PageRequest.of(0, 10));
+            assertThat(feed.getContent()).extracting(Notification::getId).containsExactly(ids.get(1));
+        }
+    }
+
     @Nested
     @DisplayName("findReadNotificationIds 테스트")
     class FindReadNotificationIdsTest {
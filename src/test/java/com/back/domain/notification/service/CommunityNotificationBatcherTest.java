@@ -0,0 +1,103 @@
+package com.back.domain.notification.service;
+
+import com.back.domain.notification.dto.CommunityNotificationCommand;
+import com.back.domain.notification.entity.NotificationSettingType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CommunityNotificationBatcher 단위 테스트")
+class CommunityNotificationBatcherTest {
+
+    @Mock
+    private NotificationService notificationService;
+
+    private MeterRegistry meterRegistry;
+    private CommunityNotificationBatcher batcher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // 큐 3건, 배치 2건, 최대 2회 시도, 적재 대기 10ms
+        batcher = new CommunityNotificationBatcher(notificationService, meterRegistry, 3, 2, 2, 10);
+    }
+
+    @Test
+    @DisplayName("적재만으로는 저장하지 않고, flush 시 batchSize 단위로 일괄 저장")
+    void flush_WritesInBatches() {
+        // given
+        batcher.enqueue(command(1L));
+        batcher.enqueue(command(2L));
+        batcher.enqueue(command(3L));
+        verifyNoInteractions(notificationService);
+        assertThat(meterRegistry.get("notification.batch.queue.size").gauge().value()).isEqualTo(3.0);
+
+        // when
+        batcher.flush();
+
+        // then
+        verify(notificationService).createCommunityNotifications(List.of(command(1L), command(2L)));
+        verify(notificationService).createCommunityNotifications(List.of(command(3L)));
+        assertThat(batcher.pendingCount()).isZero();
+        assertThat(meterRegistry.get("notification.batch.latency").timer().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 호출 스레드에서 저장하지 않고, 대기 시간 안에 자리가 나지 않으면 유실로 집계")
+    void enqueue_QueueFull_DropsAfterTimeout() {
+        // given
+        batcher.enqueue(command(1L));
+        batcher.enqueue(command(2L));
+        batcher.enqueue(command(3L));
+
+        // when
+        batcher.enqueue(command(4L));
+
+        // then
+        verifyNoInteractions(notificationService);
+        assertThat(batcher.pendingCount()).isEqualTo(3);
+        assertThat(meterRegistry.get("notification.batch.backpressure").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("notification.batch.dropped").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("저장 실패 시 큐에 되돌려 재시도, 최대 시도 횟수를 넘기면 유실로 집계")
+    void flush_Failure_RequeuesThenDrops() {
+        // given
+        given(notificationService.createCommunityNotifications(anyList()))
+                .willThrow(new RuntimeException("DB 오류"));
+        batcher.enqueue(command(1L));
+
+        // when
+        batcher.flush();
+
+        // then - 1회 실패: 큐에 남아 다음 주기에 재시도
+        assertThat(batcher.pendingCount()).isEqualTo(1);
+
+        // when
+        batcher.flush();
+
+        // then - 2회 실패: 유실 집계
+        assertThat(batcher.pendingCount()).isZero();
+        assertThat(meterRegistry.get("notification.batch.dropped").counter().count()).isEqualTo(1.0);
+        verify(notificationService, times(2)).createCommunityNotifications(anyList());
+    }
+
+    private CommunityNotificationCommand command(Long receiverId) {
+        return new CommunityNotificationCommand(receiverId, 100L, "새 댓글", "내용", "/posts/1",
+                NotificationSettingType.POST_COMMENT);
+    }
+}
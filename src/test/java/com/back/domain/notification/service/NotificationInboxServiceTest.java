@@ -0,0 +1,162 @@
+package com.back.domain.notification.service;
+
+import com.back.domain.notification.entity.Notification;
+import com.back.domain.notification.entity.NotificationFanOut;
+import com.back.domain.notification.repository.NotificationFanOutRepository;
+import com.back.domain.notification.repository.NotificationInboxRepository;
+import com.back.domain.user.common.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NotificationInboxService 단위 테스트")
+class NotificationInboxServiceTest {
+
+    @Mock
+    private NotificationInboxRepository inboxRepository;
+
+    @Mock
+    private NotificationFanOutRepository fanOutRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private NotificationInboxService inboxService;
+
+    @BeforeEach
+    void setUp() {
+        // 사용자 ID 구간 10, 재시도 지연 1분
+        inboxService = new NotificationInboxService(inboxRepository, fanOutRepository, userRepository, 10, 60_000);
+    }
+
+    @Test
+    @DisplayName("시스템 알림 진행 상태는 생성 시점의 사용자 ID 상한을 수신 대상 상한으로 기록")
+    void registerFanOut_System_SnapshotsTargetUserId() {
+        // given
+        Notification notification = Notification.createSystemNotification("시스템", "", "");
+        given(userRepository.findMaxId()).willReturn(25L);
+
+        // when
+        inboxService.registerFanOut(notification);
+
+        // then
+        ArgumentCaptor<NotificationFanOut> captor = ArgumentCaptor.forClass(NotificationFanOut.class);
+        verify(fanOutRepository).save(captor.capture());
+        assertThat(captor.getValue().getTargetUserId()).isEqualTo(25L);
+        assertThat(captor.getValue().getLastUserId()).isZero();
+    }
+
+    @Test
+    @DisplayName("시스템 알림 팬아웃 - 수신 대상 상한까지 구간마다 진행 상태를 기록하고, 끝나면 진행 상태 삭제")
+    void fanOutToAllUsers_AdvancesPerRange() {
+        // given - 알림 생성 이후 가입한 사용자(ID 26~)는 대상이 아님
+        given(fanOutRepository.findByNotificationId(1L))
+                .willReturn(Optional.of(fanOut(Notification.createSystemNotification("시스템", "", ""), 1L, 25L, 0L)));
+
+        // when
+        inboxService.fanOutToAllUsers(1L);
+
+        // then
+        verify(inboxRepository).fanOutToUsers(1L, 0L, 10L);
+        verify(inboxRepository).fanOutToUsers(1L, 10L, 20L);
+        verify(inboxRepository).fanOutToUsers(1L, 20L, 25L);
+        verify(fanOutRepository).advance(eq(1L), eq(25L), any(LocalDateTime.class));
+        verify(fanOutRepository).deleteByNotificationId(1L);
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("시스템 알림 팬아웃 실패 시 이후 구간은 건너뛰지 않고 중단 (진행 상태부터 재시도)")
+    void fanOutToAllUsers_Failure_StopsAtFailedRange() {
+        // given
+        given(fanOutRepository.findByNotificationId(1L))
+                .willReturn(Optional.of(fanOut(Notification.createSystemNotification("시스템", "", ""), 1L, 30L, 0L)));
+        given(inboxRepository.fanOutToUsers(1L, 10L, 20L)).willThrow(new RuntimeException("DB 오류"));
+
+        // when
+        inboxService.fanOutToAllUsers(1L);
+
+        // then
+        verify(fanOutRepository).advance(eq(1L), eq(10L), any(LocalDateTime.class));
+        verify(fanOutRepository, never()).advance(eq(1L), eq(20L), any(LocalDateTime.class));
+        verify(inboxRepository, never()).fanOutToUsers(1L, 20L, 30L);
+        verify(fanOutRepository, never()).deleteByNotificationId(any());
+    }
+
+    @Test
+    @DisplayName("재시도 - 룸 알림은 다시 팬아웃 후 진행 상태 삭제, 시스템 알림은 기록을 마친 사용자 이후부터 이어서 기록")
+    void retryPendingFanOuts() {
+        // given
+        NotificationFanOut room = fanOut(Notification.createRoomNotification(null, null, "룸", "", ""), 1L, 0L, 0L);
+        NotificationFanOut system = fanOut(Notification.createSystemNotification("시스템", "", ""), 2L, 25L, 20L);
+        given(fanOutRepository.findPending(any(LocalDateTime.class), any()))
+                .willReturn(List.of(room, system));
+
+        // when
+        int processed = inboxService.retryPendingFanOuts(10);
+
+        // then
+        assertThat(processed).isEqualTo(2);
+        verify(fanOutRepository, times(2)).markAttempt(any(), any(LocalDateTime.class));
+        verify(inboxRepository).fanOutToRoomMembers(1L);
+        verify(fanOutRepository).deleteByNotificationId(1L);
+        verify(inboxRepository).fanOutToUsers(2L, 20L, 25L);
+        verify(inboxRepository, never()).fanOutToUsers(eq(2L), eq(0L), anyLong());
+        verify(fanOutRepository).deleteByNotificationId(2L);
+    }
+
+    @Test
+    @DisplayName("룸 알림 팬아웃 실패 시 진행 상태를 남겨 재시도 대상으로 유지")
+    void fanOutToRoomMembers_Failure_KeepsFanOut() {
+        // given
+        given(inboxRepository.fanOutToRoomMembers(1L)).willThrow(new RuntimeException("DB 오류"));
+
+        // when
+        inboxService.fanOutToRoomMembers(1L);
+
+        // then
+        verify(fanOutRepository, never()).deleteByNotificationId(any());
+    }
+
+    @Test
+    @DisplayName("이관 - 시스템 알림은 사용자 ID 구간마다 나눠 기록")
+    void backfill_SystemByUserRange() {
+        // given
+        given(inboxRepository.backfill(0L, 500L)).willReturn(3);
+        given(userRepository.findMaxId()).willReturn(15L);
+        given(inboxRepository.backfillSystem(0L, 500L, 0L, 10L)).willReturn(10);
+        given(inboxRepository.backfillSystem(0L, 500L, 10L, 15L)).willReturn(5);
+
+        // when
+        int created = inboxService.backfill(0L, 500L);
+
+        // then
+        assertThat(created).isEqualTo(18);
+    }
+
+    private static NotificationFanOut fanOut(Notification notification, Long notificationId,
+                                             long targetUserId, long lastUserId) {
+        ReflectionTestUtils.setField(notification, "id", notificationId);
+        NotificationFanOut fanOut = NotificationFanOut.create(notification, targetUserId, LocalDateTime.now());
+        ReflectionTestUtils.setField(fanOut, "id", notificationId);
+        ReflectionTestUtils.setField(fanOut, "lastUserId", lastUserId);
+        return fanOut;
+    }
+}
@@ -1,5 +1,6 @@
 package com.back.domain.notification.service;
 
+import com.back.domain.notification.dto.CommunityNotificationCommand;
 import com.back.domain.notification.dto.NotificationWebSocketDto;
 import com.back.domain.notification.entity.Notification;
 import com.back.domain.notification.entity.NotificationRead;
@@ -8,6 +9,7 @@ import com.back.domain.notification.entity.NotificationType;
 import com.back.domain.notification.repository.NotificationReadRepository;
 import com.back.domain.notification.repository.NotificationRepository;
 import com.back.domain.studyroom.entity.Room;
+import com.back.domain.studyroom.repository.RoomMemberRepository;
 import com.back.domain.studyroom.repository.RoomRepository;
 import com.back.domain.user.common.entity.User;
 import com.back.domain.user.common.repository.UserRepository;
@@ -34,7 +36,9 @@ import static org.mockito.BDDMockito.*;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -59,6 +63,15 @@ class NotificationServiceTest {
     @Mock
     private RoomRepository roomRepository;
 
+    @Mock
+    private RoomMemberRepository roomMemberRepository;
+
+    @Mock
+    private NotificationUnreadCounter unreadCounter;
+
+    @Mock
+    private NotificationInboxService inboxService;
+
     @InjectMocks
     private NotificationService notificationService;
 
@@ -118,6 +131,8 @@ class NotificationServiceTest {
             verify(userRepository).findById(user.getId());
             verify(userRepository).findById(actor.getId());
             verify(notificationRepository).save(any(Notification.class));
+            verify(inboxService).deliver(user, notification);
+            verify(unreadCounter).increment(user.getId());
             verify(webSocketService).sendNotificationToUser(
                     eq(user.getId()),
                     any(NotificationWebSocketDto.class)
@@ -132,6 +147,7 @@ class NotificationServiceTest {
             given(roomRepository.findById(room.getId())).willReturn(Optional.of(room));
             given(userRepository.findById(actor.getId())).willReturn(Optional.of(actor));
             given(notificationRepository.save(any(Notification.class))).willReturn(roomNotification);
+            given(roomMemberRepository.findUserIdsByRoomId(room.getId())).willReturn(List.of(user.getId(), actor.getId()));
 
             // when
             Notification result = notificationService.createRoomNotification(
@@ -142,6 +158,9 @@ class NotificationServiceTest {
             assertThat(result).isNotNull();
             verify(roomRepository).findById(room.getId());
             verify(userRepository).findById(actor.getId());
+            verify(inboxService).registerFanOut(any(Notification.class));
+            verify(inboxService).fanOutToRoomMembers(any());
+            verify(unreadCounter).incrementAll(List.of(user.getId(), actor.getId()));
             verify(webSocketService).sendNotificationToRoom(eq(room.getId()), any());
         }
 
@@ -167,6 +186,9 @@ class NotificationServiceTest {
             assertThat(result.getRoom()).isNull();
 
             verify(notificationRepository).save(any(Notification.class));
+            verify(inboxService).registerFanOut(any(Notification.class));
+            verify(inboxService).fanOutToAllUsers(any());
+            verify(unreadCounter).incrementSystem();
             verify(webSocketService).broadcastSystemNotification(
                     any(NotificationWebSocketDto.class)
             );
@@ -278,6 +300,64 @@ class NotificationServiceTest {
                     any(NotificationWebSocketDto.class)
             );
         }
+
+        @Test
+        @DisplayName("커뮤니티 알림 일괄 생성 - 사용자 일괄 조회 후 배치 저장, 설정이 켜진 수신자에게만 전송")
+        void t9() {
+            // given
+            User other = User.builder()
+                    .id(3L)
+                    .email("other@test.com")
+                    .username("다른수신자")
+                    .password("password123")
+                    .build();
+            List<CommunityNotificationCommand> commands = List.of(
+                    new CommunityNotificationCommand(user.getId(), actor.getId(), "새 댓글", "내용", "/posts/1",
+                            NotificationSettingType.POST_COMMENT),
+                    new CommunityNotificationCommand(other.getId(), actor.getId(), "좋아요", "내용", "/posts/2",
+                            NotificationSettingType.POST_LIKE)
+            );
+            given(userRepository.findAllWithProfileByIdIn(anyCollection())).willReturn(List.of(user, actor, other));
+            given(notificationRepository.bulkInsertCommunity(eq(commands), any(LocalDateTime.class)))
+                    .willReturn(List.of(10L, 11L));
+            given(notificationSettingService.isNotificationEnabled(user.getId(), NotificationSettingType.POST_COMMENT))
+                    .willReturn(true);
+            given(notificationSettingService.isNotificationEnabled(other.getId(), NotificationSettingType.POST_LIKE))
+                    .willReturn(false);
+
+            // when
+            int saved = notificationService.createCommunityNotifications(commands);
+
+            // then
+            assertThat(saved).isEqualTo(2);
+            verify(userRepository, never()).findById(anyLong());
+            verify(inboxService).deliverAll(eq(Map.of(10L, user.getId(), 11L, other.getId())), any(LocalDateTime.class));
+            verify(unreadCounter).incrementAll(List.of(user.getId(), other.getId()));
+            verify(webSocketService).sendNotificationToUser(eq(user.getId()), any(NotificationWebSocketDto.class));
+            verify(webSocketService, never()).sendNotificationToUser(eq(other.getId()), any());
+        }
+
+        @Test
+        @DisplayName("커뮤니티 알림 일괄 생성 - 없는 사용자/자기 자신 대상 요청은 건너뜀")
+        void t10() {
+            // given
+            List<CommunityNotificationCommand> commands = List.of(
+                    new CommunityNotificationCommand(99L, actor.getId(), "새 댓글", "내용", "/posts/1",
+                            NotificationSettingType.POST_COMMENT),
+                    new CommunityNotificationCommand(actor.getId(), actor.getId(), "좋아요", "내용", "/posts/2",
+                            NotificationSettingType.POST_LIKE)
+            );
+            given(userRepository.findAllWithProfileByIdIn(anyCollection())).willReturn(List.of(actor));
+
+            // when
+            int saved = notificationService.createCommunityNotifications(commands);
+
+            // then
+            assertThat(saved).isZero();
+            verify(notificationRepository, never()).bulkInsertCommunity(anyList(), any());
+            verify(inboxService, never()).deliverAll(anyMap(), any());
+            verify(webSocketService, never()).sendNotificationToUser(anyLong(), any());
+        }
     }
 
     @Nested
@@ -333,7 +413,7 @@ class NotificationServiceTest {
         @DisplayName("유저의 읽지 않은 알림 개수 조회")
         void t3() {
             // given
-            given(notificationRepository.countUnreadByUserId(user.getId()))
+            given(unreadCounter.get(user.getId()))
                     .willReturn(5L);
 
             // when
@@ -341,7 +421,7 @@ class NotificationServiceTest {
 
             // then
             assertThat(count).isEqualTo(5L);
-            verify(notificationRepository).countUnreadByUserId(user.getId());
+            verify(notificationRepository, never()).countUnreadByUserId(anyLong());
         }
 
         @Test
@@ -410,6 +490,7 @@ class NotificationServiceTest {
             verify(notificationRepository).findById(1L);
             verify(notificationReadRepository).existsByNotificationIdAndUserId(1L, user.getId());
             verify(notificationReadRepository).save(any(NotificationRead.class));
+            verify(unreadCounter).decrement(user.getId(), 1);
         }
 
         @Test
@@ -448,57 +529,34 @@ class NotificationServiceTest {
         }
 
         @Test
-        @DisplayName("여러 알림 일괄 읽음 처리")
+        @DisplayName("여러 알림 일괄 읽음 처리 - 단일 INSERT … SELECT")
         void t4() {
             // given
-            Notification notification2 = Notification.createPersonalNotification(
-                    user, actor, "알림2", "내용2", "/target2"
-            );
-            ReflectionTestUtils.setField(notification2, "id", 2L);
-
-            List<Notification> unreadList = List.of(notification, notification2);
-
-            given(notificationRepository.findAllUnreadByUserId(user.getId()))
-                    .willReturn(unreadList);
-            given(notificationReadRepository.existsByNotificationIdAndUserId(anyLong(), eq(user.getId())))
-                    .willReturn(false);
+            given(notificationReadRepository.markAllAsRead(eq(user.getId()), any(LocalDateTime.class)))
+                    .willReturn(2);
 
             // when
             notificationService.markMultipleAsRead(user.getId(), user);
 
             // then
-            verify(notificationRepository).findAllUnreadByUserId(user.getId());
-            verify(notificationReadRepository).saveAll(argThat(list ->
-                    list != null && ((List<?>) list).size() == 2
-            ));
+            verify(notificationReadRepository).markAllAsRead(eq(user.getId()), any(LocalDateTime.class));
+            verify(notificationReadRepository, never()).existsByNotificationIdAndUserId(anyLong(), anyLong());
+            verify(notificationRepository, never()).findAllUnreadByUserId(anyLong());
+            verify(unreadCounter).decrement(user.getId(), 2);
         }
 
         @Test
-        @DisplayName("일괄 읽음 처리 시 이미 읽은 알림 제외")
+        @DisplayName("일괄 읽음 처리 시 읽을 알림이 없으면 카운터 변경 없음")
         void t5() {
             // given
-            Notification notification2 = Notification.createPersonalNotification(
-                    user, actor, "알림2", "내용2", "/target2"
-            );
-            ReflectionTestUtils.setField(notification2, "id", 2L);
-
-            List<Notification> unreadList = List.of(notification, notification2);
-
-            given(notificationRepository.findAllUnreadByUserId(user.getId()))
-                    .willReturn(unreadList);
-            given(notificationReadRepository.existsByNotificationIdAndUserId(1L, user.getId()))
-                    .willReturn(true);
-            given(notificationReadRepository.existsByNotificationIdAndUserId(2L, user.getId()))
-                    .willReturn(false);
+            given(notificationReadRepository.markAllAsRead(eq(user.getId()), any(LocalDateTime.class)))
+                    .willReturn(0);
 
             // when
             notificationService.markMultipleAsRead(user.getId(), user);
 
             // then
-            verify(notificationRepository).findAllUnreadByUserId(user.getId());
-            verify(notificationReadRepository).saveAll(argThat(list ->
-                    list != null && ((List<?>) list).size() == 1
-            ));
+            verify(unreadCounter, never()).decrement(anyLong(), anyLong());
         }
     }
 
@@ -4,6 +4,7 @@ import com.back.domain.notification.dto.NotificationSettingDto.*;
 import com.back.domain.notification.entity.NotificationSetting;
 import com.back.domain.notification.entity.NotificationSettingType;
 import com.back.domain.notification.repository.NotificationSettingRepository;
+import com.back.domain.notification.store.NotificationSettingStore;
 import com.back.domain.user.common.entity.User;
 import com.back.domain.user.common.repository.UserRepository;
 import com.back.global.exception.CustomException;
@@ -33,6 +34,9 @@ class NotificationSettingServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private NotificationSettingStore settingStore;
+
     @InjectMocks
     private NotificationSettingService settingService;
 
@@ -140,6 +144,7 @@ class NotificationSettingServiceTest {
             // then
             assertThat(setting.isEnabled()).isFalse();
             verify(settingRepository).findByUserIdAndType(user.getId(), NotificationSettingType.SYSTEM);
+            verify(settingStore).evict(user.getId());
         }
 
         @Test
@@ -195,6 +200,7 @@ class NotificationSettingServiceTest {
             // then
             assertThat(defaultSettings).allMatch(setting -> !setting.isEnabled());
             verify(settingRepository).findAllByUserId(user.getId());
+            verify(settingStore).evict(user.getId());
         }
 
         @Test
@@ -296,12 +302,13 @@ class NotificationSettingServiceTest {
     class IsNotificationEnabledTest {
 
         @Test
-        @DisplayName("알림이 활성화된 경우 true 반환")
+        @DisplayName("캐시 미적재 시 설정 전체를 한 번 읽어 비트마스크로 적재")
         void t1() {
             // given
-            NotificationSetting setting = defaultSettings.get(0);
-            given(settingRepository.findByUserIdAndType(user.getId(), NotificationSettingType.SYSTEM))
-                    .willReturn(Optional.of(setting));
+            List<NotificationSetting> settings = createDefaultSettings(user);
+            settings.get(3).disable(); // POST_COMMENT 비활성화
+            given(settingStore.find(user.getId())).willReturn(Optional.empty());
+            given(settingRepository.findAllByUserId(user.getId())).willReturn(settings);
 
             // when
             boolean result = settingService.isNotificationEnabled(
@@ -311,35 +318,38 @@ class NotificationSettingServiceTest {
 
             // then
             assertThat(result).isTrue();
-            verify(settingRepository).findByUserIdAndType(user.getId(), NotificationSettingType.SYSTEM);
+            verify(settingStore).save(user.getId(), 0b10111);
+            verify(settingRepository, never()).findByUserIdAndType(anyLong(), any());
         }
 
         @Test
-        @DisplayName("알림이 비활성화된 경우 false 반환")
+        @DisplayName("캐시된 비트마스크에서 비활성화된 타입은 false 반환 (DB 조회 없음)")
         void t2() {
             // given
-            NotificationSetting setting = defaultSettings.get(0);
-            setting.disable();
-            given(settingRepository.findByUserIdAndType(user.getId(), NotificationSettingType.SYSTEM))
-                    .willReturn(Optional.of(setting));
+            given(settingStore.find(user.getId())).willReturn(Optional.of(0b10111));
 
             // when
-            boolean result = settingService.isNotificationEnabled(
+            boolean commentEnabled = settingService.isNotificationEnabled(
                     user.getId(),
-                    NotificationSettingType.SYSTEM
+                    NotificationSettingType.POST_COMMENT
+            );
+            boolean likeEnabled = settingService.isNotificationEnabled(
+                    user.getId(),
+                    NotificationSettingType.POST_LIKE
             );
 
             // then
-            assertThat(result).isFalse();
-            verify(settingRepository).findByUserIdAndType(user.getId(), NotificationSettingType.SYSTEM);
+            assertThat(commentEnabled).isFalse();
+            assertThat(likeEnabled).isTrue();
+            verifyNoInteractions(settingRepository);
         }
 
         @Test
         @DisplayName("설정이 없는 경우 기본값 true 반환")
         void t3() {
             // given
-            given(settingRepository.findByUserIdAndType(user.getId(), NotificationSettingType.SYSTEM))
-                    .willReturn(Optional.empty());
+            given(settingStore.find(user.getId())).willReturn(Optional.empty());
+            given(settingRepository.findAllByUserId(user.getId())).willReturn(Collections.emptyList());
 
             // when
             boolean result = settingService.isNotificationEnabled(
@@ -349,7 +359,27 @@ class NotificationSettingServiceTest {
 
             // then
             assertThat(result).isTrue();
-            verify(settingRepository).findByUserIdAndType(user.getId(), NotificationSettingType.SYSTEM);
+            verify(settingStore).save(user.getId(), 0b11111);
+        }
+
+        @Test
+        @DisplayName("Redis 장애 시 DB 조회로 대체")
+        void t4() {
+            // given
+            NotificationSetting setting = createDefaultSettings(user).get(0);
+            setting.disable();
+            given(settingStore.find(user.getId())).willThrow(new RuntimeException("redis down"));
+            given(settingRepository.findByUserIdAndType(user.getId(), NotificationSettingType.SYSTEM))
+                    .willReturn(Optional.of(setting));
+
+            // when
+            boolean result = settingService.isNotificationEnabled(
+                    user.getId(),
+                    NotificationSettingType.SYSTEM
+            );
+
+            // then
+            assertThat(result).isFalse();
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,106 @@
+package com.back.domain.notification.service;
+
+import com.back.domain.notification.repository.NotificationRepository;
+import com.back.domain.notification.store.NotificationUnreadStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NotificationUnreadCounter 단위 테스트")
+class NotificationUnreadCounterTest {
+
+    @Mock
+    private NotificationUnreadStore unreadStore;
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @InjectMocks
+    private NotificationUnreadCounter unreadCounter;
+
+    @Test
+    @DisplayName("캐시가 적재되어 있으면 DB 집계 없이 반환")
+    void get_CacheHit() {
+        // given
+        given(unreadStore.find(1L)).willReturn(Optional.of(3L));
+
+        // when
+        long count = unreadCounter.get(1L);
+
+        // then
+        assertThat(count).isEqualTo(3L);
+        then(notificationRepository).should(never()).countUnreadByUserId(anyLong());
+    }
+
+    @Test
+    @DisplayName("캐시 미적재 시 DB에서 한 번 집계하여 적재")
+    void get_CacheMiss_LoadsFromDb() {
+        // given
+        given(unreadStore.find(1L)).willReturn(Optional.empty());
+        given(notificationRepository.countUnreadByUserId(1L)).willReturn(7L);
+
+        // when
+        long count = unreadCounter.get(1L);
+
+        // then
+        assertThat(count).isEqualTo(7L);
+        then(unreadStore).should().save(1L, 7L);
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 DB 집계로 대체")
+    void get_RedisFailure_FallsBackToDb() {
+        // given
+        given(unreadStore.find(1L)).willThrow(new RedisConnectionFailureException("down"));
+        given(notificationRepository.countUnreadByUserId(1L)).willReturn(2L);
+
+        // when
+        long count = unreadCounter.get(1L);
+
+        // then
+        assertThat(count).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("증감은 트랜잭션 밖에서 즉시 반영, 0건 차감은 무시")
+    void incrementAndDecrement() {
+        // when
+        unreadCounter.increment(1L);
+        unreadCounter.incrementAll(List.of(1L, 2L));
+        unreadCounter.incrementSystem();
+        unreadCounter.decrement(1L, 3);
+        unreadCounter.decrement(1L, 0);
+
+        // then
+        then(unreadStore).should().addIfLoaded(1L, 1);
+        then(unreadStore).should().incrementAllIfLoaded(List.of(1L, 2L));
+        then(unreadStore).should().incrementSystem();
+        then(unreadStore).should().addIfLoaded(1L, -3);
+        then(unreadStore).shouldHaveNoMoreInteractions();
+    }
+
+    @Test
+    @DisplayName("반영 실패 시 대상 사용자 캐시 무효화")
+    void increment_Failure_EvictsCache() {
+        // given
+        willThrow(new RedisConnectionFailureException("down")).given(unreadStore).addIfLoaded(1L, 1);
+
+        // when
+        unreadCounter.increment(1L);
+
+        // then
+        then(unreadStore).should().evict(1L);
+    }
+}
@@ -2,6 +2,7 @@ package com.back.domain.studyroom.controller;
 
 import com.back.domain.studyroom.dto.*;
 import com.back.domain.studyroom.entity.*;
+import com.back.domain.studyroom.service.RoomSearchService;
 import com.back.domain.studyroom.service.RoomService;
 import com.back.domain.user.common.enums.Role;
 import com.back.domain.user.common.entity.User;
@@ -39,6 +40,9 @@ class RoomControllerTest {
     @Mock
     private RoomService roomService;
 
+    @Mock
+    private RoomSearchService roomSearchService;
+
     @Mock
     private CurrentUser currentUser;
 
@@ -217,12 +221,13 @@ class RoomControllerTest {
         given(currentUser.getUserIdOrNull()).willReturn(1L);
         
         given(roomService.getRoomDetail(eq(1L), eq(1L))).willReturn(testRoom);
-        given(roomService.getRoomMembers(eq(1L), eq(1L))).willReturn(Arrays.asList(testMember));
+        List<RoomMemberResponse> memberResponses = Arrays.asList(RoomMemberResponse.from(testMember));
+        given(roomService.getRoomMembers(eq(1L), eq(1L))).willReturn(memberResponses);
         
         RoomDetailResponse roomDetailResponse = RoomDetailResponse.of(
             testRoom, 
             1, 
-            Arrays.asList(RoomMemberResponse.from(testMember)),
+            memberResponses,
             false  // isFavorite
         );
         given(roomService.toRoomDetailResponse(any(Room.class), anyList(), eq(1L))).willReturn(roomDetailResponse);
@@ -335,11 +340,9 @@ class RoomControllerTest {
         // given
         given(currentUser.getUserId()).willReturn(1L);
         
-        given(roomService.getRoomMembers(eq(1L), eq(1L))).willReturn(Arrays.asList(testMember));
-        
-        // toRoomMemberResponseList 호출 추가
+        // 멤버 스냅샷 (아바타 포함) 조회
         List<RoomMemberResponse> memberResponses = Arrays.asList(RoomMemberResponse.from(testMember));
-        given(roomService.toRoomMemberResponseList(eq(1L), anyList())).willReturn(memberResponses);
+        given(roomService.getRoomMembers(eq(1L), eq(1L))).willReturn(memberResponses);
 
         // when
         ResponseEntity<RsData<List<RoomMemberResponse>>> response = roomController.getRoomMembers(1L);
@@ -353,7 +356,6 @@ class RoomControllerTest {
 
         verify(currentUser, times(1)).getUserId();
         verify(roomService, times(1)).getRoomMembers(eq(1L), eq(1L));
-        verify(roomService, times(1)).toRoomMemberResponseList(eq(1L), anyList());
     }
 
     @Test
@@ -385,6 +387,34 @@ class RoomControllerTest {
         verify(roomService, times(1)).toRoomResponseList(anyList(), isNull());
     }
 
+    @Test
+    @DisplayName("방 검색 API 테스트")
+    void searchRooms() {
+        // given
+        given(currentUser.getUserIdOrNull()).willReturn(null);  // 비로그인 사용자
+
+        Page<Room> roomPage = new PageImpl<>(
+                Arrays.asList(testRoom),
+                PageRequest.of(0, 20),
+                1
+        );
+        given(roomSearchService.searchRooms(eq("테스트"), any())).willReturn(roomPage);
+
+        List<RoomResponse> roomResponses = Arrays.asList(RoomResponse.from(testRoom, 1, false));
+        given(roomService.toRoomResponseList(anyList(), isNull())).willReturn(roomResponses);
+
+        // when
+        ResponseEntity<RsData<Map<String, Object>>> response = roomController.searchRooms("테스트", 0, 20);
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getData().get("rooms")).isEqualTo(roomResponses);
+        assertThat(response.getBody().getData().get("totalElements")).isEqualTo(1L);
+
+        verify(roomSearchService, times(1)).searchRooms(eq("테스트"), any());
+    }
+
     @Test
     @DisplayName("방 생성 API - WebRTC 활성화 테스트")
     void createRoom_WithWebRTC() {
@@ -1,5 +1,6 @@
 package com.back.domain.studyroom.controller;
 
+import com.back.domain.studyroom.dto.InviteRoomSnapshot;
 import com.back.domain.studyroom.dto.JoinRoomResponse;
 import com.back.domain.studyroom.entity.Room;
 import com.back.domain.studyroom.entity.RoomInviteCode;
@@ -149,7 +150,7 @@ class RoomInvitePublicControllerTest {
     void joinByInviteCode_Success_PublicRoom() {
         // given
         given(currentUser.getUserId()).willReturn(2L);
-        given(inviteService.getRoomByInviteCode("ABC12345")).willReturn(testRoom);
+        given(inviteService.getRoomByInviteCode("ABC12345")).willReturn(InviteRoomSnapshot.from(testInviteCode));
         given(roomService.joinRoom(eq(1L), isNull(), eq(2L), eq(false))).willReturn(testMember);
 
         // when
@@ -172,7 +173,7 @@ class RoomInvitePublicControllerTest {
     void joinByInviteCode_Success_PrivateRoom_PasswordIgnored() {
         // given
         given(currentUser.getUserId()).willReturn(2L);
-        given(inviteService.getRoomByInviteCode("PRIVATE1")).willReturn(privateRoom);
+        given(inviteService.getRoomByInviteCode("PRIVATE1")).willReturn(InviteRoomSnapshot.from(privateRoomInviteCode));
         given(roomService.joinRoom(eq(2L), isNull(), eq(2L), eq(false))).willReturn(privateMember);
 
         // when
@@ -193,7 +194,7 @@ class RoomInvitePublicControllerTest {
     void joinByInviteCode_ResponseContainsRoomInfo() {
         // given
         given(currentUser.getUserId()).willReturn(2L);
-        given(inviteService.getRoomByInviteCode("ABC12345")).willReturn(testRoom);
+        given(inviteService.getRoomByInviteCode("ABC12345")).willReturn(InviteRoomSnapshot.from(testInviteCode));
         given(roomService.joinRoom(eq(1L), isNull(), eq(2L), eq(false))).willReturn(testMember);
 
         // when
@@ -214,7 +215,7 @@ class RoomInvitePublicControllerTest {
     void joinByInviteCode_ResponseContainsUserInfo() {
         // given
         given(currentUser.getUserId()).willReturn(2L);
-        given(inviteService.getRoomByInviteCode("ABC12345")).willReturn(testRoom);
+        given(inviteService.getRoomByInviteCode("ABC12345")).willReturn(InviteRoomSnapshot.from(testInviteCode));
         given(roomService.joinRoom(eq(1L), isNull(), eq(2L), eq(false))).willReturn(testMember);
 
         // when
@@ -270,7 +271,7 @@ class RoomInvitePublicControllerTest {
     void joinByInviteCode_PasswordAlwaysNull() {
         // given
         given(currentUser.getUserId()).willReturn(2L);
-        given(inviteService.getRoomByInviteCode("ABC12345")).willReturn(testRoom);
+        given(inviteService.getRoomByInviteCode("ABC12345")).willReturn(InviteRoomSnapshot.from(testInviteCode));
         given(roomService.joinRoom(eq(1L), isNull(), eq(2L), eq(false))).willReturn(testMember);
 
         // when
@@ -286,7 +287,7 @@ class RoomInvitePublicControllerTest {
     void joinByInviteCode_PrivateRoomAccessible() {
         // given
         given(currentUser.getUserId()).willReturn(2L);
-        given(inviteService.getRoomByInviteCode("PRIVATE1")).willReturn(privateRoom);
+        given(inviteService.getRoomByInviteCode("PRIVATE1")).willReturn(InviteRoomSnapshot.from(privateRoomInviteCode));
         given(roomService.joinRoom(eq(2L), isNull(), eq(2L), eq(false))).willReturn(privateMember);
 
         // when
@@ -309,7 +310,7 @@ class RoomInvitePublicControllerTest {
     void joinByInviteCode_HttpStatus() {
         // given
         given(currentUser.getUserId()).willReturn(2L);
-        given(inviteService.getRoomByInviteCode("ABC12345")).willReturn(testRoom);
+        given(inviteService.getRoomByInviteCode("ABC12345")).willReturn(InviteRoomSnapshot.from(testInviteCode));
         given(roomService.joinRoom(eq(1L), isNull(), eq(2L), eq(false))).willReturn(testMember);
 
         // when
@@ -326,7 +327,7 @@ class RoomInvitePublicControllerTest {
     void joinByInviteCode_ResponseMessage() {
         // given
         given(currentUser.getUserId()).willReturn(2L);
-        given(inviteService.getRoomByInviteCode("ABC12345")).willReturn(testRoom);
+        given(inviteService.getRoomByInviteCode("ABC12345")).willReturn(InviteRoomSnapshot.from(testInviteCode));
         given(roomService.joinRoom(eq(1L), isNull(), eq(2L), eq(false))).willReturn(testMember);
 
         // when
@@ -347,7 +348,7 @@ class RoomInvitePublicControllerTest {
     void joinByInviteCode_MultipleAttempts_SameUser() {
         // given
         given(currentUser.getUserId()).willReturn(2L);
-        given(inviteService.getRoomByInviteCode("ABC12345")).willReturn(testRoom);
+        given(inviteService.getRoomByInviteCode("ABC12345")).willReturn(InviteRoomSnapshot.from(testInviteCode));
         given(roomService.joinRoom(eq(1L), isNull(), eq(2L), eq(false))).willReturn(testMember);
 
         // when
@@ -369,7 +370,7 @@ class RoomInvitePublicControllerTest {
     void joinByInviteCode_DifferentUsers_SameCode() {
         // given - User2
         given(currentUser.getUserId()).willReturn(2L);
-        given(inviteService.getRoomByInviteCode("ABC12345")).willReturn(testRoom);
+        given(inviteService.getRoomByInviteCode("ABC12345")).willReturn(InviteRoomSnapshot.from(testInviteCode));
         
         RoomMember member2 = RoomMember.createVisitor(testRoom, testUser2);
         given(roomService.joinRoom(eq(1L), isNull(), eq(2L), eq(false))).willReturn(member2);
@@ -400,7 +401,7 @@ class RoomInvitePublicControllerTest {
     void joinByInviteCode_Fail_RoomFull() {
         // given
         given(currentUser.getUserId()).willReturn(2L);
-        given(inviteService.getRoomByInviteCode("ABC12345")).willReturn(testRoom);
+        given(inviteService.getRoomByInviteCode("ABC12345")).willReturn(InviteRoomSnapshot.from(testInviteCode));
         given(roomService.joinRoom(eq(1L), isNull(), eq(2L), eq(false)))
                 .willThrow(new CustomException(ErrorCode.ROOM_FULL));
 
@@ -418,7 +419,7 @@ class RoomInvitePublicControllerTest {
     void joinByInviteCode_Fail_AlreadyJoined() {
         // given
         given(currentUser.getUserId()).willReturn(2L);
-        given(inviteService.getRoomByInviteCode("ABC12345")).willReturn(testRoom);
+        given(inviteService.getRoomByInviteCode("ABC12345")).willReturn(InviteRoomSnapshot.from(testInviteCode));
         given(roomService.joinRoom(eq(1L), isNull(), eq(2L), eq(false)))
                 .willThrow(new CustomException(ErrorCode.ALREADY_JOINED_ROOM));
 
@@ -436,7 +437,7 @@ class RoomInvitePublicControllerTest {
     void joinByInviteCode_ResponseDataCompleteness() {
         // given
         given(currentUser.getUserId()).willReturn(2L);
-        given(inviteService.getRoomByInviteCode("ABC12345")).willReturn(testRoom);
+        given(inviteService.getRoomByInviteCode("ABC12345")).willReturn(InviteRoomSnapshot.from(testInviteCode));
         given(roomService.joinRoom(eq(1L), isNull(), eq(2L), eq(false))).willReturn(testMember);
 
         // when
@@ -459,7 +460,7 @@ class RoomInvitePublicControllerTest {
     void joinByInviteCode_CaseSensitive() {
         // given
         given(currentUser.getUserId()).willReturn(2L);
-        given(inviteService.getRoomByInviteCode("ABC12345")).willReturn(testRoom);
+        given(inviteService.getRoomByInviteCode("ABC12345")).willReturn(InviteRoomSnapshot.from(testInviteCode));
         given(roomService.joinRoom(eq(1L), isNull(), eq(2L), eq(false))).willReturn(testMember);
 
         // when
@@ -478,7 +479,7 @@ class RoomInvitePublicControllerTest {
     void joinByInviteCode_RoleIsVisitor() {
         // given
         given(currentUser.getUserId()).willReturn(2L);
-        given(inviteService.getRoomByInviteCode("ABC12345")).willReturn(testRoom);
+        given(inviteService.getRoomByInviteCode("ABC12345")).willReturn(InviteRoomSnapshot.from(testInviteCode));
         given(roomService.joinRoom(eq(1L), isNull(), eq(2L), eq(false))).willReturn(testMember);
 
         // when
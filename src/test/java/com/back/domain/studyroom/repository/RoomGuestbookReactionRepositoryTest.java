@@ -0,0 +1,197 @@
+package com.back.domain.studyroom.repository;
+
+import com.back.domain.studyroom.dto.GuestbookReactionCount;
+import com.back.domain.studyroom.dto.GuestbookReactor;
+import com.back.domain.studyroom.entity.Room;
+import com.back.domain.studyroom.entity.RoomGuestbook;
+import com.back.domain.studyroom.entity.RoomGuestbookReaction;
+import com.back.domain.studyroom.entity.RoomGuestbookReactionCounter;
+import com.back.domain.user.common.entity.User;
+import com.back.domain.user.common.entity.UserProfile;
+import com.back.global.config.DataSourceProxyTestConfig;
+import com.back.global.config.QueryDslTestConfig;
+import com.back.global.util.QueryCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Import({
+        RoomGuestbookReactionRepositoryImpl.class,
+        QueryDslTestConfig.class,
+        DataSourceProxyTestConfig.class
+})
+@DisplayName("RoomGuestbookReactionRepository 테스트")
+class RoomGuestbookReactionRepositoryTest {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private RoomGuestbookReactionRepository reactionRepository;
+
+    private final List<User> users = new ArrayList<>();
+    private final List<RoomGuestbook> guestbooks = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 5; i++) {
+            // 짝수 번째만 프로필 생성 (닉네임 → username 대체 확인용)
+            users.add(persistUser("user" + i, i % 2 == 0 ? "닉네임" + i : null));
+        }
+
+        Room room = Room.builder()
+                .title("테스트 스터디룸")
+                .description("방명록 반응 테스트용 방")
+                .maxParticipants(20)
+                .build();
+        testEntityManager.persist(room);
+
+        // 한 페이지 분량의 방명록, 각 방명록마다 👍 5개 + ❤️ 2개
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            RoomGuestbook guestbook = testEntityManager.persist(
+                    RoomGuestbook.create(room, users.get(i % users.size()), "방명록 " + i));
+            guestbooks.add(guestbook);
+
+            for (User user : users) {
+                testEntityManager.persist(RoomGuestbookReaction.create(guestbook, user, "👍"));
+            }
+            testEntityManager.persist(RoomGuestbookReaction.create(guestbook, users.get(0), "❤️"));
+            testEntityManager.persist(RoomGuestbookReaction.create(guestbook, users.get(1), "❤️"));
+
+            testEntityManager.persist(RoomGuestbookReactionCounter.create(guestbook, "👍", users.size()));
+            testEntityManager.persist(RoomGuestbookReactionCounter.create(guestbook, "❤️", 2));
+        }
+
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        QueryCounter.clear();
+    }
+
+    private User persistUser(String username, String nickname) {
+        User user = User.builder()
+                .email(username + "@example.com")
+                .username(username)
+                .password("password")
+                .build();
+
+        if (nickname != null) {
+            UserProfile profile = new UserProfile();
+            profile.setNickname(nickname);
+            user.setUserProfile(profile);
+        }
+
+        return testEntityManager.persist(user);
+    }
+
+    private List<Long> guestbookIds() {
+        return guestbooks.stream().map(RoomGuestbook::getId).collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("반응 집계 - 방명록 + 이모지별 개수와 내 반응 여부")
+    void t1() {
+        List<GuestbookReactionCount> result = reactionRepository.countReactions(
+                guestbookIds(), users.get(1).getId());
+
+        assertThat(result).hasSize(PAGE_SIZE * 2);
+        assertThat(result)
+                .filteredOn(count -> count.emoji().equals("👍"))
+                .allSatisfy(count -> {
+                    assertThat(count.count()).isEqualTo(5L);
+                    assertThat(count.reactedByMe()).isTrue();
+                });
+        assertThat(result)
+                .filteredOn(count -> count.emoji().equals("❤️"))
+                .allSatisfy(count -> {
+                    assertThat(count.count()).isEqualTo(2L);
+                    assertThat(count.reactedByMe()).isTrue();
+                });
+
+        // 비로그인 사용자는 내 반응 없음
+        assertThat(reactionRepository.countReactions(guestbookIds(), null))
+                .noneMatch(GuestbookReactionCount::reactedByMe);
+    }
+
+    @Test
+    @DisplayName("최근 반응 사용자 - 방명록 + 이모지당 최대 3명, 최신순, 닉네임 대체 규칙 적용")
+    void t2() {
+        List<GuestbookReactor> result = reactionRepository.findRecentReactors(guestbookIds(), 3);
+
+        Long firstGuestbookId = guestbooks.get(0).getId();
+        List<String> thumbsUp = result.stream()
+                .filter(reactor -> reactor.guestbookId().equals(firstGuestbookId) && reactor.emoji().equals("👍"))
+                .map(GuestbookReactor::nickname)
+                .toList();
+        List<String> hearts = result.stream()
+                .filter(reactor -> reactor.guestbookId().equals(firstGuestbookId) && reactor.emoji().equals("❤️"))
+                .map(GuestbookReactor::nickname)
+                .toList();
+
+        assertThat(result).hasSize(PAGE_SIZE * (3 + 2));
+        assertThat(thumbsUp).containsExactly("닉네임4", "user3", "닉네임2");
+        assertThat(hearts).containsExactly("user1", "닉네임0");
+    }
+
+    @Test
+    @DisplayName("쿼리 수 회귀 방지 - 페이지 크기와 무관하게 집계 1회 + 최근 사용자 1회")
+    void t3() {
+        // when
+        List<GuestbookReactionCount> counts = reactionRepository.countReactions(guestbookIds(), users.get(0).getId());
+        List<GuestbookReactor> reactors = reactionRepository.findRecentReactors(guestbookIds(), 3);
+
+        // 결과 가공 (지연 로딩 연관관계를 건드리지 않아야 함)
+        reactors.forEach(reactor -> assertThat(reactor.nickname()).isNotNull());
+
+        // then
+        assertThat(counts).isNotEmpty();
+        assertThat(QueryCounter.getSelectCount())
+                .as("방명록 %d개의 반응 요약은 SELECT 2회로 조회해야 함", PAGE_SIZE)
+                .isEqualTo(2);
+
+        QueryCounter.printQueryCount();
+    }
+
+    @Test
+    @DisplayName("빈 목록이면 쿼리 없이 빈 결과")
+    void t4() {
+        assertThat(reactionRepository.countReactions(List.of(), 1L)).isEmpty();
+        assertThat(reactionRepository.findRecentReactors(List.of(), 3)).isEmpty();
+        assertThat(QueryCounter.getSelectCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("반응이 모두 취소되어 0이 된 이모지는 집계에서 제외")
+    void t5() {
+        // given
+        RoomGuestbookReactionCounter zero = testEntityManager.persist(
+                RoomGuestbookReactionCounter.create(
+                        testEntityManager.find(RoomGuestbook.class, guestbooks.get(0).getId()), "🔥", 0));
+        testEntityManager.flush();
+
+        // when
+        List<GuestbookReactionCount> result = reactionRepository.countReactions(
+                List.of(zero.getGuestbook().getId()), users.get(0).getId());
+
+        // then
+        assertThat(result).extracting(GuestbookReactionCount::emoji).containsExactlyInAnyOrder("👍", "❤️");
+    }
+}
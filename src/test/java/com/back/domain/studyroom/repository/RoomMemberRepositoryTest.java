@@ -0,0 +1,184 @@
+package com.back.domain.studyroom.repository;
+
+import com.back.domain.studyroom.dto.RoomMemberSnapshot;
+import com.back.domain.studyroom.entity.Room;
+import com.back.domain.studyroom.entity.RoomMember;
+import com.back.domain.studyroom.entity.RoomRole;
+import com.back.domain.user.common.entity.User;
+import com.back.domain.user.common.entity.UserProfile;
+import com.back.global.config.DataSourceProxyTestConfig;
+import com.back.global.config.QueryDslTestConfig;
+import com.back.global.util.QueryCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Import({
+        RoomMemberRepositoryImpl.class,
+        QueryDslTestConfig.class,
+        DataSourceProxyTestConfig.class
+})
+@DisplayName("RoomMemberRepository 테스트")
+class RoomMemberRepositoryTest {
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private RoomMemberRepository roomMemberRepository;
+
+    private Room testRoom;
+    private User host;
+    private User member;
+    private final List<User> visitors = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        host = persistUser("host", "방장닉네임");
+        member = persistUser("member", "멤버닉네임");
+        for (int i = 0; i < 8; i++) {
+            // 절반은 프로필 없이 생성 (닉네임 → username 대체 확인용)
+            visitors.add(persistUser("visitor" + i, i % 2 == 0 ? "방문객" + i : null));
+        }
+
+        testRoom = Room.builder()
+                .title("테스트 스터디룸")
+                .description("멤버 스냅샷 테스트용 방")
+                .maxParticipants(20)
+                .build();
+        testEntityManager.persist(testRoom);
+
+        testEntityManager.persist(RoomMember.createHost(testRoom, host));
+        testEntityManager.persist(RoomMember.create(testRoom, member, RoomRole.MEMBER));
+
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        QueryCounter.clear();
+    }
+
+    private User persistUser(String username, String nickname) {
+        User user = User.builder()
+                .email(username + "@example.com")
+                .username(username)
+                .password("password")
+                .build();
+
+        if (nickname != null) {
+            UserProfile profile = new UserProfile();
+            profile.setNickname(nickname);
+            profile.setProfileImageUrl("https://cdn.example.com/" + username + ".png");
+            user.setUserProfile(profile);
+        }
+
+        return testEntityManager.persist(user);
+    }
+
+    private Set<Long> onlineUserIds() {
+        Set<Long> userIds = new HashSet<>();
+        userIds.add(host.getId());
+        userIds.add(member.getId());
+        visitors.forEach(visitor -> userIds.add(visitor.getId()));
+        return userIds;
+    }
+
+    @Test
+    @DisplayName("멤버 스냅샷 조회 - 역할/닉네임/프로필 이미지를 함께 반환")
+    void t1() {
+        List<RoomMemberSnapshot> result = roomMemberRepository.findMemberSnapshots(testRoom.getId(), onlineUserIds());
+
+        Map<Long, RoomMemberSnapshot> byUserId = result.stream()
+                .collect(Collectors.toMap(RoomMemberSnapshot::userId, Function.identity()));
+
+        assertThat(result).hasSize(10);
+
+        assertThat(byUserId.get(host.getId()).roleOrVisitor()).isEqualTo(RoomRole.HOST);
+        assertThat(byUserId.get(host.getId()).nickname()).isEqualTo("방장닉네임");
+        assertThat(byUserId.get(host.getId()).joinedAt()).isNotNull();
+
+        assertThat(byUserId.get(member.getId()).roleOrVisitor()).isEqualTo(RoomRole.MEMBER);
+
+        // DB 멤버십이 없는 사용자는 VISITOR
+        RoomMemberSnapshot visitorWithProfile = byUserId.get(visitors.get(0).getId());
+        assertThat(visitorWithProfile.role()).isNull();
+        assertThat(visitorWithProfile.roleOrVisitor()).isEqualTo(RoomRole.VISITOR);
+        assertThat(visitorWithProfile.nickname()).isEqualTo("방문객0");
+        assertThat(visitorWithProfile.profileImageUrl()).isEqualTo("https://cdn.example.com/visitor0.png");
+
+        // 프로필이 없으면 username으로 대체
+        RoomMemberSnapshot visitorWithoutProfile = byUserId.get(visitors.get(1).getId());
+        assertThat(visitorWithoutProfile.nickname()).isEqualTo("visitor1");
+        assertThat(visitorWithoutProfile.profileImageUrl()).isNull();
+    }
+
+    @Test
+    @DisplayName("멤버 스냅샷 조회 - 방 인원과 무관하게 SELECT 1회")
+    void t2() {
+        // when
+        List<RoomMemberSnapshot> result = roomMemberRepository.findMemberSnapshots(testRoom.getId(), onlineUserIds());
+
+        // 결과 가공 (지연 로딩 연관관계를 건드리지 않아야 함)
+        result.forEach(snapshot -> {
+            assertThat(snapshot.nickname()).isNotNull();
+            assertThat(snapshot.roleOrVisitor()).isNotNull();
+        });
+
+        // then
+        assertThat(result).hasSize(10);
+        assertThat(QueryCounter.getSelectCount())
+                .as("User + UserProfile + RoomMember를 단일 SELECT로 조회해야 함")
+                .isEqualTo(1);
+
+        QueryCounter.printQueryCount();
+    }
+
+    @Test
+    @DisplayName("멤버 스냅샷 조회 - 다른 방의 멤버십은 역할에 반영되지 않음")
+    void t3() {
+        Room anotherRoom = Room.builder()
+                .title("다른 스터디룸")
+                .description("다른 방")
+                .maxParticipants(10)
+                .build();
+        testEntityManager.persist(anotherRoom);
+        User visitor = testEntityManager.find(User.class, visitors.get(0).getId());
+        testEntityManager.persist(RoomMember.create(anotherRoom, visitor, RoomRole.SUB_HOST));
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        List<RoomMemberSnapshot> result = roomMemberRepository.findMemberSnapshots(
+                testRoom.getId(), Set.of(visitors.get(0).getId()));
+
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).roleOrVisitor()).isEqualTo(RoomRole.VISITOR);
+    }
+
+    @Test
+    @DisplayName("멤버 스냅샷 조회 - 빈 목록이면 쿼리 없이 빈 결과")
+    void t4() {
+        List<RoomMemberSnapshot> result = roomMemberRepository.findMemberSnapshots(testRoom.getId(), Set.of());
+
+        assertThat(result).isEmpty();
+        assertThat(QueryCounter.getSelectCount()).isZero();
+    }
+}
@@ -0,0 +1,110 @@
+package com.back.domain.studyroom.scheduler;
+
+import com.back.domain.studyroom.config.StudyRoomProperties;
+import com.back.domain.studyroom.repository.RoomRepository;
+import com.back.domain.studyroom.service.RoomService;
+import com.back.global.common.lock.RedisLeaderLock;
+import com.back.global.exception.CustomException;
+import com.back.global.exception.ErrorCode;
+import com.back.global.websocket.store.RedisSessionStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("InactiveRoomCleanupScheduler 단위 테스트")
+class InactiveRoomCleanupSchedulerTest {
+
+    @Mock
+    private RoomRepository roomRepository;
+
+    @Mock
+    private RoomService roomService;
+
+    @Mock
+    private RedisSessionStore redisSessionStore;
+
+    @Mock
+    private RedisLeaderLock leaderLock;
+
+    private SimpleMeterRegistry meterRegistry;
+    private InactiveRoomCleanupScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        StudyRoomProperties properties = new StudyRoomProperties();
+        properties.getCleanup().setBatchSize(2);
+        meterRegistry = new SimpleMeterRegistry();
+        scheduler = new InactiveRoomCleanupScheduler(
+                roomRepository, roomService, redisSessionStore, leaderLock, properties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("리더 락을 얻지 못하면 실행하지 않음")
+    void cleanup_NotLeader() {
+        // given
+        given(leaderLock.tryAcquire(eq(InactiveRoomCleanupScheduler.JOB_NAME), any())).willReturn(false);
+
+        // when
+        scheduler.cleanupInactiveRooms();
+
+        // then
+        verifyNoInteractions(roomRepository, roomService, redisSessionStore);
+        verify(leaderLock, never()).release(anyString());
+        assertThat(meterRegistry.counter("studyroom.cleanup.runs", "result", "skipped").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("배치마다 Redis 1회 조회 후 참가자 0명인 방만 종료")
+    void cleanup_TerminatesEmptyRoomsInBatches() {
+        // given
+        given(leaderLock.tryAcquire(eq(InactiveRoomCleanupScheduler.JOB_NAME), any())).willReturn(true);
+        given(roomRepository.findInactiveRoomCandidateIds(any(), eq(0L), eq(2))).willReturn(List.of(1L, 2L));
+        given(roomRepository.findInactiveRoomCandidateIds(any(), eq(2L), eq(2))).willReturn(List.of(5L));
+        given(redisSessionStore.getRoomUserCounts(List.of(1L, 2L))).willReturn(Map.of(1L, 0L, 2L, 3L));
+        given(redisSessionStore.getRoomUserCounts(List.of(5L))).willReturn(Map.of(5L, 0L));
+        given(roomService.terminateEmptyInactiveRooms(eq(List.of(1L)), any())).willReturn(1);
+        given(roomService.terminateEmptyInactiveRooms(eq(List.of(5L)), any())).willReturn(1);
+
+        // when
+        scheduler.cleanupInactiveRooms();
+
+        // then
+        verify(redisSessionStore, times(2)).getRoomUserCounts(anyList());
+        verify(leaderLock).release(InactiveRoomCleanupScheduler.JOB_NAME);
+        assertThat(meterRegistry.counter("studyroom.cleanup.rooms.scanned").count()).isEqualTo(3);
+        assertThat(meterRegistry.counter("studyroom.cleanup.rooms.occupied").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("studyroom.cleanup.rooms.terminated").count()).isEqualTo(2);
+        assertThat(meterRegistry.counter("studyroom.cleanup.runs", "result", "success").count()).isEqualTo(1);
+        assertThat(meterRegistry.timer("studyroom.cleanup.duration").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Redis 조회 실패 시 종료하지 않고 실패 지표 기록, 락 해제")
+    void cleanup_RedisFailure() {
+        // given
+        given(leaderLock.tryAcquire(eq(InactiveRoomCleanupScheduler.JOB_NAME), any())).willReturn(true);
+        given(roomRepository.findInactiveRoomCandidateIds(any(), eq(0L), eq(2))).willReturn(List.of(1L, 2L));
+        given(redisSessionStore.getRoomUserCounts(anyList())).willThrow(new CustomException(ErrorCode.WS_REDIS_ERROR));
+
+        // when
+        scheduler.cleanupInactiveRooms();
+
+        // then
+        verify(roomService, never()).terminateEmptyInactiveRooms(anyList(), any());
+        verify(leaderLock).release(InactiveRoomCleanupScheduler.JOB_NAME);
+        assertThat(meterRegistry.counter("studyroom.cleanup.runs", "result", "failure").count()).isEqualTo(1);
+    }
+}
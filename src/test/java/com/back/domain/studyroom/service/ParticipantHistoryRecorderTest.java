@@ -0,0 +1,194 @@
+package com.back.domain.studyroom.service;
+
+import com.back.domain.studyroom.config.StudyRoomProperties;
+import com.back.domain.studyroom.dto.ParticipantInterval;
+import com.back.domain.studyroom.repository.RoomParticipantHistoryRepository;
+import com.back.domain.studyroom.service.ParticipantHistoryRecorder.Batch;
+import com.back.domain.studyroom.service.ParticipantHistoryRecorder.Kind;
+import com.back.domain.studyroom.service.ParticipantHistoryRecorder.LogEntry;
+import com.back.global.websocket.event.RoomPresenceChangedEvent;
+import com.back.global.websocket.event.SessionDisconnectedEvent;
+import com.back.global.websocket.store.RedisSessionStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.groups.Tuple.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ParticipantHistoryRecorder 단위 테스트")
+class ParticipantHistoryRecorderTest {
+
+    @Mock
+    private RoomParticipantHistoryRepository historyRepository;
+
+    @Mock
+    private RedisSessionStore redisSessionStore;
+
+    private StudyRoomProperties properties;
+    private ParticipantHistoryRecorder recorder;
+
+    private final LocalDateTime t0 = LocalDateTime.of(2025, 1, 1, 10, 0);
+
+    @BeforeEach
+    void setUp() {
+        properties = new StudyRoomProperties();
+        properties.getHistory().setQueueCapacity(3);
+        properties.getHistory().setBatchSize(2);
+        recorder = new ParticipantHistoryRecorder(historyRepository, redisSessionStore, properties);
+    }
+
+    @Test
+    @DisplayName("같은 배치 안의 입장/퇴장은 하나의 닫힌 구간으로 접힌다")
+    void fold_JoinAndLeaveInSameBatch() {
+        // given
+        List<LogEntry> entries = List.of(
+                new LogEntry(Kind.JOINED, 1L, 10L, t0),
+                new LogEntry(Kind.LEFT, 1L, 10L, t0.plusMinutes(30))
+        );
+
+        // when
+        Batch batch = ParticipantHistoryRecorder.fold(entries);
+
+        // then
+        assertThat(batch.inserts()).containsExactly(
+                new ParticipantInterval(1L, 10L, t0, t0.plusMinutes(30)));
+        // 이전 배치에 남은 열린 구간 정리용 종료 1건
+        assertThat(batch.closes()).containsExactly(ParticipantInterval.close(1L, 10L, t0));
+    }
+
+    @Test
+    @DisplayName("이전 배치에서 열린 구간의 퇴장은 종료 대상으로 분류된다")
+    void fold_LeaveWithoutJoinInBatch() {
+        // when
+        Batch batch = ParticipantHistoryRecorder.fold(List.of(
+                new LogEntry(Kind.LEFT, 1L, 10L, t0)
+        ));
+
+        // then
+        assertThat(batch.inserts()).isEmpty();
+        assertThat(batch.closes()).containsExactly(ParticipantInterval.close(1L, 10L, t0));
+    }
+
+    @Test
+    @DisplayName("재입장은 기존 구간을 닫고 새 구간을 연다")
+    void fold_Rejoin() {
+        // when
+        Batch batch = ParticipantHistoryRecorder.fold(List.of(
+                new LogEntry(Kind.JOINED, 1L, 10L, t0),
+                new LogEntry(Kind.JOINED, 1L, 10L, t0.plusMinutes(5))
+        ));
+
+        // then
+        assertThat(batch.inserts()).containsExactly(
+                new ParticipantInterval(1L, 10L, t0, t0.plusMinutes(5)),
+                ParticipantInterval.open(1L, 10L, t0.plusMinutes(5)));
+    }
+
+    @Test
+    @DisplayName("세션 종료는 사용자의 열린 구간을 모두 닫고 사용자 단위 종료를 추가한다")
+    void fold_Disconnected() {
+        // when
+        Batch batch = ParticipantHistoryRecorder.fold(List.of(
+                new LogEntry(Kind.JOINED, 1L, 10L, t0),
+                new LogEntry(Kind.JOINED, 2L, 20L, t0),
+                new LogEntry(Kind.DISCONNECTED, null, 10L, t0.plusMinutes(10))
+        ));
+
+        // then
+        assertThat(batch.inserts()).containsExactly(
+                new ParticipantInterval(1L, 10L, t0, t0.plusMinutes(10)),
+                ParticipantInterval.open(2L, 20L, t0));
+        assertThat(batch.closes()).contains(ParticipantInterval.close(null, 10L, t0.plusMinutes(10)));
+    }
+
+    @Test
+    @DisplayName("flush - 종료를 먼저 반영하고 배치 크기 단위로 INSERT")
+    void flush_ClosesThenInsertsInChunks() {
+        // given
+        recorder.onPresenceChanged(RoomPresenceChangedEvent.joined(this, 1L, 10L));
+        recorder.onPresenceChanged(RoomPresenceChangedEvent.joined(this, 2L, 20L));
+        recorder.onPresenceChanged(RoomPresenceChangedEvent.joined(this, 3L, 30L));
+
+        // when
+        recorder.flush();
+
+        // then
+        var inOrder = inOrder(historyRepository);
+        inOrder.verify(historyRepository, times(2)).bulkClose(anyList());
+        inOrder.verify(historyRepository, times(2)).bulkInsert(anyList());
+        assertThat(recorder.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("flush - 저장 실패 시 로그를 되돌려 다음 주기에 재시도")
+    void flush_FailureRequeues() {
+        // given
+        recorder.onPresenceChanged(RoomPresenceChangedEvent.joined(this, 1L, 10L));
+        willThrow(new RuntimeException("DB down")).given(historyRepository).bulkClose(anyList());
+
+        // when & then
+        assertThatThrownBy(() -> recorder.flush()).isInstanceOf(RuntimeException.class);
+        assertThat(recorder.pendingCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("로그 적재 한도 초과 시 입장 경로를 막지 않고 누락 처리")
+    void append_DropsWhenFull() {
+        // when
+        for (long userId = 1; userId <= 5; userId++) {
+            recorder.onSessionDisconnected(new SessionDisconnectedEvent(this, userId));
+        }
+
+        // then
+        assertThat(recorder.pendingCount()).isEqualTo(3);
+        assertThat(recorder.droppedCount()).isEqualTo(2);
+        verifyNoInteractions(historyRepository);
+    }
+
+    @Test
+    @DisplayName("끊긴 구간 정리 - 구간 ID 키셋으로 batchSize씩 나누어 Redis에 없는 사용자의 열린 구간만 종료")
+    void reapDanglingIntervals() {
+        // given - batchSize = 2
+        given(historyRepository.findOpenIntervalKeysJoinedBefore(any(), eq(0L), any())).willReturn(List.of(
+                new Object[]{1L, 1L, 10L},
+                new Object[]{2L, 1L, 11L}
+        ));
+        given(historyRepository.findOpenIntervalKeysJoinedBefore(any(), eq(2L), any())).willReturn(List.<Object[]>of(
+                new Object[]{3L, 2L, 20L}
+        ));
+        given(redisSessionStore.getRoomUsersBatch(List.of(1L))).willReturn(Map.of(1L, Set.of(10L)));
+        given(redisSessionStore.getRoomUsersBatch(List.of(2L))).willReturn(Map.of(2L, Set.of()));
+
+        // when
+        recorder.reapDanglingIntervals();
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ParticipantInterval>> captor = ArgumentCaptor.forClass(List.class);
+        verify(historyRepository, times(2)).bulkClose(captor.capture());
+        assertThat(captor.getAllValues().get(0))
+                .extracting(ParticipantInterval::roomId, ParticipantInterval::userId)
+                .containsExactly(tuple(1L, 11L));
+        assertThat(captor.getAllValues().get(1))
+                .extracting(ParticipantInterval::roomId, ParticipantInterval::userId)
+                .containsExactly(tuple(2L, 20L));
+    }
+}
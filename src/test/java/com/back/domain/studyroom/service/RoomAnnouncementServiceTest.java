@@ -0,0 +1,196 @@
+package com.back.domain.studyroom.service;
+
+import com.back.domain.studyroom.dto.RoomAnnouncementChangedNotification;
+import com.back.domain.studyroom.dto.RoomAnnouncementChangedNotification.ChangeType;
+import com.back.domain.studyroom.dto.RoomAnnouncementResponse;
+import com.back.domain.studyroom.entity.Room;
+import com.back.domain.studyroom.entity.RoomAnnouncement;
+import com.back.domain.studyroom.repository.RoomAnnouncementRepository;
+import com.back.domain.studyroom.repository.RoomRepository;
+import com.back.domain.studyroom.store.RoomAnnouncementStore;
+import com.back.domain.user.common.entity.User;
+import com.back.domain.user.common.repository.UserRepository;
+import com.back.global.exception.CustomException;
+import com.back.global.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RoomAnnouncementService 테스트")
+class RoomAnnouncementServiceTest {
+
+    @Mock
+    private RoomAnnouncementRepository announcementRepository;
+
+    @Mock
+    private RoomRepository roomRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private RoomAnnouncementStore announcementStore;
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    @InjectMocks
+    private RoomAnnouncementService announcementService;
+
+    private User host;
+    private Room room;
+
+    @BeforeEach
+    void setUp() {
+        host = User.builder().id(1L).username("host").build();
+        room = Room.create("테스트 방", "설명", false, null, 10, host, null, true, null);
+        setId(room, 10L);
+    }
+
+    private static void setId(Object entity, Long id) {
+        try {
+            java.lang.reflect.Field idField = entity.getClass().getSuperclass().getDeclaredField("id");
+            idField.setAccessible(true);
+            idField.set(entity, id);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private RoomAnnouncement announcement(Long id, String title) {
+        RoomAnnouncement announcement = RoomAnnouncement.create(room, host, title, "내용");
+        setId(announcement, id);
+        return announcement;
+    }
+
+    @Test
+    @DisplayName("공지사항 목록 조회 - 캐시 적중 시 DB 조회 없음")
+    void getAnnouncements_CacheHit() {
+        // given
+        RoomAnnouncementResponse cached = RoomAnnouncementResponse.from(announcement(1L, "캐시된 공지"));
+        given(announcementStore.find(10L)).willReturn(Optional.of(List.of(cached)));
+
+        // when
+        List<RoomAnnouncementResponse> result = announcementService.getAnnouncements(10L);
+
+        // then
+        assertThat(result).extracting(RoomAnnouncementResponse::getTitle).containsExactly("캐시된 공지");
+        verifyNoInteractions(roomRepository, announcementRepository);
+    }
+
+    @Test
+    @DisplayName("공지사항 목록 조회 - 캐시 미스 시 DB 조회 후 적재")
+    void getAnnouncements_CacheMiss() {
+        // given
+        given(announcementStore.find(10L)).willReturn(Optional.empty());
+        given(roomRepository.existsById(10L)).willReturn(true);
+        given(announcementRepository.findByRoomIdWithCreator(10L))
+                .willReturn(List.of(announcement(1L, "공지 1"), announcement(2L, "공지 2")));
+
+        // when
+        List<RoomAnnouncementResponse> result = announcementService.getAnnouncements(10L);
+
+        // then
+        assertThat(result).extracting(RoomAnnouncementResponse::getId).containsExactly(1L, 2L);
+        verify(announcementStore).save(10L, result);
+    }
+
+    @Test
+    @DisplayName("공지사항 목록 조회 - Redis 장애 시 DB 조회로 대체")
+    void getAnnouncements_RedisFailure_FallbackToDb() {
+        // given
+        given(announcementStore.find(10L)).willThrow(new RedisConnectionFailureException("down"));
+        willThrow(new RedisConnectionFailureException("down")).given(announcementStore).save(eq(10L), anyList());
+        given(roomRepository.existsById(10L)).willReturn(true);
+        given(announcementRepository.findByRoomIdWithCreator(10L)).willReturn(List.of(announcement(1L, "공지")));
+
+        // when
+        List<RoomAnnouncementResponse> result = announcementService.getAnnouncements(10L);
+
+        // then
+        assertThat(result).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("공지사항 목록 조회 - 존재하지 않는 방")
+    void getAnnouncements_RoomNotFound() {
+        // given
+        given(announcementStore.find(999L)).willReturn(Optional.empty());
+        given(roomRepository.existsById(999L)).willReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> announcementService.getAnnouncements(999L))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ROOM_NOT_FOUND);
+        verify(announcementStore, never()).save(anyLong(), anyList());
+    }
+
+    @Test
+    @DisplayName("공지사항 생성 - 캐시 무효화 + 생성된 공지 브로드캐스트")
+    void createAnnouncement_EvictAndPush() {
+        // given
+        given(roomRepository.findById(10L)).willReturn(Optional.of(room));
+        given(userRepository.findById(1L)).willReturn(Optional.of(host));
+        given(announcementRepository.save(any(RoomAnnouncement.class))).willReturn(announcement(5L, "새 공지"));
+
+        // when
+        announcementService.createAnnouncement(10L, "새 공지", "내용", 1L);
+
+        // then
+        ArgumentCaptor<RoomAnnouncementChangedNotification> captor =
+                ArgumentCaptor.forClass(RoomAnnouncementChangedNotification.class);
+        verify(announcementStore).evict(10L);
+        verify(messagingTemplate).convertAndSend(eq("/topic/room/10/announcements"), captor.capture());
+        assertThat(captor.getValue().getChangeType()).isEqualTo(ChangeType.CREATED);
+        assertThat(captor.getValue().getAnnouncement().getTitle()).isEqualTo("새 공지");
+    }
+
+    @Test
+    @DisplayName("공지사항 삭제 - 캐시 무효화 + 삭제된 ID만 브로드캐스트")
+    void deleteAnnouncement_EvictAndPush() {
+        // given
+        RoomAnnouncement announcement = announcement(5L, "삭제할 공지");
+        given(announcementRepository.findById(5L)).willReturn(Optional.of(announcement));
+
+        // when
+        announcementService.deleteAnnouncement(5L, 1L);
+
+        // then
+        ArgumentCaptor<RoomAnnouncementChangedNotification> captor =
+                ArgumentCaptor.forClass(RoomAnnouncementChangedNotification.class);
+        verify(announcementRepository).delete(announcement);
+        verify(announcementStore).evict(10L);
+        verify(messagingTemplate).convertAndSend(eq("/topic/room/10/announcements"), captor.capture());
+        assertThat(captor.getValue().getChangeType()).isEqualTo(ChangeType.DELETED);
+        assertThat(captor.getValue().getAnnouncementId()).isEqualTo(5L);
+        assertThat(captor.getValue().getAnnouncement()).isNull();
+    }
+
+    @Test
+    @DisplayName("공지사항 수정 - 방장이 아니면 캐시/브로드캐스트 없음")
+    void updateAnnouncement_Forbidden() {
+        // given
+        given(announcementRepository.findByIdWithCreator(5L)).willReturn(Optional.of(announcement(5L, "공지")));
+
+        // when & then
+        assertThatThrownBy(() -> announcementService.updateAnnouncement(5L, "수정", "내용", 2L))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.FORBIDDEN);
+        verifyNoInteractions(announcementStore, messagingTemplate);
+    }
+}
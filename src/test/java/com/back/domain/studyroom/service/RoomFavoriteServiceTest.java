@@ -5,6 +5,7 @@ import com.back.domain.studyroom.entity.Room;
 import com.back.domain.studyroom.entity.RoomFavorite;
 import com.back.domain.studyroom.repository.RoomFavoriteRepository;
 import com.back.domain.studyroom.repository.RoomRepository;
+import com.back.domain.studyroom.store.RoomFavoriteStore;
 import com.back.domain.user.common.entity.User;
 import com.back.domain.user.common.repository.UserRepository;
 import com.back.global.exception.CustomException;
@@ -40,6 +41,9 @@ class RoomFavoriteServiceTest {
     @Mock
     private RoomParticipantService roomParticipantService;
 
+    @Mock
+    private RoomFavoriteStore favoriteStore;
+
     @InjectMocks
     private RoomFavoriteService favoriteService;
 
@@ -95,6 +99,7 @@ class RoomFavoriteServiceTest {
         // then
         verify(favoriteRepository, times(1)).existsByUserIdAndRoomId(1L, 1L);
         verify(favoriteRepository, times(1)).save(any(RoomFavorite.class));
+        verify(favoriteStore).addIfLoaded(1L, 1L);
     }
 
     @Test
@@ -109,6 +114,7 @@ class RoomFavoriteServiceTest {
         // then
         verify(favoriteRepository, times(1)).existsByUserIdAndRoomId(1L, 1L);
         verify(favoriteRepository, never()).save(any());
+        verify(favoriteStore, never()).addIfLoaded(anyLong(), anyLong());
     }
 
     @Test
@@ -136,6 +142,7 @@ class RoomFavoriteServiceTest {
 
         // then
         verify(favoriteRepository, times(1)).delete(testFavorite);
+        verify(favoriteStore).remove(1L, 1L);
     }
 
     @Test
@@ -183,38 +190,103 @@ class RoomFavoriteServiceTest {
     }
 
     @Test
-    @DisplayName("즐겨찾기 여부 확인 - true")
+    @DisplayName("즐겨찾기 캐시 반영 실패 시 캐시 무효화")
+    void addFavorite_CacheUpdateFailed_Evict() {
+        // given
+        given(favoriteRepository.existsByUserIdAndRoomId(1L, 1L)).willReturn(false);
+        given(roomRepository.findById(1L)).willReturn(Optional.of(testRoom));
+        given(userRepository.findById(1L)).willReturn(Optional.of(testUser));
+        willThrow(new RuntimeException("Redis down")).given(favoriteStore).addIfLoaded(1L, 1L);
+
+        // when
+        favoriteService.addFavorite(1L, 1L);
+
+        // then
+        verify(favoriteRepository).save(any(RoomFavorite.class));
+        verify(favoriteStore).evict(1L);
+    }
+
+    @Test
+    @DisplayName("즐겨찾기 여부 확인 - true (캐시 적중)")
     void isFavorite_True() {
         // given
-        given(favoriteRepository.existsByUserIdAndRoomId(1L, 1L)).willReturn(true);
+        given(favoriteStore.find(1L)).willReturn(Optional.of(Set.of(1L)));
 
         // when
         boolean result = favoriteService.isFavorite(1L, 1L);
 
         // then
         assertThat(result).isTrue();
+        verifyNoInteractions(favoriteRepository);
     }
 
     @Test
-    @DisplayName("즐겨찾기 여부 확인 - false")
+    @DisplayName("즐겨찾기 여부 확인 - false (캐시 적중)")
     void isFavorite_False() {
         // given
-        given(favoriteRepository.existsByUserIdAndRoomId(1L, 999L)).willReturn(false);
+        given(favoriteStore.find(1L)).willReturn(Optional.of(Set.of(1L)));
 
         // when
         boolean result = favoriteService.isFavorite(999L, 1L);
 
         // then
         assertThat(result).isFalse();
+        verifyNoInteractions(favoriteRepository);
     }
 
     @Test
-    @DisplayName("여러 방의 즐겨찾기 여부 일괄 조회")
+    @DisplayName("즐겨찾기 여부 확인 - 캐시 미적재 시 DB에서 한 번 적재")
+    void isFavorite_CacheMiss_LoadFromDb() {
+        // given
+        given(favoriteStore.find(1L)).willReturn(Optional.empty());
+        given(favoriteStore.currentVersion(1L)).willReturn("3");
+        given(favoriteRepository.findRoomIdsByUserId(1L)).willReturn(List.of(1L, 2L));
+
+        // when
+        boolean result = favoriteService.isFavorite(2L, 1L);
+
+        // then
+        assertThat(result).isTrue();
+        verify(favoriteStore).saveIfUnchanged(1L, Set.of(1L, 2L), "3"); // 조회 전 버전으로 조건부 적재
+        verify(favoriteRepository, never()).existsByUserIdAndRoomId(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("즐겨찾기 여부 확인 - Redis 장애 시 DB 조회로 대체")
+    void isFavorite_RedisFailure_FallbackToDb() {
+        // given
+        given(favoriteStore.find(1L)).willThrow(new RuntimeException("Redis down"));
+        given(favoriteRepository.existsByUserIdAndRoomId(1L, 1L)).willReturn(true);
+
+        // when
+        boolean result = favoriteService.isFavorite(1L, 1L);
+
+        // then
+        assertThat(result).isTrue();
+    }
+
+    @Test
+    @DisplayName("여러 방의 즐겨찾기 여부 일괄 조회 - 캐시 적중 시 DB 조회 없음")
     void getFavoriteRoomIds_Success() {
         // given
         List<Long> roomIds = List.of(1L, 2L, 3L);
-        Set<Long> favoriteIds = Set.of(1L, 3L);
-        given(favoriteRepository.findFavoriteRoomIds(1L, roomIds)).willReturn(favoriteIds);
+        given(favoriteStore.find(1L)).willReturn(Optional.of(Set.of(1L, 3L, 10L)));
+
+        // when
+        Set<Long> result = favoriteService.getFavoriteRoomIds(roomIds, 1L);
+
+        // then
+        assertThat(result).containsExactlyInAnyOrder(1L, 3L);
+        verifyNoInteractions(favoriteRepository);
+    }
+
+    @Test
+    @DisplayName("여러 방의 즐겨찾기 여부 일괄 조회 - Redis 장애 시 IN 쿼리로 대체")
+    void getFavoriteRoomIds_RedisFailure_FallbackToDb() {
+        // given
+        List<Long> roomIds = List.of(1L, 2L, 3L);
+        given(favoriteStore.find(1L)).willThrow(new RuntimeException("Redis down"));
+        given(favoriteRepository.findFavoriteRoomIds(1L, roomIds)).willReturn(Set.of(1L, 3L));
 
         // when
         Set<Long> result = favoriteService.getFavoriteRoomIds(roomIds, 1L);
@@ -0,0 +1,183 @@
+package com.back.domain.studyroom.service;
+
+import com.back.domain.studyroom.entity.Room;
+import com.back.domain.studyroom.entity.RoomGuestbook;
+import com.back.domain.studyroom.entity.RoomGuestbookReactionCounter;
+import com.back.domain.studyroom.repository.*;
+import com.back.domain.user.common.entity.User;
+import com.back.domain.user.common.repository.UserRepository;
+import com.back.global.config.QueryDslTestConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 방명록 반응 토글 동시성 테스트
+ * - 테스트 트랜잭션 없이 실제 커밋되는 요청을 여러 스레드에서 동시에 실행
+ * - 반응 카운터가 실제 반응 행 수와 항상 일치하는지 확인
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({
+        RoomGuestbookService.class,
+        RoomGuestbookReactionRepositoryImpl.class,
+        QueryDslTestConfig.class
+})
+@DisplayName("방명록 반응 토글 동시성 테스트")
+class RoomGuestbookReactionConcurrencyTest {
+
+    private static final int USER_COUNT = 30;
+    private static final int THREAD_COUNT = 10;
+    private static final String EMOJI = "👍";
+
+    @Autowired
+    private RoomGuestbookService guestbookService;
+
+    @Autowired
+    private RoomGuestbookRepository guestbookRepository;
+
+    @Autowired
+    private RoomGuestbookReactionRepository reactionRepository;
+
+    @Autowired
+    private RoomGuestbookReactionCounterRepository reactionCounterRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final List<Long> userIds = new ArrayList<>();
+    private Long guestbookId;
+
+    @BeforeEach
+    void setUp() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            for (int i = 0; i < USER_COUNT; i++) {
+                User user = userRepository.save(User.builder()
+                        .email("reactor" + i + "@example.com")
+                        .username("reactor" + i)
+                        .password("password")
+                        .build());
+                userIds.add(user.getId());
+            }
+
+            Room room = roomRepository.save(Room.builder()
+                    .title("동시성 테스트 방")
+                    .maxParticipants(USER_COUNT)
+                    .build());
+
+            User writer = userRepository.findById(userIds.get(0)).orElseThrow();
+            guestbookId = guestbookRepository.save(RoomGuestbook.create(room, writer, "방명록")).getId();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        reactionRepository.deleteAllInBatch();
+        reactionCounterRepository.deleteAllInBatch();
+        guestbookRepository.deleteAllInBatch();
+        roomRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("여러 사용자가 동시에 같은 이모지를 추가/취소해도 카운터와 실제 반응 수가 일치")
+    void toggleReaction_Concurrent_CounterMatchesRows() throws InterruptedException {
+        // when - 모든 사용자가 동시에 반응 추가
+        List<Throwable> addErrors = toggleConcurrently(userIds);
+
+        // then
+        assertThat(addErrors).isEmpty();
+        assertThat(reactionRows()).isEqualTo(USER_COUNT);
+        assertThat(counterValue()).isEqualTo(USER_COUNT);
+
+        // when - 절반의 사용자가 동시에 반응 취소
+        List<Throwable> removeErrors = toggleConcurrently(userIds.subList(0, USER_COUNT / 2));
+
+        // then
+        assertThat(removeErrors).isEmpty();
+        assertThat(reactionRows()).isEqualTo(USER_COUNT - USER_COUNT / 2);
+        assertThat(counterValue()).isEqualTo(reactionRows());
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 중복 동시 토글 - 카운터가 실제 반응 수를 벗어나지 않음")
+    void toggleReaction_SameUserConcurrent_CounterMatchesRows() throws InterruptedException {
+        // when - 한 사용자가 같은 이모지를 동시에 여러 번 토글
+        List<Long> sameUser = new ArrayList<>();
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            sameUser.add(userIds.get(0));
+        }
+        toggleConcurrently(sameUser);
+
+        // then
+        assertThat(reactionRows()).isBetween(0L, 1L);
+        assertThat(counterValue()).isEqualTo(reactionRows());
+    }
+
+    private List<Throwable> toggleConcurrently(List<Long> reactorIds) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch ready = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(reactorIds.size());
+        Queue<Throwable> errors = new ConcurrentLinkedQueue<>();
+
+        for (Long userId : reactorIds) {
+            executor.submit(() -> {
+                try {
+                    ready.await();
+                    guestbookService.toggleReaction(guestbookId, EMOJI, userId);
+                } catch (Throwable e) {
+                    errors.add(e);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        ready.countDown();
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+
+        return new ArrayList<>(errors);
+    }
+
+    private long reactionRows() {
+        return reactionRepository.findByGuestbookIdWithUser(guestbookId).size();
+    }
+
+    private long counterValue() {
+        return reactionCounterRepository.findAll().stream()
+                .filter(counter -> counter.getEmoji().equals(EMOJI))
+                .mapToLong(RoomGuestbookReactionCounter::getReactionCount)
+                .sum();
+    }
+}
@@ -1,12 +1,14 @@
 package com.back.domain.studyroom.service;
 
+import com.back.domain.studyroom.dto.GuestbookReactionCount;
 import com.back.domain.studyroom.dto.GuestbookReactionSummary;
+import com.back.domain.studyroom.dto.GuestbookReactor;
 import com.back.domain.studyroom.dto.GuestbookResponse;
 import com.back.domain.studyroom.entity.Room;
 import com.back.domain.studyroom.entity.RoomGuestbook;
 import com.back.domain.studyroom.entity.RoomGuestbookPin;
-import com.back.domain.studyroom.entity.RoomGuestbookReaction;
 import com.back.domain.studyroom.repository.RoomGuestbookPinRepository;
+import com.back.domain.studyroom.repository.RoomGuestbookReactionCounterRepository;
 import com.back.domain.studyroom.repository.RoomGuestbookReactionRepository;
 import com.back.domain.studyroom.repository.RoomGuestbookRepository;
 import com.back.domain.studyroom.repository.RoomRepository;
@@ -29,6 +31,7 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -36,6 +39,10 @@ import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -48,6 +55,9 @@ class RoomGuestbookServiceTest {
     @Mock
     private RoomGuestbookReactionRepository reactionRepository;
 
+    @Mock
+    private RoomGuestbookReactionCounterRepository reactionCounterRepository;
+
     @Mock
     private RoomGuestbookPinRepository pinRepository;
 
@@ -140,7 +150,6 @@ class RoomGuestbookServiceTest {
         given(roomRepository.existsById(1L)).willReturn(true);
         given(guestbookRepository.findByRoomIdWithUserOrderByPin(eq(1L), eq(1L), any())).willReturn(guestbookPage);
         given(pinRepository.findPinnedGuestbookIdsByUserIdAndRoomId(1L, 1L)).willReturn(Collections.emptySet());
-        given(reactionRepository.findByGuestbookIdWithUser(any())).willReturn(Collections.emptyList());
 
         // when
         Page<GuestbookResponse> result = guestbookService.getGuestbooks(1L, 1L, pageable);
@@ -149,6 +158,8 @@ class RoomGuestbookServiceTest {
         assertThat(result).isNotNull();
         assertThat(result.getContent()).hasSize(1);
         assertThat(result.getContent().get(0).getContent()).isEqualTo("테스트 방명록입니다");
+        verify(reactionRepository, times(1)).countReactions(anyList(), eq(1L));
+        verify(reactionRepository, never()).findByGuestbookIdWithUser(any());
     }
 
     @Test
@@ -156,7 +167,6 @@ class RoomGuestbookServiceTest {
     void getGuestbook_Success() {
         // given
         given(guestbookRepository.findByIdWithUserAndRoom(1L)).willReturn(Optional.of(testGuestbook));
-        given(reactionRepository.findByGuestbookIdWithUser(1L)).willReturn(Collections.emptyList());
         given(pinRepository.findByGuestbookIdAndUserId(1L, 1L)).willReturn(Optional.empty());
 
         // when
@@ -174,7 +184,6 @@ class RoomGuestbookServiceTest {
     void updateGuestbook_Success() {
         // given
         given(guestbookRepository.findByIdWithUserAndRoom(1L)).willReturn(Optional.of(testGuestbook));
-        given(reactionRepository.findByGuestbookIdWithUser(1L)).willReturn(Collections.emptyList());
 
         // when
         GuestbookResponse response = guestbookService.updateGuestbook(1L, "수정된 내용", 1L);
@@ -227,35 +236,50 @@ class RoomGuestbookServiceTest {
         // given
         given(guestbookRepository.findByIdWithUserAndRoom(1L)).willReturn(Optional.of(testGuestbook));
         given(userRepository.findById(1L)).willReturn(Optional.of(testUser));
-        given(reactionRepository.findByGuestbookIdAndUserIdAndEmoji(1L, 1L, "👍")).willReturn(Optional.empty());
-        given(reactionRepository.findByGuestbookIdWithUser(1L)).willReturn(Collections.emptyList());
+        given(reactionRepository.existsByGuestbookIdAndUserIdAndEmoji(1L, 1L, "👍")).willReturn(false);
+        given(reactionRepository.insertIfAbsent(eq(1L), eq(1L), eq("👍"), any(LocalDateTime.class))).willReturn(1);
 
         // when
         GuestbookResponse response = guestbookService.toggleReaction(1L, "👍", 1L);
 
         // then
         assertThat(response).isNotNull();
-        verify(reactionRepository, times(1)).save(any(RoomGuestbookReaction.class));
+        verify(reactionCounterRepository, times(1)).increment(eq(1L), eq("👍"), any(LocalDateTime.class));
+        verify(reactionCounterRepository, never()).decrement(anyLong(), anyString(), any());
     }
 
     @Test
     @DisplayName("이모지 반응 제거 - 성공")
     void toggleReaction_Remove_Success() {
         // given
-        RoomGuestbookReaction reaction = RoomGuestbookReaction.create(testGuestbook, testUser, "👍");
-
         given(guestbookRepository.findByIdWithUserAndRoom(1L)).willReturn(Optional.of(testGuestbook));
         given(userRepository.findById(1L)).willReturn(Optional.of(testUser));
-        given(reactionRepository.findByGuestbookIdAndUserIdAndEmoji(1L, 1L, "👍"))
-                .willReturn(Optional.of(reaction));
-        given(reactionRepository.findByGuestbookIdWithUser(1L)).willReturn(Collections.emptyList());
+        given(reactionRepository.existsByGuestbookIdAndUserIdAndEmoji(1L, 1L, "👍")).willReturn(true);
+        given(reactionRepository.deleteReaction(1L, 1L, "👍")).willReturn(1);
 
         // when
         GuestbookResponse response = guestbookService.toggleReaction(1L, "👍", 1L);
 
         // then
         assertThat(response).isNotNull();
-        verify(reactionRepository, times(1)).delete(reaction);
+        verify(reactionCounterRepository, times(1)).decrement(eq(1L), eq("👍"), any(LocalDateTime.class));
+        verify(reactionCounterRepository, never()).increment(anyLong(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("이모지 반응 추가 - 동시 요청으로 이미 추가된 경우 카운터 증가 안 함")
+    void toggleReaction_Add_AlreadyInsertedConcurrently() {
+        // given
+        given(guestbookRepository.findByIdWithUserAndRoom(1L)).willReturn(Optional.of(testGuestbook));
+        given(userRepository.findById(1L)).willReturn(Optional.of(testUser));
+        given(reactionRepository.existsByGuestbookIdAndUserIdAndEmoji(1L, 1L, "👍")).willReturn(false);
+        given(reactionRepository.insertIfAbsent(eq(1L), eq(1L), eq("👍"), any(LocalDateTime.class))).willReturn(0);
+
+        // when
+        guestbookService.toggleReaction(1L, "👍", 1L);
+
+        // then
+        verify(reactionCounterRepository, never()).increment(anyLong(), anyString(), any());
     }
 
     @Test
@@ -274,13 +298,16 @@ class RoomGuestbookServiceTest {
         userProfile2.setNickname("사용자2");
         user2.setUserProfile(userProfile2);
 
-        RoomGuestbookReaction reaction1 = RoomGuestbookReaction.create(testGuestbook, testUser, "👍");
-        RoomGuestbookReaction reaction2 = RoomGuestbookReaction.create(testGuestbook, user2, "👍");
-        RoomGuestbookReaction reaction3 = RoomGuestbookReaction.create(testGuestbook, testUser, "❤️");
-
         given(guestbookRepository.findByIdWithUserAndRoom(1L)).willReturn(Optional.of(testGuestbook));
-        given(reactionRepository.findByGuestbookIdWithUser(1L))
-                .willReturn(Arrays.asList(reaction1, reaction2, reaction3));
+        given(reactionRepository.countReactions(List.of(1L), 1L)).willReturn(Arrays.asList(
+                new GuestbookReactionCount(1L, "❤️", 1L, 1L),
+                new GuestbookReactionCount(1L, "👍", 2L, 1L)
+        ));
+        given(reactionRepository.findRecentReactors(List.of(1L), 3)).willReturn(Arrays.asList(
+                new GuestbookReactor(1L, "❤️", testUser.getUsername(), testUser.getNickname()),
+                new GuestbookReactor(1L, "👍", user2.getUsername(), "사용자2"),
+                new GuestbookReactor(1L, "👍", testUser.getUsername(), testUser.getNickname())
+        ));
         given(pinRepository.findByGuestbookIdAndUserId(1L, 1L)).willReturn(Optional.empty());
 
         // when
@@ -288,6 +315,8 @@ class RoomGuestbookServiceTest {
 
         // then
         assertThat(response.getReactions()).hasSize(2);
+        // 반응 많은 순 정렬
+        assertThat(response.getReactions().get(0).getEmoji()).isEqualTo("👍");
         
         // 👍 반응 확인 (count 2)
         GuestbookReactionSummary thumbsUp = response.getReactions().stream()
@@ -298,6 +327,7 @@ class RoomGuestbookServiceTest {
         assertThat(thumbsUp).isNotNull();
         assertThat(thumbsUp.getCount()).isEqualTo(2L);
         assertThat(thumbsUp.getReactedByMe()).isTrue();
+        assertThat(thumbsUp.getRecentUsers()).containsExactly("사용자2", testUser.getNickname());
         
         // ❤️ 반응 확인 (count 1)
         GuestbookReactionSummary heart = response.getReactions().stream()
@@ -317,7 +347,6 @@ class RoomGuestbookServiceTest {
         given(guestbookRepository.findByIdWithUserAndRoom(1L)).willReturn(Optional.of(testGuestbook));
         given(userRepository.findById(1L)).willReturn(Optional.of(testUser));
         given(pinRepository.findByGuestbookIdAndUserId(1L, 1L)).willReturn(Optional.empty());
-        given(reactionRepository.findByGuestbookIdWithUser(1L)).willReturn(Collections.emptyList());
 
         // when
         GuestbookResponse response = guestbookService.togglePin(1L, 1L);
@@ -337,7 +366,6 @@ class RoomGuestbookServiceTest {
         given(guestbookRepository.findByIdWithUserAndRoom(1L)).willReturn(Optional.of(testGuestbook));
         given(userRepository.findById(1L)).willReturn(Optional.of(testUser));
         given(pinRepository.findByGuestbookIdAndUserId(1L, 1L)).willReturn(Optional.of(pin));
-        given(reactionRepository.findByGuestbookIdWithUser(1L)).willReturn(Collections.emptyList());
 
         // when
         GuestbookResponse response = guestbookService.togglePin(1L, 1L);
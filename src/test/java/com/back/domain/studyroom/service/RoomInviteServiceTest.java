@@ -1,5 +1,6 @@
 package com.back.domain.studyroom.service;
 
+import com.back.domain.studyroom.dto.InviteRoomSnapshot;
 import com.back.domain.studyroom.entity.Room;
 import com.back.domain.studyroom.entity.RoomInviteCode;
 import com.back.domain.studyroom.repository.RoomInviteCodeRepository;
@@ -12,17 +13,21 @@ import com.back.domain.user.common.repository.UserRepository;
 import com.back.global.exception.CustomException;
 import com.back.global.exception.ErrorCode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
@@ -48,8 +53,11 @@ class RoomInviteServiceTest {
     @Mock
     private ValueOperations<String, String> valueOperations;
 
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
     @Mock
-    private ObjectMapper objectMapper;
+    private InviteCodeFilter inviteCodeFilter;
 
     @InjectMocks
     private RoomInviteService inviteService;
@@ -272,58 +280,130 @@ class RoomInviteServiceTest {
     // ====================== 초대 코드로 방 조회 테스트 ======================
 
     @Test
-    @DisplayName("초대 코드로 방 조회 - 성공 (Redis 없음 → DB 조회)")
+    @DisplayName("초대 코드로 방 조회 - 성공 (Redis 없음 → DB 조회 후 스냅샷 캐시)")
     void getRoomByInviteCode_Success_FromDB() {
         // given
+        RoomInviteCode code = RoomInviteCode.create("ABCD2345", testRoom, testUser);
         given(redisTemplate.opsForValue()).willReturn(valueOperations);
-        given(valueOperations.get(anyString())).willReturn(null); // Redis에 없음
-        given(inviteCodeRepository.findByInviteCode("ABC12345"))
-                .willReturn(Optional.of(testInviteCode));
+        given(valueOperations.get("invite:code:ABCD2345")).willReturn(null); // Redis에 없음
+        given(valueOperations.get("invite:miss:ABCD2345")).willReturn(null);
+        given(inviteCodeFilter.mightContain("ABCD2345")).willReturn(true);
+        given(inviteCodeRepository.findByInviteCode("ABCD2345"))
+                .willReturn(Optional.of(code));
 
         // when
-        Room result = inviteService.getRoomByInviteCode("ABC12345");
+        InviteRoomSnapshot result = inviteService.getRoomByInviteCode("ABCD2345");
 
         // then
-        assertThat(result).isEqualTo(testRoom);
-        assertThat(result.getId()).isEqualTo(1L);
+        assertThat(result.roomId()).isEqualTo(1L);
+        assertThat(result.inviteCode()).isEqualTo("ABCD2345");
 
-        verify(inviteCodeRepository, times(1)).findByInviteCode("ABC12345");
+        verify(inviteCodeRepository, times(1)).findByInviteCode("ABCD2345");
+        verify(valueOperations).set(eq("invite:code:ABCD2345"), contains("\"roomId\":1"), anyLong(), any());
     }
 
     @Test
-    @DisplayName("초대 코드로 방 조회 - 성공 (Redis 있음)")
-    void getRoomByInviteCode_Success_FromRedis() {
+    @DisplayName("초대 코드로 방 조회 - 성공 (Redis 스냅샷, DB 조회 없음)")
+    void getRoomByInviteCode_Success_FromRedis() throws Exception {
         // given
+        String cached = objectMapper.writeValueAsString(
+                new InviteRoomSnapshot("ABCD2345", 1L, LocalDateTime.now().plusHours(1)));
         given(redisTemplate.opsForValue()).willReturn(valueOperations);
-        given(valueOperations.get("invite:code:ABC12345")).willReturn("1"); // Redis에 있음
-        given(inviteCodeRepository.findByInviteCode("ABC12345"))
-                .willReturn(Optional.of(testInviteCode));
+        given(valueOperations.get("invite:code:ABCD2345")).willReturn(cached); // Redis에 있음
 
         // when
-        Room result = inviteService.getRoomByInviteCode("ABC12345");
+        InviteRoomSnapshot result = inviteService.getRoomByInviteCode("ABCD2345");
 
         // then
-        assertThat(result).isEqualTo(testRoom);
-        assertThat(result.getId()).isEqualTo(1L);
+        assertThat(result.roomId()).isEqualTo(1L);
 
-        verify(inviteCodeRepository, times(1)).findByInviteCode("ABC12345");
+        verifyNoInteractions(inviteCodeRepository, inviteCodeFilter);
     }
 
     @Test
-    @DisplayName("초대 코드로 방 조회 - 잘못된 코드")
+    @DisplayName("초대 코드로 방 조회 - 이전 형식 캐시 값은 DB 조회 후 다시 저장")
+    void getRoomByInviteCode_Success_LegacyRedisValue() {
+        // given
+        RoomInviteCode code = RoomInviteCode.create("ABCD2345", testRoom, testUser);
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get("invite:code:ABCD2345")).willReturn("1"); // roomId만 저장된 값
+        given(valueOperations.get("invite:miss:ABCD2345")).willReturn(null);
+        given(inviteCodeFilter.mightContain("ABCD2345")).willReturn(true);
+        given(inviteCodeRepository.findByInviteCode("ABCD2345"))
+                .willReturn(Optional.of(code));
+
+        // when
+        InviteRoomSnapshot result = inviteService.getRoomByInviteCode("ABCD2345");
+
+        // then
+        assertThat(result.roomId()).isEqualTo(1L);
+        verify(valueOperations).set(eq("invite:code:ABCD2345"), startsWith("{"), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("초대 코드로 방 조회 - 잘못된 코드 (DB 확인 후 네거티브 캐시)")
     void getRoomByInviteCode_Fail_InvalidCode() {
         // given
         given(redisTemplate.opsForValue()).willReturn(valueOperations);
         given(valueOperations.get(anyString())).willReturn(null);
-        given(inviteCodeRepository.findByInviteCode("INVALID1"))
+        given(inviteCodeFilter.mightContain("NVALD234")).willReturn(true); // Bloom Filter 오탐
+        given(inviteCodeRepository.findByInviteCode("NVALD234"))
                 .willReturn(Optional.empty());
 
+        // when & then
+        assertThatThrownBy(() -> inviteService.getRoomByInviteCode("NVALD234"))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INVITE_CODE);
+
+        verify(inviteCodeRepository, times(1)).findByInviteCode("NVALD234");
+        verify(valueOperations).set("invite:miss:NVALD234", "INVALID_INVITE_CODE", Duration.ofMinutes(10));
+    }
+
+    @Test
+    @DisplayName("초대 코드로 방 조회 - 형식이 맞지 않는 코드는 Redis/DB 조회 없이 거절")
+    void getRoomByInviteCode_Fail_Malformed() {
         // when & then
         assertThatThrownBy(() -> inviteService.getRoomByInviteCode("INVALID1"))
                 .isInstanceOf(CustomException.class)
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INVITE_CODE);
+        assertThatThrownBy(() -> inviteService.getRoomByInviteCode("abc"))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INVITE_CODE);
 
-        verify(inviteCodeRepository, times(1)).findByInviteCode("INVALID1");
+        verifyNoInteractions(redisTemplate, inviteCodeRepository, inviteCodeFilter);
+    }
+
+    @Test
+    @DisplayName("초대 코드로 방 조회 - Bloom Filter에 없는 코드는 DB 조회 없이 거절")
+    void getRoomByInviteCode_Fail_RejectedByFilter() {
+        // given
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get("invite:code:NVALD234")).willReturn(null);
+        given(inviteCodeFilter.mightContain("NVALD234")).willReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> inviteService.getRoomByInviteCode("NVALD234"))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INVITE_CODE);
+
+        verifyNoInteractions(inviteCodeRepository);
+    }
+
+    @Test
+    @DisplayName("초대 코드로 방 조회 - 네거티브 캐시에 있으면 DB 조회 없이 같은 사유로 거절")
+    void getRoomByInviteCode_Fail_NegativeCached() {
+        // given
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get("invite:code:EXPRD234")).willReturn(null);
+        given(valueOperations.get("invite:miss:EXPRD234")).willReturn("INVITE_CODE_EXPIRED");
+        given(inviteCodeFilter.mightContain("EXPRD234")).willReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> inviteService.getRoomByInviteCode("EXPRD234"))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVITE_CODE_EXPIRED);
+
+        verifyNoInteractions(inviteCodeRepository);
     }
 
     @Test
@@ -332,22 +412,24 @@ class RoomInviteServiceTest {
         // given
         given(redisTemplate.opsForValue()).willReturn(valueOperations);
         RoomInviteCode expiredCode = RoomInviteCode.builder()
-                .inviteCode("EXPIRED1")
+                .inviteCode("EXPRD234")
                 .room(testRoom)
                 .createdBy(testUser)
                 .expiresAt(LocalDateTime.now().minusHours(1))
                 .build();
 
         given(valueOperations.get(anyString())).willReturn(null);
-        given(inviteCodeRepository.findByInviteCode("EXPIRED1"))
+        given(inviteCodeFilter.mightContain("EXPRD234")).willReturn(true);
+        given(inviteCodeRepository.findByInviteCode("EXPRD234"))
                 .willReturn(Optional.of(expiredCode));
 
         // when & then
-        assertThatThrownBy(() -> inviteService.getRoomByInviteCode("EXPIRED1"))
+        assertThatThrownBy(() -> inviteService.getRoomByInviteCode("EXPRD234"))
                 .isInstanceOf(CustomException.class)
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVITE_CODE_EXPIRED);
 
-        verify(inviteCodeRepository, times(1)).findByInviteCode("EXPIRED1");
+        verify(inviteCodeRepository, times(1)).findByInviteCode("EXPRD234");
+        verify(valueOperations).set("invite:miss:EXPRD234", "INVITE_CODE_EXPIRED", Duration.ofMinutes(10));
     }
 
     @Test
@@ -355,19 +437,33 @@ class RoomInviteServiceTest {
     void getRoomByInviteCode_Fail_Inactive() {
         // given
         given(redisTemplate.opsForValue()).willReturn(valueOperations);
-        RoomInviteCode inactiveCode = RoomInviteCode.create("INACTIVE1", testRoom, testUser);
+        RoomInviteCode inactiveCode = RoomInviteCode.create("DEACTV23", testRoom, testUser);
         inactiveCode.deactivate();
 
         given(valueOperations.get(anyString())).willReturn(null);
-        given(inviteCodeRepository.findByInviteCode("INACTIVE1"))
+        given(inviteCodeFilter.mightContain("DEACTV23")).willReturn(true);
+        given(inviteCodeRepository.findByInviteCode("DEACTV23"))
                 .willReturn(Optional.of(inactiveCode));
 
         // when & then
-        assertThatThrownBy(() -> inviteService.getRoomByInviteCode("INACTIVE1"))
+        assertThatThrownBy(() -> inviteService.getRoomByInviteCode("DEACTV23"))
                 .isInstanceOf(CustomException.class)
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVITE_CODE_EXPIRED);
 
-        verify(inviteCodeRepository, times(1)).findByInviteCode("INACTIVE1");
+        verify(inviteCodeRepository, times(1)).findByInviteCode("DEACTV23");
+    }
+
+    @Test
+    @DisplayName("초대 코드 Bloom Filter 갱신 - 활성 코드 전체로 재생성")
+    void refreshInviteCodeFilter() {
+        // given
+        given(inviteCodeRepository.findActiveInviteCodes(any())).willReturn(List.of("ABCD2345", "EXPRD234"));
+
+        // when
+        inviteService.refreshInviteCodeFilter();
+
+        // then
+        verify(inviteCodeFilter).rebuild(List.of("ABCD2345", "EXPRD234"));
     }
 
     // ====================== 초대 코드 유효성 검증 테스트 ======================
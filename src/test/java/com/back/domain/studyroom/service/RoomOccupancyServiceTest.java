@@ -0,0 +1,145 @@
+package com.back.domain.studyroom.service;
+
+import com.back.domain.studyroom.config.StudyRoomProperties;
+import com.back.domain.studyroom.dto.OccupancyGranularity;
+import com.back.domain.studyroom.dto.OccupancyPoint;
+import com.back.domain.studyroom.dto.RoomOccupancyResponse;
+import com.back.domain.studyroom.entity.Room;
+import com.back.domain.studyroom.repository.RoomMemberRepository;
+import com.back.domain.studyroom.repository.RoomRepository;
+import com.back.domain.studyroom.store.RoomOccupancyStore;
+import com.back.domain.studyroom.store.RoomOccupancyStore.HourBucket;
+import com.back.global.exception.CustomException;
+import com.back.global.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RoomOccupancyService 테스트")
+class RoomOccupancyServiceTest {
+
+    @Mock
+    private RoomOccupancyStore occupancyStore;
+
+    @Mock
+    private RoomRepository roomRepository;
+
+    @Mock
+    private RoomMemberRepository roomMemberRepository;
+
+    @Spy
+    private StudyRoomProperties properties = new StudyRoomProperties();
+
+    @InjectMocks
+    private RoomOccupancyService occupancyService;
+
+    private final LocalDateTime base = LocalDateTime.of(2025, 1, 1, 10, 0);
+
+    @Test
+    @DisplayName("분 단위 조회 - 기록 없는 분은 0으로 채우고 최대 지점 반환")
+    void getRoomOccupancy_Minute() {
+        // given
+        given(roomRepository.findById(1L)).willReturn(Optional.of(Room.builder().id(1L).isPrivate(false).build()));
+        given(occupancyStore.getMinutes("1", base, base.plusMinutes(4))).willReturn(Map.of(
+                base.plusMinutes(1), 3L,
+                base.plusMinutes(3), 5L
+        ));
+
+        // when
+        RoomOccupancyResponse response = occupancyService.getRoomOccupancy(
+                1L, 10L, OccupancyGranularity.MINUTE, base, base.plusMinutes(4));
+
+        // then
+        assertThat(response.getRoomId()).isEqualTo(1L);
+        assertThat(response.getPoints()).extracting(OccupancyPoint::getPeak)
+                .containsExactly(0L, 3L, 0L, 5L, 0L);
+        assertThat(response.getPeak().getAt()).isEqualTo(base.plusMinutes(3));
+    }
+
+    @Test
+    @DisplayName("시간 단위 조회 - 집계된 시간 버킷 사용")
+    void getServiceOccupancy_Hour() {
+        // given
+        given(occupancyStore.getHours(RoomOccupancyStore.TOTAL_SCOPE, base, base.plusHours(2))).willReturn(Map.of(
+                base, new HourBucket(4, 2.5),
+                base.plusHours(2), new HourBucket(8, 6.0)
+        ));
+
+        // when
+        RoomOccupancyResponse response = occupancyService.getServiceOccupancy(
+                OccupancyGranularity.HOUR, base.plusMinutes(30), base.plusHours(2).plusMinutes(10));
+
+        // then
+        assertThat(response.getRoomId()).isNull();
+        assertThat(response.getFrom()).isEqualTo(base);
+        assertThat(response.getPoints()).extracting(OccupancyPoint::getPeak)
+                .containsExactly(4L, 0L, 8L);
+        assertThat(response.getPoints()).extracting(OccupancyPoint::getAverage)
+                .containsExactly(2.5, 0.0, 6.0);
+        assertThat(response.getPeak().getPeak()).isEqualTo(8L);
+        // 과거 구간이므로 분 버킷 보완 조회 없음
+        verify(occupancyStore, never()).getMinutes(anyString(), any(), any());
+    }
+
+    @Test
+    @DisplayName("허용 범위를 초과한 기간 조회 시 예외")
+    void getServiceOccupancy_RangeTooLong() {
+        assertThatThrownBy(() -> occupancyService.getServiceOccupancy(
+                OccupancyGranularity.MINUTE, base, base.plusHours(25)))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ROOM_OCCUPANCY_RANGE_TOO_LONG);
+
+        verifyNoInteractions(occupancyStore);
+    }
+
+    @Test
+    @DisplayName("시작 시간이 종료 시간보다 늦으면 예외")
+    void getServiceOccupancy_InvalidRange() {
+        assertThatThrownBy(() -> occupancyService.getServiceOccupancy(
+                OccupancyGranularity.HOUR, base.plusHours(3), base))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ROOM_OCCUPANCY_INVALID_RANGE);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 방 조회 시 예외")
+    void getRoomOccupancy_RoomNotFound() {
+        // given
+        given(roomRepository.findById(999L)).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> occupancyService.getRoomOccupancy(
+                999L, 10L, OccupancyGranularity.HOUR, null, null))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ROOM_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("비공개 방은 멤버가 아니면 조회할 수 없음")
+    void getRoomOccupancy_PrivateRoomNotMember() {
+        // given
+        given(roomRepository.findById(2L)).willReturn(Optional.of(Room.builder().id(2L).isPrivate(true).build()));
+        given(roomMemberRepository.existsByRoomIdAndUserId(2L, 10L)).willReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> occupancyService.getRoomOccupancy(
+                2L, 10L, OccupancyGranularity.HOUR, null, null))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ROOM_FORBIDDEN);
+
+        verifyNoInteractions(occupancyStore);
+    }
+}
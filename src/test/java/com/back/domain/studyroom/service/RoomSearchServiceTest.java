@@ -0,0 +1,178 @@
+package com.back.domain.studyroom.service;
+
+import com.back.domain.studyroom.config.StudyRoomProperties;
+import com.back.domain.studyroom.dto.RoomSearchDocument;
+import com.back.domain.studyroom.entity.Room;
+import com.back.domain.studyroom.entity.RoomStatus;
+import com.back.domain.studyroom.repository.RoomRepository;
+import com.back.domain.user.common.entity.User;
+import com.back.global.exception.CustomException;
+import com.back.global.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RoomSearchService 테스트")
+class RoomSearchServiceTest {
+
+    @Mock
+    private RoomRepository roomRepository;
+
+    private RoomSearchIndex searchIndex;
+    private RoomSearchService searchService;
+    private User host;
+
+    @BeforeEach
+    void setUp() {
+        searchIndex = new RoomSearchIndex();
+        searchService = new RoomSearchService(searchIndex, roomRepository, new StudyRoomProperties());
+        host = User.builder().id(1L).username("host").build();
+    }
+
+    private Room room(Long id, String title, String description) {
+        Room room = Room.create(title, description, false, null, 10, host, null, true, null);
+        try {
+            java.lang.reflect.Field idField = room.getClass().getSuperclass().getDeclaredField("id");
+            idField.setAccessible(true);
+            idField.set(room, id);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+        return room;
+    }
+
+    private void indexAll(Room... rooms) {
+        searchIndex.rebuild(java.util.Arrays.stream(rooms).map(RoomSearchDocument::from).toList());
+    }
+
+    @Test
+    @DisplayName("한국어 부분 일치 검색 - 제목 일치가 설명 일치보다 먼저")
+    void searchRooms_KoreanPartialMatch_TitleFirst() {
+        // given
+        Room titleMatch = room(1L, "자바스터디 모집", "매일 공부");
+        Room descriptionMatch = room(2L, "알고리즘 방", "자바 문법도 같이 봅니다");
+        Room noMatch = room(3L, "파이썬 모각코", "조용히 공부해요");
+        indexAll(titleMatch, descriptionMatch, noMatch);
+        given(roomRepository.findRoomsByIdsWithCreator(List.of(1L, 2L)))
+                .willReturn(List.of(descriptionMatch, titleMatch));
+
+        // when
+        Page<Room> result = searchService.searchRooms("자바", PageRequest.of(0, 20));
+
+        // then
+        assertThat(result.getContent()).extracting(Room::getId).containsExactly(1L, 2L);
+        assertThat(result.getTotalElements()).isEqualTo(2);
+        verify(roomRepository, never()).findRoomsWithFilters(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("검색어의 모든 gram을 포함한 방만 반환 (한 글자 검색 포함)")
+    void searchRooms_AllGramsRequired() {
+        // given
+        Room javaStudy = room(1L, "자바 스터디", null);
+        Room javaScript = room(2L, "자바스크립트 방", null);
+        indexAll(javaStudy, javaScript);
+        given(roomRepository.findRoomsByIdsWithCreator(List.of(1L))).willReturn(List.of(javaStudy));
+        given(roomRepository.findRoomsByIdsWithCreator(List.of(2L))).willReturn(List.of(javaScript));
+
+        // when
+        Page<Room> study = searchService.searchRooms("스터디", PageRequest.of(0, 20));
+        Page<Room> single = searchService.searchRooms("방", PageRequest.of(0, 20));
+
+        // then
+        assertThat(study.getContent()).extracting(Room::getId).containsExactly(1L);
+        assertThat(single.getContent()).extracting(Room::getId).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("페이지에 해당하는 방만 ID로 조회")
+    void searchRooms_Paging() {
+        // given
+        indexAll(room(1L, "스터디 1", null), room(2L, "스터디 2", null), room(3L, "스터디 3", null));
+        given(roomRepository.findRoomsByIdsWithCreator(anyList())).willReturn(List.of());
+
+        // when
+        Page<Room> result = searchService.searchRooms("스터디", PageRequest.of(1, 2));
+
+        // then
+        verify(roomRepository).findRoomsByIdsWithCreator(List.of(1L));
+        assertThat(result.getTotalElements()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("색인 이후 종료된 방은 결과에서 제외")
+    void searchRooms_ExcludeTerminatedAfterIndexing() {
+        // given
+        Room terminated = room(1L, "종료될 스터디", null);
+        indexAll(terminated);
+        terminated.terminate();
+        given(roomRepository.findRoomsByIdsWithCreator(List.of(1L))).willReturn(List.of(terminated));
+
+        // when
+        Page<Room> result = searchService.searchRooms("스터디", PageRequest.of(0, 20));
+
+        // then
+        assertThat(result.getContent()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("방 변경 반영 - 제목 변경/종료 시 색인 갱신")
+    void index_UpdateAndRemove() {
+        // given
+        Room room = room(1L, "자바 스터디", null);
+        indexAll(room);
+
+        // when
+        room.updateSettings("파이썬 스터디", null, 10, null);
+        searchIndex.indexAfterCommit(room);
+
+        // then
+        assertThat(searchIndex.search("자바")).isEmpty();
+        assertThat(searchIndex.search("파이썬")).containsExactly(1L);
+
+        // when
+        room.terminate();
+        searchIndex.indexAfterCommit(room);
+
+        // then
+        assertThat(room.getStatus()).isEqualTo(RoomStatus.TERMINATED);
+        assertThat(searchIndex.search("파이썬")).isEmpty();
+        assertThat(searchIndex.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("색인 준비 전에는 DB 검색으로 대체")
+    void searchRooms_IndexNotReady_FallbackToDb() {
+        // given
+        Room room = room(1L, "자바 스터디", null);
+        given(roomRepository.findRoomsWithFilters(eq("자바"), isNull(), eq(false), any()))
+                .willReturn(new PageImpl<>(List.of(room)));
+
+        // when
+        Page<Room> result = searchService.searchRooms("자바", PageRequest.of(0, 20));
+
+        // then
+        assertThat(result.getContent()).containsExactly(room);
+    }
+
+    @Test
+    @DisplayName("검색어 누락 시 예외")
+    void searchRooms_BlankKeyword() {
+        assertThatThrownBy(() -> searchService.searchRooms("  ", PageRequest.of(0, 20)))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ROOM_SEARCH_KEYWORD_REQUIRED);
+    }
+}
@@ -2,6 +2,8 @@ package com.back.domain.studyroom.service;
 
 import com.back.domain.notification.service.NotificationService;
 import com.back.domain.studyroom.config.StudyRoomProperties;
+import com.back.domain.studyroom.dto.RoomMemberResponse;
+import com.back.domain.studyroom.dto.RoomMemberSnapshot;
 import com.back.domain.studyroom.entity.*;
 import com.back.domain.studyroom.repository.RoomMemberRepository;
 import com.back.domain.studyroom.repository.RoomRepository;
@@ -12,6 +14,7 @@ import com.back.domain.user.common.enums.UserStatus;
 import com.back.domain.user.common.repository.UserRepository;
 import com.back.global.exception.CustomException;
 import com.back.global.exception.ErrorCode;
+import com.back.global.websocket.dto.RoomPresenceSnapshot;
 import com.back.global.websocket.service.RoomParticipantService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -26,8 +29,10 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
@@ -64,6 +69,9 @@ class RoomServiceTest {
     
     @Mock
     private RoomThumbnailService roomThumbnailService;
+
+    @Mock
+    private RoomSearchIndex roomSearchIndex;
     
     @Mock
     private org.springframework.messaging.simp.SimpMessagingTemplate messagingTemplate;
@@ -178,6 +186,7 @@ class RoomServiceTest {
         verify(avatarService, times(1)).loadOrCreateAvatar(1L, 2L);
         verify(roomParticipantService, times(1)).enterRoom(eq(2L), eq(1L), any()); // avatarId 파라미터 추가
         verify(roomMemberRepository, never()).save(any(RoomMember.class)); // DB 저장 안됨!
+        verify(roomRepository, never()).touchLastActivity(any(), any()); // 입장 시 활동 시각은 갱신하지 않음
     }
 
     @Test
@@ -227,6 +236,24 @@ class RoomServiceTest {
 
         // then
         verify(roomParticipantService, times(1)).exitRoom(1L, 1L); // Redis 퇴장 확인
+        verify(roomRepository).touchLastActivity(eq(List.of(1L)), any()); // 마지막 활동 시각 갱신
+    }
+
+    @Test
+    @DisplayName("비활성 방 종료 - 방 락을 잡은 뒤 참가자 0명으로 확인된 방만 종료")
+    void terminateEmptyInactiveRooms_RechecksParticipantsAfterLock() {
+        // given
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(1);
+        given(roomRepository.lockInactiveRoomIds(List.of(1L, 2L, 3L), cutoff)).willReturn(List.of(1L, 2L));
+        given(roomParticipantService.getParticipantCounts(List.of(1L, 2L))).willReturn(Map.of(1L, 0L, 2L, 1L));
+        given(roomRepository.terminateInactiveRooms(List.of(1L), cutoff)).willReturn(1);
+
+        // when
+        int terminated = roomService.terminateEmptyInactiveRooms(List.of(1L, 2L, 3L), cutoff);
+
+        // then
+        assertThat(terminated).isEqualTo(1);
+        verify(roomRepository).terminateInactiveRooms(List.of(1L), cutoff); // 락 이후 입장한 2번 방은 제외
     }
 
     @Test
@@ -635,4 +662,62 @@ class RoomServiceTest {
         assertThat(testRoom.getThumbnailUrl()).isEqualTo("https://s3.amazonaws.com/bucket/new-thumbnail.jpg");
         verify(roomThumbnailService, times(1)).updateThumbnailMapping(eq(1L), eq(789L), eq(1L));  // userId 파라미터 추가
     }
+
+    @Test
+    @DisplayName("방 멤버 목록 조회 - 멤버 스냅샷 + 아바타 조합, 역할순 정렬")
+    void getRoomMembers_Snapshot() {
+        // given
+        java.time.LocalDateTime now = java.time.LocalDateTime.now();
+        RoomPresenceSnapshot presence = new RoomPresenceSnapshot(
+                java.util.Set.of(1L, 2L, 3L),
+                java.util.Map.of(1L, 2L, 3L, 1L)  // 2번 사용자는 아바타 없음
+        );
+        given(roomParticipantService.getRoomPresence(1L)).willReturn(presence);
+        given(roomMemberRepository.findMemberSnapshots(1L, presence.userIds())).willReturn(List.of(
+                new RoomMemberSnapshot(3L, "visitor", null, null, null, null, null),
+                new RoomMemberSnapshot(2L, "member", "멤버", "member.png", RoomRole.MEMBER, now, now),
+                new RoomMemberSnapshot(1L, "testuser", "테스트유저", null, RoomRole.HOST, now.minusDays(1), now)
+        ));
+
+        // when
+        List<RoomMemberResponse> result = roomService.getRoomMembers(1L, 1L);
+
+        // then
+        assertThat(result).extracting(RoomMemberResponse::getUserId).containsExactly(1L, 2L, 3L);
+        assertThat(result).extracting(RoomMemberResponse::getRole)
+                .containsExactly(RoomRole.HOST, RoomRole.MEMBER, RoomRole.VISITOR);
+        assertThat(result).extracting(RoomMemberResponse::getNickname)
+                .containsExactly("테스트유저", "멤버", "visitor");
+        assertThat(result).extracting(RoomMemberResponse::getAvatarId).containsExactly(2L, null, 1L);
+        verify(roomRepository, never()).findById(any());
+        verify(userRepository, never()).findAllById(any());
+    }
+
+    @Test
+    @DisplayName("방 멤버 목록 조회 - 온라인 사용자 없음")
+    void getRoomMembers_Empty() {
+        // given
+        given(roomParticipantService.getRoomPresence(1L)).willReturn(RoomPresenceSnapshot.empty());
+        given(roomRepository.existsById(1L)).willReturn(true);
+
+        // when
+        List<RoomMemberResponse> result = roomService.getRoomMembers(1L, 1L);
+
+        // then
+        assertThat(result).isEmpty();
+        verify(roomMemberRepository, never()).findMemberSnapshots(any(), any());
+    }
+
+    @Test
+    @DisplayName("방 멤버 목록 조회 - 존재하지 않는 방")
+    void getRoomMembers_RoomNotFound() {
+        // given
+        given(roomParticipantService.getRoomPresence(999L)).willReturn(RoomPresenceSnapshot.empty());
+        given(roomRepository.existsById(999L)).willReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> roomService.getRoomMembers(999L, 1L))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ROOM_NOT_FOUND);
+    }
 }
@@ -4,6 +4,7 @@ import com.amazonaws.services.s3.AmazonS3;
 import com.back.domain.board.comment.dto.MyCommentResponse;
 import com.back.domain.board.comment.entity.Comment;
 import com.back.domain.board.comment.repository.CommentRepository;
+import com.back.domain.board.common.dto.CursorResponse;
 import com.back.domain.board.common.dto.PageResponse;
 import com.back.domain.board.post.dto.PostListResponse;
 import com.back.domain.board.post.entity.Post;
@@ -649,4 +650,107 @@ class AccountServiceTest {
                 .isInstanceOf(CustomException.class)
                 .hasMessage(ErrorCode.USER_SUSPENDED.getMessage());
     }
+
+    // ====================== 커서 기반 목록 조회 테스트 ======================
+
+    @Test
+    @DisplayName("내 게시글 목록 커서 조회 → 최신순으로 끝까지 이어서 조회")
+    void getMyPostsByCursor_success() {
+        // given
+        User user = User.createUser("cursorWriter", "cursor@example.com", passwordEncoder.encode("P@ssw0rd!"));
+        user.setUserProfile(new UserProfile(user, "닉네임", null, null, null, 0));
+        user.setUserStatus(UserStatus.ACTIVE);
+        userRepository.save(user);
+
+        Post post1 = new Post(user, "제목1", "내용1", null);
+        Post post2 = new Post(user, "제목2", "내용2", null);
+        Post post3 = new Post(user, "제목3", "내용3", null);
+        postRepository.saveAll(List.of(post1, post2, post3));
+
+        // when
+        CursorResponse<PostListResponse> first = accountService.getMyPostsByCursor(user.getId(), null, 2);
+        CursorResponse<PostListResponse> second = accountService.getMyPostsByCursor(user.getId(), first.nextCursor(), 2);
+
+        // then
+        assertThat(first.items()).hasSize(2);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(first.totalElements()).isEqualTo(3L);
+
+        assertThat(second.items()).hasSize(1);
+        assertThat(second.hasNext()).isFalse();
+        assertThat(second.nextCursor()).isNull();
+        assertThat(second.totalElements()).isNull();
+
+        assertThat(List.of(first.items().get(0), first.items().get(1), second.items().get(0)))
+                .extracting("title")
+                .containsExactlyInAnyOrder("제목1", "제목2", "제목3");
+    }
+
+    @Test
+    @DisplayName("내 댓글 목록 커서 조회 성공")
+    void getMyCommentsByCursor_success() {
+        // given
+        User user = User.createUser("cursorCommenter", "cursorc@example.com", passwordEncoder.encode("P@ssw0rd!"));
+        user.setUserProfile(new UserProfile(user, "닉네임", null, null, null, 0));
+        user.setUserStatus(UserStatus.ACTIVE);
+        userRepository.save(user);
+
+        Post post = new Post(user, "테스트 게시글", "게시글 내용", null);
+        postRepository.save(post);
+
+        Comment comment1 = new Comment(post, user, "첫 번째 댓글", null);
+        Comment comment2 = new Comment(post, user, "두 번째 댓글", null);
+        commentRepository.saveAll(List.of(comment1, comment2));
+
+        // when
+        CursorResponse<MyCommentResponse> first = accountService.getMyCommentsByCursor(user.getId(), null, 1);
+        CursorResponse<MyCommentResponse> second = accountService.getMyCommentsByCursor(user.getId(), first.nextCursor(), 1);
+
+        // then
+        assertThat(first.items()).hasSize(1);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(first.totalElements()).isEqualTo(2L);
+        assertThat(second.items()).hasSize(1);
+        assertThat(second.hasNext()).isFalse();
+        assertThat(List.of(first.items().getFirst(), second.items().getFirst()))
+                .extracting("content")
+                .containsExactlyInAnyOrder("첫 번째 댓글", "두 번째 댓글");
+    }
+
+    @Test
+    @DisplayName("내 북마크 게시글 목록 커서 조회 성공")
+    void getMyBookmarksByCursor_success() {
+        // given
+        User user = User.createUser("cursorBookmark", "cursorb@example.com", passwordEncoder.encode("P@ssw0rd!"));
+        user.setUserProfile(new UserProfile(user, "닉네임", null, null, null, 0));
+        user.setUserStatus(UserStatus.ACTIVE);
+        userRepository.save(user);
+
+        Post post1 = new Post(user, "JPA 영속성 전이 완벽 정리", "내용1", null);
+        Post post2 = new Post(user, "테스트 코드 작성 가이드", "내용2", null);
+        postRepository.saveAll(List.of(post1, post2));
+        postBookmarkRepository.saveAll(List.of(new PostBookmark(post1, user), new PostBookmark(post2, user)));
+
+        // when
+        CursorResponse<PostListResponse> response = accountService.getMyBookmarksByCursor(user.getId(), null, 10);
+
+        // then
+        assertThat(response.items()).hasSize(2);
+        assertThat(response.hasNext()).isFalse();
+        assertThat(response.totalElements()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("잘못된 커서 → INVALID_CURSOR 예외 발생")
+    void getMyPostsByCursor_invalidCursor() {
+        // given
+        User user = User.createUser("badCursor", "badcursor@example.com", passwordEncoder.encode("P@ssw0rd!"));
+        user.setUserStatus(UserStatus.ACTIVE);
+        userRepository.save(user);
+
+        // when & then
+        assertThatThrownBy(() -> accountService.getMyPostsByCursor(user.getId(), "not-a-cursor", 10))
+                .isInstanceOf(CustomException.class)
+                .hasMessage(ErrorCode.INVALID_CURSOR.getMessage());
+    }
 }
@@ -172,6 +172,7 @@ class WebSocketApiControllerTest {
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.data.subscribeTopics").exists())
                     .andExpect(jsonPath("$.data.subscribeTopics.roomChat").value("/topic/rooms/{roomId}/chat"))
+                    .andExpect(jsonPath("$.data.subscribeTopics.roomAnnouncements").value("/topic/room/{roomId}/announcements"))
                     .andExpect(jsonPath("$.data.subscribeTopics.privateMessage").value("/user/queue/messages"))
                     .andExpect(jsonPath("$.data.subscribeTopics.notifications").value("/user/queue/notifications"));
         }
@@ -5,6 +5,7 @@ import com.back.domain.user.common.repository.UserRepository;
 import com.back.global.exception.CustomException;
 import com.back.global.exception.ErrorCode;
 import com.back.global.websocket.dto.WebSocketSessionInfo;
+import com.back.global.websocket.event.RoomPresenceChangedEvent;
 import com.back.global.websocket.event.SessionDisconnectedEvent;
 import com.back.global.websocket.event.UserJoinedEvent;
 import com.back.global.websocket.event.UserLeftEvent;
@@ -18,6 +19,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 
 import java.util.Optional;
@@ -44,6 +46,9 @@ class RoomParticipantServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @Spy
     @InjectMocks
     private RoomParticipantService roomParticipantService;
@@ -89,6 +94,11 @@ class RoomParticipantServiceTest {
         ArgumentCaptor<UserJoinedEvent> eventCaptor = ArgumentCaptor.forClass(UserJoinedEvent.class);
         verify(messagingTemplate).convertAndSend(eq("/topic/room/" + roomId + "/events"), eventCaptor.capture());
         assertThat(eventCaptor.getValue().getUserId()).isEqualTo(userId);
+
+        // 참가 이력용 내부 이벤트 발행 검증
+        ArgumentCaptor<RoomPresenceChangedEvent> presenceCaptor = ArgumentCaptor.forClass(RoomPresenceChangedEvent.class);
+        verify(eventPublisher).publishEvent(presenceCaptor.capture());
+        assertThat(presenceCaptor.getValue().getType()).isEqualTo(RoomPresenceChangedEvent.Type.JOINED);
     }
 
     @Test
@@ -137,6 +147,12 @@ class RoomParticipantServiceTest {
         ArgumentCaptor<UserLeftEvent> eventCaptor = ArgumentCaptor.forClass(UserLeftEvent.class);
         verify(messagingTemplate).convertAndSend(eq("/topic/room/" + roomId + "/events"), eventCaptor.capture());
         assertThat(eventCaptor.getValue().getUserId()).isEqualTo(userId);
+
+        // 참가 이력용 내부 이벤트 발행 검증
+        ArgumentCaptor<RoomPresenceChangedEvent> presenceCaptor = ArgumentCaptor.forClass(RoomPresenceChangedEvent.class);
+        verify(eventPublisher).publishEvent(presenceCaptor.capture());
+        assertThat(presenceCaptor.getValue().getType()).isEqualTo(RoomPresenceChangedEvent.Type.LEFT);
+        assertThat(presenceCaptor.getValue().getRoomId()).isEqualTo(roomId);
     }
 
     @Test
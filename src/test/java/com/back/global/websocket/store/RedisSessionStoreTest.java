@@ -1,6 +1,7 @@
 package com.back.global.websocket.store;
 
 import com.back.global.websocket.config.WebSocketConstants;
+import com.back.global.websocket.dto.RoomPresenceSnapshot;
 import com.back.global.websocket.dto.WebSocketSessionInfo;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -422,4 +423,50 @@ class RedisSessionStoreTest {
         // then
         assertThat(retrievedUserId).isEqualTo(24L);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("방 참가자 + 아바타 스냅샷을 한 번에 조회")
+    void t22() {
+        // given
+        Long roomId = 106L;
+        redisSessionStore.addUserToRoom(roomId, 25L);
+        redisSessionStore.addUserToRoom(roomId, 26L);
+        redisSessionStore.saveRoomAvatar(roomId, 25L, 3L);
+
+        // when
+        RoomPresenceSnapshot snapshot = redisSessionStore.getRoomPresence(roomId);
+
+        // then
+        assertThat(snapshot.userIds()).containsExactlyInAnyOrder(25L, 26L);
+        assertThat(snapshot.avatarIdOf(25L)).isEqualTo(3L);
+        assertThat(snapshot.avatarIdOf(26L)).isNull();
+        assertThat(redisSessionStore.getRoomAvatar(roomId, 25L)).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("참가자가 없는 방의 스냅샷은 비어 있음")
+    void t23() {
+        // when
+        RoomPresenceSnapshot snapshot = redisSessionStore.getRoomPresence(107L);
+
+        // then
+        assertThat(snapshot.isEmpty()).isTrue();
+        assertThat(snapshot.avatarIds()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("방 퇴장 시 아바타 정보도 함께 제거")
+    void t24() {
+        // given
+        Long roomId = 108L;
+        redisSessionStore.addUserToRoom(roomId, 27L);
+        redisSessionStore.saveRoomAvatar(roomId, 27L, 4L);
+
+        // when
+        redisSessionStore.removeUserFromRoom(roomId, 27L);
+
+        // then
+        assertThat(redisSessionStore.getRoomAvatar(roomId, 27L)).isNull();
+        assertThat(redisSessionStore.getRoomAvatars(roomId)).isEmpty();
+    }
+}